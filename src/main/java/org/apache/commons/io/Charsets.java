@@ -185,6 +185,32 @@ public static boolean isAlias(final Charset charset, final String charsetName) {
         return charsetName != null && (charset.name().equalsIgnoreCase(charsetName) || charset.aliases().stream().anyMatch(charsetName::equalsIgnoreCase));
     }
 
+    /**
+     * Tests whether a charset encodes each US-ASCII character as the same single byte, and never uses such a byte in the encoding of another character. This
+     * is the case of UTF-8 and of single-byte charsets that extend US-ASCII, such as ISO-8859-1, but not of UTF-16 or EBCDIC.
+     * <p>
+     * In such a charset, ASCII characters like line terminators can be found by scanning the encoded bytes without decoding them.
+     * </p>
+     *
+     * @param charset The charset to test, null means the platform default.
+     * @return whether the charset is UTF-8 or a single-byte extension of US-ASCII.
+     * @since 2.23.0
+     */
+    public static boolean isAsciiCompatible(final Charset charset) {
+        final Charset actual = toCharset(charset);
+        if (StandardCharsets.UTF_8.equals(actual) || StandardCharsets.US_ASCII.equals(actual) || StandardCharsets.ISO_8859_1.equals(actual)) {
+            return true;
+        }
+        if (!actual.canEncode() || actual.newEncoder().maxBytesPerChar() != 1 || actual.newDecoder().maxCharsPerByte() != 1) {
+            return false;
+        }
+        final byte[] ascii = new byte[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        return new String(ascii, actual).equals(new String(ascii, StandardCharsets.US_ASCII));
+    }
+
     /**
      * Tests whether a given encoding is UTF-8. If the given charset is null, then check the platform's default encoding.
      *
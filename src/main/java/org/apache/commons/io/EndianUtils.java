@@ -22,6 +22,10 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.commons.io.IOUtils.ScratchBytes;
 
 /**
  * Helps with reading and writing primitive numeric types ({@code short},
@@ -48,6 +52,13 @@
  */
 public class EndianUtils {
 
+    /**
+     * Wraps the first {@code length} bytes of a buffer in a little-endian ByteBuffer.
+     */
+    private static ByteBuffer littleEndian(final byte[] buffer, final int length) {
+        return ByteBuffer.wrap(buffer, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
     /**
      * Reads the next byte from the input stream.
      *
@@ -63,6 +74,20 @@ private static int read(final InputStream input) throws IOException {
         return value;
     }
 
+    /**
+     * Reads exactly {@code length} bytes from the input stream into a buffer.
+     *
+     * @param input  The stream.
+     * @param buffer The buffer.
+     * @param length The number of bytes to read.
+     * @return A little-endian ByteBuffer over the bytes read.
+     * @throws IOException Thrown if the end of file is reached.
+     */
+    private static ByteBuffer read(final InputStream input, final byte[] buffer, final int length) throws IOException {
+        IOUtils.readFully(input, buffer, 0, length);
+        return littleEndian(buffer, length);
+    }
+
     /**
      * Reads a little-endian {@code double} value from a byte array at a given offset.
      *
@@ -86,6 +111,35 @@ public static double readSwappedDouble(final InputStream input) throws IOExcepti
         return Double.longBitsToDouble(readSwappedLong(input));
     }
 
+    /**
+     * Reads little-endian {@code double} values from an InputStream into an array.
+     * <p>
+     * The bytes are read in bulk into a reused buffer and converted through a little-endian {@link ByteBuffer} view. If the end of the stream is reached
+     * first, an {@link EOFException} is thrown and some values may already have been stored.
+     * </p>
+     *
+     * @param input source InputStream.
+     * @param array target array.
+     * @param offset starting offset in the array.
+     * @param length number of values to read.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws EOFException if the end of the stream is reached before all values are read.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void readSwappedDoubles(final InputStream input, final double[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Double.BYTES);
+                read(input, buffer, n * Double.BYTES).asDoubleBuffer().get(array, i, n);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Reads a little-endian {@code float} value from a byte array at a given offset.
      *
@@ -109,6 +163,35 @@ public static float readSwappedFloat(final InputStream input) throws IOException
         return Float.intBitsToFloat(readSwappedInteger(input));
     }
 
+    /**
+     * Reads little-endian {@code float} values from an InputStream into an array.
+     * <p>
+     * The bytes are read in bulk into a reused buffer and converted through a little-endian {@link ByteBuffer} view. If the end of the stream is reached
+     * first, an {@link EOFException} is thrown and some values may already have been stored.
+     * </p>
+     *
+     * @param input source InputStream.
+     * @param array target array.
+     * @param offset starting offset in the array.
+     * @param length number of values to read.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws EOFException if the end of the stream is reached before all values are read.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void readSwappedFloats(final InputStream input, final float[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Float.BYTES);
+                read(input, buffer, n * Float.BYTES).asFloatBuffer().get(array, i, n);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Reads a little-endian {@code int} value from a byte array at a given offset.
      *
@@ -145,6 +228,35 @@ public static int readSwappedInteger(final InputStream input) throws IOException
             ((value4 & 0xff) << 24);
     }
 
+    /**
+     * Reads little-endian {@code int} values from an InputStream into an array.
+     * <p>
+     * The bytes are read in bulk into a reused buffer and converted through a little-endian {@link ByteBuffer} view. If the end of the stream is reached
+     * first, an {@link EOFException} is thrown and some values may already have been stored.
+     * </p>
+     *
+     * @param input source InputStream.
+     * @param array target array.
+     * @param offset starting offset in the array.
+     * @param length number of values to read.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws EOFException if the end of the stream is reached before all values are read.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void readSwappedInts(final InputStream input, final int[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Integer.BYTES);
+                read(input, buffer, n * Integer.BYTES).asIntBuffer().get(array, i, n);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Reads a little-endian {@code long} value from a byte array at a given offset.
      *
@@ -175,6 +287,35 @@ public static long readSwappedLong(final InputStream input) throws IOException {
         return readSwappedLong(bytes, 0);
     }
 
+    /**
+     * Reads little-endian {@code long} values from an InputStream into an array.
+     * <p>
+     * The bytes are read in bulk into a reused buffer and converted through a little-endian {@link ByteBuffer} view. If the end of the stream is reached
+     * first, an {@link EOFException} is thrown and some values may already have been stored.
+     * </p>
+     *
+     * @param input source InputStream.
+     * @param array target array.
+     * @param offset starting offset in the array.
+     * @param length number of values to read.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws EOFException if the end of the stream is reached before all values are read.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void readSwappedLongs(final InputStream input, final long[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Long.BYTES);
+                read(input, buffer, n * Long.BYTES).asLongBuffer().get(array, i, n);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Reads a little-endian {@code short} value from a byte array at a given offset.
      *
@@ -205,6 +346,35 @@ public static short readSwappedShort(final InputStream input) throws IOException
         );
     }
 
+    /**
+     * Reads little-endian {@code short} values from an InputStream into an array.
+     * <p>
+     * The bytes are read in bulk into a reused buffer and converted through a little-endian {@link ByteBuffer} view. If the end of the stream is reached
+     * first, an {@link EOFException} is thrown and some values may already have been stored.
+     * </p>
+     *
+     * @param input source InputStream.
+     * @param array target array.
+     * @param offset starting offset in the array.
+     * @param length number of values to read.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws EOFException if the end of the stream is reached before all values are read.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void readSwappedShorts(final InputStream input, final short[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Short.BYTES);
+                read(input, buffer, n * Short.BYTES).asShortBuffer().get(array, i, n);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Reads a little-endian unsigned integer (32-bit) value from a byte array at a given
      * offset.
@@ -378,6 +548,34 @@ public static void writeSwappedDouble(final OutputStream output, final double va
         writeSwappedLong(output, Double.doubleToLongBits(value));
     }
 
+    /**
+     * Writes {@code double} values from an array to an output stream in little-endian order.
+     * <p>
+     * The values are converted through a little-endian {@link ByteBuffer} view into a reused buffer, and written in bulk.
+     * </p>
+     *
+     * @param output target OutputStream.
+     * @param array source array.
+     * @param offset starting offset in the array.
+     * @param length number of values to write.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void writeSwappedDoubles(final OutputStream output, final double[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Double.BYTES);
+                littleEndian(buffer, n * Double.BYTES).asDoubleBuffer().put(array, i, n);
+                output.write(buffer, 0, n * Double.BYTES);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Writes the 4 bytes of a {@code float} to a byte array at a given offset in little-endian order.
      *
@@ -401,6 +599,34 @@ public static void writeSwappedFloat(final OutputStream output, final float valu
         writeSwappedInteger(output, Float.floatToIntBits(value));
     }
 
+    /**
+     * Writes {@code float} values from an array to an output stream in little-endian order.
+     * <p>
+     * The values are converted through a little-endian {@link ByteBuffer} view into a reused buffer, and written in bulk.
+     * </p>
+     *
+     * @param output target OutputStream.
+     * @param array source array.
+     * @param offset starting offset in the array.
+     * @param length number of values to write.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void writeSwappedFloats(final OutputStream output, final float[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Float.BYTES);
+                littleEndian(buffer, n * Float.BYTES).asFloatBuffer().put(array, i, n);
+                output.write(buffer, 0, n * Float.BYTES);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Writes the 4 bytes of an {@code int} to a byte array at a given offset in little-endian order.
      *
@@ -431,6 +657,34 @@ public static void writeSwappedInteger(final OutputStream output, final int valu
         output.write((byte) (value >> 24 & 0xff));
     }
 
+    /**
+     * Writes {@code int} values from an array to an output stream in little-endian order.
+     * <p>
+     * The values are converted through a little-endian {@link ByteBuffer} view into a reused buffer, and written in bulk.
+     * </p>
+     *
+     * @param output target OutputStream.
+     * @param array source array.
+     * @param offset starting offset in the array.
+     * @param length number of values to write.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void writeSwappedInts(final OutputStream output, final int[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Integer.BYTES);
+                littleEndian(buffer, n * Integer.BYTES).asIntBuffer().put(array, i, n);
+                output.write(buffer, 0, n * Integer.BYTES);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Writes the 8 bytes of a {@code long} to a byte array at a given offset in little-endian order.
      *
@@ -469,6 +723,34 @@ public static void writeSwappedLong(final OutputStream output, final long value)
         output.write((byte) (value >> 56 & 0xff));
     }
 
+    /**
+     * Writes {@code long} values from an array to an output stream in little-endian order.
+     * <p>
+     * The values are converted through a little-endian {@link ByteBuffer} view into a reused buffer, and written in bulk.
+     * </p>
+     *
+     * @param output target OutputStream.
+     * @param array source array.
+     * @param offset starting offset in the array.
+     * @param length number of values to write.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void writeSwappedLongs(final OutputStream output, final long[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Long.BYTES);
+                littleEndian(buffer, n * Long.BYTES).asLongBuffer().put(array, i, n);
+                output.write(buffer, 0, n * Long.BYTES);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Writes the 2 bytes of a {@code short} to a byte array at a given offset in little-endian order.
      *
@@ -495,6 +777,34 @@ public static void writeSwappedShort(final OutputStream output, final short valu
         output.write((byte) (value >> 8 & 0xff));
     }
 
+    /**
+     * Writes {@code short} values from an array to an output stream in little-endian order.
+     * <p>
+     * The values are converted through a little-endian {@link ByteBuffer} view into a reused buffer, and written in bulk.
+     * </p>
+     *
+     * @param output target OutputStream.
+     * @param array source array.
+     * @param offset starting offset in the array.
+     * @param length number of values to write.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or if {@code offset + length} is greater than {@code array.length}.
+     * @throws IOException in case of an I/O problem.
+     * @since 2.23.0
+     */
+    public static void writeSwappedShorts(final OutputStream output, final short[] array, final int offset, final int length) throws IOException {
+        IOUtils.checkFromIndexSize(offset, length, array.length);
+        try (ScratchBytes scratch = ScratchBytes.get()) {
+            final byte[] buffer = scratch.array();
+            final int end = offset + length;
+            for (int i = offset; i < end;) {
+                final int n = Math.min(end - i, buffer.length / Short.BYTES);
+                littleEndian(buffer, n * Short.BYTES).asShortBuffer().put(array, i, n);
+                output.write(buffer, 0, n * Short.BYTES);
+                i += n;
+            }
+        }
+    }
+
     /**
      * Instances should NOT be constructed in standard programming.
      *
@@ -22,10 +22,16 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Tracks files awaiting deletion, and deletes them when an associated
@@ -42,6 +48,10 @@
  * {@link #exitWhenFinished}, typically in
  * {@code javax.servlet.ServletContextListener.contextDestroyed(javax.servlet.ServletContextEvent)} or similar.
  * </p>
+ * <p>
+ * Tracking a file does not take a lock shared with other threads, so many threads can track files at a high rate. The background thread deletes the files
+ * whose markers were reclaimed in batches, using more threads if constructed with {@link #FileCleaningTracker(int)}.
+ * </p>
  */
 public class FileCleaningTracker {
 
@@ -65,25 +75,47 @@ private final class Reaper extends Thread {
          */
         @Override
         public void run() {
-            // thread exits when exitWhenFinished is true and there are no more tracked objects
-            while (!(exitWhenFinished && trackers.isEmpty())) {
-                try {
-                    // Wait for a tracker to remove.
-                    final Tracker tracker = (Tracker) refQueue.remove(); // cannot return null
-                    trackers.remove(tracker);
-                    if (!tracker.delete()) {
-                        deleteFailures.add(tracker.getPath());
+            final ExecutorService executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism - 1, r -> {
+                final Thread thread = new Thread(r, getName());
+                thread.setDaemon(true);
+                return thread;
+            }) : null;
+            final List<Tracker> batch = new ArrayList<>(BATCH_SIZE);
+            try {
+                // thread exits when exitWhenFinished is true and there are no more tracked objects
+                while (!(exitWhenFinished && trackers.isEmpty())) {
+                    try {
+                        // Wait for a tracker to remove, then take the others already queued.
+                        Tracker tracker = (Tracker) refQueue.remove(); // cannot return null
+                        do {
+                            batch.add(tracker);
+                        } while (batch.size() < BATCH_SIZE && (tracker = (Tracker) refQueue.poll()) != null);
+                        reap(batch, executorService);
+                        batch.clear();
+                    } catch (final InterruptedException e) {
+                        // interrupted removing from the queue.
+                        interrupt();
+                        continue;
                     }
-                    tracker.clear();
-                } catch (final InterruptedException e) {
-                    // interrupted removing from the queue.
-                    interrupt();
-                    continue;
+                }
+            } finally {
+                if (executorService != null) {
+                    executorService.shutdown();
                 }
             }
         }
     }
 
+    /**
+     * The maximum number of trackers the reaper takes from the queue at a time.
+     */
+    static final int BATCH_SIZE = 64;
+
+    /**
+     * The maximum number of paths kept by {@link #getDeleteFailures()}.
+     */
+    static final int MAX_DELETE_FAILURES = 1024;
+
     /**
      * Inner class which acts as the reference for a file pending deletion.
      */
@@ -141,12 +173,12 @@ public String getPath() {
     /**
      * Collection of {@link Tracker} instances in existence.
      */
-    final Set<Tracker> trackers = Collections.synchronizedSet(new HashSet<>()); // synchronized
+    final Set<Tracker> trackers = ConcurrentHashMap.newKeySet();
 
     /**
      * Collection of File paths that failed to delete.
      */
-    final List<String> deleteFailures = Collections.synchronizedList(new ArrayList<>());
+    final List<String> deleteFailures = Collections.synchronizedList(new LinkedList<>());
 
     /**
      * Whether to terminate the thread when the tracking is complete.
@@ -156,13 +188,42 @@ public String getPath() {
     /**
      * The thread that will clean up registered files.
      */
-    Thread reaper;
+    volatile Thread reaper;
+
+    /**
+     * The number of threads deleting files.
+     */
+    private final int parallelism;
+
+    private final LongAdder totalTrackCount = new LongAdder();
+
+    private final LongAdder deleteCount = new LongAdder();
+
+    private final LongAdder deleteFailureCount = new LongAdder();
 
     /**
      * Construct a new instance.
      */
     public FileCleaningTracker() {
-        // empty
+        this(1);
+    }
+
+    /**
+     * Constructs a new instance that deletes files with up to the given number of threads.
+     * <p>
+     * Use more than one thread when many tracked files become unreachable at the same time and deleting them one by one cannot keep up, for example, on
+     * slow or remote storage.
+     * </p>
+     *
+     * @param parallelism The maximum number of threads deleting files, 1 or greater.
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1.
+     * @since 2.23.0
+     */
+    public FileCleaningTracker(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
     }
 
     /**
@@ -173,16 +234,38 @@ public FileCleaningTracker() {
      * @param deleteStrategy  The strategy to delete the file, null means normal.
      * @throws NullPointerException Thrown if the path is null.
      */
-    private synchronized void addTracker(final String path, final Object marker, final FileDeleteStrategy deleteStrategy) {
-        // synchronized method guards reaper
+    private void addTracker(final String path, final Object marker, final FileDeleteStrategy deleteStrategy) {
+        checkNotExiting();
+        if (reaper == null) {
+            startReaper();
+        }
+        final Tracker tracker = new Tracker(path, deleteStrategy, marker, refQueue);
+        trackers.add(tracker);
         if (exitWhenFinished) {
-            throw new IllegalStateException("No new trackers can be added once exitWhenFinished() is called");
+            // Lost a race with exitWhenFinished(): the reaper may have stopped already.
+            trackers.remove(tracker);
+            checkNotExiting();
         }
-        if (reaper == null) {
-            reaper = new Reaper();
-            reaper.start();
+        totalTrackCount.increment();
+    }
+
+    /**
+     * Records a path that failed to delete, forgetting the oldest one if too many are recorded.
+     */
+    private void addDeleteFailure(final String path) {
+        deleteFailureCount.increment();
+        synchronized (deleteFailures) {
+            if (deleteFailures.size() >= MAX_DELETE_FAILURES) {
+                deleteFailures.remove(0);
+            }
+            deleteFailures.add(path);
+        }
+    }
+
+    private void checkNotExiting() {
+        if (exitWhenFinished) {
+            throw new IllegalStateException("No new trackers can be added once exitWhenFinished() is called");
         }
-        trackers.add(new Tracker(path, deleteStrategy, marker, refQueue));
     }
 
     /**
@@ -231,14 +314,39 @@ public synchronized boolean exitWhenFinishedTest() {
         return exitWhenFinished;
     }
 
+    /**
+     * Gets the number of tracked files deleted so far.
+     *
+     * @return The number of files deleted.
+     * @since 2.23.0
+     */
+    public long getDeleteCount() {
+        return deleteCount.sum();
+    }
+
+    /**
+     * Gets the number of tracked files that failed to delete so far.
+     *
+     * @return The number of files that failed to delete.
+     * @since 2.23.0
+     */
+    public long getDeleteFailureCount() {
+        return deleteFailureCount.sum();
+    }
+
     /**
      * Gets a copy of the file paths that failed to delete.
+     * <p>
+     * Only the last 1,024 paths are kept, see {@link #getDeleteFailureCount()} for the total.
+     * </p>
      *
      * @return A copy of the file paths that failed to delete.
      * @since 2.0
      */
     public List<String> getDeleteFailures() {
-        return new ArrayList<>(deleteFailures);
+        synchronized (deleteFailures) {
+            return new ArrayList<>(deleteFailures);
+        }
     }
 
     /**
@@ -251,6 +359,74 @@ public int getTrackCount() {
         return trackers.size();
     }
 
+    /**
+     * Gets the number of files tracked since this instance was created, including those already deleted.
+     *
+     * @return The total number of files tracked.
+     * @since 2.23.0
+     */
+    public long getTotalTrackCount() {
+        return totalTrackCount.sum();
+    }
+
+    /**
+     * Deletes the file of a tracker.
+     */
+    private void reap(final Tracker tracker) {
+        trackers.remove(tracker);
+        if (tracker.delete()) {
+            deleteCount.increment();
+        } else {
+            addDeleteFailure(tracker.getPath());
+        }
+        tracker.clear();
+    }
+
+    /**
+     * Deletes the files of a batch of trackers, splitting the batch between this thread and the given executor, if any.
+     */
+    private void reap(final List<Tracker> batch, final ExecutorService executorService) {
+        final int size = batch.size();
+        if (executorService == null || size == 1) {
+            batch.forEach(this::reap);
+            return;
+        }
+        final int chunk = (size + parallelism - 1) / parallelism;
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int from = chunk; from < size; from += chunk) {
+            final List<Tracker> part = batch.subList(from, Math.min(from + chunk, size));
+            futures.add(executorService.submit(() -> part.forEach(this::reap)));
+        }
+        batch.subList(0, chunk).forEach(this::reap);
+        // Wait for the other parts even if interrupted, the batch is reused.
+        boolean interrupted = false;
+        for (final Future<?> future : futures) {
+            for (;;) {
+                try {
+                    future.get();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                } catch (final ExecutionException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void startReaper() {
+        // synchronized method guards reaper
+        checkNotExiting();
+        if (reaper == null) {
+            final Thread thread = new Reaper();
+            thread.start();
+            reaper = thread;
+        }
+    }
+
     /**
      * Tracks the specified file, using the provided marker, deleting the file
      * when the marker instance is garbage collected.
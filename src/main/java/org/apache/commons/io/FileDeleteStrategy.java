@@ -18,6 +18,9 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Objects;
+
+import org.apache.commons.io.file.BackgroundDeleter;
 
 /**
  * Strategy for deleting files.
@@ -34,6 +37,33 @@
  */
 public class FileDeleteStrategy {
 
+    /**
+     * Background file deletion strategy.
+     */
+    static final class BackgroundFileDeleteStrategy extends FileDeleteStrategy {
+
+        private final BackgroundDeleter deleter;
+
+        BackgroundFileDeleteStrategy(final BackgroundDeleter deleter) {
+            super("Background");
+            this.deleter = Objects.requireNonNull(deleter, "deleter");
+        }
+
+        /**
+         * Moves the file object to the trash of the deleter, which purges it in the background.
+         *
+         * @param fileToDelete  The file to delete, not null.
+         * @return Always returns {@code true}
+         * @throws NullPointerException if the file is null.
+         * @throws IOException Thrown if the file cannot be moved to the trash.
+         */
+        @Override
+        protected boolean doDelete(final File fileToDelete) throws IOException {
+            deleter.delete(fileToDelete.toPath());
+            return true;
+        }
+    }
+
     /**
      * Force file deletion strategy.
      */
@@ -75,6 +105,19 @@ protected boolean doDelete(final File fileToDelete) throws IOException {
      */
     public static final FileDeleteStrategy FORCE = new ForceFileDeleteStrategy();
 
+    /**
+     * Gets a strategy that moves files and directories, even non-empty directories, to the trash of the given deleter and returns right away, leaving the
+     * deleter to purge them in the background.
+     *
+     * @param deleter Purges the deleted files in the background.
+     * @return A new strategy.
+     * @throws NullPointerException if the deleter is null.
+     * @since 2.23.0
+     */
+    public static FileDeleteStrategy background(final BackgroundDeleter deleter) {
+        return new BackgroundFileDeleteStrategy(deleter);
+    }
+
     /** The name of the strategy. */
     private final String name;
 
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.apache.commons.io.file.PathFilter;
+
+/**
+ * Lazily iterates over a file tree depth-first, following symbolic links, listing each directory as it is entered.
+ * <p>
+ * Filters work like they do for {@link FileUtils#listFiles(File, org.apache.commons.io.filefilter.IOFileFilter, org.apache.commons.io.filefilter.IOFileFilter)}
+ * walking with {@link Files#walkFileTree(Path, java.util.Set, int, java.nio.file.FileVisitor)}: the start directory is always entered. Without a directory
+ * filter, only the entries of the start directory are visited, and the file filter sees all of them, directories included. With a directory filter, the
+ * directories it accepts are entered and the file filter sees everything else. Entries whose attributes cannot be read, such as broken links, directories
+ * that cannot be opened, and links back to an ancestor directory are skipped.
+ * </p>
+ * <p>
+ * Each directory is read into memory and its {@link DirectoryStream} closed when the iterator enters it, so an iterator abandoned before its end holds no
+ * open file handles. Memory use is bounded by the entries of the directories on the current path rather than the size of the tree, and the first result is
+ * available as soon as it is found.
+ * </p>
+ */
+final class FileTreeIterator implements Iterator<File> {
+
+    /**
+     * A directory on the current path from the start directory, with the entries left to visit.
+     */
+    private static final class Level {
+
+        private final Path dir;
+        private final Object fileKey;
+        private final Iterator<Path> iterator;
+
+        private Level(final Path dir, final Object fileKey, final List<Path> entries) {
+            this.dir = dir;
+            this.fileKey = fileKey;
+            this.iterator = entries.iterator();
+        }
+    }
+
+    /**
+     * Reads the entries of a directory and closes its stream.
+     *
+     * @return The entries, those read before an error if reading the directory fails part way.
+     * @throws IOException if the directory cannot be opened.
+     */
+    private static List<Path> list(final Path dir) throws IOException {
+        final List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            stream.forEach(entries::add);
+        } catch (final DirectoryIteratorException e) {
+            // Keeps the entries read so far, like a walk that stops at the failing entry.
+        }
+        return entries;
+    }
+
+    private static boolean isSameFile(final Path path1, final Path path2) {
+        try {
+            return Files.isSameFile(path1, path2);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(final Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private final PathFilter fileFilter;
+
+    /**
+     * Filters the directories to enter, null to only visit the entries of the start directory.
+     */
+    private final PathFilter dirFilter;
+
+    private final boolean includeDirs;
+
+    private final Deque<Level> stack = new ArrayDeque<>();
+
+    private Path next;
+
+    /**
+     * Constructs a new instance and opens the start directory.
+     *
+     * @param start       The start directory.
+     * @param fileFilter  Filters the files to return.
+     * @param dirFilter   Filters the directories to enter, null to only visit the entries of the start directory.
+     * @param includeDirs Whether to return the start directory and the directories entered.
+     */
+    FileTreeIterator(final Path start, final PathFilter fileFilter, final PathFilter dirFilter, final boolean includeDirs) {
+        this.fileFilter = Objects.requireNonNull(fileFilter, "fileFilter");
+        this.dirFilter = dirFilter;
+        this.includeDirs = includeDirs;
+        final BasicFileAttributes attributes = readAttributes(start);
+        if (attributes == null) {
+            return;
+        }
+        if (attributes.isDirectory()) {
+            if (push(start, attributes) && includeDirs) {
+                next = start;
+            }
+        } else if (accept(fileFilter, start, attributes)) {
+            next = start;
+        }
+    }
+
+    private boolean accept(final PathFilter filter, final Path path, final BasicFileAttributes attributes) {
+        return filter.accept(path, attributes) == FileVisitResult.CONTINUE;
+    }
+
+    /**
+     * Finds the next result, entering accepted directories as they are found.
+     *
+     * @return The next result, or null at the end.
+     */
+    private Path advance() {
+        while (!stack.isEmpty()) {
+            final Level level = stack.peek();
+            if (!level.iterator.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            final Path child = level.iterator.next();
+            final BasicFileAttributes attributes = readAttributes(child);
+            if (attributes == null) {
+                continue;
+            }
+            if (dirFilter != null && attributes.isDirectory()) {
+                if (accept(dirFilter, child, attributes) && push(child, attributes) && includeDirs) {
+                    return child;
+                }
+            } else if (accept(fileFilter, child, attributes)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    /**
+     * Tests whether the given directory is the same as a directory on the current path, which happens when a symbolic link points to an ancestor.
+     */
+    private boolean isLoop(final Path dir, final Object fileKey) {
+        for (final Level level : stack) {
+            if (fileKey != null ? fileKey.equals(level.fileKey) : isSameFile(dir, level.dir)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public File next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Path result = next;
+        next = null;
+        return result.normalize().toFile();
+    }
+
+    /**
+     * Lists a directory and makes it the current level.
+     *
+     * @return false if the directory is a loop or cannot be opened.
+     */
+    private boolean push(final Path dir, final BasicFileAttributes attributes) {
+        final Object fileKey = attributes.fileKey();
+        if (isLoop(dir, fileKey)) {
+            return false;
+        }
+        try {
+            stack.push(new Level(dir, fileKey, list(dir)));
+            return true;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+}
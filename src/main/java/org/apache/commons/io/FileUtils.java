@@ -76,6 +76,7 @@
 
 import org.apache.commons.io.file.AccumulatorPathVisitor;
 import org.apache.commons.io.file.Counters;
+import org.apache.commons.io.file.ParallelPathWalker;
 import org.apache.commons.io.file.PathFilter;
 import org.apache.commons.io.file.PathUtils;
 import org.apache.commons.io.file.StandardDeleteOption;
@@ -397,6 +398,7 @@ public static long checksumCRC32(final File file) throws IOException {
      * @throws IllegalArgumentException if the {@code directory} does not exist or is not a directory.
      * @throws IOException Thrown if an I/O error occurs.
      * @see #forceDelete(File)
+     * @see org.apache.commons.io.file.BackgroundDeleter#clean(Path)
      */
     public static void cleanDirectory(final File directory) throws IOException {
         IOConsumer.forAll(f -> forceDelete(f, false), listFiles(directory, null));
@@ -1253,6 +1255,7 @@ public static File delete(final File file) throws IOException {
      * @throws IOException              in case deletion is unsuccessful.
      * @throws NullPointerException     if the parameter is {@code null}.
      * @throws IllegalArgumentException if {@code directory} is not a directory.
+     * @see org.apache.commons.io.file.BackgroundDeleter#delete(Path)
      */
     public static void deleteDirectory(final File directory) throws IOException {
         Objects.requireNonNull(directory, "directory");
@@ -1265,6 +1268,36 @@ public static void deleteDirectory(final File directory) throws IOException {
         delete(directory);
     }
 
+    /**
+     * Deletes a directory recursively, deleting files and directories in parallel with the given walker.
+     * <p>
+     * This method deletes as much as it can before throwing an {@link IOExceptionList} of all the files and directories it could not delete. Like
+     * {@link #deleteDirectory(File)}, it does not follow symbolic links: a symbolic link to a directory is deleted, not its target.
+     * </p>
+     *
+     * @param directory directory to delete.
+     * @param walker    How to walk the directory in parallel.
+     * @throws IOExceptionList          if some files or directories cannot be deleted.
+     * @throws IOException              in case deletion is unsuccessful.
+     * @throws NullPointerException     if a parameter is {@code null}.
+     * @throws IllegalArgumentException if {@code directory} is not a directory.
+     * @see PathUtils#deleteDirectory(Path, ParallelPathWalker, LinkOption[], org.apache.commons.io.file.DeleteOption...)
+     * @since 2.23.0
+     */
+    public static void deleteDirectory(final File directory, final ParallelPathWalker walker) throws IOException {
+        Objects.requireNonNull(directory, "directory");
+        Objects.requireNonNull(walker, "walker");
+        if (!directory.exists()) {
+            return;
+        }
+        if (isSymlink(directory)) {
+            delete(directory);
+            return;
+        }
+        requireDirectoryExists(directory, "directory");
+        PathUtils.deleteDirectory(directory.toPath(), walker, PathUtils.noFollowLinkOptionArray(), StandardDeleteOption.OVERRIDE_READ_ONLY);
+    }
+
     /**
      * Requests a directory for deletion recursively when the virtual machine terminates.
      *
@@ -2096,10 +2129,12 @@ public static boolean isSymlink(final File file) {
      * Iterates over the files in given directory (and optionally
      * its subdirectories).
      * <p>
-     * The resulting iterator MUST be consumed in its entirety in order to close its underlying stream.
+     * All files found are filtered by an IOFileFilter.
      * </p>
      * <p>
-     * All files found are filtered by an IOFileFilter.
+     * The iterator walks the directory tree lazily, depth-first, so the first match is returned as soon as it is found and memory use depends on the
+     * directories on the current path rather than the number of files. Each directory is listed and closed as the iterator enters it, so an iterator need
+     * not be consumed to release its file handles.
      * </p>
      *
      * @param directory  The directory to search.
@@ -2113,7 +2148,7 @@ public static boolean isSymlink(final File file) {
      * @since 1.2
      */
     public static Iterator<File> iterateFiles(final File directory, final IOFileFilter fileFilter, final IOFileFilter dirFilter) {
-        return listFiles(directory, fileFilter, dirFilter).iterator();
+        return new FileTreeIterator(directory.toPath(), FileFileFilter.INSTANCE.and(fileFilter), dirFilter, false);
     }
 
     /**
@@ -2138,10 +2173,12 @@ public static Iterator<File> iterateFiles(final File directory, final String[] e
      * Iterates over the files in given directory (and optionally
      * its subdirectories).
      * <p>
-     * The resulting iterator MUST be consumed in its entirety in order to close its underlying stream.
+     * All files found are filtered by an IOFileFilter.
      * </p>
      * <p>
-     * All files found are filtered by an IOFileFilter.
+     * The iterator walks the directory tree lazily, depth-first, so the first match is returned as soon as it is found and memory use depends on the
+     * directories on the current path rather than the number of files. Each directory is listed and closed as the iterator enters it, so an iterator need
+     * not be consumed to release its file handles.
      * </p>
      * <p>
      * The resulting iterator includes the subdirectories themselves.
@@ -2158,7 +2195,7 @@ public static Iterator<File> iterateFiles(final File directory, final String[] e
      * @since 2.2
      */
     public static Iterator<File> iterateFilesAndDirs(final File directory, final IOFileFilter fileFilter, final IOFileFilter dirFilter) {
-        return listFilesAndDirs(directory, fileFilter, dirFilter).iterator();
+        return new FileTreeIterator(directory.toPath(), fileFilter, dirFilter, true);
     }
 
     /**
@@ -2294,6 +2331,24 @@ public static LineIterator lineIterator(final File file, final String charsetNam
         }
     }
 
+    /**
+     * Returns a stream of the lines of a file that reads the file on many threads when made parallel.
+     * <p>
+     * The stream holds an open file, use a {@code try}-with-resources block to close it.
+     * </p>
+     *
+     * @param file    the file to read, must not be {@code null}.
+     * @param charset the charset to use, {@code null} means platform default.
+     * @return a new sequential stream, call {@link Stream#parallel()} to read the file on many threads.
+     * @throws NullPointerException if file is {@code null}.
+     * @throws IOException          if an I/O error occurs opening the file.
+     * @see PathUtils#lines(Path, Charset)
+     * @since 2.23.0
+     */
+    public static Stream<String> lines(final File file, final Charset charset) throws IOException {
+        return PathUtils.lines(file.toPath(), charset);
+    }
+
     private static AccumulatorPathVisitor listAccumulate(final File directory, final IOFileFilter fileFilter, final IOFileFilter dirFilter,
             final FileVisitOption... options) throws IOException {
         final boolean isDirFilterSet = dirFilter != null;
@@ -2786,6 +2841,23 @@ public static String readFileToString(final File file, final Charset charsetName
         return IOUtils.toString(() -> Files.newInputStream(file.toPath()), Charsets.toCharset(charsetName));
     }
 
+    /**
+     * Reads the contents of a file into a String, optionally decoding chunks of the file on many threads.
+     * The file is always closed.
+     *
+     * @param file     The file to read, must not be {@code null}.
+     * @param charset  The charset to use, {@code null} means platform default.
+     * @param parallel Whether to decode chunks of the file on many threads, see {@link PathUtils#readString(Path, Charset, boolean)}.
+     * @return The file contents, never {@code null}.
+     * @throws NullPointerException if file is {@code null}.
+     * @throws IOException Thrown if an I/O error occurs, including when the file does not exist, is a directory rather than a
+     *         regular file, or for some other reason why the file cannot be opened for reading.
+     * @since 2.23.0
+     */
+    public static String readFileToString(final File file, final Charset charset, final boolean parallel) throws IOException {
+        return parallel ? PathUtils.readString(file.toPath(), charset, true) : readFileToString(file, charset);
+    }
+
     /**
      * Reads the contents of a file into a String. The file is always closed.
      *
@@ -3047,7 +3119,7 @@ public static Stream<File> streamFiles(final File directory, final boolean recur
             ? FileFileFilter.INSTANCE
             : FileFileFilter.INSTANCE.and(toSuffixFileFilter(extensions));
         // @formatter:on
-        return PathUtils.walk(directory.toPath(), filter, toMaxDepth(recursive), false, FileVisitOption.FOLLOW_LINKS).map(Path::toFile);
+        return PathUtils.walk(directory.toPath(), filter, toMaxDepth(recursive), true, FileVisitOption.FOLLOW_LINKS).map(Path::toFile);
     }
 
     /**
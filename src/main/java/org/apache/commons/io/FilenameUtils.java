@@ -18,11 +18,9 @@
 package org.apache.commons.io;
 
 import java.io.File;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -126,7 +124,7 @@
  */
 public class FilenameUtils {
 
-    private static final String[] EMPTY_STRING_ARRAY = {};
+    static final String[] EMPTY_STRING_ARRAY = {};
 
     private static final String EMPTY_STRING = "";
 
@@ -1451,44 +1449,6 @@ public static String separatorsToWindows(final String path) {
         return FileSystem.WINDOWS.normalizeSeparators(path);
     }
 
-    /**
-     * Splits a string into a number of tokens. The text is split by '?' and '*'. Where multiple '*' occur consecutively they are collapsed into a single '*'.
-     *
-     * @param text The text to split.
-     * @return The array of tokens, never null.
-     */
-    static String[] splitOnTokens(final String text) {
-        // used by wildcardMatch
-        // package level so a unit test may run on this
-        if (text.indexOf('?') == NOT_FOUND && text.indexOf('*') == NOT_FOUND) {
-            return new String[] { text };
-        }
-        final char[] array = text.toCharArray();
-        final ArrayList<String> list = new ArrayList<>();
-        final StringBuilder buffer = new StringBuilder();
-        char prevChar = 0;
-        for (final char ch : array) {
-            if (ch == '?' || ch == '*') {
-                if (buffer.length() != 0) {
-                    list.add(buffer.toString());
-                    buffer.setLength(0);
-                }
-                if (ch == '?') {
-                    list.add("?");
-                } else if (prevChar != '*') { // ch == '*' here; check if previous char was '*'
-                    list.add("*");
-                }
-            } else {
-                buffer.append(ch);
-            }
-            prevChar = ch;
-        }
-        if (buffer.length() != 0) {
-            list.add(buffer.toString());
-        }
-        return list.toArray(EMPTY_STRING_ARRAY);
-    }
-
     /**
      * Returns '/' if given true, '\\' otherwise.
      *
@@ -1514,7 +1474,7 @@ private static char toSeparator(final boolean unixSeparator) {
      * wildcardMatch("c.txt", "*.????")     --&gt; false
      * </pre>
      * <p>
-     * The sequence "*?" does not work properly at present in match strings.
+     * To match many file names against the same wildcard, compile it once with {@link WildcardMatcher#compile(String)}.
      * </p>
      *
      * @param fileName        The file name to match on, may be null.
@@ -1529,8 +1489,7 @@ public static boolean wildcardMatch(final String fileName, final String wildcard
     /**
      * Checks a fileName to see if it matches the specified wildcard matcher allowing control over case-sensitivity.
      * <p>
-     * The wildcard matcher uses the characters '?' and '*' to represent a single or multiple (zero or more) wildcard characters. The sequence "*?" does not
-     * work properly at present in match strings.
+     * The wildcard matcher uses the characters '?' and '*' to represent a single or multiple (zero or more) wildcard characters.
      * </p>
      *
      * @param fileName        The file name to match on, may be null.
@@ -1539,72 +1498,8 @@ public static boolean wildcardMatch(final String fileName, final String wildcard
      * @return true if the file name matches the wildcard string.
      * @since 1.3
      */
-    public static boolean wildcardMatch(final String fileName, final String wildcardMatcher, IOCase ioCase) {
-        if (fileName == null && wildcardMatcher == null) {
-            return true;
-        }
-        if (fileName == null || wildcardMatcher == null) {
-            return false;
-        }
-        ioCase = IOCase.value(ioCase, IOCase.SENSITIVE);
-        final String[] wcs = splitOnTokens(wildcardMatcher);
-        boolean anyChars = false;
-        int textIdx = 0;
-        int wcsIdx = 0;
-        final Deque<int[]> backtrack = new ArrayDeque<>(wcs.length);
-        // loop around a backtrack stack, to handle complex * matching
-        do {
-            if (!backtrack.isEmpty()) {
-                final int[] array = backtrack.pop();
-                wcsIdx = array[0];
-                textIdx = array[1];
-                anyChars = true;
-            }
-            // loop whilst tokens and text left to process
-            while (wcsIdx < wcs.length) {
-                if (wcs[wcsIdx].equals("?")) {
-                    // ? so move to next text char
-                    textIdx++;
-                    if (textIdx > fileName.length()) {
-                        break;
-                    }
-                    anyChars = false;
-                } else if (wcs[wcsIdx].equals("*")) {
-                    // set any chars status
-                    anyChars = true;
-                    if (wcsIdx == wcs.length - 1) {
-                        textIdx = fileName.length();
-                    }
-                } else {
-                    // matching text token
-                    if (anyChars) {
-                        // any chars then try to locate text token
-                        textIdx = ioCase.checkIndexOf(fileName, textIdx, wcs[wcsIdx]);
-                        if (textIdx == NOT_FOUND) {
-                            // token not found
-                            break;
-                        }
-                        final int repeat = ioCase.checkIndexOf(fileName, textIdx + 1, wcs[wcsIdx]);
-                        if (repeat >= 0) {
-                            backtrack.push(new int[] { wcsIdx, repeat });
-                        }
-                    } else if (!ioCase.checkRegionMatches(fileName, textIdx, wcs[wcsIdx])) {
-                        // matching from current position
-                        // couldn't match token
-                        break;
-                    }
-                    // matched text token, move text index to end of matched token
-                    textIdx += wcs[wcsIdx].length();
-                    anyChars = false;
-                }
-                wcsIdx++;
-            }
-            // full match
-            if (wcsIdx == wcs.length && textIdx == fileName.length()) {
-                return true;
-            }
-        } while (!backtrack.isEmpty());
-        return false;
+    public static boolean wildcardMatch(final String fileName, final String wildcardMatcher, final IOCase ioCase) {
+        return WildcardMatcher.compile(wildcardMatcher, ioCase).matches(fileName);
     }
 
     /**
@@ -1622,7 +1517,7 @@ public static boolean wildcardMatch(final String fileName, final String wildcard
      * wildcardMatch("c.txt", "*.????")     --&gt; false
      * </pre>
      * <p>
-     * The sequence "*?" does not work properly at present in match strings.
+     * To match many file names against the same wildcard, compile it once with {@link WildcardMatcher#compile(String)}.
      * </p>
      *
      * @param fileName        The file name to match on.
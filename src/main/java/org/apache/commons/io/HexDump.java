@@ -17,8 +17,13 @@
 package org.apache.commons.io;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Objects;
 
@@ -27,8 +32,13 @@
 /**
  * Dumps data in hexadecimal format.
  * <p>
- * Provides a single function to take an array of bytes and display it
- * in hexadecimal form.
+ * Provides functions to take an array of bytes, or the bytes of an
+ * InputStream or ReadableByteChannel, and display them in hexadecimal form.
+ * </p>
+ * <p>
+ * Lines are encoded with precomputed tables into a reused block of
+ * characters, which is appended to the output a block at a time, so
+ * streaming input of any size is dumped in constant memory.
  * </p>
  * <p>
  * Provenance: POI.
@@ -50,10 +60,122 @@ public class HexDump {
                 'A', 'B', 'C', 'D', 'E', 'F'
             };
 
-    private static final int[] SHIFTS =
-            {
-                28, 24, 20, 16, 12, 8, 4, 0
-            };
+    /**
+     * The number of bytes dumped per line.
+     */
+    private static final int BYTES_PER_LINE = 16;
+
+    /**
+     * The length of a line without its line separator: an 8 digit offset, a space, 16 hex pairs each followed by a space, and 16 characters.
+     */
+    private static final int LINE_LENGTH = 9 + 3 * BYTES_PER_LINE + BYTES_PER_LINE;
+
+    /**
+     * The number of lines encoded into a block before it is appended to the output.
+     */
+    private static final int LINES_PER_BLOCK = 64;
+
+    /**
+     * The size of the buffer streaming sources are read into, a whole number of lines.
+     */
+    private static final int READ_BUFFER_SIZE = BYTES_PER_LINE * 512;
+
+    /**
+     * The two hex digits of each byte value, indexed by twice the unsigned byte value.
+     */
+    private static final char[] HEX_PAIRS = new char[512];
+
+    /**
+     * The character printed for each unsigned byte value, the byte itself if it is printable US-ASCII, otherwise '.'.
+     */
+    private static final char[] PRINTABLE = new char[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            HEX_PAIRS[2 * i] = HEX_CODES[i >> 4];
+            HEX_PAIRS[2 * i + 1] = HEX_CODES[i & 15];
+            PRINTABLE[i] = i >= ' ' && i < 127 ? (char) i : '.';
+        }
+    }
+
+    /**
+     * Encodes lines into a reused block of characters, and appends whole blocks to the output.
+     */
+    private static final class Encoder {
+
+        private final Appendable appendable;
+        private final char[] block;
+        private final String lineSeparator;
+        private int position;
+        private long offset;
+
+        private Encoder(final Appendable appendable, final long offset) {
+            this.appendable = appendable;
+            this.offset = offset;
+            this.lineSeparator = System.lineSeparator();
+            this.block = new char[(LINE_LENGTH + lineSeparator.length()) * LINES_PER_BLOCK];
+        }
+
+        /**
+         * Encodes all bytes of a range, in lines of 16 bytes, the last line may be shorter.
+         */
+        private void encode(final byte[] data, final int index, final int length) throws IOException {
+            final int endIndex = index + length;
+            for (int i = index; i < endIndex; i += BYTES_PER_LINE) {
+                line(data, i, Math.min(BYTES_PER_LINE, endIndex - i));
+            }
+        }
+
+        /**
+         * Appends the encoded lines to the output.
+         */
+        private void flush() throws IOException {
+            if (position == 0) {
+                return;
+            }
+            if (appendable instanceof Writer) {
+                ((Writer) appendable).write(block, 0, position);
+            } else if (appendable instanceof StringBuilder) {
+                ((StringBuilder) appendable).append(block, 0, position);
+            } else {
+                appendable.append(CharBuffer.wrap(block, 0, position));
+            }
+            position = 0;
+        }
+
+        private void line(final byte[] data, final int index, final int count) throws IOException {
+            if (position + LINE_LENGTH + lineSeparator.length() > block.length) {
+                flush();
+            }
+            final char[] chars = block;
+            int p = position;
+            // Only the low 32 bits of the offset are printed.
+            final int value = (int) offset;
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                final int pair = (value >> shift & 0xFF) << 1;
+                chars[p++] = HEX_PAIRS[pair];
+                chars[p++] = HEX_PAIRS[pair + 1];
+            }
+            chars[p++] = ' ';
+            for (int k = 0; k < count; k++) {
+                final int pair = (data[index + k] & 0xFF) << 1;
+                chars[p++] = HEX_PAIRS[pair];
+                chars[p++] = HEX_PAIRS[pair + 1];
+                chars[p++] = ' ';
+            }
+            for (int k = count; k < BYTES_PER_LINE; k++) {
+                chars[p++] = ' ';
+                chars[p++] = ' ';
+                chars[p++] = ' ';
+            }
+            for (int k = 0; k < count; k++) {
+                chars[p++] = PRINTABLE[data[index + k] & 0xFF];
+            }
+            lineSeparator.getChars(0, lineSeparator.length(), chars, p);
+            position = p + lineSeparator.length();
+            offset += count;
+        }
+    }
 
     /**
      * Dumps an array of bytes to an Appendable. The output is formatted
@@ -111,43 +233,13 @@ public static void dump(final byte[] data, final long offset,
                     "illegal index: " + index + " into array of length "
                     + data.length);
         }
-        long display_offset = offset + index;
-        final StringBuilder buffer = new StringBuilder(74);
-
         // TODO Use Objects.checkFromIndexSize(index, length, data.length) when upgrading to JDK9
         if (length < 0 || index + length > data.length) {
             throw new ArrayIndexOutOfBoundsException(String.format("Range [%s, %<s + %s) out of bounds for length %s", index, length, data.length));
         }
-
-        final int endIndex = index + length;
-
-        for (int j = index; j < endIndex; j += 16) {
-            int chars_read = endIndex - j;
-
-            if (chars_read > 16) {
-                chars_read = 16;
-            }
-            dump(buffer, display_offset).append(' ');
-            for (int k = 0; k < 16; k++) {
-                if (k < chars_read) {
-                    dump(buffer, data[k + j]);
-                } else {
-                    buffer.append("  ");
-                }
-                buffer.append(' ');
-            }
-            for (int k = 0; k < chars_read; k++) {
-                if (data[k + j] >= ' ' && data[k + j] < 127) {
-                    buffer.append((char) data[k + j]);
-                } else {
-                    buffer.append('.');
-                }
-            }
-            buffer.append(System.lineSeparator());
-            appendable.append(buffer);
-            buffer.setLength(0);
-            display_offset += chars_read;
-        }
+        final Encoder encoder = new Encoder(appendable, offset + index);
+        encoder.encode(data, index, length);
+        encoder.flush();
     }
 
     /**
@@ -195,31 +287,105 @@ public static void dump(final byte[] data, final long offset,
     }
 
     /**
-     * Dumps a byte value into a StringBuilder.
+     * Dumps the bytes of an InputStream to an Appendable, until the end of the stream. The output is formatted like {@link #dump(byte[], Appendable)}.
+     * <p>
+     * The stream is read through a buffer, so input of any size can be dumped; the stream is not closed.
+     * </p>
+     *
+     * @param input      The InputStream to dump.
+     * @param appendable The Appendable to which the data is to be written.
+     * @return The number of bytes dumped.
+     * @throws IOException          is thrown if anything goes wrong reading the stream or writing the data to appendable.
+     * @throws NullPointerException if the input stream or output appendable is null.
+     * @since 2.23.0
+     */
+    public static long dump(final InputStream input, final Appendable appendable) throws IOException {
+        return dump(input, 0, appendable);
+    }
+
+    /**
+     * Dumps the bytes of an InputStream to an Appendable, until the end of the stream. The output is formatted like
+     * {@link #dump(byte[], long, Appendable, int, int)}.
+     * <p>
+     * The offset argument specifies the position of the first byte of the stream within a larger entity, and is printed at the beginning of the first line.
+     * The stream is read through a buffer, so input of any size can be dumped; the stream is not closed.
+     * </p>
      *
-     * @param builder The StringBuilder to dump the value in.
-     * @param value  The byte value to be dumped.
-     * @return StringBuilder containing the dumped value.
+     * @param input      The InputStream to dump.
+     * @param offset     offset of the stream within a larger entity.
+     * @param appendable The Appendable to which the data is to be written.
+     * @return The number of bytes dumped.
+     * @throws IOException          is thrown if anything goes wrong reading the stream or writing the data to appendable.
+     * @throws NullPointerException if the input stream or output appendable is null.
+     * @since 2.23.0
      */
-    private static StringBuilder dump(final StringBuilder builder, final byte value) {
-        for (int j = 0; j < 2; j++) {
-            builder.append(HEX_CODES[value >> SHIFTS[j + 6] & 15]);
+    public static long dump(final InputStream input, final long offset, final Appendable appendable) throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(appendable, "appendable");
+        final Encoder encoder = new Encoder(appendable, offset);
+        final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        long total = 0;
+        int n;
+        // Fill the buffer completely so that only the last line can be short.
+        while ((n = IOUtils.read(input, buffer)) > 0) {
+            encoder.encode(buffer, 0, n);
+            total += n;
         }
-        return builder;
+        encoder.flush();
+        return total;
+    }
+
+    /**
+     * Dumps the bytes of a ReadableByteChannel to an Appendable, until the end of the channel. The output is formatted like
+     * {@link #dump(byte[], Appendable)}.
+     * <p>
+     * The channel is read through a buffer, so input of any size can be dumped; the channel is not closed.
+     * </p>
+     *
+     * @param channel    The ReadableByteChannel to dump.
+     * @param appendable The Appendable to which the data is to be written.
+     * @return The number of bytes dumped.
+     * @throws IOException          is thrown if anything goes wrong reading the channel or writing the data to appendable.
+     * @throws NullPointerException if the channel or output appendable is null.
+     * @since 2.23.0
+     */
+    public static long dump(final ReadableByteChannel channel, final Appendable appendable) throws IOException {
+        return dump(channel, 0, appendable);
     }
 
     /**
-     * Dumps a long value into a StringBuilder.
+     * Dumps the bytes of a ReadableByteChannel to an Appendable, until the end of the channel. The output is formatted like
+     * {@link #dump(byte[], long, Appendable, int, int)}.
+     * <p>
+     * The offset argument specifies the position of the first byte read from the channel within a larger entity, for example, the position of a
+     * {@link java.nio.channels.FileChannel}, and is printed at the beginning of the first line. The channel is read through a buffer, so input of any size
+     * can be dumped; the channel is not closed.
+     * </p>
      *
-     * @param builder The StringBuilder to dump the value in.
-     * @param value  The long value to be dumped.
-     * @return StringBuilder containing the dumped value.
+     * @param channel    The ReadableByteChannel to dump.
+     * @param offset     offset of the channel's data within a larger entity.
+     * @param appendable The Appendable to which the data is to be written.
+     * @return The number of bytes dumped.
+     * @throws IOException          is thrown if anything goes wrong reading the channel or writing the data to appendable.
+     * @throws NullPointerException if the channel or output appendable is null.
+     * @since 2.23.0
      */
-    private static StringBuilder dump(final StringBuilder builder, final long value) {
-        for (int j = 0; j < 8; j++) {
-            builder.append(HEX_CODES[(int) (value >> SHIFTS[j]) & 15]);
+    public static long dump(final ReadableByteChannel channel, final long offset, final Appendable appendable) throws IOException {
+        Objects.requireNonNull(channel, "channel");
+        Objects.requireNonNull(appendable, "appendable");
+        final Encoder encoder = new Encoder(appendable, offset);
+        final byte[] array = new byte[READ_BUFFER_SIZE];
+        final ByteBuffer buffer = ByteBuffer.wrap(array);
+        long total = 0;
+        int n;
+        // Fill the buffer completely so that only the last line can be short.
+        while ((n = IOUtils.read(channel, buffer)) > 0) {
+            encoder.encode(array, 0, n);
+            total += n;
+            buffer.clear();
         }
-        return builder;
+        encoder.flush();
+        return total;
     }
 
     /**
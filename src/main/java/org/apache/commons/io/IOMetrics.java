@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects I/O metrics for metered streams, readers, writers, and channels.
+ * <p>
+ * An instance records the number of bytes (or chars) and operations, the time spent blocked in read and write calls, a histogram of read sizes, and the time
+ * to the first byte read. Counters are {@link LongAdder}s, so recording from many threads is cheap and never blocks.
+ * </p>
+ * <p>
+ * Metrics can be aggregated: an instance created with {@link #newChild()} also records into its parent, so you can keep metrics per stream while a shared
+ * parent aggregates them all. An instance can be exported through JMX with {@link IOMetricsMXBeans#register(IOMetrics, String)}.
+ * </p>
+ * <p>
+ * The read size histogram has {@value #HISTOGRAM_SIZE} buckets: bucket 0 counts reads returning no data, and bucket {@code i} counts reads of
+ * {@code 2^(i-1)} to {@code 2^i - 1} units.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see org.apache.commons.io.input.MeteredInputStream
+ * @see org.apache.commons.io.input.MeteredReader
+ * @see org.apache.commons.io.output.MeteredOutputStream
+ * @see org.apache.commons.io.output.MeteredWriter
+ * @see org.apache.commons.io.channels.MeteredReadableByteChannel
+ * @see org.apache.commons.io.channels.MeteredWritableByteChannel
+ * @see IOMetricsMXBeans
+ * @since 2.23.0
+ */
+public final class IOMetrics implements IOMetricsMXBean {
+
+    /**
+     * The number of read size histogram buckets.
+     */
+    public static final int HISTOGRAM_SIZE = Integer.SIZE + 1;
+
+    private static int bucket(final int n) {
+        return n <= 0 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(n);
+    }
+
+    private static LongAdder[] newHistogram() {
+        final LongAdder[] histogram = new LongAdder[HISTOGRAM_SIZE];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new LongAdder();
+        }
+        return histogram;
+    }
+
+    private final IOMetrics parent;
+    private final LongAdder readCount = new LongAdder();
+    private final LongAdder readUnits = new LongAdder();
+    private final LongAdder readNanos = new LongAdder();
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder writeUnits = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final LongAdder firstByteCount = new LongAdder();
+    private final LongAdder firstByteNanos = new LongAdder();
+    private final LongAdder[] readSizeHistogram = newHistogram();
+
+    /**
+     * Constructs a new instance.
+     */
+    public IOMetrics() {
+        this(null);
+    }
+
+    private IOMetrics(final IOMetrics parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public long getFirstByteCount() {
+        return firstByteCount.sum();
+    }
+
+    @Override
+    public long getFirstByteNanos() {
+        return firstByteNanos.sum();
+    }
+
+    /**
+     * Gets the parent metrics this instance also records into.
+     *
+     * @return The parent metrics, or {@code null} if none.
+     */
+    public IOMetrics getParent() {
+        return parent;
+    }
+
+    @Override
+    public long getReadCount() {
+        return readCount.sum();
+    }
+
+    @Override
+    public long getReadNanos() {
+        return readNanos.sum();
+    }
+
+    @Override
+    public long[] getReadSizeHistogram() {
+        final long[] snapshot = new long[HISTOGRAM_SIZE];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = readSizeHistogram[i].sum();
+        }
+        return snapshot;
+    }
+
+    @Override
+    public long getReadUnits() {
+        return readUnits.sum();
+    }
+
+    @Override
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    @Override
+    public long getWriteNanos() {
+        return writeNanos.sum();
+    }
+
+    @Override
+    public long getWriteUnits() {
+        return writeUnits.sum();
+    }
+
+    /**
+     * Creates new metrics that also record into this instance.
+     *
+     * @return New child metrics.
+     */
+    public IOMetrics newChild() {
+        return new IOMetrics(this);
+    }
+
+    /**
+     * Records the time from opening a metered source to reading its first byte.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    public void recordFirstByte(final long nanos) {
+        firstByteCount.increment();
+        firstByteNanos.add(nanos);
+        if (parent != null) {
+            parent.recordFirstByte(nanos);
+        }
+    }
+
+    /**
+     * Records a read operation.
+     *
+     * @param n     The number of units read, or {@link IOUtils#EOF} at the end of input.
+     * @param nanos The time blocked in the read, in nanoseconds.
+     */
+    public void recordRead(final int n, final long nanos) {
+        readCount.increment();
+        if (n > 0) {
+            readUnits.add(n);
+        }
+        readNanos.add(nanos);
+        readSizeHistogram[bucket(n)].increment();
+        if (parent != null) {
+            parent.recordRead(n, nanos);
+        }
+    }
+
+    /**
+     * Records a write operation.
+     *
+     * @param n     The number of units written.
+     * @param nanos The time blocked in the write, in nanoseconds.
+     */
+    public void recordWrite(final int n, final long nanos) {
+        writeCount.increment();
+        writeUnits.add(n);
+        writeNanos.add(nanos);
+        if (parent != null) {
+            parent.recordWrite(n, nanos);
+        }
+    }
+
+    /**
+     * Resets all counters of this instance to zero; does not reset the parent.
+     */
+    @Override
+    public void reset() {
+        readCount.reset();
+        readUnits.reset();
+        readNanos.reset();
+        writeCount.reset();
+        writeUnits.reset();
+        writeNanos.reset();
+        firstByteCount.reset();
+        firstByteNanos.reset();
+        for (final LongAdder bucket : readSizeHistogram) {
+            bucket.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IOMetrics [readCount=" + getReadCount() + ", readUnits=" + getReadUnits() + ", readNanos=" + getReadNanos() + ", writeCount=" + getWriteCount()
+                + ", writeUnits=" + getWriteUnits() + ", writeNanos=" + getWriteNanos() + ", firstByteCount=" + getFirstByteCount() + ", firstByteNanos="
+                + getFirstByteNanos() + "]";
+    }
+}
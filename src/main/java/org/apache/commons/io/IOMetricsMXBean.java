@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+/**
+ * The JMX management interface of {@link IOMetrics}.
+ * <p>
+ * Units are bytes for streams and channels, and chars for readers and writers.
+ * </p>
+ *
+ * @see IOMetricsMXBeans#register(IOMetrics, String)
+ * @since 2.23.0
+ */
+public interface IOMetricsMXBean {
+
+    /**
+     * Gets the number of metered sources that read a first byte.
+     *
+     * @return The number of first byte events.
+     */
+    long getFirstByteCount();
+
+    /**
+     * Gets the total time from opening metered sources to reading their first byte, in nanoseconds.
+     *
+     * @return The total time to first byte.
+     */
+    long getFirstByteNanos();
+
+    /**
+     * Gets the number of read operations, including those reaching the end of input.
+     *
+     * @return The number of read operations.
+     */
+    long getReadCount();
+
+    /**
+     * Gets the total time blocked in read operations, in nanoseconds.
+     *
+     * @return The total read time.
+     */
+    long getReadNanos();
+
+    /**
+     * Gets a snapshot of the read size histogram.
+     *
+     * @return The read size histogram, see {@link IOMetrics} for the bucket layout.
+     */
+    long[] getReadSizeHistogram();
+
+    /**
+     * Gets the number of units read.
+     *
+     * @return The number of units read.
+     */
+    long getReadUnits();
+
+    /**
+     * Gets the number of write operations.
+     *
+     * @return The number of write operations.
+     */
+    long getWriteCount();
+
+    /**
+     * Gets the total time blocked in write operations, in nanoseconds.
+     *
+     * @return The total write time.
+     */
+    long getWriteNanos();
+
+    /**
+     * Gets the number of units written.
+     *
+     * @return The number of units written.
+     */
+    long getWriteUnits();
+
+    /**
+     * Resets all counters to zero.
+     */
+    void reset();
+}
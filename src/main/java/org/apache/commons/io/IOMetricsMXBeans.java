@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Exports {@link IOMetrics} through JMX.
+ * <p>
+ * This class is the only one in this library to use the {@code java.management} module, {@link IOMetrics} and the metered streams do not need it.
+ * </p>
+ *
+ * @see IOMetricsMXBean
+ * @since 2.23.0
+ */
+public final class IOMetricsMXBeans {
+
+    /**
+     * The JMX domain used by {@link #register(IOMetrics, String)}.
+     */
+    static final String JMX_DOMAIN = "org.apache.commons.io";
+
+    /**
+     * Registers the given metrics with the platform MBean server as an MXBean named {@code org.apache.commons.io:type=IOMetrics,name=<name>}.
+     *
+     * @param metrics The metrics to register.
+     * @param name    The name of the metrics, quoted as needed.
+     * @return The registered object name, use it to unregister the metrics.
+     * @throws JMException Thrown if the metrics cannot be registered, for example, if the name is already in use.
+     */
+    public static ObjectName register(final IOMetrics metrics, final String name) throws JMException {
+        final ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=IOMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+        return objectName;
+    }
+
+    /**
+     * Unregisters metrics from the platform MBean server.
+     *
+     * @param objectName The object name returned by {@link #register(IOMetrics, String)}.
+     * @throws JMException Thrown if the metrics cannot be unregistered, for example, if they are not registered.
+     */
+    public static void unregister(final ObjectName objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    private IOMetricsMXBeans() {
+        // no instances.
+    }
+}
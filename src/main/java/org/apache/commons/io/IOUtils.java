@@ -266,6 +266,11 @@ public void close() {
      */
     public static final int CR = '\r';
 
+    /**
+     * The buffer size ({@value}) used to scan bytes in {@link #countLines(InputStream, Charset)}, larger than the default to cut the number of reads.
+     */
+    private static final int COUNT_LINES_BUFFER_SIZE = 64 * 1024;
+
     /**
      * The default buffer size ({@value}) to use in copy methods.
      */
@@ -1932,6 +1937,86 @@ static UnsynchronizedByteArrayOutputStream copyToOutputStream(final InputStream
         }
     }
 
+    /**
+     * Counts the lines of an {@link InputStream} without creating a String per line, using the specified character encoding.
+     * <p>
+     * Lines are delimited like {@link BufferedReader#readLine()}: by a line feed ({@code '\n'}), a carriage return ({@code '\r'}), or a carriage return
+     * followed immediately by a line feed, and the last line may lack a terminator. The result is the size of {@link #readLines(InputStream, Charset)}.
+     * </p>
+     * <p>
+     * For UTF-8 and for charsets encoding each character in a single byte with US-ASCII line terminators, such as US-ASCII and ISO-8859-1, this method scans
+     * the raw bytes for line terminators without decoding them. For other charsets, such as UTF-16, it decodes the input and counts like
+     * {@link #countLines(Reader)}.
+     * </p>
+     * <p>
+     * This method buffers the input internally, so there is no need to use a {@link BufferedInputStream}.
+     * </p>
+     *
+     * @param input   The {@link InputStream} to read, not null.
+     * @param charset The charset to use, null means platform default.
+     * @return The number of lines.
+     * @throws NullPointerException if the input is null.
+     * @throws IOException          if an I/O error occurs.
+     * @see org.apache.commons.io.file.PathUtils#countLines(java.nio.file.Path, Charset)
+     * @since 2.23.0
+     */
+    public static long countLines(final InputStream input, final Charset charset) throws IOException {
+        Objects.requireNonNull(input, "input");
+        final Charset actual = Charsets.toCharset(charset);
+        if (!Charsets.isAsciiCompatible(actual)) {
+            return countLines(new InputStreamReader(input, actual));
+        }
+        final byte[] buffer = byteArray(COUNT_LINES_BUFFER_SIZE);
+        long lines = 0;
+        int last = LF;
+        int n;
+        while (EOF != (n = input.read(buffer))) {
+            for (int i = 0; i < n; i++) {
+                final byte b = buffer[i];
+                if (b == CR || b == LF && last != CR) {
+                    lines++;
+                }
+                last = b;
+            }
+        }
+        return last == CR || last == LF ? lines : lines + 1;
+    }
+
+    /**
+     * Counts the lines of a {@link Reader} without creating a String per line.
+     * <p>
+     * Lines are delimited like {@link BufferedReader#readLine()}, and the result is the size of {@link #readLines(Reader)}.
+     * </p>
+     * <p>
+     * This method buffers the input internally, so there is no need to use a {@link BufferedReader}.
+     * </p>
+     *
+     * @param reader The {@link Reader} to read, not null.
+     * @return The number of lines.
+     * @throws NullPointerException if the reader is null.
+     * @throws IOException          if an I/O error occurs.
+     * @since 2.23.0
+     */
+    public static long countLines(final Reader reader) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        long lines = 0;
+        int last = LF;
+        try (ScratchChars scratch = ScratchChars.get()) {
+            final char[] buffer = scratch.array();
+            int n;
+            while (EOF != (n = reader.read(buffer))) {
+                for (int i = 0; i < n; i++) {
+                    final char c = buffer[i];
+                    if (c == CR || c == LF && last != CR) {
+                        lines++;
+                    }
+                    last = c;
+                }
+            }
+        }
+        return last == CR || last == LF ? lines : lines + 1;
+    }
+
     /**
      * Returns the length of the given array in a null-safe manner.
      *
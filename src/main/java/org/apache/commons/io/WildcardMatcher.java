@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches file names against a wildcard pattern compiled once.
+ * <p>
+ * The pattern uses the characters '?' and '*' to represent a single or multiple (zero or more) wildcard characters, like
+ * {@link FilenameUtils#wildcardMatch(String, String, IOCase)}. Use this class when matching many names against the same pattern: the pattern is split into
+ * its literal segments once, and {@link #matches(String)} allocates nothing.
+ * </p>
+ * <p>
+ * Matching anchors the segments before the first '*' and after the last '*' to the start and end of the name, and finds each segment in between at its
+ * leftmost position, so it never backtracks. Case-insensitive matching folds ASCII characters directly and follows
+ * {@link String#regionMatches(boolean, int, String, int, int)} for other characters.
+ * </p>
+ * <pre>
+ * WildcardMatcher matcher = WildcardMatcher.compile("*.txt", IOCase.INSENSITIVE);
+ * matcher.matches("c.txt")  --&gt; true
+ * matcher.matches("c.TXT")  --&gt; true
+ * matcher.matches("c.jpg")  --&gt; false
+ * </pre>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ *
+ * @see FilenameUtils#wildcardMatch(String, String, IOCase)
+ * @since 2.23.0
+ */
+public final class WildcardMatcher {
+
+    private static final char ANY_CHAR = '?';
+
+    private static final char ANY_CHARS = '*';
+
+    /**
+     * Compiles a case-sensitive wildcard pattern.
+     *
+     * @param pattern The wildcard pattern, may be null to match only a null name.
+     * @return A new matcher.
+     */
+    public static WildcardMatcher compile(final String pattern) {
+        return compile(pattern, IOCase.SENSITIVE);
+    }
+
+    /**
+     * Compiles a wildcard pattern.
+     *
+     * @param pattern The wildcard pattern, may be null to match only a null name.
+     * @param ioCase  How to handle case sensitivity, null means case-sensitive.
+     * @return A new matcher.
+     */
+    public static WildcardMatcher compile(final String pattern, final IOCase ioCase) {
+        return new WildcardMatcher(pattern, IOCase.value(ioCase, IOCase.SENSITIVE));
+    }
+
+    /**
+     * Tests whether two characters are equal ignoring case, like {@link String#regionMatches(boolean, int, String, int, int)}.
+     */
+    private static boolean equalsIgnoreCase(final char c1, final char c2) {
+        if (c1 < 128 && c2 < 128) {
+            return toUpperCaseAscii(c1) == toUpperCaseAscii(c2);
+        }
+        final char u1 = Character.toUpperCase(c1);
+        final char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
+    private static char toUpperCaseAscii(final char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private final String pattern;
+
+    private final IOCase ioCase;
+
+    private final boolean sensitive;
+
+    /**
+     * The literal segments between '*' characters, where '?' matches any character; null if the pattern is null.
+     */
+    private final String[] segments;
+
+    /**
+     * Whether the pattern contains a '*', if not, {@link #segments} holds a single segment matching the whole name.
+     */
+    private final boolean anyChars;
+
+    /**
+     * The minimum length of a matching name.
+     */
+    private final int minLength;
+
+    private WildcardMatcher(final String pattern, final IOCase ioCase) {
+        this.pattern = pattern;
+        this.ioCase = ioCase;
+        this.sensitive = ioCase.isCaseSensitive();
+        if (pattern == null) {
+            this.segments = null;
+            this.anyChars = false;
+            this.minLength = 0;
+            return;
+        }
+        final List<String> list = new ArrayList<>();
+        int start = 0;
+        int index;
+        while ((index = pattern.indexOf(ANY_CHARS, start)) >= 0) {
+            // Consecutive '*' characters collapse into one.
+            if (index > start || list.isEmpty()) {
+                list.add(pattern.substring(start, index));
+            }
+            start = index + 1;
+        }
+        list.add(pattern.substring(start));
+        this.segments = list.toArray(FilenameUtils.EMPTY_STRING_ARRAY);
+        this.anyChars = segments.length > 1;
+        int min = 0;
+        for (final String segment : segments) {
+            min += segment.length();
+        }
+        this.minLength = min;
+    }
+
+    /**
+     * Gets how this matcher handles case sensitivity.
+     *
+     * @return How this matcher handles case sensitivity.
+     */
+    public IOCase getIoCase() {
+        return ioCase;
+    }
+
+    /**
+     * Gets the wildcard pattern.
+     *
+     * @return The wildcard pattern, may be null.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Finds the leftmost index of a segment in the name between {@code fromIndex} and {@code toIndex}, or -1.
+     */
+    private int indexOf(final String name, final int fromIndex, final int toIndex, final String segment) {
+        final int last = toIndex - segment.length();
+        for (int i = fromIndex; i <= last; i++) {
+            if (regionMatches(name, i, segment)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tests whether a file name matches this pattern.
+     *
+     * @param fileName The file name to match, may be null.
+     * @return true if the file name matches this pattern; a null name only matches a null pattern.
+     */
+    public boolean matches(final String fileName) {
+        if (fileName == null || segments == null) {
+            return fileName == null && segments == null;
+        }
+        final int length = fileName.length();
+        if (length < minLength) {
+            return false;
+        }
+        if (!anyChars) {
+            return length == minLength && regionMatches(fileName, 0, segments[0]);
+        }
+        final String prefix = segments[0];
+        final String suffix = segments[segments.length - 1];
+        final int end = length - suffix.length();
+        if (!regionMatches(fileName, 0, prefix) || !regionMatches(fileName, end, suffix)) {
+            return false;
+        }
+        int position = prefix.length();
+        for (int i = 1; i < segments.length - 1; i++) {
+            final String segment = segments[i];
+            final int found = indexOf(fileName, position, end, segment);
+            if (found < 0) {
+                return false;
+            }
+            position = found + segment.length();
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether the name matches a segment at the given offset, the caller ensures the segment fits.
+     */
+    private boolean regionMatches(final String name, final int offset, final String segment) {
+        final int length = segment.length();
+        for (int i = 0; i < length; i++) {
+            final char p = segment.charAt(i);
+            if (p != ANY_CHAR) {
+                final char c = name.charAt(offset + i);
+                if (c != p && (sensitive || !equalsIgnoreCase(c, p))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "WildcardMatcher [pattern=" + pattern + ", ioCase=" + ioCase + "]";
+    }
+}
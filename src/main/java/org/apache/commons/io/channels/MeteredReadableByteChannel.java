@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.input.MeteredInputStream;
+
+/**
+ * A {@link ReadableByteChannel} filter that records {@link IOMetrics}: bytes and read operations, time blocked in reads, read sizes, and time to first
+ * byte.
+ * <p>
+ * Time to first byte is measured from the construction of this channel.
+ * </p>
+ * <p>
+ * To build an instance, call {@link #builder()}.
+ * </p>
+ *
+ * @param <C> The {@link ReadableByteChannel} type.
+ * @see Builder
+ * @see IOMetrics
+ * @see MeteredInputStream
+ * @since 2.23.0
+ */
+public class MeteredReadableByteChannel<C extends ReadableByteChannel> extends FilterReadableByteChannel<C> {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MeteredReadableByteChannel}.
+     *
+     * <pre>{@code
+     * MeteredReadableByteChannel<ReadableByteChannel> channel = MeteredReadableByteChannel.builder()
+     *   .setMetrics(metrics.newChild())
+     *   .setPath(path)
+     *   .get();
+     * }
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractBuilder<MeteredReadableByteChannel<ReadableByteChannel>, ReadableByteChannel, Builder> {
+
+        private IOMetrics metrics;
+
+        /**
+         * Constructs a new builder of {@link MeteredReadableByteChannel}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link MeteredReadableByteChannel}.
+         * <p>
+         * You must set an aspect that supports {@link #getChannel(Class)}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getChannel(Class)} gets the target aspect.</li>
+         * <li>metrics, defaults to a new {@link IOMetrics}.</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link ReadableByteChannel}.
+         * @throws IOException                   if an I/O error occurs converting to a {@link ReadableByteChannel} using {@link #getChannel(Class)}.
+         * @see #getChannel(Class)
+         * @see #getUnchecked()
+         */
+        @Override
+        public MeteredReadableByteChannel<ReadableByteChannel> get() throws IOException {
+            return new MeteredReadableByteChannel<>(getChannel(ReadableByteChannel.class), metrics != null ? metrics : new IOMetrics());
+        }
+
+        /**
+         * Sets the metrics to record.
+         *
+         * @param metrics The metrics to record, {@code null} resets to a new {@link IOMetrics}.
+         * @return {@code this} instance.
+         */
+        public Builder setMetrics(final IOMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final IOMetrics metrics;
+    private final long openNanos = System.nanoTime();
+    private volatile boolean firstByte;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param channel The channel to wrap.
+     * @param metrics The metrics to record.
+     * @throws NullPointerException if {@code metrics} is {@code null}.
+     */
+    public MeteredReadableByteChannel(final C channel, final IOMetrics metrics) {
+        super(channel);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Gets the metrics recorded by this channel.
+     *
+     * @return The metrics.
+     */
+    public IOMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final long start = System.nanoTime();
+        final int n = super.read(dst);
+        final long now = System.nanoTime();
+        metrics.recordRead(n, now - start);
+        if (!firstByte && n > 0) {
+            firstByte = true;
+            metrics.recordFirstByte(now - openNanos);
+        }
+        return n;
+    }
+}
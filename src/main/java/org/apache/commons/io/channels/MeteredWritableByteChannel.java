@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.output.MeteredOutputStream;
+
+/**
+ * A {@link WritableByteChannel} filter that records {@link IOMetrics}: bytes and write operations, and time blocked in writes.
+ * <p>
+ * To build an instance, call {@link #builder()}.
+ * </p>
+ *
+ * @param <C> The {@link WritableByteChannel} type.
+ * @see Builder
+ * @see IOMetrics
+ * @see MeteredOutputStream
+ * @since 2.23.0
+ */
+public class MeteredWritableByteChannel<C extends WritableByteChannel> extends FilterWritableByteChannel<C> {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MeteredWritableByteChannel}.
+     *
+     * <pre>{@code
+     * MeteredWritableByteChannel<WritableByteChannel> channel = MeteredWritableByteChannel.builder()
+     *   .setMetrics(metrics.newChild())
+     *   .setChannel(socketChannel)
+     *   .get();
+     * }
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractBuilder<MeteredWritableByteChannel<WritableByteChannel>, WritableByteChannel, Builder> {
+
+        private IOMetrics metrics;
+
+        /**
+         * Constructs a new builder of {@link MeteredWritableByteChannel}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link MeteredWritableByteChannel}.
+         * <p>
+         * You must set an aspect that supports {@link #getChannel(Class)}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getChannel(Class)} gets the target aspect.</li>
+         * <li>metrics, defaults to a new {@link IOMetrics}.</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link WritableByteChannel}.
+         * @throws IOException                   if an I/O error occurs converting to a {@link WritableByteChannel} using {@link #getChannel(Class)}.
+         * @see #getChannel(Class)
+         * @see #getUnchecked()
+         */
+        @Override
+        public MeteredWritableByteChannel<WritableByteChannel> get() throws IOException {
+            return new MeteredWritableByteChannel<>(getChannel(WritableByteChannel.class), metrics != null ? metrics : new IOMetrics());
+        }
+
+        /**
+         * Sets the metrics to record.
+         *
+         * @param metrics The metrics to record, {@code null} resets to a new {@link IOMetrics}.
+         * @return {@code this} instance.
+         */
+        public Builder setMetrics(final IOMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final IOMetrics metrics;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param channel The channel to wrap.
+     * @param metrics The metrics to record.
+     * @throws NullPointerException if {@code metrics} is {@code null}.
+     */
+    public MeteredWritableByteChannel(final C channel, final IOMetrics metrics) {
+        super(channel);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Gets the metrics recorded by this channel.
+     *
+     * @return The metrics.
+     */
+    public IOMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        final long start = System.nanoTime();
+        final int n = super.write(src);
+        metrics.recordWrite(n, System.nanoTime() - start);
+        return n;
+    }
+}
@@ -17,9 +17,19 @@
 package org.apache.commons.io.comparator;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
 
 /**
  * Abstract file {@link Comparator} which provides sorting for file arrays and lists.
@@ -28,10 +38,220 @@
  */
 abstract class AbstractFileComparator implements Comparator<File> {
 
+    /**
+     * Compares the indexes of two files being sorted, without boxing the indexes.
+     */
+    @FunctionalInterface
+    interface IndexComparator {
+
+        /**
+         * Compares the files at two indexes.
+         *
+         * @param index1 The index of the first file.
+         * @param index2 The index of the second file.
+         * @return A negative integer, zero, or a positive integer as the first file is less than, equal to, or greater than the second.
+         */
+        int compare(int index1, int index2);
+
+        /**
+         * Returns a comparator that imposes the reverse ordering of this comparator.
+         *
+         * @return The reverse comparator.
+         */
+        default IndexComparator reversed() {
+            return (i, j) -> compare(j, i);
+        }
+
+        /**
+         * Returns a comparator that uses {@code other} to order the files this comparator finds equal.
+         *
+         * @param other The comparator to use next.
+         * @return The combined comparator.
+         */
+        default IndexComparator thenComparing(final IndexComparator other) {
+            return (i, j) -> {
+                final int result = compare(i, j);
+                return result != 0 ? result : other.compare(i, j);
+            };
+        }
+    }
+
+    /**
+     * Sorts a range of an array of indexes with a stable merge sort, sorting the two halves of large ranges in parallel if requested.
+     * <p>
+     * Sorts {@code dest} using {@code src} as scratch space; both arrays must hold the same indexes in the range on entry.
+     * </p>
+     */
+    private static final class IndexMergeSort extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Ranges shorter than this are sorted by insertion.
+         */
+        private static final int INSERTION_SORT_THRESHOLD = 32;
+
+        /**
+         * Ranges shorter than this are sorted on the current thread, like {@link Arrays#parallelSort(Object[], Comparator)}.
+         */
+        private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+        private final int[] src;
+        private final int[] dest;
+        private final int from;
+        private final int to;
+        private final transient IndexComparator comparator;
+        private final boolean parallel;
+
+        IndexMergeSort(final int[] src, final int[] dest, final int from, final int to, final IndexComparator comparator, final boolean parallel) {
+            this.src = src;
+            this.dest = dest;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected void compute() {
+            final int length = to - from;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                for (int i = from + 1; i < to; i++) {
+                    final int index = dest[i];
+                    int j = i;
+                    for (; j > from && comparator.compare(dest[j - 1], index) > 0; j--) {
+                        dest[j] = dest[j - 1];
+                    }
+                    dest[j] = index;
+                }
+                return;
+            }
+            final int mid = from + to >>> 1;
+            // Sorts the halves into src, using dest as scratch space.
+            final IndexMergeSort left = new IndexMergeSort(dest, src, from, mid, comparator, parallel);
+            final IndexMergeSort right = new IndexMergeSort(dest, src, mid, to, comparator, parallel);
+            if (parallel && length >= PARALLEL_THRESHOLD) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+                System.arraycopy(src, from, dest, from, length);
+                return;
+            }
+            for (int i = from, p = from, q = mid; i < to; i++) {
+                dest[i] = q >= to || p < mid && comparator.compare(src[p], src[q]) <= 0 ? src[p++] : src[q++];
+            }
+        }
+    }
+
+    /**
+     * The files being sorted and the keys read from them, so that each file is read once per sort, even by many comparators.
+     */
+    static final class SortKeys {
+
+        private static BasicFileAttributes readAttributes(final File file) {
+            try {
+                return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            } catch (final IOException | InvalidPathException e) {
+                return null;
+            }
+        }
+
+        private final File[] files;
+        private final boolean parallel;
+        private BasicFileAttributes[] attributes;
+
+        SortKeys(final File[] files, final boolean parallel) {
+            this.files = files;
+            this.parallel = parallel;
+        }
+
+        /**
+         * Gets the attributes of each file, read once for all comparators, null elements for files that cannot be read.
+         */
+        BasicFileAttributes[] attributes() {
+            if (attributes == null) {
+                final BasicFileAttributes[] array = new BasicFileAttributes[files.length];
+                forEach(i -> array[i] = readAttributes(files[i]));
+                attributes = array;
+            }
+            return attributes;
+        }
+
+        /**
+         * Returns a comparator of file indexes that compares files directly, for comparators that do not read the file system.
+         */
+        IndexComparator compareFiles(final Comparator<File> comparator) {
+            return (i, j) -> comparator.compare(files[i], files[j]);
+        }
+
+        /**
+         * Returns a comparator of file indexes on a {@code long} key read once for each file.
+         */
+        IndexComparator compareLongs(final IntToLongFunction key) {
+            final long[] keys = new long[files.length];
+            forEach(i -> keys[i] = key.applyAsLong(i));
+            return (i, j) -> Long.compare(keys[i], keys[j]);
+        }
+
+        File file(final int index) {
+            return files[index];
+        }
+
+        private void forEach(final IntConsumer action) {
+            final IntStream indexes = IntStream.range(0, files.length);
+            (parallel ? indexes.parallel() : indexes).forEach(action);
+        }
+    }
+
+    /**
+     * Returns a comparator of the indexes of the files to sort that reads each key once through the given keys, or null if this comparator does not read
+     * the file system.
+     *
+     * @param keys The files being sorted.
+     * @return A comparator of file indexes, or null to compare the files with this comparator.
+     */
+    IndexComparator indexComparator(final SortKeys keys) {
+        return null;
+    }
+
+    /**
+     * Sorts an array of files, reading the file system once for each file, in parallel.
+     * <p>
+     * This method reads the attributes the comparator needs for each file once, on many threads, and sorts on these values with a parallel stable merge
+     * sort, like {@link Arrays#parallelSort(Object[], Comparator)}; it returns the original array. Use it for large arrays of comparators that read the file
+     * system, such as {@link LastModifiedFileComparator} or {@link SizeFileComparator}.
+     * </p>
+     *
+     * @param files The files to sort, may be null.
+     * @return The sorted array.
+     * @since 2.23.0
+     */
+    public File[] parallelSort(final File... files) {
+        return sort(files, true);
+    }
+
+    /**
+     * Sorts a List of files, reading the file system once for each file, in parallel.
+     * <p>
+     * See {@link #parallelSort(File...)}, this method returns the original list.
+     * </p>
+     *
+     * @param files The files to sort, may be null.
+     * @return The sorted list.
+     * @since 2.23.0
+     */
+    public List<File> parallelSort(final List<File> files) {
+        return sort(files, true);
+    }
+
     /**
      * Sorts an array of files.
      * <p>
-     * This method uses {@link Arrays#sort(Object[], Comparator)} and returns the original array.
+     * This method uses {@link Arrays#sort(Object[], Comparator)} and returns the original array. Comparators that read the file system read it once for
+     * each file, rather than once for each comparison, and sort on these values with a stable merge sort.
      * </p>
      *
      * @param files The files to sort, may be null.
@@ -39,16 +259,39 @@ abstract class AbstractFileComparator implements Comparator<File> {
      * @since 2.0
      */
     public File[] sort(final File... files) {
-        if (files != null) {
-            Arrays.sort(files, this);
+        return sort(files, false);
+    }
+
+    private File[] sort(final File[] files, final boolean parallel) {
+        if (files == null || files.length < 2) {
+            return files;
+        }
+        final IndexComparator comparator = indexComparator(new SortKeys(files, parallel));
+        if (comparator == null) {
+            if (parallel) {
+                Arrays.parallelSort(files, this);
+            } else {
+                Arrays.sort(files, this);
+            }
+            return files;
         }
+        final int[] indexes = IntStream.range(0, files.length).toArray();
+        final IndexMergeSort mergeSort = new IndexMergeSort(indexes.clone(), indexes, 0, indexes.length, comparator, parallel);
+        if (parallel) {
+            ForkJoinPool.commonPool().invoke(mergeSort);
+        } else {
+            mergeSort.compute();
+        }
+        final File[] sorted = new File[files.length];
+        Arrays.setAll(sorted, i -> files[indexes[i]]);
+        System.arraycopy(sorted, 0, files, 0, files.length);
         return files;
     }
 
     /**
      * Sorts a List of files.
      * <p>
-     * This method uses {@link List#sort(Comparator)} and returns the original list.
+     * This method sorts like {@link #sort(File...)} and returns the original list.
      * </p>
      *
      * @param files The files to sort, may be null.
@@ -56,8 +299,18 @@ public File[] sort(final File... files) {
      * @since 2.0
      */
     public List<File> sort(final List<File> files) {
-        if (files != null) {
-            files.sort(this);
+        return sort(files, false);
+    }
+
+    private List<File> sort(final List<File> files, final boolean parallel) {
+        if (files == null || files.size() < 2) {
+            return files;
+        }
+        final File[] sorted = sort(files.toArray(new File[files.size()]), parallel);
+        final ListIterator<File> iterator = files.listIterator();
+        for (final File file : sorted) {
+            iterator.next();
+            iterator.set(file);
         }
         return files;
     }
@@ -86,6 +86,25 @@ public int compare(final File file1, final File file2) {
         return Stream.of(delegates).map(delegate -> delegate.compare(file1, file2)).filter(r -> r != 0).findFirst().orElse(0);
     }
 
+    /**
+     * Combines the index comparators of the delegates, so that the delegates share the attributes read for each file.
+     */
+    @Override
+    IndexComparator indexComparator(final SortKeys keys) {
+        IndexComparator result = null;
+        boolean readsFiles = false;
+        for (final Comparator<File> delegate : delegates) {
+            IndexComparator comparator = delegate instanceof AbstractFileComparator ? ((AbstractFileComparator) delegate).indexComparator(keys) : null;
+            if (comparator != null) {
+                readsFiles = true;
+            } else {
+                comparator = keys.compareFiles(delegate);
+            }
+            result = result == null ? comparator : result.thenComparing(comparator);
+        }
+        return readsFiles ? result : null;
+    }
+
     @SuppressWarnings("unchecked") // types are already correct
     private Comparator<File>[] emptyArray() {
         return (Comparator<File>[]) EMPTY_COMPARATOR_ARRAY;
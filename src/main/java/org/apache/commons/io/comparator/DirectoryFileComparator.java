@@ -18,6 +18,7 @@
 
 import java.io.File;
 import java.io.Serializable;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Comparator;
 
 /**
@@ -82,6 +83,15 @@ public int compare(final File file1, final File file2) {
         return getType(file1) - getType(file2);
     }
 
+    /**
+     * Compares the types read from the attributes of the files being sorted, a file that cannot be read being a file.
+     */
+    @Override
+    IndexComparator indexComparator(final SortKeys keys) {
+        final BasicFileAttributes[] attributes = keys.attributes();
+        return keys.compareLongs(i -> attributes[i] != null && attributes[i].isDirectory() ? TYPE_DIRECTORY : TYPE_FILE);
+    }
+
     /**
      * Converts type to numeric value.
      *
@@ -18,6 +18,7 @@
 
 import java.io.File;
 import java.io.Serializable;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Comparator;
 
 import org.apache.commons.io.FileUtils;
@@ -89,4 +90,14 @@ public int compare(final File file1, final File file2) {
         }
         return 0;
     }
+
+    /**
+     * Compares the last modified times read from the attributes of the files being sorted.
+     */
+    @Override
+    IndexComparator indexComparator(final SortKeys keys) {
+        final BasicFileAttributes[] attributes = keys.attributes();
+        // Without attributes, let FileUtils throw the same exception as compare().
+        return keys.compareLongs(i -> attributes[i] != null ? attributes[i].lastModifiedTime().toMillis() : FileUtils.lastModifiedUnchecked(keys.file(i)));
+    }
 }
@@ -57,6 +57,18 @@ public int compare(final File file1, final File file2) {
         return delegate.compare(file2, file1); // parameters switched round
     }
 
+    /**
+     * Reverses the index comparator of the delegate, if it has one.
+     */
+    @Override
+    IndexComparator indexComparator(final SortKeys keys) {
+        if (delegate instanceof AbstractFileComparator) {
+            final IndexComparator comparator = ((AbstractFileComparator) delegate).indexComparator(keys);
+            return comparator != null ? comparator.reversed() : null;
+        }
+        return null;
+    }
+
     /**
      * Returns the String representation of this file comparator.
      *
@@ -18,6 +18,7 @@
 
 import java.io.File;
 import java.io.Serializable;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Comparator;
 
 import org.apache.commons.io.FileUtils;
@@ -138,6 +139,25 @@ public int compare(final File file1, final File file2) {
         return 0;
     }
 
+    /**
+     * Compares the sizes read from the attributes of the files being sorted, summing the contents of directories once per directory if requested.
+     */
+    @Override
+    IndexComparator indexComparator(final SortKeys keys) {
+        final BasicFileAttributes[] attributes = keys.attributes();
+        return keys.compareLongs(i -> {
+            final BasicFileAttributes fileAttributes = attributes[i];
+            if (fileAttributes == null) {
+                // Like File.length() for a file that does not exist.
+                return 0;
+            }
+            if (fileAttributes.isDirectory()) {
+                return sumDirectoryContents ? FileUtils.sizeOfDirectory(keys.file(i)) : 0;
+            }
+            return fileAttributes.size();
+        });
+    }
+
     /**
      * String representation of this file comparator.
      *
@@ -246,6 +246,17 @@ public int hashCode() {
         return result;
     }
 
+    /**
+     * Returns {@code false}, this visitor accumulates paths in lists that are not thread-safe.
+     *
+     * @return {@code false}.
+     * @since 2.23.0
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Relativizes each directory path with {@link Path#relativize(Path)} against the given {@code parent}, optionally
      * sorting the result.
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.build.AbstractSupplier;
+import org.apache.commons.io.file.Counters.PathCounters;
+
+/**
+ * Deletes files and directories in the background: a path to delete is renamed into a trash directory, which is fast and atomic, and purged later by
+ * background threads.
+ * <p>
+ * The trash directory must be on the same file store as the paths to delete, as a rename cannot move a path to another file store; when it cannot, this
+ * class falls back to deleting the path in the calling thread. The trash directory must not be inside a directory to delete.
+ * </p>
+ * <p>
+ * At most {@link Builder#setConcurrency(int) concurrency} paths are purged at the same time, to bound the I/O load of the background work. When an
+ * instance is built, it purges whatever a previous instance left in its trash directory, for example, after the virtual machine exited before purging
+ * completed; only the directories this class creates in the trash directory are purged, other files there are left alone.
+ * </p>
+ * <p>
+ * An instance assumes it is the only one using its trash directory, which is not locked. Do not use the same trash directory for two instances at the same
+ * time, in this or another virtual machine, including an instance that is closed but still purging: both would purge the same leftovers.
+ * </p>
+ * <p>
+ * To build an instance, use {@link Builder}.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see org.apache.commons.io.FileDeleteStrategy#background(BackgroundDeleter)
+ * @since 2.23.0
+ */
+public final class BackgroundDeleter implements Closeable {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link BackgroundDeleter}.
+     *
+     * <p>
+     * For example:
+     * </p>
+     * <pre>{@code
+     * BackgroundDeleter deleter = BackgroundDeleter.builder()
+     *   .setTrashDirectory(workspaces.resolve(".trash"))
+     *   .setConcurrency(2)
+     *   .get();
+     * deleter.delete(workspaces.resolve("job-42"));}
+     * </pre>
+     */
+    // @formatter:on
+    public static class Builder extends AbstractSupplier<BackgroundDeleter, Builder> {
+
+        private Path trashDirectory;
+
+        private int concurrency = 1;
+
+        private ExecutorService executorService;
+
+        private DeleteOption[] deleteOptions = { StandardDeleteOption.OVERRIDE_READ_ONLY };
+
+        /**
+         * Constructs a new builder of {@link BackgroundDeleter}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link BackgroundDeleter}, creating its trash directory if needed and starting to purge what it holds.
+         *
+         * @return A new instance.
+         * @throws IllegalStateException if the trash directory is not set.
+         * @throws IOException           if the trash directory cannot be created or listed.
+         */
+        @Override
+        public BackgroundDeleter get() throws IOException {
+            return new BackgroundDeleter(this);
+        }
+
+        /**
+         * Sets the maximum number of paths purged at the same time, defaults to 1.
+         *
+         * @param concurrency The maximum number of paths purged at the same time, 1 or greater.
+         * @return {@code this} instance.
+         * @throws IllegalArgumentException if {@code concurrency} is less than 1.
+         */
+        public Builder setConcurrency(final int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be at least 1: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Sets how to purge paths, defaults to {@link StandardDeleteOption#OVERRIDE_READ_ONLY}, null means none.
+         *
+         * @param deleteOptions How to purge paths.
+         * @return {@code this} instance.
+         */
+        public Builder setDeleteOptions(final DeleteOption... deleteOptions) {
+            this.deleteOptions = deleteOptions != null ? deleteOptions.clone() : PathUtils.EMPTY_DELETE_OPTION_ARRAY;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the purges, null means a new pool of {@link #setConcurrency(int) concurrency} daemon threads. An executor set here is
+         * not shut down by {@link BackgroundDeleter#close()}.
+         *
+         * @param executorService The executor running the purges, null means a new pool.
+         * @return {@code this} instance.
+         */
+        public Builder setExecutorService(final ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Sets the directory holding paths waiting to be purged, required.
+         *
+         * @param trashDirectory The trash directory, on the same file store as the paths to delete.
+         * @return {@code this} instance.
+         */
+        public Builder setTrashDirectory(final Path trashDirectory) {
+            this.trashDirectory = trashDirectory;
+            return this;
+        }
+    }
+
+    /**
+     * A path in the trash directory waiting to be purged.
+     */
+    private final class Purge {
+
+        private final Path path;
+        private final CompletableFuture<PathCounters> future = new CompletableFuture<>();
+
+        private Purge(final Path path) {
+            this.path = path;
+        }
+
+        /**
+         * Gives up on this purge, leaving the path in the trash directory.
+         */
+        private void reject(final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+            queueDepth.decrementAndGet();
+        }
+
+        private void run() {
+            try {
+                future.complete(PathUtils.delete(path, deleteOptions));
+            } catch (final IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                queueDepth.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The prefix of the directories created in the trash directory, one for each call to {@link #delete(Path)} or {@link #clean(Path)}.
+     */
+    private static final String PREFIX = "purge-";
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Path trashDirectory;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
+    private final DeleteOption[] deleteOptions;
+    private final Queue<Purge> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of purges queued or running.
+     */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /**
+     * The number of tasks draining the queue.
+     */
+    private final AtomicInteger workers = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    private BackgroundDeleter(final Builder builder) throws IOException {
+        if (builder.trashDirectory == null) {
+            throw new IllegalStateException("trashDirectory");
+        }
+        this.trashDirectory = Files.createDirectories(builder.trashDirectory).toAbsolutePath().normalize();
+        this.concurrency = builder.concurrency;
+        this.deleteOptions = builder.deleteOptions;
+        // Only purge the holders created by this class, the trash directory may hold other files.
+        // List them before creating threads, which would leak if the listing failed.
+        final List<Path> leftovers = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(trashDirectory, PREFIX + "*")) {
+            stream.forEach(leftovers::add);
+        }
+        this.ownsExecutorService = builder.executorService == null;
+        this.executorService = ownsExecutorService ? Executors.newFixedThreadPool(concurrency, r -> {
+            final Thread thread = new Thread(r, "commons-io-BackgroundDeleter");
+            thread.setDaemon(true);
+            return thread;
+        }) : builder.executorService;
+        leftovers.forEach(this::schedule);
+    }
+
+    /**
+     * Moves the entries of a directory to the trash, leaving the directory empty, and purges them in the background.
+     * <p>
+     * If the trash directory is inside the given directory, it is left in place.
+     * </p>
+     *
+     * @param directory The directory to clean.
+     * @return A future completed with the counts of purged paths, including the directory created in the trash to hold the entries.
+     * @throws IOException           if the directory cannot be listed or an entry cannot be moved, entries already moved are still purged.
+     * @throws IllegalStateException if this instance is closed.
+     */
+    public Future<PathCounters> clean(final Path directory) throws IOException {
+        checkOpen();
+        final Path holder = Files.createTempDirectory(trashDirectory, PREFIX);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (final Path entry : stream) {
+                if (!entry.toAbsolutePath().normalize().equals(trashDirectory)) {
+                    Files.move(entry, holder.resolve(entry.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        } catch (final AtomicMoveNotSupportedException e) {
+            // The directory is on another file store: purge what was moved, if anything, and delete the rest here.
+            schedule(holder);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (final Path entry : stream) {
+                    if (!entry.toAbsolutePath().normalize().equals(trashDirectory)) {
+                        PathUtils.delete(entry, deleteOptions);
+                    }
+                }
+            }
+            return CompletableFuture.completedFuture(Counters.noopPathCounters());
+        } catch (final IOException e) {
+            schedule(holder);
+            throw e;
+        }
+        return schedule(holder);
+    }
+
+    /**
+     * Stops accepting paths to delete, and shuts down the threads created by this instance once the purges already queued are done.
+     * <p>
+     * Paths left in the trash directory by this instance are purged by the next instance built on it.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Closed");
+        }
+    }
+
+    /**
+     * Moves a file or directory to the trash and purges it in the background.
+     * <p>
+     * If the path is on another file store than the trash directory, it is deleted in the calling thread instead, and the returned future is complete.
+     * If the executor service no longer accepts tasks, the returned future completes with a {@link RejectedExecutionException} and the path stays in the
+     * trash directory, to be purged by the next instance built on it.
+     * </p>
+     *
+     * @param path The file or directory to delete.
+     * @return A future completed with the counts of purged paths, including the directory created in the trash to hold the path.
+     * @throws IOException           if the path cannot be moved, for example, if it does not exist.
+     * @throws IllegalStateException if this instance is closed.
+     */
+    public Future<PathCounters> delete(final Path path) throws IOException {
+        checkOpen();
+        final Path holder = Files.createTempDirectory(trashDirectory, PREFIX);
+        try {
+            Files.move(path, holder.resolve(path.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.delete(holder);
+            return CompletableFuture.completedFuture(PathUtils.delete(path, deleteOptions));
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(holder);
+            throw e;
+        }
+        return schedule(holder);
+    }
+
+    /**
+     * Gets the number of paths in the trash waiting to be purged or being purged.
+     *
+     * @return The number of paths queued or being purged.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the trash directory.
+     *
+     * @return The absolute trash directory.
+     */
+    public Path getTrashDirectory() {
+        return trashDirectory;
+    }
+
+    /**
+     * Runs queued purges until the queue is empty.
+     */
+    private void drain() {
+        try {
+            Purge purge;
+            while ((purge = queue.poll()) != null) {
+                purge.run();
+            }
+        } finally {
+            workers.decrementAndGet();
+        }
+        // A purge queued while this worker was stopping may have found all workers busy.
+        startWorker();
+    }
+
+    private Future<PathCounters> schedule(final Path path) {
+        final Purge purge = new Purge(path);
+        queueDepth.incrementAndGet();
+        queue.add(purge);
+        startWorker();
+        return purge.future;
+    }
+
+    /**
+     * Starts a worker if purges are queued and fewer than {@code concurrency} workers run.
+     */
+    private void startWorker() {
+        for (;;) {
+            final int count = workers.get();
+            if (count >= concurrency || queue.isEmpty()) {
+                return;
+            }
+            if (workers.compareAndSet(count, count + 1)) {
+                try {
+                    executorService.execute(this::drain);
+                } catch (final RejectedExecutionException e) {
+                    // Shut down: what is left stays in the trash for the next instance.
+                    workers.decrementAndGet();
+                    Purge purge;
+                    while ((purge = queue.poll()) != null) {
+                        purge.reject(e);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BackgroundDeleter [trashDirectory=" + trashDirectory + ", concurrency=" + concurrency + ", queueDepth=" + queueDepth + "]";
+    }
+}
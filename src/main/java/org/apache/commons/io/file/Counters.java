@@ -19,6 +19,8 @@
 
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provides counters for files, directories, and sizes, as a visit proceeds.
@@ -178,6 +180,205 @@ protected BigIntegerPathCounters() {
 
     }
 
+    /**
+     * Counts using a {@link BigInteger} number, safely from many threads.
+     * <p>
+     * Threads add to long cells striped by thread to avoid contention; a cell that would overflow moves its value to a {@link BigInteger} total.
+     * </p>
+     */
+    private static final class ConcurrentBigIntegerCounter implements Counter {
+
+        /**
+         * The distance between used cells, in longs, so that cells used by different threads fall on different cache lines.
+         */
+        private static final int PAD = 8;
+
+        private static final int STRIPES = stripes();
+
+        private static int stripes() {
+            final int processors = Runtime.getRuntime().availableProcessors();
+            // The next power of two of at least twice the number of processors.
+            return Integer.highestOneBit(Math.max(1, 2 * processors - 1)) << 1;
+        }
+
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PAD);
+
+        /**
+         * The values moved out of cells that would overflow, guarded by {@code this}.
+         */
+        private BigInteger overflow = BigInteger.ZERO;
+
+        @Override
+        public void add(final long val) {
+            final int index = (int) (Thread.currentThread().getId() & STRIPES - 1) * PAD;
+            for (;;) {
+                final long current = cells.get(index);
+                final long next = current + val;
+                // Overflow if both operands have the opposite sign of the result.
+                if (((current ^ next) & (val ^ next)) < 0) {
+                    synchronized (this) {
+                        if (cells.compareAndSet(index, current, 0)) {
+                            overflow = overflow.add(BigInteger.valueOf(current)).add(BigInteger.valueOf(val));
+                            return;
+                        }
+                    }
+                } else if (cells.compareAndSet(index, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Counter)) {
+                return false;
+            }
+            final Counter other = (Counter) obj;
+            return Objects.equals(getBigInteger(), other.getBigInteger());
+        }
+
+        @Override
+        public long get() {
+            return getBigInteger().longValueExact();
+        }
+
+        @Override
+        public synchronized BigInteger getBigInteger() {
+            long sum = 0;
+            BigInteger value = overflow;
+            for (int i = 0; i < cells.length(); i += PAD) {
+                final long cell = cells.get(i);
+                final long next = sum + cell;
+                if (((sum ^ next) & (cell ^ next)) < 0) {
+                    value = value.add(BigInteger.valueOf(sum));
+                    sum = cell;
+                } else {
+                    sum = next;
+                }
+            }
+            return value.add(BigInteger.valueOf(sum));
+        }
+
+        @Override
+        public Long getLong() {
+            return Long.valueOf(get());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getBigInteger());
+        }
+
+        @Override
+        public void increment() {
+            add(1);
+        }
+
+        @Override
+        public synchronized void reset() {
+            for (int i = 0; i < cells.length(); i += PAD) {
+                cells.set(i, 0);
+            }
+            overflow = BigInteger.ZERO;
+        }
+
+        @Override
+        public String toString() {
+            return getBigInteger().toString();
+        }
+    }
+
+    /**
+     * Counts files, directories, and sizes, as a visit proceeds, using BigInteger numbers, safely from many threads.
+     */
+    private static final class ConcurrentBigIntegerPathCounters extends AbstractPathCounters {
+
+        /**
+         * Constructs a new initialized instance.
+         */
+        protected ConcurrentBigIntegerPathCounters() {
+            super(concurrentBigIntegerCounter(), concurrentBigIntegerCounter(), concurrentBigIntegerCounter());
+        }
+
+    }
+
+    /**
+     * Counts using a {@code long} number, safely from many threads.
+     */
+    private static final class ConcurrentLongCounter implements Counter {
+
+        private final LongAdder value = new LongAdder();
+
+        @Override
+        public void add(final long add) {
+            value.add(add);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Counter)) {
+                return false;
+            }
+            final Counter other = (Counter) obj;
+            return get() == other.get();
+        }
+
+        @Override
+        public long get() {
+            return value.sum();
+        }
+
+        @Override
+        public BigInteger getBigInteger() {
+            return BigInteger.valueOf(get());
+        }
+
+        @Override
+        public Long getLong() {
+            return Long.valueOf(get());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(get());
+        }
+
+        @Override
+        public void increment() {
+            value.increment();
+        }
+
+        @Override
+        public void reset() {
+            value.reset();
+        }
+
+        @Override
+        public String toString() {
+            return Long.toString(get());
+        }
+    }
+
+    /**
+     * Counts files, directories, and sizes, as a visit proceeds, using long numbers, safely from many threads.
+     */
+    private static final class ConcurrentLongPathCounters extends AbstractPathCounters {
+
+        /**
+         * Constructs a new initialized instance.
+         */
+        protected ConcurrentLongPathCounters() {
+            super(concurrentLongCounter(), concurrentLongCounter(), concurrentLongCounter());
+        }
+
+    }
+
     /**
      * Counts using a number.
      */
@@ -414,6 +615,60 @@ public static PathCounters bigIntegerPathCounters() {
         return new BigIntegerPathCounters();
     }
 
+    /**
+     * Returns a new BigInteger Counter that is safe to update from many threads.
+     *
+     * @return A new BigInteger Counter.
+     * @since 2.23.0
+     */
+    public static Counter concurrentBigIntegerCounter() {
+        return new ConcurrentBigIntegerCounter();
+    }
+
+    /**
+     * Returns a new BigInteger PathCounters that is safe to update from many threads.
+     *
+     * @return A new BigInteger PathCounters.
+     * @since 2.23.0
+     */
+    public static PathCounters concurrentBigIntegerPathCounters() {
+        return new ConcurrentBigIntegerPathCounters();
+    }
+
+    /**
+     * Returns a new long Counter that is safe to update from many threads.
+     * <p>
+     * The counter is backed by a {@link LongAdder}, so updates from many threads do not contend, at the cost of slower reads.
+     * </p>
+     *
+     * @return A new long Counter.
+     * @since 2.23.0
+     */
+    public static Counter concurrentLongCounter() {
+        return new ConcurrentLongCounter();
+    }
+
+    /**
+     * Returns a new long PathCounters that is safe to update from many threads.
+     *
+     * @return A new long PathCounters.
+     * @since 2.23.0
+     */
+    public static PathCounters concurrentLongPathCounters() {
+        return new ConcurrentLongPathCounters();
+    }
+
+    /**
+     * Tests whether the given PathCounters are safe to update from many threads.
+     *
+     * @param pathCounters The PathCounters to test.
+     * @return Whether the given PathCounters are safe to update from many threads.
+     */
+    static boolean isThreadSafe(final PathCounters pathCounters) {
+        return pathCounters instanceof ConcurrentLongPathCounters || pathCounters instanceof ConcurrentBigIntegerPathCounters
+                || pathCounters instanceof NoopPathCounters;
+    }
+
     /**
      * Returns a new long Counter.
      *
@@ -142,12 +142,14 @@ public CountingPathVisitor get() {
 
     static final String[] EMPTY_STRING_ARRAY = {};
 
+    private static final UnaryOperator<Path> DEFAULT_DIRECTORY_TRANSFORMER = UnaryOperator.identity();
+
     static IOFileFilter defaultDirectoryFilter() {
         return TrueFileFilter.INSTANCE;
     }
 
     static UnaryOperator<Path> defaultDirectoryTransformer() {
-        return UnaryOperator.identity();
+        return DEFAULT_DIRECTORY_TRANSFORMER;
     }
 
     static IOFileFilter defaultFileFilter() {
@@ -180,6 +182,7 @@ public static CountingPathVisitor withLongCounters() {
     private final PathFilter fileFilter;
     private final PathFilter directoryFilter;
     private final UnaryOperator<Path> directoryPostTransformer;
+    private final boolean defaultVisitFileFailed;
 
     CountingPathVisitor(final AbstractBuilder<?, ?> builder) {
         super(builder);
@@ -187,6 +190,7 @@ public static CountingPathVisitor withLongCounters() {
         this.fileFilter = builder.getFileFilter();
         this.directoryFilter = builder.getDirectoryFilter();
         this.directoryPostTransformer = builder.getDirectoryPostTransformer();
+        this.defaultVisitFileFailed = builder.getVisitFileFailedFunction() == null;
     }
 
     /**
@@ -212,7 +216,8 @@ public CountingPathVisitor(final PathCounters pathCounters, final PathFilter fil
         this.pathCounters = Objects.requireNonNull(pathCounters, "pathCounters");
         this.fileFilter = Objects.requireNonNull(fileFilter, "fileFilter");
         this.directoryFilter = Objects.requireNonNull(directoryFilter, "directoryFilter");
-        this.directoryPostTransformer = UnaryOperator.identity();
+        this.directoryPostTransformer = defaultDirectoryTransformer();
+        this.defaultVisitFileFailed = true;
     }
 
     /**
@@ -232,7 +237,8 @@ public CountingPathVisitor(final PathCounters pathCounters, final PathFilter fil
         this.pathCounters = Objects.requireNonNull(pathCounters, "pathCounters");
         this.fileFilter = Objects.requireNonNull(fileFilter, "fileFilter");
         this.directoryFilter = Objects.requireNonNull(directoryFilter, "directoryFilter");
-        this.directoryPostTransformer = UnaryOperator.identity();
+        this.directoryPostTransformer = defaultDirectoryTransformer();
+        this.defaultVisitFileFailed = false;
     }
 
     /**
@@ -274,6 +280,26 @@ public int hashCode() {
         return Objects.hash(pathCounters);
     }
 
+    /**
+     * Tests whether this visitor supports calls from many threads at the same time.
+     * <p>
+     * A {@link CountingPathVisitor} is thread-safe when its {@link PathCounters} are, for example, those from {@link Counters#concurrentLongPathCounters()},
+     * and it uses the default filters, directory transformer, and {@link #visitFileFailed(Path, IOException)} function. User supplied functions are not
+     * assumed to be thread-safe.
+     * </p>
+     * <p>
+     * Subclasses return false unless they override this method.
+     * </p>
+     *
+     * @return Whether this visitor is thread-safe.
+     * @since 2.23.0
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return getClass() == CountingPathVisitor.class && Counters.isThreadSafe(pathCounters) && fileFilter == defaultFileFilter()
+                && directoryFilter == defaultDirectoryFilter() && directoryPostTransformer == defaultDirectoryTransformer() && defaultVisitFileFailed;
+    }
+
     @Override
     public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
         updateDirCounter(directoryPostTransformer.apply(dir), exc);
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.io.Charsets;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+import org.apache.commons.io.function.Uncheck;
+
+/**
+ * A {@link Spliterator} over the lines of a file that splits the file into byte ranges aligned on line boundaries, so that a parallel stream reads and
+ * decodes different parts of the file on different threads.
+ * <p>
+ * A line is terminated by a line feed ({@code '\n'}), a carriage return ({@code '\r'}), or a carriage return followed immediately by a line feed, like
+ * {@link java.io.BufferedReader#readLine()}. Malformed input is replaced with the charset's default replacement string.
+ * </p>
+ * <p>
+ * Each split reads its own range with positional reads on a {@link FileChannel} shared by all splits. A split point is always just after a line feed
+ * byte, so it is only safe when that byte cannot occur inside a multibyte character: the file is split for UTF-8 and for charsets encoding each character in a
+ * single byte, such as US-ASCII and ISO-8859-1. For other charsets, such as UTF-16, this spliterator does not split and decodes the whole file sequentially.
+ * </p>
+ * <p>
+ * A spliterator only splits before it starts traversing, and does not split ranges smaller than twice the buffer size. Closing the spliterator created by
+ * the builder closes the channel shared by all its splits.
+ * </p>
+ * <p>
+ * To build an instance, use {@link Builder}.
+ * </p>
+ *
+ * @see Builder
+ * @see PathUtils#lines(java.nio.file.Path, Charset)
+ * @since 2.23.0
+ */
+public final class LineSplitSpliterator implements Spliterator<String>, Closeable {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link LineSplitSpliterator}.
+     *
+     * <p>
+     * For example:
+     * </p>
+     * <pre>{@code
+     * LineSplitSpliterator s = LineSplitSpliterator.builder()
+     *   .setPath(path)
+     *   .setCharset(StandardCharsets.UTF_8)
+     *   .get();}
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<LineSplitSpliterator, Builder> {
+
+        /**
+         * Constructs a new builder of {@link LineSplitSpliterator}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link LineSplitSpliterator}.
+         * <p>
+         * You must set an aspect that supports {@link #getPath()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getPath()} gets the target aspect.</li>
+         * <li>{@link #getCharset()}</li>
+         * <li>{@link #getBufferSize()}, the size of the read buffer of each split, and half the minimum size of a range to split.</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link java.nio.file.Path}.
+         * @throws IOException                   if an I/O error occurs opening the file.
+         * @see #getPath()
+         * @see #getUnchecked()
+         */
+        @Override
+        public LineSplitSpliterator get() throws IOException {
+            final FileChannel channel = FileChannel.open(getPath(), StandardOpenOption.READ);
+            try {
+                return new LineSplitSpliterator(channel, getCharset(), getBufferSize(), 0, channel.size(), true);
+            } catch (final IOException | RuntimeException e) {
+                IOUtils.closeQuietly(channel, e::addSuppressed);
+                throw e;
+            }
+        }
+
+    }
+
+    private static final byte CR = '\r';
+
+    private static final byte LF = '\n';
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Tests whether a line feed byte always marks a character boundary in the given charset.
+     */
+    static boolean isSplittable(final Charset charset) {
+        return Charsets.isAsciiCompatible(charset);
+    }
+
+    private final FileChannel channel;
+
+    private final Charset charset;
+
+    private final boolean splittable;
+
+    private final int bufferSize;
+
+    /**
+     * Whether this instance owns the channel, only the instance created by the builder does.
+     */
+    private final boolean owner;
+
+    /**
+     * The position of the first byte of this range not yet read from the channel.
+     */
+    private long position;
+
+    /**
+     * The position just past the last byte of this range.
+     */
+    private final long fence;
+
+    /**
+     * Bytes read from the channel and not yet scanned, null until traversal starts.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The bytes of the current line, spanning buffer refills.
+     */
+    private byte[] line;
+
+    private int lineLength;
+
+    /**
+     * Whether the last byte scanned was a carriage return, so that a following line feed is skipped.
+     */
+    private boolean skipLf;
+
+    /**
+     * Reads the whole file sequentially when the charset does not allow scanning for line feed bytes, null until traversal starts.
+     */
+    private BufferedReader reader;
+
+    private LineSplitSpliterator(final FileChannel channel, final Charset charset, final int bufferSize, final long position, final long fence,
+            final boolean owner) {
+        this.channel = channel;
+        this.charset = Objects.requireNonNull(charset, "charset");
+        this.splittable = isSplittable(charset);
+        this.bufferSize = bufferSize;
+        this.position = position;
+        this.fence = fence;
+        this.owner = owner;
+    }
+
+    private void append(final byte[] bytes, final int offset, final int length) {
+        if (line == null) {
+            line = new byte[Math.max(length, 128)];
+        } else if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(lineLength + length, line.length * 2));
+        }
+        System.arraycopy(bytes, offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Closes the channel shared by all splits if this instance was created by the builder, otherwise does nothing.
+     *
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (owner) {
+            channel.close();
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        // Unknown without reading the range, so report the remaining bytes as an upper bound.
+        return fence - position + (buffer != null ? buffer.remaining() : 0);
+    }
+
+    /**
+     * Reads the next chunk of this range into the buffer.
+     *
+     * @return false at the end of the range.
+     */
+    private boolean fill() throws IOException {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate((int) Math.min(bufferSize, Math.max(1, fence - position)));
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(buffer.capacity(), fence - position));
+        while (buffer.hasRemaining()) {
+            final int n = channel.read(buffer, position);
+            if (n == IOUtils.EOF) {
+                break;
+            }
+            position += n;
+        }
+        buffer.flip();
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Finds the position just past the first line feed at or after {@code from} and before the end of this range.
+     *
+     * @return The position, or -1 if none.
+     */
+    private long findLineStart(long from) throws IOException {
+        final ByteBuffer scan = ByteBuffer.allocate(bufferSize);
+        while (from < fence) {
+            scan.clear();
+            scan.limit((int) Math.min(scan.capacity(), fence - from));
+            final int n = channel.read(scan, from);
+            if (n == IOUtils.EOF) {
+                return -1;
+            }
+            final byte[] array = scan.array();
+            for (int i = 0; i < n; i++) {
+                if (array[i] == LF) {
+                    return from + i + 1;
+                }
+            }
+            from += n;
+        }
+        return -1;
+    }
+
+    private String takeLine() {
+        final String result = new String(line == null ? IOUtils.EMPTY_BYTE_ARRAY : line, 0, lineLength, charset);
+        lineLength = 0;
+        return result;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super String> action) {
+        Objects.requireNonNull(action, "action");
+        try {
+            if (!splittable) {
+                return tryAdvanceReader(action);
+            }
+            for (;;) {
+                if (buffer == null || !buffer.hasRemaining()) {
+                    if (!fill()) {
+                        if (lineLength == 0) {
+                            return false;
+                        }
+                        action.accept(takeLine());
+                        return true;
+                    }
+                }
+                final byte[] array = buffer.array();
+                int i = buffer.position();
+                final int limit = buffer.limit();
+                if (skipLf) {
+                    skipLf = false;
+                    if (array[i] == LF) {
+                        i++;
+                    }
+                }
+                final int start = i;
+                while (i < limit) {
+                    final byte b = array[i];
+                    if (b == LF || b == CR) {
+                        append(array, start, i - start);
+                        buffer.position(i + 1);
+                        skipLf = b == CR;
+                        action.accept(takeLine());
+                        return true;
+                    }
+                    i++;
+                }
+                append(array, start, limit - start);
+                buffer.position(limit);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean tryAdvanceReader(final Consumer<? super String> action) throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), charset), bufferSize);
+        }
+        final String next = reader.readLine();
+        if (next == null) {
+            return false;
+        }
+        action.accept(next);
+        return true;
+    }
+
+    /**
+     * Splits off the first half of this range, aligned on a line boundary.
+     *
+     * @return The first half, or null if this spliterator already started traversing, if the range is too small, if the charset does not allow splitting, or
+     *         if the second half contains no line feed.
+     */
+    @Override
+    public Spliterator<String> trySplit() {
+        if (!splittable || buffer != null || fence - position < 2L * bufferSize) {
+            return null;
+        }
+        final long split;
+        try {
+            split = findLineStart(position + (fence - position) / 2);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (split < 0 || split >= fence) {
+            return null;
+        }
+        final LineSplitSpliterator prefix = new LineSplitSpliterator(channel, charset, bufferSize, position, split, false);
+        position = split;
+        return prefix;
+    }
+
+    /**
+     * Creates a sequential {@link Stream} over the lines of this spliterator, closing this spliterator when the stream is closed. Call
+     * {@link Stream#parallel()} on the result to read the file on many threads.
+     *
+     * @return A new stream.
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(this, false).onClose(() -> Uncheck.run(this::close));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.Charsets;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Reads a file into a String, decoding chunks of the file on many threads.
+ * <p>
+ * The file is split into chunks at character boundaries, one per thread and of at least {@value #MIN_CHUNK_SIZE} bytes each. Each chunk is decoded on the
+ * common {@link java.util.concurrent.ForkJoinPool} into its own region of one preallocated {@code char[]}, and the regions are then moved together to build
+ * the String. A chunk copies its leading US-ASCII bytes straight to chars, and only hands the rest to a {@link CharsetDecoder}. If the whole file is US-ASCII
+ * and was read into an array, the String is built directly from the bytes.
+ * </p>
+ * <p>
+ * Files larger than a threshold are memory-mapped instead of read into an array, the mapping is released when it is garbage collected.
+ * </p>
+ * <p>
+ * Only UTF-8 and charsets decoding each byte to one character and extending US-ASCII, such as US-ASCII, ISO-8859-1, and windows-1252, can be split;
+ * other charsets are decoded on the calling thread. Malformed input and unmappable characters are replaced like {@link String#String(byte[], Charset)} does.
+ * </p>
+ */
+final class ParallelDecoder {
+
+    /**
+     * The minimum size of a chunk decoded by one thread.
+     */
+    static final int MIN_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The file size above which the file is memory-mapped.
+     */
+    static final long MAP_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * The size of the array pieces a chunk of a memory-mapped file is copied through for decoding.
+     */
+    private static final int PIECE_SIZE = 64 * 1024;
+
+    /**
+     * Finds a character boundary at or before {@code index}: the index of a byte that is not a UTF-8 continuation byte, at most three bytes back, or
+     * {@code index} itself if the bytes before it are all continuation bytes, which can then only decode to replacement characters.
+     */
+    private static int boundary(final ByteBuffer source, final int index, final boolean utf8) {
+        if (!utf8) {
+            return index;
+        }
+        for (int i = index; i > index - 4 && i > 0; i--) {
+            if ((source.get(i) & 0xC0) != 0x80) {
+                return i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Decodes the chunk from {@code start} to {@code end} into {@code chars} starting at {@code start}.
+     *
+     * @return The number of chars decoded, at most the number of bytes of the chunk.
+     */
+    private static int decode(final ByteBuffer source, final int start, final int end, final char[] chars, final Charset charset)
+            throws CharacterCodingException {
+        int i = start;
+        if (source.hasArray()) {
+            final byte[] bytes = source.array();
+            while (i < end && bytes[i] >= 0) {
+                chars[i] = (char) bytes[i];
+                i++;
+            }
+        } else {
+            byte b;
+            while (i < end && (b = source.get(i)) >= 0) {
+                chars[i] = (char) b;
+                i++;
+            }
+        }
+        if (i == end) {
+            return end - start;
+        }
+        final CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer out = CharBuffer.wrap(chars, i, end - i);
+        if (source.hasArray()) {
+            final ByteBuffer in = ByteBuffer.wrap(source.array(), i, end - i);
+            check(decoder.decode(in, out, true));
+        } else {
+            // Decode from array pieces, the JDK decoders are much faster on arrays than on direct buffers.
+            final ByteBuffer in = ByteBuffer.allocate(Math.min(PIECE_SIZE, end - i));
+            while (i < end) {
+                final int n = Math.min(in.remaining(), end - i);
+                final ByteBuffer piece = source.duplicate();
+                piece.limit(i + n).position(i);
+                in.put(piece);
+                i += n;
+                in.flip();
+                check(decoder.decode(in, out, i == end));
+                in.compact();
+            }
+        }
+        check(decoder.flush(out));
+        return out.position() - start;
+    }
+
+    /**
+     * Throws if a coder result is an error, which cannot happen with replacement, or an overflow, which cannot happen as a chunk has no more chars than bytes.
+     */
+    private static void check(final CoderResult result) throws CharacterCodingException {
+        if (result.isError() || result.isOverflow()) {
+            result.throwException();
+        }
+    }
+
+    private static boolean isAscii(final ByteBuffer source, final int start, final int end) {
+        if (source.hasArray()) {
+            final byte[] bytes = source.array();
+            for (int i = start; i < end; i++) {
+                if (bytes[i] < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = start; i < end; i++) {
+            if (source.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether a file can be split at character boundaries in the given charset, and whether US-ASCII bytes decode to the same chars.
+     */
+    static boolean isSplittable(final Charset charset) {
+        return Charsets.isAsciiCompatible(charset);
+    }
+
+    /**
+     * Reads the whole file into a heap buffer, or maps it when it is larger than the threshold.
+     */
+    private static ByteBuffer read(final FileChannel channel, final long size, final long mapThreshold) throws IOException {
+        if (size > mapThreshold) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer) != IOUtils.EOF) {
+            // read until full or the file shrank
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads a file into a String, decoding at most {@code maxChunks} chunks in parallel.
+     *
+     * @param path         The file to read.
+     * @param charset      The charset to decode with, not null.
+     * @param maxChunks    The maximum number of chunks.
+     * @param minChunkSize The minimum number of bytes in a chunk.
+     * @param mapThreshold The file size above which the file is memory-mapped.
+     * @return The file contents.
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    static String readString(final Path path, final Charset charset, final int maxChunks, final int minChunkSize, final long mapThreshold)
+            throws IOException {
+        final ByteBuffer source;
+        final int[] starts;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int chunks = (int) Math.min(maxChunks, size / minChunkSize);
+            if (chunks < 2 || !isSplittable(charset)) {
+                return new String(Files.readAllBytes(path), charset);
+            }
+            if (size > IOUtils.SOFT_MAX_ARRAY_LENGTH) {
+                throw new OutOfMemoryError("Required array size too large: " + size);
+            }
+            source = read(channel, size, mapThreshold);
+            final int length = source.limit();
+            final boolean utf8 = StandardCharsets.UTF_8.equals(charset);
+            starts = new int[chunks + 1];
+            for (int i = 1; i < chunks; i++) {
+                starts[i] = Math.max(boundary(source, (int) ((long) length * i / chunks), utf8), starts[i - 1]);
+            }
+            starts[chunks] = length;
+        }
+        if (source.hasArray() && IntStream.range(0, starts.length - 1).parallel().allMatch(i -> isAscii(source, starts[i], starts[i + 1]))) {
+            return new String(source.array(), 0, source.limit(), StandardCharsets.ISO_8859_1);
+        }
+        final char[] chars = new char[source.limit()];
+        final int[] counts;
+        try {
+            counts = IntStream.range(0, starts.length - 1).parallel().map(i -> {
+                try {
+                    return decode(source, starts[i], starts[i + 1], chars, charset);
+                } catch (final CharacterCodingException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).toArray();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        int length = counts[0];
+        for (int i = 1; i < counts.length; i++) {
+            System.arraycopy(chars, starts[i], chars, length, counts[i]);
+            length += counts[i];
+        }
+        return new String(chars, 0, length);
+    }
+
+    private ParallelDecoder() {
+        // no instances
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.commons.io.IOExceptionList;
+import org.apache.commons.io.file.Counters.PathCounters;
+
+/**
+ * Deletes files and directories for a {@link ParallelPathWalker}, collecting failures instead of stopping at the first one.
+ * <p>
+ * A directory is deleted once all its entries are visited; a directory that still holds entries that could not be deleted is kept.
+ * </p>
+ */
+final class ParallelDeletingPathVisitor extends DeletingPathVisitor {
+
+    private final Path start;
+
+    private final Queue<IOException> exceptions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param start         The directory to delete.
+     * @param pathCounters  How to count visits, should be thread-safe.
+     * @param linkOptions   How symbolic links are handled.
+     * @param deleteOptions How deletion is handled.
+     */
+    ParallelDeletingPathVisitor(final Path start, final PathCounters pathCounters, final LinkOption[] linkOptions, final DeleteOption[] deleteOptions) {
+        super(pathCounters, linkOptions, deleteOptions);
+        this.start = start;
+    }
+
+    /**
+     * Throws an {@link IOExceptionList} of the failures collected so far, if any.
+     *
+     * @param message The detail message.
+     * @throws IOExceptionList if any path could not be deleted.
+     */
+    void checkEmpty(final Object message) throws IOExceptionList {
+        IOExceptionList.checkEmpty(new ArrayList<>(exceptions), message);
+    }
+
+    /**
+     * Returns whether the counters are thread-safe: this visitor keeps no mutable state but its counters and its concurrent queue of failures.
+     *
+     * @return Whether the counters are thread-safe.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return Counters.isThreadSafe(getPathCounters());
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+        if (exc != null) {
+            exceptions.add(exc);
+        }
+        try {
+            return super.postVisitDirectory(dir, exc);
+        } catch (final IOException e) {
+            exceptions.add(e);
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    @Override
+    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+        try {
+            return super.visitFile(file, attrs);
+        } catch (final IOException e) {
+            exceptions.add(e);
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(final Path file, final IOException exc) throws IOException {
+        if (file.equals(start)) {
+            // Like the sequential delete, fail right away if the directory cannot be read at all.
+            throw exc;
+        }
+        // An entry deleted by someone else is as good as deleted.
+        if (!(exc instanceof NoSuchFileException)) {
+            exceptions.add(exc);
+        }
+        return FileVisitResult.CONTINUE;
+    }
+}
@@ -0,0 +1,582 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.build.AbstractSupplier;
+import org.apache.commons.io.function.IOSupplier;
+
+/**
+ * Walks a file tree like {@link Files#walkFileTree(Path, Set, int, FileVisitor)}, but lists directories in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * Each directory is listed by its own task, and the tasks for subdirectories are forked so that idle threads steal them. This helps most on wide trees on
+ * slow or remote storage, where a walk spends its time waiting for directory listings rather than using the CPU.
+ * </p>
+ * <p>
+ * The visitor sees the same calls as with {@link Files#walkFileTree(Path, Set, int, FileVisitor)}: {@code preVisitDirectory} before the entries of a
+ * directory, {@code postVisitDirectory} after all of them, including those of its subdirectories, and {@code visitFileFailed} for entries that cannot be
+ * read, for directories that cannot be opened, and for links back to an ancestor when following links. Calls for different directories happen in no
+ * particular order. The entries of a large directory are handed to other threads in batches, so that its files are also visited in parallel.
+ * {@link FileVisitResult#SKIP_SIBLINGS}, whether returned for a file or by {@code preVisitDirectory} or {@code postVisitDirectory} for a subdirectory, stops
+ * visiting the remaining entries of the directory, but subdirectories already handed to other threads still complete. {@link FileVisitResult#TERMINATE} and
+ * exceptions stop the walk as soon as running tasks notice, and the walk returns once all running tasks are done.
+ * </p>
+ * <p>
+ * Unless the visitor is a {@link PathVisitor} whose {@link PathVisitor#isThreadSafe()} method returns true, calls to the visitor are serialized, so that
+ * only directory listing and attribute reading run in parallel.
+ * </p>
+ * <p>
+ * To build an instance, use {@link Builder}.
+ * </p>
+ *
+ * @see PathUtils#visitFileTree(FileVisitor, Path, Set, int)
+ * @since 2.23.0
+ */
+public final class ParallelPathWalker {
+
+    /**
+     * The number of entries of a directory listed before they are handed to another thread.
+     */
+    static final int BATCH_SIZE = 64;
+
+    // @formatter:off
+    /**
+     * Builds a new {@link ParallelPathWalker}.
+     *
+     * <p>
+     * For example:
+     * </p>
+     * <pre>{@code
+     * ParallelPathWalker walker = ParallelPathWalker.builder()
+     *   .setParallelism(32)
+     *   .get();
+     * walker.walk(start, visitor);}
+     * </pre>
+     */
+    // @formatter:on
+    public static class Builder extends AbstractSupplier<ParallelPathWalker, Builder> {
+
+        private ForkJoinPool forkJoinPool;
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private Set<FileVisitOption> fileVisitOptions = Collections.emptySet();
+
+        private int maxDepth = Integer.MAX_VALUE;
+
+        /**
+         * Constructs a new builder of {@link ParallelPathWalker}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        @Override
+        public ParallelPathWalker get() {
+            return new ParallelPathWalker(this);
+        }
+
+        /**
+         * Sets the options of the walk, null means none.
+         *
+         * @param fileVisitOptions The options of the walk, null means none.
+         * @return {@code this} instance.
+         */
+        public Builder setFileVisitOptions(final Set<FileVisitOption> fileVisitOptions) {
+            this.fileVisitOptions = fileVisitOptions != null ? EnumSet.copyOf(fileVisitOptions) : Collections.emptySet();
+            return this;
+        }
+
+        /**
+         * Sets the pool to run the walk on, null means each walk uses a new pool of {@link #setParallelism(int) parallelism} threads. A pool set here is
+         * not shut down by this class.
+         *
+         * @param forkJoinPool The pool to run the walk on, null means each walk uses a new pool.
+         * @return {@code this} instance.
+         */
+        public Builder setForkJoinPool(final ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of directory levels to visit, defaults to {@link Integer#MAX_VALUE}.
+         *
+         * @param maxDepth The maximum number of directory levels to visit, 0 or greater.
+         * @return {@code this} instance.
+         * @throws IllegalArgumentException if {@code maxDepth} is negative.
+         */
+        public Builder setMaxDepth(final int maxDepth) {
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("maxDepth must be at least 0: " + maxDepth);
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of directories listed at the same time when no pool is set, defaults to the number of available processors.
+         * <p>
+         * Listing is usually bound by storage latency rather than CPU, so values above the number of processors help on remote storage.
+         * </p>
+         *
+         * @param parallelism The number of threads of the pool created for each walk, 1 or greater.
+         * @return {@code this} instance.
+         * @throws IllegalArgumentException if {@code parallelism} is less than 1.
+         */
+        public Builder setParallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+    }
+
+    /**
+     * A directory on the path from the start of the walk, used to detect loops.
+     */
+    private static final class Ancestor {
+
+        private final Ancestor parent;
+        private final Path dir;
+        private final Object fileKey;
+
+        private Ancestor(final Ancestor parent, final Path dir, final Object fileKey) {
+            this.parent = parent;
+            this.dir = dir;
+            this.fileKey = fileKey;
+        }
+
+        private boolean contains(final Path path, final Object key) {
+            for (Ancestor ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                if (key != null ? key.equals(ancestor.fileKey) : isSameFile(path, ancestor.dir)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Visits a batch of entries of a large directory.
+     */
+    @SuppressWarnings("serial")
+    private static final class BatchTask extends RecursiveAction {
+
+        private final DirectoryTask directory;
+        private final List<Path> entries;
+
+        private BatchTask(final DirectoryTask directory, final List<Path> entries) {
+            this.directory = directory;
+            this.entries = entries;
+        }
+
+        @Override
+        protected void compute() {
+            final List<RecursiveAction> subtasks = new ArrayList<>();
+            try {
+                directory.visitAll(entries, subtasks);
+            } catch (final IOException e) {
+                directory.walk.fail(e);
+            } finally {
+                joinAll(subtasks);
+            }
+        }
+    }
+
+    /**
+     * Visits a directory tree, one task per directory.
+     */
+    @SuppressWarnings("serial")
+    private final class DirectoryTask extends RecursiveAction {
+
+        private final Walk walk;
+        private final Path dir;
+        private final BasicFileAttributes attributes;
+        private final int depth;
+        private final Ancestor ancestors;
+        private final DirectoryTask parent;
+
+        /**
+         * Set when a subdirectory asks to skip its siblings.
+         */
+        private volatile boolean skipSiblings;
+
+        private DirectoryTask(final Walk walk, final Path dir, final BasicFileAttributes attributes, final int depth, final Ancestor ancestors,
+                final DirectoryTask parent) {
+            this.walk = walk;
+            this.dir = dir;
+            this.attributes = attributes;
+            this.depth = depth;
+            this.ancestors = ancestors;
+            this.parent = parent;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                visitDirectory();
+            } catch (final IOException e) {
+                walk.fail(e);
+            }
+        }
+
+        private void visitDirectory() throws IOException {
+            // A sibling may have asked to skip this directory before it started.
+            if (walk.terminated || parent != null && parent.skipSiblings) {
+                return;
+            }
+            final DirectoryStream<Path> stream;
+            try {
+                stream = Files.newDirectoryStream(dir);
+            } catch (final IOException e) {
+                walk.visitFileFailed(dir, e);
+                return;
+            }
+            final List<RecursiveAction> subtasks = new ArrayList<>();
+            IOException listingException = null;
+            try {
+                final FileVisitResult result = walk.call(() -> walk.visitor.preVisitDirectory(dir, attributes));
+                if (result == FileVisitResult.SKIP_SIBLINGS && parent != null) {
+                    parent.skipSiblings = true;
+                }
+                if (result != FileVisitResult.CONTINUE) {
+                    walk.terminateIf(result);
+                    return;
+                }
+                List<Path> batch = new ArrayList<>();
+                try {
+                    for (final Path entry : stream) {
+                        if (walk.terminated || skipSiblings) {
+                            break;
+                        }
+                        batch.add(entry);
+                        if (batch.size() == BATCH_SIZE) {
+                            final BatchTask subtask = new BatchTask(this, batch);
+                            subtask.fork();
+                            subtasks.add(subtask);
+                            batch = new ArrayList<>();
+                        }
+                    }
+                } catch (final DirectoryIteratorException e) {
+                    listingException = e.getCause();
+                }
+                visitAll(batch, subtasks);
+            } finally {
+                try {
+                    stream.close();
+                } finally {
+                    joinAll(subtasks);
+                }
+            }
+            if (!walk.terminated) {
+                final IOException exc = listingException;
+                final FileVisitResult result = walk.call(() -> walk.visitor.postVisitDirectory(dir, exc));
+                if (result == FileVisitResult.SKIP_SIBLINGS && parent != null) {
+                    parent.skipSiblings = true;
+                }
+                walk.terminateIf(result);
+            }
+        }
+
+        /**
+         * Visits entries of this directory, forking the tasks that visit its subdirectories.
+         */
+        private void visitAll(final List<Path> entries, final List<RecursiveAction> subtasks) throws IOException {
+            for (final Path entry : entries) {
+                if (walk.terminated || skipSiblings) {
+                    return;
+                }
+                final DirectoryTask subtask = visit(entry);
+                if (subtask != null) {
+                    subtask.fork();
+                    subtasks.add(subtask);
+                }
+            }
+        }
+
+        /**
+         * Visits an entry of this directory.
+         *
+         * @return A task to visit the entry if it is a directory to enter, or null.
+         */
+        private DirectoryTask visit(final Path entry) throws IOException {
+            final BasicFileAttributes entryAttributes;
+            try {
+                entryAttributes = walk.readAttributes(entry);
+            } catch (final IOException e) {
+                walk.visitFileFailed(entry, e);
+                return null;
+            }
+            if (entryAttributes.isDirectory() && depth + 1 < maxDepth) {
+                final Object fileKey = entryAttributes.fileKey();
+                if (walk.followLinks && ancestors.contains(entry, fileKey)) {
+                    walk.visitFileFailed(entry, new FileSystemLoopException(entry.toString()));
+                    return null;
+                }
+                return new DirectoryTask(walk, entry, entryAttributes, depth + 1, new Ancestor(ancestors, entry, fileKey), this);
+            }
+            final FileVisitResult result = walk.call(() -> walk.visitor.visitFile(entry, entryAttributes));
+            if (result == FileVisitResult.SKIP_SIBLINGS) {
+                skipSiblings = true;
+            }
+            walk.terminateIf(result);
+            return null;
+        }
+    }
+
+    /**
+     * The state of one walk.
+     */
+    private final class Walk {
+
+        private final FileVisitor<? super Path> visitor;
+
+        /**
+         * Serializes visitor calls, or null if the visitor is thread-safe.
+         */
+        private final Object lock;
+
+        private final boolean followLinks = fileVisitOptions.contains(FileVisitOption.FOLLOW_LINKS);
+
+        private final LinkOption[] linkOptions = followLinks ? PathUtils.EMPTY_LINK_OPTION_ARRAY : PathUtils.noFollowLinkOptionArray();
+
+        private volatile boolean terminated;
+
+        private IOException failure;
+
+        private Walk(final FileVisitor<? super Path> visitor) {
+            this.visitor = visitor;
+            this.lock = visitor instanceof PathVisitor && ((PathVisitor) visitor).isThreadSafe() ? null : new Object();
+        }
+
+        private FileVisitResult call(final IOSupplier<FileVisitResult> call) throws IOException {
+            try {
+                if (lock == null) {
+                    return call.get();
+                }
+                synchronized (lock) {
+                    return call.get();
+                }
+            } catch (final RuntimeException | Error e) {
+                // Stop the other tasks, the exception reaches the caller once they are all joined.
+                terminated = true;
+                throw e;
+            }
+        }
+
+        private synchronized void fail(final IOException e) {
+            if (failure == null) {
+                failure = e;
+            } else if (failure != e) {
+                failure.addSuppressed(e);
+            }
+            terminated = true;
+        }
+
+        /**
+         * Reads the attributes of a path like {@link Files#walkFileTree(Path, Set, int, FileVisitor)}: when following links, falls back to the attributes
+         * of the link itself if its target cannot be read.
+         */
+        private BasicFileAttributes readAttributes(final Path path) throws IOException {
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+            } catch (final IOException e) {
+                if (!followLinks) {
+                    throw e;
+                }
+                try {
+                    return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (final IOException e2) {
+                    e.addSuppressed(e2);
+                    throw e;
+                }
+            }
+        }
+
+        private synchronized void rethrow() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void terminateIf(final FileVisitResult result) {
+            if (Objects.requireNonNull(result, "FileVisitResult") == FileVisitResult.TERMINATE) {
+                terminated = true;
+            }
+        }
+
+        private void visitFileFailed(final Path path, final IOException e) throws IOException {
+            terminateIf(call(() -> visitor.visitFileFailed(path, e)));
+        }
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Waits for a pool created for one walk to terminate, even if interrupted.
+     */
+    private static void awaitTermination(final ForkJoinPool pool) {
+        boolean interrupted = false;
+        for (;;) {
+            try {
+                if (pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Joins tasks in reverse order, so that the tasks this thread forked last are run here if no other thread stole them.
+     * <p>
+     * Every task is joined even if some fail, so that no task still visits files when the walk returns; the first failure is then rethrown with the others
+     * suppressed.
+     * </p>
+     */
+    private static void joinAll(final List<RecursiveAction> tasks) {
+        Throwable failure = null;
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            try {
+                tasks.get(i).join();
+            } catch (final RuntimeException | Error e) {
+                if (failure == null) {
+                    failure = e;
+                } else if (failure != e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw (Error) failure;
+        }
+    }
+
+    private static boolean isSameFile(final Path path1, final Path path2) {
+        try {
+            return Files.isSameFile(path1, path2);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private final ForkJoinPool forkJoinPool;
+
+    private final int parallelism;
+
+    private final Set<FileVisitOption> fileVisitOptions;
+
+    private final int maxDepth;
+
+    private ParallelPathWalker(final Builder builder) {
+        this.forkJoinPool = builder.forkJoinPool;
+        this.parallelism = builder.parallelism;
+        this.fileVisitOptions = builder.fileVisitOptions;
+        this.maxDepth = builder.maxDepth;
+    }
+
+    /**
+     * Returns a walker like this one that can delete a whole tree: it does not follow symbolic links and has no maximum depth.
+     *
+     * @return This instance if it does not follow symbolic links and has no maximum depth, otherwise a new walker with the same settings without
+     *         {@link FileVisitOption#FOLLOW_LINKS} and with a maximum depth of {@link Integer#MAX_VALUE}.
+     */
+    ParallelPathWalker forDeletion() {
+        if (!fileVisitOptions.contains(FileVisitOption.FOLLOW_LINKS) && maxDepth == Integer.MAX_VALUE) {
+            return this;
+        }
+        final Set<FileVisitOption> options = EnumSet.noneOf(FileVisitOption.class);
+        options.addAll(fileVisitOptions);
+        options.remove(FileVisitOption.FOLLOW_LINKS);
+        return builder().setForkJoinPool(forkJoinPool).setParallelism(parallelism).setFileVisitOptions(options).get();
+    }
+
+    /**
+     * Walks a file tree.
+     *
+     * @param <T>     The visitor type.
+     * @param start   The starting file.
+     * @param visitor The visitor to call for each file.
+     * @return The given visitor.
+     * @throws IOException Thrown if a visitor method throws an I/O error; if more than one does, the others are suppressed.
+     */
+    public <T extends FileVisitor<? super Path>> T walk(final Path start, final T visitor) throws IOException {
+        Objects.requireNonNull(start, "start");
+        final Walk walk = new Walk(Objects.requireNonNull(visitor, "visitor"));
+        final BasicFileAttributes attributes;
+        try {
+            attributes = walk.readAttributes(start);
+        } catch (final IOException e) {
+            walk.visitFileFailed(start, e);
+            return visitor;
+        }
+        if (!attributes.isDirectory() || maxDepth == 0) {
+            walk.call(() -> visitor.visitFile(start, attributes));
+            return visitor;
+        }
+        final DirectoryTask task = new DirectoryTask(walk, start, attributes, 0, new Ancestor(null, start, attributes.fileKey()), null);
+        if (forkJoinPool != null) {
+            forkJoinPool.invoke(task);
+        } else {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+                awaitTermination(pool);
+            }
+        }
+        walk.rethrow();
+        return visitor;
+    }
+}
@@ -23,10 +23,14 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.CopyOption;
@@ -70,12 +74,14 @@
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.commons.io.Charsets;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOExceptionList;
 import org.apache.commons.io.IORandomAccessFile;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.RandomAccessFileMode;
@@ -86,6 +92,8 @@
 import org.apache.commons.io.filefilter.IOFileFilter;
 import org.apache.commons.io.function.IOFunction;
 import org.apache.commons.io.function.IOSupplier;
+import org.apache.commons.io.function.Uncheck;
+import org.apache.commons.io.input.BoundedInputStream;
 
 /**
  * NIO Path utilities.
@@ -209,6 +217,11 @@ private RelativeSortedPaths(final Path dir1, final Path dir2, final int maxDepth
     private static final OpenOption[] OPEN_OPTIONS_TRUNCATE = { StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING };
     private static final OpenOption[] OPEN_OPTIONS_APPEND = { StandardOpenOption.CREATE, StandardOpenOption.APPEND };
 
+    /**
+     * The minimum size of the file region each thread counts in {@link #countLines(Path, Charset, boolean)}.
+     */
+    static final int COUNT_LINES_MIN_REGION_SIZE = 1024 * 1024;
+
     /**
      * Empty {@link CopyOption} array.
      *
@@ -493,6 +506,81 @@ public static PathCounters countDirectoryAsBigInteger(final Path directory) thro
         return visitFileTree(CountingPathVisitor.withBigIntegerCounters(), directory).getPathCounters();
     }
 
+    /**
+     * Counts the lines of a file without creating a String per line.
+     * <p>
+     * Lines are delimited like {@link java.io.BufferedReader#readLine()}, see {@link IOUtils#countLines(InputStream, Charset)}, which scans the raw bytes
+     * for UTF-8 and single-byte charsets.
+     * </p>
+     *
+     * @param path    The path to the file.
+     * @param charset The charset to use for decoding, null means the default charset.
+     * @return The number of lines.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @see IOUtils#countLines(InputStream, Charset)
+     * @since 2.23.0
+     */
+    public static long countLines(final Path path, final Charset charset) throws IOException {
+        return countLines(path, charset, 1, COUNT_LINES_MIN_REGION_SIZE);
+    }
+
+    /**
+     * Counts the lines of a file without creating a String per line, optionally counting regions of the file on many threads.
+     * <p>
+     * When {@code parallel} is true, the file is split into regions aligned on line boundaries, one per available processor and of at least 1 MiB each, and
+     * the regions are counted on the common {@link java.util.concurrent.ForkJoinPool}. The file is only split for the charsets that
+     * {@link LineSplitSpliterator} splits; for other charsets, and for small files, it is counted on the calling thread.
+     * </p>
+     *
+     * @param path     The path to the file.
+     * @param charset  The charset to use for decoding, null means the default charset.
+     * @param parallel Whether to count regions of the file on many threads.
+     * @return The number of lines.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @see IOUtils#countLines(InputStream, Charset)
+     * @since 2.23.0
+     */
+    public static long countLines(final Path path, final Charset charset, final boolean parallel) throws IOException {
+        return countLines(path, charset, parallel ? Runtime.getRuntime().availableProcessors() : 1, COUNT_LINES_MIN_REGION_SIZE);
+    }
+
+    /**
+     * Counts the lines of a file, splitting it into at most {@code maxRegions} regions of at least {@code minRegionSize} bytes.
+     */
+    static long countLines(final Path path, final Charset charset, final int maxRegions, final int minRegionSize) throws IOException {
+        final Charset actual = Charsets.toCharset(charset);
+        final long[] starts;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int regions = (int) Math.min(maxRegions, size / minRegionSize);
+            if (regions < 2 || !Charsets.isAsciiCompatible(actual)) {
+                return IOUtils.countLines(Channels.newInputStream(channel), actual);
+            }
+            // Start each region just after a line feed so that regions hold whole lines.
+            starts = new long[regions + 1];
+            for (int i = 1; i < regions; i++) {
+                starts[i] = findLineStart(channel, Math.max(size / regions * i, starts[i - 1]), size);
+            }
+            starts[regions] = size;
+        }
+        try {
+            return IntStream.range(0, starts.length - 1).parallel().mapToLong(i -> Uncheck.apply(PathUtils::countLines, path, starts[i], starts[i + 1], actual))
+                    .sum();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Counts the lines of the region of a file from {@code start} to {@code end}.
+     */
+    private static long countLines(final Path path, final long start, final long end, final Charset charset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(start);
+            return IOUtils.countLines(BoundedInputStream.builder().setInputStream(Channels.newInputStream(channel)).setMaxCount(end - start).get(), charset);
+        }
+    }
+
     /**
      * Creates the parent directories for the given {@code path}.
      * <p>
@@ -647,6 +735,67 @@ public static PathCounters deleteDirectory(final Path directory, final LinkOptio
         return visitFileTree(new DeletingPathVisitor(Counters.longPathCounters(), linkOptions, deleteOptions), directory).getPathCounters();
     }
 
+    /**
+     * Deletes a directory including subdirectories, deleting files and directories in parallel with the given walker.
+     * <p>
+     * Unlike the other {@code deleteDirectory} methods, this method does not stop at the first path it cannot delete: it deletes as much as it can, keeping
+     * the directories that still hold entries, and then throws an {@link IOExceptionList} of all failures. The returned counters are updated as paths are
+     * deleted, so another thread can use them to report progress while this method runs.
+     * </p>
+     * <p>
+     * The walk never follows symbolic links, even if the walker was built with {@link java.nio.file.FileVisitOption#FOLLOW_LINKS}: a symbolic link is
+     * deleted, not its target. The walk also ignores the maximum depth of the walker, so that the whole tree is deleted.
+     * </p>
+     *
+     * @param directory     directory to delete.
+     * @param walker        How to walk the directory in parallel.
+     * @param linkOptions   How to handle symbolic links.
+     * @param deleteOptions How to handle deletion.
+     * @return The counts of deleted paths.
+     * @throws IOExceptionList Thrown if some paths cannot be deleted.
+     * @throws IOException     Thrown if an I/O error occurs.
+     * @see ParallelPathWalker
+     * @since 2.23.0
+     */
+    public static PathCounters deleteDirectory(final Path directory, final ParallelPathWalker walker, final LinkOption[] linkOptions,
+            final DeleteOption... deleteOptions) throws IOException {
+        return deleteDirectory(directory, walker, Counters.concurrentLongPathCounters(), linkOptions, deleteOptions);
+    }
+
+    /**
+     * Deletes a directory including subdirectories, deleting files and directories in parallel with the given walker, counting into the given counters.
+     * <p>
+     * Pass counters from {@link Counters#concurrentLongPathCounters()} or {@link Counters#concurrentBigIntegerPathCounters()} to let files be deleted in
+     * parallel and to read progress from another thread while this method runs; other counters serialize the deletions.
+     * </p>
+     * <p>
+     * The walk never follows symbolic links and always visits the whole tree, whatever the options and maximum depth of the walker.
+     * </p>
+     *
+     * @param directory     directory to delete.
+     * @param walker        How to walk the directory in parallel.
+     * @param pathCounters  The counters of deleted paths.
+     * @param linkOptions   How to handle symbolic links.
+     * @param deleteOptions How to handle deletion.
+     * @return The given counters.
+     * @throws IOExceptionList Thrown if some paths cannot be deleted.
+     * @throws IOException     Thrown if an I/O error occurs.
+     * @see #deleteDirectory(Path, ParallelPathWalker, LinkOption[], DeleteOption...)
+     * @since 2.23.0
+     */
+    public static PathCounters deleteDirectory(final Path directory, final ParallelPathWalker walker, final PathCounters pathCounters,
+            final LinkOption[] linkOptions, final DeleteOption... deleteOptions) throws IOException {
+        Objects.requireNonNull(walker, "walker");
+        final ParallelDeletingPathVisitor visitor = new ParallelDeletingPathVisitor(directory, Objects.requireNonNull(pathCounters, "pathCounters"),
+                linkOptions, deleteOptions);
+        // POSIX ops will noop on non-POSIX.
+        // Following links would delete files outside of the directory, and a depth limit would leave directories that are not empty.
+        final ParallelPathWalker deletionWalker = walker.forDeletion();
+        withPosixFileAttributes(getParent(directory), linkOptions, overrideReadOnly(deleteOptions), pfa -> deletionWalker.walk(directory, visitor));
+        visitor.checkEmpty(directory);
+        return pathCounters;
+    }
+
     /**
      * Deletes the given file.
      *
@@ -975,6 +1124,28 @@ private static <R, A> R filterPaths(final PathFilter filter, final Stream<Path>
         }).collect(collector);
     }
 
+    /**
+     * Finds the position just past the first line feed at or after {@code from} and before {@code end}, or {@code end} if none.
+     */
+    private static long findLineStart(final FileChannel channel, long from, final long end) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(IOUtils.DEFAULT_BUFFER_SIZE);
+        while (from < end) {
+            buffer.clear();
+            final int n = channel.read(buffer, from);
+            if (n == IOUtils.EOF) {
+                break;
+            }
+            final byte[] array = buffer.array();
+            for (int i = 0; i < n; i++) {
+                if (array[i] == IOUtils.LF) {
+                    return Math.min(from + i + 1, end);
+                }
+            }
+            from += n;
+        }
+        return end;
+    }
+
     /**
      * Reads the access control list from a file attribute view.
      *
@@ -1419,6 +1590,25 @@ static boolean isSameFileSystem(final Path path1, final Path path2) {
         return path1.getFileSystem() == path2.getFileSystem();
     }
 
+    /**
+     * Returns a stream of the lines of a file that reads the file on many threads when made parallel.
+     * <p>
+     * Unlike {@link Files#lines(Path, Charset)}, the returned stream splits the file into byte ranges aligned on line boundaries on all Java versions, see
+     * {@link LineSplitSpliterator} for the charsets that allow splitting. The stream holds an open file, use a {@code try}-with-resources block to close it.
+     * </p>
+     *
+     * @param path    The path to the file.
+     * @param charset The charset to use for decoding, null means the default charset.
+     * @return A new sequential stream, call {@link Stream#parallel()} to read the file on many threads.
+     * @throws IOException Thrown if an I/O error occurs opening the file.
+     * @see LineSplitSpliterator
+     * @since 2.23.0
+     */
+    @SuppressWarnings("resource") // Caller closes
+    public static Stream<String> lines(final Path path, final Charset charset) throws IOException {
+        return LineSplitSpliterator.builder().setPath(path).setCharset(Charsets.toCharset(charset)).get().stream();
+    }
+
     /**
      * Creates a new DirectoryStream for Paths rooted at the given directory.
      * <p>
@@ -1597,6 +1787,32 @@ public static String readString(final Path path, final Charset charset) throws I
         return new String(Files.readAllBytes(path), Charsets.toCharset(charset));
     }
 
+    /**
+     * Reads the file contents at the given path as a String using the Charset, optionally decoding chunks of the file on many threads.
+     * <p>
+     * When {@code parallel} is true, the file is split at character boundaries into chunks, one per available processor and of at least 1 MiB each, decoded
+     * on the common {@link java.util.concurrent.ForkJoinPool} into one preallocated {@code char[]}. Pure US-ASCII files skip decoding, and files larger than
+     * 64 MiB are memory-mapped instead of read into a byte array. Only UTF-8 and single-byte charsets extending US-ASCII, such as ISO-8859-1, are split; other
+     * charsets, and small files, are decoded on the calling thread. The result is always the same as {@link #readString(Path, Charset)}.
+     * </p>
+     *
+     * @param path     The source path.
+     * @param charset  How to convert bytes to a String, null uses the default Charset.
+     * @param parallel Whether to decode chunks of the file on many threads.
+     * @return The file contents as a new String.
+     * @throws IOException Thrown if an I/O error occurs reading from the file.
+     * @see #readString(Path, Charset)
+     * @since 2.23.0
+     */
+    public static String readString(final Path path, final Charset charset, final boolean parallel) throws IOException {
+        final Charset actual = Charsets.toCharset(charset);
+        if (!parallel) {
+            return readString(path, actual);
+        }
+        return ParallelDecoder.readString(path, actual, Runtime.getRuntime().availableProcessors(), ParallelDecoder.MIN_CHUNK_SIZE,
+                ParallelDecoder.MAP_THRESHOLD);
+    }
+
     /**
      * Relativizes all files in the given {@code collection} against a {@code parent}.
      *
@@ -1930,6 +2146,7 @@ public static Path touch(final Path file, final FileTime fileTime) throws IOExce
      * @throws NoSuchFileException  if the directory does not exist.
      * @throws IOException          if an I/O error is thrown by a visitor method.
      * @throws NullPointerException if the directory is {@code null}.
+     * @see ParallelPathWalker
      */
     public static <T extends FileVisitor<? super Path>> T visitFileTree(final T visitor, final Path directory) throws IOException {
         Files.walkFileTree(directory, visitor);
@@ -1948,6 +2165,7 @@ public static <T extends FileVisitor<? super Path>> T visitFileTree(final T visi
      * @param <T>      See {@link Files#walkFileTree(Path,Set,int,FileVisitor)}.
      * @return The given visitor.
      * @throws IOException Thrown if an I/O error is thrown by a visitor method.
+     * @see ParallelPathWalker
      */
     public static <T extends FileVisitor<? super Path>> T visitFileTree(final T visitor, final Path start, final Set<FileVisitOption> options,
             final int maxDepth) throws IOException {
@@ -2046,8 +2264,10 @@ public static boolean waitFor(final Path file, final Duration timeout, final Lin
     @SuppressWarnings("resource") // Caller closes
     public static Stream<Path> walk(final Path start, final PathFilter pathFilter, final int maxDepth, final boolean readAttributes,
             final FileVisitOption... options) throws IOException {
-        return Files.walk(start, maxDepth, options).filter(
-                path -> pathFilter.accept(path, readAttributes ? readBasicFileAttributes(path, EMPTY_LINK_OPTION_ARRAY) : null) == FileVisitResult.CONTINUE);
+        // Files.find passes the attributes the walk already read; only the attributes of symbolic links are read again to describe their targets.
+        return Files.find(start, maxDepth, (path, attributes) -> pathFilter.accept(path, readAttributes
+                ? attributes.isSymbolicLink() ? readBasicFileAttributes(path, EMPTY_LINK_OPTION_ARRAY) : attributes
+                : null) == FileVisitResult.CONTINUE, options);
     }
 
     private static <R> R withPosixFileAttributes(final Path path, final LinkOption[] linkOptions, final boolean overrideReadOnly,
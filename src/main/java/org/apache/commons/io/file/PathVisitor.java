@@ -26,5 +26,17 @@
  * @since 2.9.0
  */
 public interface PathVisitor extends FileVisitor<Path> {
-    // empty
+
+    /**
+     * Tests whether this visitor supports calls from many threads at the same time, as made by {@link ParallelPathWalker}.
+     * <p>
+     * A {@link ParallelPathWalker} serializes its calls to visitors that are not thread-safe.
+     * </p>
+     *
+     * @return Whether this visitor is thread-safe, false by default.
+     * @since 2.23.0
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
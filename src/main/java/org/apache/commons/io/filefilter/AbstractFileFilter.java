@@ -41,6 +41,17 @@
  */
 public abstract class AbstractFileFilter implements IOFileFilter, PathVisitor {
 
+    /**
+     * Tests whether the attributes passed to a filter describe the file itself, so the filter can use them instead of reading them again. The attributes of
+     * a symbolic link describe the link rather than its target, so filters that follow links read those again.
+     *
+     * @param attributes The attributes passed to a filter, may be null.
+     * @return Whether the attributes can be used in place of the file's attributes.
+     */
+    static boolean isUsable(final BasicFileAttributes attributes) {
+        return attributes != null && !attributes.isSymbolicLink();
+    }
+
     static FileVisitResult toDefaultFileVisitResult(final boolean accept) {
         return accept ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
     }
@@ -201,6 +201,9 @@ public boolean accept(final File file) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
+        if (isUsable(attributes)) {
+            return toFileVisitResult(acceptOlder != attributes.lastModifiedTime().toInstant().isAfter(cutoffInstant));
+        }
         return get(() -> toFileVisitResult(acceptOlder != PathUtils.isNewer(file, cutoffInstant)));
     }
 
@@ -115,7 +115,15 @@ public AndFileFilter(final List<IOFileFilter> fileFilters) {
      */
     @Override
     public boolean accept(final File file) {
-        return !isEmpty() && fileFilters.stream().allMatch(fileFilter -> fileFilter.accept(file));
+        if (isEmpty()) {
+            return false;
+        }
+        for (final IOFileFilter fileFilter : fileFilters) {
+            if (!fileFilter.accept(file)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -123,7 +131,15 @@ public boolean accept(final File file) {
      */
     @Override
     public boolean accept(final File file, final String name) {
-        return !isEmpty() && fileFilters.stream().allMatch(fileFilter -> fileFilter.accept(file, name));
+        if (isEmpty()) {
+            return false;
+        }
+        for (final IOFileFilter fileFilter : fileFilters) {
+            if (!fileFilter.accept(file, name)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -133,8 +149,15 @@ public boolean accept(final File file, final String name) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
-        return isEmpty() ? FileVisitResult.TERMINATE
-                : toDefaultFileVisitResult(fileFilters.stream().allMatch(fileFilter -> fileFilter.accept(file, attributes) == FileVisitResult.CONTINUE));
+        if (isEmpty()) {
+            return FileVisitResult.TERMINATE;
+        }
+        for (final IOFileFilter fileFilter : fileFilters) {
+            if (fileFilter.accept(file, attributes) != FileVisitResult.CONTINUE) {
+                return toDefaultFileVisitResult(false);
+            }
+        }
+        return toDefaultFileVisitResult(true);
     }
 
     /**
@@ -128,12 +128,13 @@ public FileVisitResult accept(final Path file, final BasicFileAttributes attribu
             return toFileVisitResult(true);
         }
         return get(() -> {
-            if (Files.isDirectory(file)) {
+            final boolean usable = isUsable(attributes);
+            if (usable ? attributes.isDirectory() : Files.isDirectory(file)) {
                 try (Stream<Path> stream = Files.list(file)) {
                     return toFileVisitResult(!stream.findFirst().isPresent());
                 }
             }
-            return toFileVisitResult(Files.size(file) == 0);
+            return toFileVisitResult((usable ? attributes.size() : Files.size(file)) == 0);
         });
     }
 
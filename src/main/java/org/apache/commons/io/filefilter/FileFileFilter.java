@@ -110,7 +110,7 @@ public boolean accept(final File file) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
-        return toFileVisitResult(file != null && Files.isRegularFile(file));
+        return toFileVisitResult(file != null && (isUsable(attributes) ? attributes.isRegularFile() : Files.isRegularFile(file)));
     }
 
 }
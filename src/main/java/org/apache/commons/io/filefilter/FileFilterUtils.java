@@ -19,11 +19,15 @@
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collector;
@@ -43,6 +47,15 @@
  */
 public class FileFilterUtils {
 
+    /** The cost of a filter that only looks at the file name. */
+    static final int COST_NAME = 0;
+
+    /** The cost of a filter that reads file attributes, the default for unknown filters. */
+    static final int COST_ATTRIBUTES = 1;
+
+    /** The cost of a filter that reads file content or lists directories. */
+    static final int COST_CONTENT = 2;
+
     /* Constructed on demand and then cached */
     private static final IOFileFilter CVS_FILTER = notFileFilter(
             and(directoryFileFilter(), nameFileFilter("CVS")));
@@ -184,6 +197,79 @@ public static IOFileFilter asFileFilter(final FilenameFilter filter) {
         return new DelegateFileFilter(filter);
     }
 
+    /**
+     * Compiles a filter into an equivalent filter that is cheaper to evaluate.
+     * <p>
+     * The children of {@link AndFileFilter} and {@link OrFileFilter} instances are compiled recursively, non-empty nested filters of the same kind are flattened, and
+     * children are reordered so that filters looking only at the file name run before filters reading file attributes, which run before filters reading file
+     * content such as {@link MagicNumberFileFilter}. Within an {@link OrFileFilter}, {@link NameFileFilter}, {@link PrefixFileFilter}, and
+     * {@link SuffixFileFilter} children with the same case sensitivity merge into a single filter matching all their patterns in one pass over the name.
+     * </p>
+     * <p>
+     * Reordering assumes filters have no side effects. Subclasses of the filters above are left as they are. The given filter is not modified.
+     * </p>
+     *
+     * @param filter The filter to compile.
+     * @return An equivalent filter, may be the given filter.
+     * @throws NullPointerException if the filter is null.
+     * @since 2.23.0
+     */
+    public static IOFileFilter compile(final IOFileFilter filter) {
+        Objects.requireNonNull(filter, "filter");
+        final Class<?> type = filter.getClass();
+        if (type == AndFileFilter.class || type == OrFileFilter.class) {
+            final List<IOFileFilter> children = new ArrayList<>();
+            for (final IOFileFilter child : ((ConditionalFileFilter) filter).getFileFilters()) {
+                final IOFileFilter compiled = compile(child);
+                // An empty conditional filter rejects everything, flattening it would drop that.
+                if (compiled.getClass() == type && !((ConditionalFileFilter) compiled).getFileFilters().isEmpty()) {
+                    children.addAll(((ConditionalFileFilter) compiled).getFileFilters());
+                } else {
+                    children.add(compiled);
+                }
+            }
+            if (type == AndFileFilter.class) {
+                children.sort(Comparator.comparingInt(FileFilterUtils::cost));
+                return new AndFileFilter(children);
+            }
+            final List<IOFileFilter> merged = mergeNameFilters(children);
+            merged.sort(Comparator.comparingInt(FileFilterUtils::cost));
+            return new OrFileFilter(merged);
+        }
+        if (type == NotFileFilter.class) {
+            return new NotFileFilter(compile(((NotFileFilter) filter).getFilter()));
+        }
+        return filter;
+    }
+
+    /**
+     * Estimates the cost of evaluating a filter.
+     *
+     * @param filter The filter.
+     * @return {@link #COST_NAME}, {@link #COST_ATTRIBUTES}, or {@link #COST_CONTENT}.
+     */
+    static int cost(final IOFileFilter filter) {
+        if (filter instanceof ConditionalFileFilter) {
+            int cost = COST_NAME;
+            for (final IOFileFilter child : ((ConditionalFileFilter) filter).getFileFilters()) {
+                cost = Math.max(cost, cost(child));
+            }
+            return cost;
+        }
+        if (filter instanceof NotFileFilter) {
+            return cost(((NotFileFilter) filter).getFilter());
+        }
+        if (filter instanceof NameFileFilter || filter instanceof PrefixFileFilter || filter instanceof SuffixFileFilter
+                || filter instanceof WildcardFileFilter || filter instanceof RegexFileFilter || filter instanceof TrueFileFilter
+                || filter instanceof FalseFileFilter) {
+            return COST_NAME;
+        }
+        if (filter instanceof MagicNumberFileFilter || filter instanceof EmptyFileFilter) {
+            return COST_CONTENT;
+        }
+        return COST_ATTRIBUTES;
+    }
+
     /**
      * Returns a filter that checks if the file is a directory.
      *
@@ -574,6 +660,35 @@ public static IOFileFilter nameFileFilter(final String name, final IOCase ioCase
         return new NameFileFilter(name, ioCase);
     }
 
+    /**
+     * Merges the name, prefix, and suffix filters of an OR list that share a case sensitivity, keeping the position of the first one.
+     */
+    private static List<IOFileFilter> mergeNameFilters(final List<IOFileFilter> filters) {
+        final List<IOFileFilter> merged = new ArrayList<>(filters.size());
+        final Map<String, List<NameMatcher>> groups = new HashMap<>();
+        final Map<String, Integer> positions = new HashMap<>();
+        for (final IOFileFilter filter : filters) {
+            final NameMatcher matcher = toNameMatcher(filter);
+            if (matcher == null) {
+                merged.add(filter);
+                continue;
+            }
+            final String key = matcher.getKind() + "/" + matcher.getIoCase().isCaseSensitive();
+            final List<NameMatcher> group = groups.computeIfAbsent(key, k -> new ArrayList<>());
+            if (group.isEmpty()) {
+                positions.put(key, merged.size());
+                merged.add(filter);
+            }
+            group.add(matcher);
+        }
+        groups.forEach((key, group) -> {
+            if (group.size() > 1) {
+                merged.set(positions.get(key), toNameFilter(group));
+            }
+        });
+        return merged;
+    }
+
     /**
      * Returns a filter that NOTs the specified filter.
      *
@@ -716,6 +831,39 @@ public static List<IOFileFilter> toList(final IOFileFilter... filters) {
         return Stream.of(Objects.requireNonNull(filters, "filters")).map(Objects::requireNonNull).collect(Collectors.toList());
     }
 
+    /**
+     * Builds a single name, prefix, or suffix filter matching the patterns of all the given matchers, which share a kind and case sensitivity.
+     */
+    private static IOFileFilter toNameFilter(final List<NameMatcher> matchers) {
+        final NameMatcher first = matchers.get(0);
+        final String[] patterns = matchers.stream().flatMap(matcher -> Stream.of(matcher.getPatterns())).toArray(String[]::new);
+        switch (first.getKind()) {
+        case NAME:
+            return new NameFileFilter(patterns, first.getIoCase());
+        case PREFIX:
+            return new PrefixFileFilter(patterns, first.getIoCase());
+        default:
+            return new SuffixFileFilter(patterns, first.getIoCase());
+        }
+    }
+
+    /**
+     * Gets the compiled patterns of a name, prefix, or suffix filter, or null for other filters, including subclasses.
+     */
+    private static NameMatcher toNameMatcher(final IOFileFilter filter) {
+        final Class<?> type = filter.getClass();
+        if (type == NameFileFilter.class) {
+            return ((NameFileFilter) filter).getNameMatcher();
+        }
+        if (type == PrefixFileFilter.class) {
+            return ((PrefixFileFilter) filter).getNameMatcher();
+        }
+        if (type == SuffixFileFilter.class) {
+            return ((SuffixFileFilter) filter).getNameMatcher();
+        }
+        return null;
+    }
+
     /**
      * Returns a filter that always returns true.
      *
@@ -279,7 +279,7 @@ public boolean accept(final File file) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
-        if (file != null && Files.isRegularFile(file) && Files.isReadable(file)) {
+        if (file != null && (isUsable(attributes) ? attributes.isRegularFile() : Files.isRegularFile(file)) && Files.isReadable(file)) {
             try {
                 try (FileChannel fileChannel = FileChannel.open(file)) {
                     final ByteBuffer byteBuffer = ByteBuffer.allocate(this.magicNumbers.length);
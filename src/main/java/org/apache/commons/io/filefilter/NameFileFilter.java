@@ -17,13 +17,14 @@
 package org.apache.commons.io.filefilter;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 import org.apache.commons.io.IOCase;
 import org.apache.commons.io.file.PathUtils;
@@ -80,6 +81,9 @@ public class NameFileFilter extends AbstractFileFilter implements Serializable {
     /** Whether the comparison is case-sensitive. */
     private final IOCase ioCase;
 
+    /** The names compiled once, rebuilt on deserialization. */
+    private transient NameMatcher matcher;
+
     /**
      * Constructs a new case-sensitive name file filter for a list of names.
      *
@@ -103,6 +107,7 @@ public NameFileFilter(final List<String> names, final IOCase ioCase) {
         Objects.requireNonNull(names, "names");
         this.names = names.toArray(EMPTY_STRING_ARRAY);
         this.ioCase = toIOCase(ioCase);
+        this.matcher = new NameMatcher(NameMatcher.Kind.NAME, this.ioCase, this.names);
     }
 
     /**
@@ -140,6 +145,7 @@ public NameFileFilter(final String name, final IOCase ioCase) {
         Objects.requireNonNull(name, "name");
         this.names = new String[] {name};
         this.ioCase = toIOCase(ioCase);
+        this.matcher = new NameMatcher(NameMatcher.Kind.NAME, this.ioCase, this.names);
     }
 
     /**
@@ -153,6 +159,7 @@ public NameFileFilter(final String[] names, final IOCase ioCase) {
         Objects.requireNonNull(names, "names");
         this.names = names.clone();
         this.ioCase = toIOCase(ioCase);
+        this.matcher = new NameMatcher(NameMatcher.Kind.NAME, this.ioCase, this.names);
     }
 
     /**
@@ -192,13 +199,27 @@ public FileVisitResult accept(final Path path, final BasicFileAttributes attribu
     }
 
     private boolean acceptBaseName(final String baseName) {
-        return Stream.of(names).anyMatch(testName -> ioCase.checkEquals(baseName, testName));
+        return matcher.matches(baseName);
     }
 
     private IOCase toIOCase(final IOCase ioCase) {
         return IOCase.value(ioCase, IOCase.SENSITIVE);
     }
 
+    /**
+     * Gets the compiled names.
+     *
+     * @return The compiled names.
+     */
+    NameMatcher getNameMatcher() {
+        return matcher;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        matcher = new NameMatcher(NameMatcher.Kind.NAME, ioCase, names);
+    }
+
     /**
      * Provide a String representation of this file filter.
      *
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.filefilter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.io.IOCase;
+
+/**
+ * Matches file names against many names, prefixes, or suffixes at once.
+ * <p>
+ * Case-sensitive names are kept in a hash set; everything else is kept in a trie of case-folded characters, walked from the start of the name for names and
+ * prefixes, and from the end for suffixes. Matching costs one pass over the name, whatever the number of patterns, and allocates nothing.
+ * </p>
+ * <p>
+ * Case-insensitive matching follows {@link String#regionMatches(boolean, int, String, int, int)}, like {@link IOCase}.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ */
+final class NameMatcher {
+
+    /**
+     * How a pattern matches a name.
+     */
+    enum Kind {
+
+        /** The name equals a pattern. */
+        NAME,
+
+        /** The name starts with a pattern. */
+        PREFIX,
+
+        /** The name ends with a pattern. */
+        SUFFIX
+    }
+
+    /**
+     * A trie node, children are kept sorted by character.
+     */
+    private static final class Node {
+
+        private static final char[] EMPTY_KEYS = {};
+
+        private static final Node[] EMPTY_CHILDREN = {};
+
+        private char[] keys = EMPTY_KEYS;
+
+        private Node[] children = EMPTY_CHILDREN;
+
+        private boolean terminal;
+
+        private Node add(final char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            final Node child = new Node();
+            final char[] newKeys = new char[keys.length + 1];
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = key;
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private Node get(final char key) {
+            final int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * Folds a character so that two characters fold to the same value if and only if they are equal ignoring case.
+     */
+    private static char fold(final char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private final Kind kind;
+
+    private final IOCase ioCase;
+
+    private final boolean sensitive;
+
+    private final String[] patterns;
+
+    /**
+     * Case-sensitive names, or null if matching uses the trie.
+     */
+    private final Set<String> names;
+
+    private final Node root = new Node();
+
+    /**
+     * Whether a null name matches, only for a null name pattern, like {@link IOCase#checkEquals(String, String)}.
+     */
+    private final boolean matchesNull;
+
+    /**
+     * Whether any name matches, for an empty prefix or suffix.
+     */
+    private final boolean matchesAll;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param kind     How the patterns match.
+     * @param ioCase   How to handle case sensitivity, not null.
+     * @param patterns The patterns, null elements never match except a null name pattern.
+     */
+    NameMatcher(final Kind kind, final IOCase ioCase, final String... patterns) {
+        this.kind = kind;
+        this.ioCase = ioCase;
+        this.sensitive = ioCase.isCaseSensitive();
+        this.patterns = patterns;
+        this.names = kind == Kind.NAME && sensitive ? new HashSet<>(Arrays.asList(patterns)) : null;
+        boolean anyNull = false;
+        boolean anyEmpty = false;
+        for (final String pattern : patterns) {
+            if (pattern == null) {
+                anyNull = true;
+            } else {
+                anyEmpty |= pattern.isEmpty();
+                add(pattern);
+            }
+        }
+        this.matchesNull = kind == Kind.NAME && anyNull;
+        this.matchesAll = kind != Kind.NAME && anyEmpty;
+    }
+
+    private void add(final String pattern) {
+        Node node = root;
+        final int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            node = node.add(key(pattern, kind == Kind.SUFFIX ? length - 1 - i : i));
+        }
+        node.terminal = true;
+    }
+
+    IOCase getIoCase() {
+        return ioCase;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    String[] getPatterns() {
+        return patterns;
+    }
+
+    private char key(final String name, final int index) {
+        final char c = name.charAt(index);
+        return sensitive ? c : fold(c);
+    }
+
+    /**
+     * Tests whether a name matches any pattern.
+     *
+     * @param name The name, may be null.
+     * @return Whether the name matches any pattern.
+     */
+    boolean matches(final String name) {
+        if (name == null) {
+            return matchesNull;
+        }
+        if (matchesAll) {
+            return true;
+        }
+        if (names != null) {
+            return names.contains(name);
+        }
+        final int length = name.length();
+        Node node = root;
+        for (int i = 0; i < length; i++) {
+            node = node.get(key(name, kind == Kind.SUFFIX ? length - 1 - i : i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal && kind != Kind.NAME) {
+                return true;
+            }
+        }
+        return node.terminal;
+    }
+}
@@ -87,6 +87,15 @@ public FileVisitResult accept(final Path file, final BasicFileAttributes attribu
         return not(filter.accept(file, attributes));
     }
 
+    /**
+     * Gets the filter this filter negates.
+     *
+     * @return The negated filter.
+     */
+    IOFileFilter getFilter() {
+        return filter;
+    }
+
     private FileVisitResult not(final FileVisitResult accept) {
         return accept == FileVisitResult.CONTINUE ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
     }
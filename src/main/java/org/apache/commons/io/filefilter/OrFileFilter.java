@@ -113,7 +113,12 @@ public OrFileFilter(final List<IOFileFilter> fileFilters) {
      */
     @Override
     public boolean accept(final File file) {
-        return fileFilters.stream().anyMatch(fileFilter -> fileFilter.accept(file));
+        for (final IOFileFilter fileFilter : fileFilters) {
+            if (fileFilter.accept(file)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -121,7 +126,12 @@ public boolean accept(final File file) {
      */
     @Override
     public boolean accept(final File file, final String name) {
-        return fileFilters.stream().anyMatch(fileFilter -> fileFilter.accept(file, name));
+        for (final IOFileFilter fileFilter : fileFilters) {
+            if (fileFilter.accept(file, name)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -129,7 +139,12 @@ public boolean accept(final File file, final String name) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
-        return toDefaultFileVisitResult(fileFilters.stream().anyMatch(fileFilter -> fileFilter.accept(file, attributes) == FileVisitResult.CONTINUE));
+        for (final IOFileFilter fileFilter : fileFilters) {
+            if (fileFilter.accept(file, attributes) == FileVisitResult.CONTINUE) {
+                return toDefaultFileVisitResult(true);
+            }
+        }
+        return toDefaultFileVisitResult(false);
     }
 
     /**
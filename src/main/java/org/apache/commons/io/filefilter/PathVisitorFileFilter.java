@@ -68,7 +68,8 @@ public boolean accept(final File dir, final String name) {
 
     @Override
     public FileVisitResult accept(final Path path, final BasicFileAttributes attributes) {
-        return get(() -> Files.isDirectory(path) ? pathVisitor.postVisitDirectory(path, null) : visitFile(path, attributes));
+        final boolean directory = isUsable(attributes) ? attributes.isDirectory() : Files.isDirectory(path);
+        return get(() -> directory ? pathVisitor.postVisitDirectory(path, null) : visitFile(path, attributes));
     }
 
     @Override
@@ -17,13 +17,14 @@
 package org.apache.commons.io.filefilter;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 import org.apache.commons.io.IOCase;
 import org.apache.commons.io.file.PathUtils;
@@ -80,6 +81,9 @@ public class PrefixFileFilter extends AbstractFileFilter implements Serializable
     /** Whether the comparison is case-sensitive. */
     private final IOCase isCase;
 
+    /** The prefixes compiled once, rebuilt on deserialization. */
+    private transient NameMatcher matcher;
+
     /**
      * Constructs a new Prefix file filter for a list of prefixes.
      *
@@ -105,6 +109,7 @@ public PrefixFileFilter(final List<String> prefixes, final IOCase ioCase) {
         Objects.requireNonNull(prefixes, "prefixes");
         this.prefixes = prefixes.toArray(EMPTY_STRING_ARRAY);
         this.isCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matcher = new NameMatcher(NameMatcher.Kind.PREFIX, this.isCase, this.prefixes);
     }
 
     /**
@@ -144,6 +149,7 @@ public PrefixFileFilter(final String prefix, final IOCase ioCase) {
         Objects.requireNonNull(prefix, "prefix");
         this.prefixes = new String[] {prefix};
         this.isCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matcher = new NameMatcher(NameMatcher.Kind.PREFIX, this.isCase, this.prefixes);
     }
 
     /**
@@ -159,6 +165,7 @@ public PrefixFileFilter(final String[] prefixes, final IOCase ioCase) {
         Objects.requireNonNull(prefixes, "prefixes");
         this.prefixes = prefixes.clone();
         this.isCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matcher = new NameMatcher(NameMatcher.Kind.PREFIX, this.isCase, this.prefixes);
     }
 
     /**
@@ -198,7 +205,21 @@ public FileVisitResult accept(final Path file, final BasicFileAttributes attribu
     }
 
     private boolean accept(final String name) {
-        return Stream.of(prefixes).anyMatch(prefix -> isCase.checkStartsWith(name, prefix));
+        return matcher.matches(name);
+    }
+
+    /**
+     * Gets the compiled prefixes.
+     *
+     * @return The compiled prefixes.
+     */
+    NameMatcher getNameMatcher() {
+        return matcher;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        matcher = new NameMatcher(NameMatcher.Kind.PREFIX, isCase, prefixes);
     }
 
     /**
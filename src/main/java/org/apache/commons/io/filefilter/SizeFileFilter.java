@@ -140,6 +140,9 @@ private boolean accept(final long length) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
+        if (isUsable(attributes)) {
+            return toFileVisitResult(accept(attributes.size()));
+        }
         return get(() -> toFileVisitResult(accept(Files.size(file))));
     }
 
@@ -156,7 +159,7 @@ public String toString() {
 
     @Override
     public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-        return toFileVisitResult(accept(Files.size(file)));
+        return toFileVisitResult(accept(isUsable(attrs) ? attrs.size() : Files.size(file)));
     }
 
 }
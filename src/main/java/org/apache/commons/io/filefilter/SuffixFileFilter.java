@@ -17,13 +17,14 @@
 package org.apache.commons.io.filefilter;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 import org.apache.commons.io.IOCase;
 import org.apache.commons.io.file.PathUtils;
@@ -81,6 +82,9 @@ public class SuffixFileFilter extends AbstractFileFilter implements Serializable
     /** Whether the comparison is case-sensitive. */
     private final IOCase ioCase;
 
+    /** The suffixes compiled once, rebuilt on deserialization. */
+    private transient NameMatcher matcher;
+
     /**
      * Constructs a new Suffix file filter for a list of suffixes.
      *
@@ -106,6 +110,7 @@ public SuffixFileFilter(final List<String> suffixes, final IOCase ioCase) {
         Objects.requireNonNull(suffixes, "suffixes");
         this.suffixes = suffixes.toArray(EMPTY_STRING_ARRAY);
         this.ioCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matcher = new NameMatcher(NameMatcher.Kind.SUFFIX, this.ioCase, this.suffixes);
     }
 
     /**
@@ -145,6 +150,7 @@ public SuffixFileFilter(final String suffix, final IOCase ioCase) {
         Objects.requireNonNull(suffix, "suffix");
         this.suffixes = new String[] {suffix};
         this.ioCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matcher = new NameMatcher(NameMatcher.Kind.SUFFIX, this.ioCase, this.suffixes);
     }
 
     /**
@@ -160,6 +166,7 @@ public SuffixFileFilter(final String[] suffixes, final IOCase ioCase) {
         Objects.requireNonNull(suffixes, "suffixes");
         this.suffixes = suffixes.clone();
         this.ioCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matcher = new NameMatcher(NameMatcher.Kind.SUFFIX, this.ioCase, this.suffixes);
     }
 
     /**
@@ -199,7 +206,21 @@ public FileVisitResult accept(final Path path, final BasicFileAttributes attribu
     }
 
     private boolean accept(final String name) {
-        return Stream.of(suffixes).anyMatch(suffix -> ioCase.checkEndsWith(name, suffix));
+        return matcher.matches(name);
+    }
+
+    /**
+     * Gets the compiled suffixes.
+     *
+     * @return The compiled suffixes.
+     */
+    NameMatcher getNameMatcher() {
+        return matcher;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        matcher = new NameMatcher(NameMatcher.Kind.SUFFIX, ioCase, suffixes);
     }
 
     /**
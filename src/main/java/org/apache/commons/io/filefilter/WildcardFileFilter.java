@@ -17,6 +17,8 @@
 package org.apache.commons.io.filefilter;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
@@ -27,6 +29,7 @@
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOCase;
+import org.apache.commons.io.WildcardMatcher;
 import org.apache.commons.io.build.AbstractSupplier;
 import org.apache.commons.io.file.PathUtils;
 
@@ -157,6 +160,10 @@ public static Builder builder() {
         return new Builder();
     }
 
+    private static WildcardMatcher[] compile(final String[] wildcards, final IOCase ioCase) {
+        return Stream.of(wildcards).map(wildcard -> WildcardMatcher.compile(wildcard, ioCase)).toArray(WildcardMatcher[]::new);
+    }
+
     private static <T> T requireWildcards(final T wildcards) {
         return Objects.requireNonNull(wildcards, "wildcards");
     }
@@ -167,6 +174,9 @@ private static <T> T requireWildcards(final T wildcards) {
     /** Whether the comparison is case-sensitive. */
     private final IOCase ioCase;
 
+    /** The wildcards compiled once, rebuilt on deserialization. */
+    private transient WildcardMatcher[] matchers;
+
     private WildcardFileFilter(final Builder builder) {
         this(builder.ioCase, builder.wildcards);
     }
@@ -181,6 +191,7 @@ private WildcardFileFilter(final Builder builder) {
     private WildcardFileFilter(final IOCase ioCase, final String... wildcards) {
         this.wildcards = requireWildcards(wildcards).clone();
         this.ioCase = IOCase.value(ioCase, IOCase.SENSITIVE);
+        this.matchers = compile(this.wildcards, this.ioCase);
     }
 
     /**
@@ -297,7 +308,17 @@ public FileVisitResult accept(final Path path, final BasicFileAttributes attribu
     }
 
     private boolean accept(final String name) {
-        return Stream.of(wildcards).anyMatch(wildcard -> FilenameUtils.wildcardMatch(name, wildcard, ioCase));
+        for (final WildcardMatcher matcher : matchers) {
+            if (matcher.matches(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        matchers = compile(wildcards, ioCase);
     }
 
     /**
@@ -17,6 +17,8 @@
 package org.apache.commons.io.filefilter;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -27,6 +29,7 @@
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.WildcardMatcher;
 import org.apache.commons.io.file.PathUtils;
 
 /**
@@ -87,9 +90,16 @@ public class WildcardFilter extends AbstractFileFilter implements Serializable {
 
     private static final long serialVersionUID = -5037645902506953517L;
 
+    private static WildcardMatcher[] compile(final String[] wildcards) {
+        return Stream.of(wildcards).map(WildcardMatcher::compile).toArray(WildcardMatcher[]::new);
+    }
+
     /** The wildcards that will be used to match file names. */
     private final String[] wildcards;
 
+    /** The wildcards compiled once, rebuilt on deserialization. */
+    private transient WildcardMatcher[] matchers;
+
     /**
      * Constructs a new case-sensitive wildcard filter for a list of wildcards.
      *
@@ -100,6 +110,7 @@ public class WildcardFilter extends AbstractFileFilter implements Serializable {
     public WildcardFilter(final List<String> wildcards) {
         Objects.requireNonNull(wildcards, "wildcards");
         this.wildcards = wildcards.toArray(EMPTY_STRING_ARRAY);
+        this.matchers = compile(this.wildcards);
     }
 
     /**
@@ -111,6 +122,7 @@ public WildcardFilter(final List<String> wildcards) {
     public WildcardFilter(final String wildcard) {
         Objects.requireNonNull(wildcard, "wildcard");
         this.wildcards = new String[] { wildcard };
+        this.matchers = compile(this.wildcards);
     }
 
     /**
@@ -122,6 +134,7 @@ public WildcardFilter(final String wildcard) {
     public WildcardFilter(final String... wildcards) {
         Objects.requireNonNull(wildcards, "wildcards");
         this.wildcards = wildcards.clone();
+        this.matchers = compile(this.wildcards);
     }
 
     /**
@@ -135,7 +148,7 @@ public boolean accept(final File file) {
         if (isDirectory(file)) {
             return false;
         }
-        return Stream.of(wildcards).anyMatch(wildcard -> FilenameUtils.wildcardMatch(file.getName(), wildcard));
+        return accept(file.getName());
     }
 
     /**
@@ -150,7 +163,7 @@ public boolean accept(final File dir, final String name) {
         if (dir != null && new File(dir, name).isDirectory()) {
             return false;
         }
-        return Stream.of(wildcards).anyMatch(wildcard -> FilenameUtils.wildcardMatch(name, wildcard));
+        return accept(name);
     }
 
     /**
@@ -163,12 +176,24 @@ public boolean accept(final File dir, final String name) {
      */
     @Override
     public FileVisitResult accept(final Path path, final BasicFileAttributes attributes) {
-        if (Files.isDirectory(path)) {
+        if (isUsable(attributes) ? attributes.isDirectory() : Files.isDirectory(path)) {
             return FileVisitResult.TERMINATE;
         }
-        return toDefaultFileVisitResult(
-                Stream.of(wildcards).anyMatch(wildcard -> FilenameUtils.wildcardMatch(PathUtils.getFileNameString(path), wildcard)));
+        return toDefaultFileVisitResult(accept(PathUtils.getFileNameString(path)));
+    }
+
+    private boolean accept(final String name) {
+        for (final WildcardMatcher matcher : matchers) {
+            if (matcher.matches(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        matchers = compile(wildcards);
     }
 
 }
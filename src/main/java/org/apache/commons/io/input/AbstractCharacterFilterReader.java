@@ -77,22 +77,29 @@ public int read() throws IOException {
         return ch;
     }
 
+    /**
+     * Reads characters into a portion of an array, filtering out characters in place in a single pass over each block read.
+     * <p>
+     * If all characters of a block are filtered out, this method reads the next block, so that it only returns 0 if {@code len} is 0.
+     * </p>
+     */
     @Override
     public int read(final char[] cbuf, final int off, final int len) throws IOException {
-        final int read = super.read(cbuf, off, len);
-        if (read == EOF) {
-            return EOF;
-        }
-        int pos = off - 1;
-        for (int readPos = off; readPos < off + read; readPos++) {
-            if (filter(cbuf[readPos])) {
-                continue;
+        int kept;
+        do {
+            final int read = super.read(cbuf, off, len);
+            if (read == EOF) {
+                return EOF;
             }
-            pos++;
-            if (pos < readPos) {
-                cbuf[pos] = cbuf[readPos];
+            kept = 0;
+            final int end = off + read;
+            for (int readPos = off; readPos < end; readPos++) {
+                final char ch = cbuf[readPos];
+                if (!filter(ch)) {
+                    cbuf[off + kept++] = ch;
+                }
             }
-        }
-        return pos - off + 1;
+        } while (kept == 0 && len > 0);
+        return kept;
     }
 }
@@ -64,4 +64,39 @@ public void close() throws IOException {
     public synchronized void mark(final int readLimit) {
         throw UnsupportedOperationExceptions.mark();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int read() throws IOException {
+        return readUnsynchronized();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int read(final byte[] b, final int off, final int len) throws IOException {
+        return readUnsynchronized(b, off, len);
+    }
+
+    /**
+     * Reads the next byte without synchronization.
+     *
+     * @return The next byte or {@link org.apache.commons.io.IOUtils#EOF EOF}.
+     * @throws IOException If an I/O error occurs.
+     */
+    abstract int readUnsynchronized() throws IOException;
+
+    /**
+     * Reads bytes without synchronization, normalizing a block of the wrapped stream at a time.
+     *
+     * @param b   The buffer into which the data is read.
+     * @param off The start offset in array {@code b} at which the data is written.
+     * @param len The maximum number of bytes to read.
+     * @return The number of bytes read or {@link org.apache.commons.io.IOUtils#EOF EOF}.
+     * @throws IOException If an I/O error occurs.
+     */
+    abstract int readUnsynchronized(byte[] b, int off, int len) throws IOException;
 }
@@ -16,16 +16,117 @@
  */
 package org.apache.commons.io.input;
 
+import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.IntPredicate;
 
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
 /**
  * A filter reader that filters out a given character represented as an {@code int} code point, handy to remove
  * known junk characters from CSV files for example. This class is the most efficient way to filter out a single
  * character, as opposed to using a {@link CharacterSetFilterReader}. You can also nest {@link CharacterFilterReader}s.
+ * <p>
+ * To filter out many characters at once, use {@link Builder#setSkip(int...)}, which compiles the characters into a bitmap.
+ * </p>
+ *
+ * @see Builder
  */
 public class CharacterFilterReader extends AbstractCharacterFilterReader {
 
+    // @formatter:off
+    /**
+     * Builds a new {@link CharacterFilterReader}.
+     *
+     * <p>
+     * For example, to strip some control characters:
+     * </p>
+     * <pre>{@code
+     * CharacterFilterReader r = CharacterFilterReader.builder()
+     *   .setReader(reader)
+     *   .setSkip(0, 7, 8, 0x1B, 0x7F)
+     *   .get();}
+     * </pre>
+     *
+     * @see #get()
+     * @since 2.23.0
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<CharacterFilterReader, Builder> {
+
+        private IntPredicate skip = SKIP_NONE;
+
+        /**
+         * Constructs a new builder of {@link CharacterFilterReader}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link CharacterFilterReader}.
+         * <p>
+         * You must set an aspect that supports {@link #getReader()} on this builder, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getReader()}</li>
+         * <li>skip</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws UnsupportedOperationException if the origin cannot provide a {@link Reader}.
+         * @throws IllegalStateException if the {@code origin} is {@code null}.
+         * @throws IOException if an I/O error occurs converting to a {@link Reader} using {@link #getReader()}.
+         * @see #getReader()
+         * @see #getUnchecked()
+         */
+        @Override
+        public CharacterFilterReader get() throws IOException {
+            return new CharacterFilterReader(getReader(), skip);
+        }
+
+        /**
+         * Sets the characters to filter out, compiled into a bitmap.
+         *
+         * @param skip The characters to filter out.
+         * @return {@code this} instance.
+         */
+        public Builder setSkip(final int... skip) {
+            final List<Integer> list = new ArrayList<>(skip.length);
+            for (final int c : skip) {
+                list.add(c);
+            }
+            this.skip = new CharacterSetPredicate(list);
+            return this;
+        }
+
+        /**
+         * Sets the test deciding which characters to filter out, null resets to filtering out nothing.
+         *
+         * @param skip The test deciding which characters to filter out.
+         * @return {@code this} instance.
+         */
+        public Builder setSkip(final IntPredicate skip) {
+            this.skip = skip != null ? skip : SKIP_NONE;
+            return this;
+        }
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     * @since 2.23.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
     /**
      * Constructs a new reader.
      *
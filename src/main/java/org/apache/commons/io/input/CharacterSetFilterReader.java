@@ -18,7 +18,6 @@
 
 import java.io.Reader;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.IntPredicate;
@@ -27,8 +26,8 @@
  * A filter reader that removes a given set of characters represented as {@code int} code points, handy to remove known
  * junk characters from CSV files for example.
  * <p>
- * This class must convert each {@code int} read to an {@link Integer}. You can increase the Integer cache with a system
- * property, see {@link Integer}.
+ * The set is copied into a bitmap when this reader is constructed, so testing a character does not box it; later changes to the
+ * set are not seen by this reader.
  * </p>
  */
 public class CharacterSetFilterReader extends AbstractCharacterFilterReader {
@@ -37,8 +36,7 @@ private static IntPredicate toIntPredicate(final Set<Integer> skip) {
         if (skip == null) {
             return SKIP_NONE;
         }
-        final Set<Integer> unmodifiableSet = Collections.unmodifiableSet(skip);
-        return c -> unmodifiableSet.contains(Integer.valueOf(c));
+        return new CharacterSetPredicate(skip);
     }
 
     /**
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntPredicate;
+
+/**
+ * Tests membership in a fixed set of characters without boxing.
+ * <p>
+ * Characters of the Basic Multilingual Plane are kept in a bitmap sized to the largest one, other values, such as supplementary code points, in a sorted
+ * array searched on demand.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ */
+final class CharacterSetPredicate implements IntPredicate {
+
+    private static final int[] EMPTY_INT_ARRAY = {};
+
+    private static boolean isBmp(final int value) {
+        return value >>> 16 == 0;
+    }
+
+    /**
+     * Bit {@code c} is set if character {@code c} is in the set.
+     */
+    private final long[] bitmap;
+
+    /**
+     * Values outside the Basic Multilingual Plane, sorted.
+     */
+    private final int[] others;
+
+    /**
+     * Constructs a new instance from a snapshot of the given values.
+     *
+     * @param values The characters or code points in the set, null elements are ignored.
+     */
+    CharacterSetPredicate(final Collection<Integer> values) {
+        final Integer[] array = values.toArray(new Integer[0]);
+        int max = -1;
+        int otherCount = 0;
+        for (final Integer value : array) {
+            if (value != null) {
+                if (isBmp(value)) {
+                    max = Math.max(max, value);
+                } else {
+                    otherCount++;
+                }
+            }
+        }
+        final long[] bits = new long[(max >> 6) + 1];
+        final int[] other = otherCount == 0 ? EMPTY_INT_ARRAY : new int[otherCount];
+        int i = 0;
+        for (final Integer value : array) {
+            if (value != null) {
+                if (isBmp(value)) {
+                    bits[value >> 6] |= 1L << value;
+                } else {
+                    other[i++] = value;
+                }
+            }
+        }
+        Arrays.sort(other);
+        this.bitmap = bits;
+        this.others = other;
+    }
+
+    @Override
+    public boolean test(final int value) {
+        if (isBmp(value)) {
+            final int index = value >> 6;
+            return index < bitmap.length && (bitmap[index] & 1L << value) != 0;
+        }
+        return others.length > 0 && Arrays.binarySearch(others, value) >= 0;
+    }
+}
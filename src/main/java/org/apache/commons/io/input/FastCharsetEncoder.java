@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes chars straight into a byte array for US-ASCII, ISO-8859-1, and UTF-8, without staging the bytes in a buffer.
+ * <p>
+ * US-ASCII and ISO-8859-1 use an encoder of their own that reports errors, since the JVM encodes large blocks of these charsets with intrinsics. UTF-8 is
+ * encoded by hand, returning to a tight ASCII loop after each other char.
+ * </p>
+ * <p>
+ * Encoding stops at the first char this class cannot encode on its own: an unmappable char, a lone surrogate, or a high surrogate ending the input. The
+ * caller then hands that char to its {@link CharsetEncoder}, which applies its error actions. Chars this class encodes are encoded the same by the
+ * {@link CharsetEncoder} of the charset, whatever its error actions.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+final class FastCharsetEncoder {
+
+    /**
+     * Gets a fast encoder for the charset of the given encoder.
+     *
+     * @param charsetEncoder The encoder the fast encoder stands in for.
+     * @return A new fast encoder, or null if the charset is not supported or the encoder is not the charset's own.
+     */
+    static FastCharsetEncoder of(final CharsetEncoder charsetEncoder) {
+        final Charset charset = charsetEncoder.charset();
+        final CharsetEncoder reportingEncoder = charset.newEncoder();
+        // A custom encoder may encode differently.
+        if (charsetEncoder.getClass() != reportingEncoder.getClass()) {
+            return null;
+        }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return new FastCharsetEncoder(null);
+        }
+        if (StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            return new FastCharsetEncoder(reportingEncoder);
+        }
+        return null;
+    }
+
+    /**
+     * Encodes US-ASCII or ISO-8859-1 and reports errors, or null for UTF-8.
+     */
+    private final CharsetEncoder reportingEncoder;
+
+    private FastCharsetEncoder(final CharsetEncoder reportingEncoder) {
+        this.reportingEncoder = reportingEncoder;
+    }
+
+    /**
+     * Encodes chars from a buffer backed by an array into a byte array, advancing the buffer's position past the chars encoded.
+     *
+     * @param in  The chars to encode.
+     * @param out The byte array to fill.
+     * @param off The offset in the byte array.
+     * @param len The maximum number of bytes to write.
+     * @return The number of bytes written.
+     */
+    int encode(final CharBuffer in, final byte[] out, final int off, final int len) {
+        if (reportingEncoder != null) {
+            final ByteBuffer buffer = ByteBuffer.wrap(out, off, len);
+            // Stops at the first unmappable char without consuming it.
+            reportingEncoder.encode(in, buffer, false);
+            return buffer.position() - off;
+        }
+        return encodeUtf8(in, out, off, len);
+    }
+
+    /**
+     * Encodes UTF-8 from a buffer backed by an array.
+     */
+    private int encodeUtf8(final CharBuffer in, final byte[] out, final int off, final int len) {
+        final char[] src = in.array();
+        final int base = in.arrayOffset();
+        final int end = base + in.limit();
+        final int outEnd = off + len;
+        int i = base + in.position();
+        int o = off;
+        while (i < end && o < outEnd) {
+            char c;
+            while (i < end && o < outEnd && (c = src[i]) < 0x80) {
+                out[o++] = (byte) c;
+                i++;
+            }
+            if (i == end || o == outEnd) {
+                break;
+            }
+            c = src[i];
+            if (c < 0x800) {
+                if (outEnd - o < 2) {
+                    break;
+                }
+                out[o++] = (byte) (0xC0 | c >> 6);
+                out[o++] = (byte) (0x80 | c & 0x3F);
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                if (outEnd - o < 3) {
+                    break;
+                }
+                out[o++] = (byte) (0xE0 | c >> 12);
+                out[o++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[o++] = (byte) (0x80 | c & 0x3F);
+                i++;
+            } else {
+                if (!Character.isHighSurrogate(c) || i + 1 == end || !Character.isLowSurrogate(src[i + 1]) || outEnd - o < 4) {
+                    break;
+                }
+                final int cp = Character.toCodePoint(c, src[i + 1]);
+                out[o++] = (byte) (0xF0 | cp >> 18);
+                out[o++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                out[o++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                out[o++] = (byte) (0x80 | cp & 0x3F);
+                i += 2;
+            }
+        }
+        in.position(i - base);
+        return o - off;
+    }
+}
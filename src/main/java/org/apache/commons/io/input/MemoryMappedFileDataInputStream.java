@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.apache.commons.io.IOUtils.CR;
+import static org.apache.commons.io.IOUtils.EOF;
+import static org.apache.commons.io.IOUtils.LF;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
+/**
+ * A {@link DataInput} that reads primitive values directly from a memory mapped window of a file, in big-endian or little-endian byte order.
+ * <p>
+ * Values are decoded by the {@link ByteBuffer} of the mapped window, without the calls through a stream chain of a {@link DataInputStream} or
+ * {@link SwappedDataInputStream} over a {@link java.io.BufferedInputStream}. A sliding window of the file is mapped to memory, so files of any size can be
+ * read; the window moves forward when a value does not fit in the rest of it. {@link #seek(long)} and {@link #skipBytes(int)} move the position without
+ * reading, and only map a new window when the next value is read.
+ * </p>
+ * <p>
+ * The {@link DataInput} methods that read text, {@link #readLine()} and {@link #readUTF()}, follow {@link DataInputStream}, except that the length of a
+ * {@link #readUTF()} string is read in this instance's byte order.
+ * </p>
+ * <p>
+ * To build an instance, use {@link Builder}.
+ * </p>
+ * <pre>{@code
+ * MemoryMappedFileDataInputStream s = MemoryMappedFileDataInputStream.builder()
+ *   .setPath(path)
+ *   .setByteOrder(ByteOrder.LITTLE_ENDIAN)
+ *   .get();}
+ * </pre>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @see Builder
+ * @see MemoryMappedFileInputStream
+ * @since 2.23.0
+ */
+public final class MemoryMappedFileDataInputStream extends AbstractInputStream implements DataInput {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MemoryMappedFileDataInputStream}.
+     *
+     * <p>
+     * For example:
+     * </p>
+     * <pre>{@code
+     * MemoryMappedFileDataInputStream s = MemoryMappedFileDataInputStream.builder()
+     *   .setPath(path)
+     *   .setBufferSize(1024 * 1024)
+     *   .setByteOrder(ByteOrder.LITTLE_ENDIAN)
+     *   .get();}
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<MemoryMappedFileDataInputStream, Builder> {
+
+        private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+        private boolean clean = true;
+
+        /**
+         * Constructs a new builder of {@link MemoryMappedFileDataInputStream}.
+         */
+        public Builder() {
+            setBufferSizeDefault(DEFAULT_BUFFER_SIZE);
+            setBufferSize(DEFAULT_BUFFER_SIZE);
+        }
+
+        /**
+         * Builds a new {@link MemoryMappedFileDataInputStream}.
+         * <p>
+         * You must set an aspect that supports {@link #getPath()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getPath()} gets the target aspect.</li>
+         * <li>{@link #getBufferSize()} gets the size of the mapped window, at least 8.</li>
+         * <li>byteOrder</li>
+         * <li>clean</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link Path}.
+         * @throws IOException                   if an I/O error occurs converting to an {@link Path} using {@link #getPath()}.
+         * @see #getPath()
+         * @see #getBufferSize()
+         * @see #getUnchecked()
+         */
+        @Override
+        public MemoryMappedFileDataInputStream get() throws IOException {
+            return new MemoryMappedFileDataInputStream(this);
+        }
+
+        /**
+         * Sets the byte order of multibyte values. Defaults to {@link ByteOrder#BIG_ENDIAN}, the byte order of {@link DataInput}.
+         *
+         * @param byteOrder The byte order, null resets to the default.
+         * @return {@code this} instance.
+         */
+        public Builder setByteOrder(final ByteOrder byteOrder) {
+            this.byteOrder = byteOrder != null ? byteOrder : ByteOrder.BIG_ENDIAN;
+            return this;
+        }
+
+        /**
+         * Sets whether to do a complete clean of the mapped window when it moves and on close. Defaults to true.
+         *
+         * @param clean whether to attempt to clean the mapped ByteBuffer.
+         * @return {@code this} instance.
+         * @see MemoryMappedFileInputStream.Builder#setClean(boolean)
+         */
+        public Builder setClean(final boolean clean) {
+            this.clean = clean;
+            return this;
+        }
+    }
+
+    /**
+     * Default size of the mapped window, 1 MiB.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ByteBuffer EMPTY_BUFFER = Input.emptyByteBuffer();
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final int bufferSize;
+    private final ByteOrder byteOrder;
+    private final FileChannel channel;
+    private final boolean clean;
+
+    /**
+     * The mapped window, or an empty buffer before the first read and after a seek out of the window.
+     */
+    private ByteBuffer buffer = EMPTY_BUFFER;
+
+    /**
+     * The position within the file of the start of {@link #buffer}.
+     */
+    private long bufferPosition;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param builder The builder.
+     * @throws IOException If an I/O error occurs.
+     */
+    private MemoryMappedFileDataInputStream(final Builder builder) throws IOException {
+        this.bufferSize = Math.max(builder.getBufferSize(), Long.BYTES);
+        this.byteOrder = builder.byteOrder;
+        this.channel = FileChannel.open(builder.getPath(), StandardOpenOption.READ);
+        this.clean = builder.clean;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkOpen();
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, channel.size() - position()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!isClosed()) {
+            try {
+                channel.close();
+            } finally {
+                ByteBufferCleaner.clean(buffer, clean);
+                buffer = EMPTY_BUFFER;
+                super.close();
+            }
+        }
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Gets the byte order of multibyte values.
+     *
+     * @return The byte order.
+     */
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Gets the length of the file.
+     *
+     * @return The length of the file in bytes.
+     * @throws IOException If an I/O error occurs.
+     */
+    public long length() throws IOException {
+        checkOpen();
+        return channel.size();
+    }
+
+    /**
+     * Maps the window starting at the current position.
+     */
+    private void nextBuffer() throws IOException {
+        checkOpen();
+        final long position = position();
+        final long remainingInFile = channel.size() - position;
+        ByteBufferCleaner.clean(buffer, clean);
+        if (remainingInFile > 0) {
+            buffer = channel.map(MapMode.READ_ONLY, position, Math.min(remainingInFile, bufferSize)).order(byteOrder);
+        } else {
+            buffer = EMPTY_BUFFER;
+        }
+        bufferPosition = position;
+    }
+
+    /**
+     * Gets the position within the file of the next byte to read.
+     *
+     * @return The position of the next byte to read.
+     */
+    public long position() {
+        return bufferPosition + buffer.position();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            nextBuffer();
+            if (!buffer.hasRemaining()) {
+                return EOF;
+            }
+        }
+        return Byte.toUnsignedInt(buffer.get());
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        IOUtils.checkFromIndexSize(b, off, len);
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            nextBuffer();
+            if (!buffer.hasRemaining()) {
+                return EOF;
+            }
+        }
+        final int n = Math.min(buffer.remaining(), len);
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return require(Byte.BYTES).get();
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return require(Character.BYTES).getChar();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return require(Double.BYTES).getDouble();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return require(Float.BYTES).getFloat();
+    }
+
+    @Override
+    public void readFully(final byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(final byte[] b, final int off, final int len) throws IOException {
+        IOUtils.checkFromIndexSize(b, off, len);
+        int done = 0;
+        while (done < len) {
+            final int n = read(b, off + done, len - done);
+            if (n == EOF) {
+                throw new EOFException();
+            }
+            done += n;
+        }
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return require(Integer.BYTES).getInt();
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        int c;
+        while ((c = read()) != EOF && c != LF) {
+            if (c == CR) {
+                if (!buffer.hasRemaining()) {
+                    nextBuffer();
+                }
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == LF) {
+                    buffer.get();
+                }
+                return builder.toString();
+            }
+            builder.append((char) c);
+        }
+        return c == EOF && builder.length() == 0 ? null : builder.toString();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return require(Long.BYTES).getLong();
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return require(Short.BYTES).getShort();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return Byte.toUnsignedInt(readByte());
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return Short.toUnsignedInt(readShort());
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /**
+     * Gets the mapped window with at least {@code length} bytes remaining, mapping the next window as needed.
+     */
+    private ByteBuffer require(final int length) throws IOException {
+        if (buffer.remaining() < length) {
+            nextBuffer();
+            if (buffer.remaining() < length) {
+                throw new EOFException();
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Sets the position within the file of the next byte to read.
+     * <p>
+     * A position within the mapped window is set directly, otherwise the next read maps a new window. A position past the end of the file is allowed, reading
+     * there returns end of file.
+     * </p>
+     *
+     * @param position The position of the next byte to read, not negative.
+     * @throws IOException If this instance is closed.
+     * @throws IllegalArgumentException If the position is negative.
+     */
+    public void seek(final long position) throws IOException {
+        checkOpen();
+        if (position < 0) {
+            throw new IllegalArgumentException("position < 0: " + position);
+        }
+        final long offset = position - bufferPosition;
+        if (offset >= 0 && offset <= buffer.limit()) {
+            buffer.position((int) offset);
+        } else {
+            ByteBufferCleaner.clean(buffer, clean);
+            buffer = EMPTY_BUFFER;
+            bufferPosition = position;
+        }
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        checkOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        final long position = position();
+        final long skipped = Math.min(n, Math.max(0, channel.size() - position));
+        seek(position + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int skipBytes(final int n) throws IOException {
+        return (int) skip(n);
+    }
+
+}
@@ -23,6 +23,8 @@
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.apache.commons.io.function.Uncheck;
+
 /**
  * This class is an example for using an {@link ObservableInputStream}. It creates its own {@link org.apache.commons.io.input.ObservableInputStream.Observer},
  * which calculates a checksum using a {@link MessageDigest}, for example, a SHA-512 sum.
@@ -204,10 +206,16 @@ private MessageDigestInputStream(final Builder builder) throws IOException {
      * <em>Note</em>: The checksum will only reflect the data, which has been read so far. This is probably not, what you expect. Make sure, that the complete
      * data has been read, if that is what you want. The easiest way to do so is by invoking {@link #consume()}.
      * </p>
+     * <p>
+     * If batching is enabled with {@link Builder#setBatchSize(int)}, this method first updates the digest with the bytes collected from single-byte reads;
+     * a {@link MessageDigest} passed to {@link Builder#setMessageDigest(MessageDigest)} and used directly only reflects those bytes after this method is
+     * called, or the stream reaches EOF or is closed.
+     * </p>
      *
      * @return The message digest used, never null.
      */
     public MessageDigest getMessageDigest() {
+        Uncheck.run(this::flushBatch);
         return messageDigest;
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import org.apache.commons.io.IOMetrics;
+
+/**
+ * An input stream decorator that records {@link IOMetrics}: bytes and read operations, time blocked in reads, read sizes, and time to first byte.
+ * <p>
+ * Time to first byte is measured from the construction of this stream.
+ * </p>
+ * <p>
+ * To keep metrics per stream and in aggregate, give each stream its own {@link IOMetrics#newChild() child} of a shared instance.
+ * </p>
+ * <p>
+ * To build an instance, call {@link #builder()}.
+ * </p>
+ *
+ * @see Builder
+ * @see IOMetrics
+ * @since 2.23.0
+ */
+public class MeteredInputStream extends ProxyInputStream {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MeteredInputStream}.
+     *
+     * <pre>{@code
+     * MeteredInputStream in = MeteredInputStream.builder()
+     *   .setPath(path)
+     *   .setMetrics(metrics.newChild())
+     *   .get();
+     * }
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractBuilder<MeteredInputStream, Builder> {
+
+        private IOMetrics metrics;
+
+        /**
+         * Constructs a new builder of {@link MeteredInputStream}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link MeteredInputStream}.
+         * <p>
+         * You must set an aspect that supports {@link #getInputStream()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getInputStream()} gets the target aspect.</li>
+         * <li>metrics, defaults to a new {@link IOMetrics}.</li>
+         * <li>afterRead</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to an {@link InputStream}.
+         * @throws IOException                   if an I/O error occurs converting to an {@link InputStream} using {@link #getInputStream()}.
+         * @see #getInputStream()
+         * @see #getUnchecked()
+         */
+        @Override
+        public MeteredInputStream get() throws IOException {
+            return new MeteredInputStream(this);
+        }
+
+        /**
+         * Sets the metrics to record.
+         *
+         * @param metrics The metrics to record, {@code null} resets to a new {@link IOMetrics}.
+         * @return {@code this} instance.
+         */
+        public Builder setMetrics(final IOMetrics metrics) {
+            this.metrics = metrics;
+            return asThis();
+        }
+
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final IOMetrics metrics;
+    private final long openNanos = System.nanoTime();
+    private long startNanos;
+    private boolean firstByte;
+
+    private MeteredInputStream(final Builder builder) throws IOException {
+        super(builder);
+        this.metrics = builder.metrics != null ? builder.metrics : new IOMetrics();
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param in      The input stream to delegate to.
+     * @param metrics The metrics to record.
+     * @throws NullPointerException if {@code metrics} is {@code null}.
+     */
+    public MeteredInputStream(final InputStream in, final IOMetrics metrics) {
+        super(in);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Records the read in the metrics.
+     *
+     * @param n The number of bytes read, or {@link org.apache.commons.io.IOUtils#EOF EOF} at the end of input.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void afterRead(final int n) throws IOException {
+        final long now = System.nanoTime();
+        metrics.recordRead(n, now - startNanos);
+        if (!firstByte && n > 0) {
+            firstByte = true;
+            metrics.recordFirstByte(now - openNanos);
+        }
+        super.afterRead(n);
+    }
+
+    /**
+     * Starts timing the read.
+     *
+     * @param n The number of bytes to read.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void beforeRead(final int n) throws IOException {
+        super.beforeRead(n);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the metrics recorded by this stream.
+     *
+     * @return The metrics.
+     */
+    public IOMetrics getMetrics() {
+        return metrics;
+    }
+}
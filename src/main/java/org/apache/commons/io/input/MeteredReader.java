@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
+/**
+ * A reader decorator that records {@link IOMetrics}: chars and read operations, time blocked in reads, read sizes, and time to first char.
+ * <p>
+ * Time to first char is measured from the construction of this reader and is recorded as {@link IOMetrics#recordFirstByte(long) time to first byte}.
+ * </p>
+ * <p>
+ * To build an instance, call {@link #builder()}.
+ * </p>
+ *
+ * @see Builder
+ * @see IOMetrics
+ * @since 2.23.0
+ */
+public class MeteredReader extends ProxyReader {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MeteredReader}.
+     *
+     * <pre>{@code
+     * MeteredReader reader = MeteredReader.builder()
+     *   .setPath(path)
+     *   .setMetrics(metrics.newChild())
+     *   .get();
+     * }
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<MeteredReader, Builder> {
+
+        private IOMetrics metrics;
+
+        /**
+         * Constructs a new builder of {@link MeteredReader}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link MeteredReader}.
+         * <p>
+         * You must set an aspect that supports {@link #getReader()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getReader()} gets the target aspect.</li>
+         * <li>metrics, defaults to a new {@link IOMetrics}.</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link Reader}.
+         * @throws IOException                   if an I/O error occurs converting to a {@link Reader} using {@link #getReader()}.
+         * @see #getReader()
+         * @see #getUnchecked()
+         */
+        @Override
+        public MeteredReader get() throws IOException {
+            return new MeteredReader(this);
+        }
+
+        /**
+         * Sets the metrics to record.
+         *
+         * @param metrics The metrics to record, {@code null} resets to a new {@link IOMetrics}.
+         * @return {@code this} instance.
+         */
+        public Builder setMetrics(final IOMetrics metrics) {
+            this.metrics = metrics;
+            return asThis();
+        }
+
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final IOMetrics metrics;
+    private final long openNanos = System.nanoTime();
+    private long startNanos;
+    private boolean firstChar;
+
+    private MeteredReader(final Builder builder) throws IOException {
+        super(builder.getReader());
+        this.metrics = builder.metrics != null ? builder.metrics : new IOMetrics();
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param reader  The reader to delegate to.
+     * @param metrics The metrics to record.
+     * @throws NullPointerException if {@code metrics} is {@code null}.
+     */
+    public MeteredReader(final Reader reader, final IOMetrics metrics) {
+        super(reader);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Records the read in the metrics.
+     *
+     * @param n The number of chars read, or {@link org.apache.commons.io.IOUtils#EOF EOF} at the end of input.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void afterRead(final int n) throws IOException {
+        final long now = System.nanoTime();
+        metrics.recordRead(n, now - startNanos);
+        if (!firstChar && n > 0) {
+            firstChar = true;
+            metrics.recordFirstByte(now - openNanos);
+        }
+        super.afterRead(n);
+    }
+
+    /**
+     * Starts timing the read.
+     *
+     * @param n The number of chars to read.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void beforeRead(final int n) throws IOException {
+        super.beforeRead(n);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the metrics recorded by this reader.
+     *
+     * @return The metrics.
+     */
+    public IOMetrics getMetrics() {
+        return metrics;
+    }
+}
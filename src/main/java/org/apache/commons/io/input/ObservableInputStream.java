@@ -20,12 +20,17 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.apache.commons.io.IOExceptionList;
+import org.apache.commons.io.IOIndexedException;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.function.IOConsumer;
+import org.apache.commons.io.function.Uncheck;
 
 /**
  * The {@link ObservableInputStream} allows, that an InputStream may be consumed by other receivers, apart from the
@@ -53,6 +58,8 @@ public class ObservableInputStream extends ProxyInputStream {
 
         private List<Observer> observers;
 
+        private int batchSize;
+
         /**
          * Constructs a new instance for subclasses.
          */
@@ -60,6 +67,23 @@ public AbstractBuilder() {
             // empty
         }
 
+        /**
+         * Sets the number of bytes from single-byte reads to collect before notifying observers, zero or less to disable batching (the default).
+         * <p>
+         * When batching is enabled, the bytes returned by {@link ObservableInputStream#read()} are delivered to observers in blocks through
+         * {@link Observer#data(byte[], int, int)} instead of one at a time through {@link Observer#data(int)}. Collected bytes are always delivered before any
+         * other notification, so observers see all data in order, and at the latest when the stream reaches EOF, is closed, or fails.
+         * </p>
+         *
+         * @param batchSize The number of bytes to collect, zero or less to disable batching.
+         * @return {@code this} instance.
+         * @since 2.23.0
+         */
+        public T setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return asThis();
+        }
+
         /**
          * Sets the list of observer callbacks.
          *
@@ -163,11 +187,40 @@ public void finished() throws IOException {
         }
     }
 
+    private static List<IOException> addCause(final List<IOException> causes, final int index, final IOException cause) {
+        final List<IOException> list = causes != null ? causes : new ArrayList<>();
+        list.add(new IOIndexedException(index, cause));
+        return list;
+    }
+
+    /**
+     * Wraps the exception of a single observer like IOConsumer.forAll(IOConsumer, Iterable) does.
+     */
+    private static IOExceptionList singleCause(final IOException cause) {
+        return new IOExceptionList(Collections.singletonList(new IOIndexedException(0, cause)));
+    }
+
     private final List<Observer> observers;
 
+    /**
+     * The number of bytes from single-byte reads to collect before notifying observers, zero or less if disabled.
+     */
+    private final int batchSize;
+
+    /**
+     * Collects bytes from single-byte reads, allocated on first use.
+     */
+    private byte[] batch;
+
+    /**
+     * The number of bytes in {@link #batch}.
+     */
+    private int batchCount;
+
     ObservableInputStream(final AbstractBuilder<?> builder) throws IOException {
         super(builder);
-        this.observers = builder.observers;
+        this.observers = builder.observers != null ? builder.observers : new ArrayList<>();
+        this.batchSize = builder.batchSize;
     }
 
     /**
@@ -188,6 +241,7 @@ public ObservableInputStream(final InputStream inputStream) {
     private ObservableInputStream(final InputStream inputStream, final List<Observer> observers) {
         super(inputStream);
         this.observers = observers;
+        this.batchSize = 0;
     }
 
     /**
@@ -203,10 +257,15 @@ public ObservableInputStream(final InputStream inputStream, final Observer... ob
 
     /**
      * Adds an Observer.
+     * <p>
+     * If {@link Builder#setBatchSize(int) batching} is on, the bytes collected so far are first delivered to the current observers.
+     * </p>
      *
      * @param observer The observer to add.
+     * @throws UncheckedIOException if an observer throws an {@link IOException} while the collected bytes are delivered.
      */
     public void add(final Observer observer) {
+        flushBatchUnchecked();
         observers.add(observer);
     }
 
@@ -234,7 +293,74 @@ public void consume() throws IOException {
         IOUtils.consume(this);
     }
 
+    /*
+     * The dispatch methods loop over the observers by index to avoid allocating a stream and a capturing lambda for each read, and gather exceptions
+     * like IOConsumer.forAll(IOConsumer, Iterable). A single observer, the common case, is called directly, without the loop and the list of causes.
+     */
+
+    private void dispatchDataByte(final int value) throws IOException {
+        final List<Observer> list = observers;
+        final int size = list.size();
+        if (size == 1) {
+            try {
+                list.get(0).data(value);
+            } catch (final IOException e) {
+                throw singleCause(e);
+            }
+            return;
+        }
+        List<IOException> causes = null;
+        for (int i = 0; i < size; i++) {
+            try {
+                list.get(i).data(value);
+            } catch (final IOException e) {
+                causes = addCause(causes, i, e);
+            }
+        }
+        IOExceptionList.checkEmpty(causes, null);
+    }
+
+    private void dispatchDataBytes(final byte[] buffer, final int offset, final int length) throws IOException {
+        final List<Observer> list = observers;
+        final int size = list.size();
+        if (size == 1) {
+            try {
+                list.get(0).data(buffer, offset, length);
+            } catch (final IOException e) {
+                throw singleCause(e);
+            }
+            return;
+        }
+        List<IOException> causes = null;
+        for (int i = 0; i < size; i++) {
+            try {
+                list.get(i).data(buffer, offset, length);
+            } catch (final IOException e) {
+                causes = addCause(causes, i, e);
+            }
+        }
+        IOExceptionList.checkEmpty(causes, null);
+    }
+
+    /**
+     * Delivers the bytes collected from single-byte reads, if any, to the observers.
+     *
+     * @throws IOException Some observer has thrown an exception, which is being passed down.
+     */
+    void flushBatch() throws IOException {
+        if (batchCount > 0) {
+            final int count = batchCount;
+            batchCount = 0;
+            dispatchDataBytes(batch, 0, count);
+        }
+    }
+
+    private void flushBatchUnchecked() {
+        Uncheck.run(this::flushBatch);
+    }
+
     private void forEachObserver(final IOConsumer<Observer> action) throws IOException {
+        flushBatch();
         IOConsumer.forAll(action, observers);
     }
 
@@ -264,7 +390,20 @@ protected void noteClosed() throws IOException {
      * @throws IOException Some observer has thrown an exception, which is being passed down.
      */
     protected void noteDataByte(final int value) throws IOException {
-        forEachObserver(observer -> observer.data(value));
+        if (observers.isEmpty()) {
+            return;
+        }
+        if (batchSize > 0) {
+            if (batch == null) {
+                batch = new byte[batchSize];
+            }
+            batch[batchCount++] = (byte) value;
+            if (batchCount == batch.length) {
+                flushBatch();
+            }
+            return;
+        }
+        dispatchDataByte(value);
     }
 
     /**
@@ -276,7 +415,8 @@ protected void noteDataByte(final int value) throws IOException {
      * @throws IOException Some observer has thrown an exception, which is being passed down.
      */
     protected void noteDataBytes(final byte[] buffer, final int offset, final int length) throws IOException {
-        forEachObserver(observer -> observer.data(buffer, offset, length));
+        flushBatch();
+        dispatchDataBytes(buffer, offset, length);
     }
 
     /**
@@ -360,17 +500,28 @@ public int read(final byte[] buffer, final int offset, final int length) throws
 
     /**
      * Removes an Observer.
+     * <p>
+     * If {@link Builder#setBatchSize(int) batching} is on, the bytes collected so far are first delivered to the current observers.
+     * </p>
      *
      * @param observer The observer to remove.
+     * @throws UncheckedIOException if an observer throws an {@link IOException} while the collected bytes are delivered.
      */
     public void remove(final Observer observer) {
+        flushBatchUnchecked();
         observers.remove(observer);
     }
 
     /**
      * Removes all Observers.
+     * <p>
+     * If {@link Builder#setBatchSize(int) batching} is on, the bytes collected so far are first delivered to the current observers.
+     * </p>
+     *
+     * @throws UncheckedIOException if an observer throws an {@link IOException} while the collected bytes are delivered.
      */
     public void removeAllObservers() {
+        flushBatchUnchecked();
         observers.clear();
     }
 
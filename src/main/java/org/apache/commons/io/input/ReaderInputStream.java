@@ -74,6 +74,10 @@
  * implementing the {@code javax.activation.DataSource} interface from the Java Activation Framework.
  * </p>
  * <p>
+ * For US-ASCII, ISO-8859-1, and UTF-8, chars are encoded straight into the array passed to {@link #read(byte[], int, int)}; the {@link CharsetEncoder} only
+ * encodes the chars that need its error handling, such as unmappable chars and lone surrogates.
+ * </p>
+ * <p>
  * The {@link #available()} method of this class always returns 0. The methods {@link #mark(int)} and {@link #reset()} are not supported.
  * </p>
  * <p>
@@ -216,6 +220,11 @@ private static CharsetEncoder newEncoder(final Charset charset) {
      */
     private final ByteBuffer encoderOut;
 
+    /**
+     * Encodes common charsets without {@link #encoderOut}, or null.
+     */
+    private final FastCharsetEncoder fastEncoder;
+
     private CoderResult lastCoderResult;
 
     private boolean endOfInput;
@@ -310,6 +319,7 @@ public ReaderInputStream(final Reader reader, final CharsetEncoder charsetEncode
         this.encoderIn.flip();
         this.encoderOut = ByteBuffer.allocate(128);
         this.encoderOut.flip();
+        this.fastEncoder = FastCharsetEncoder.of(this.charsetEncoder);
     }
 
     /**
@@ -373,7 +383,8 @@ private void fillBuffer() throws IOException {
         if (endOfInput) {
             return;
         }
-        if (!endOfInput && (lastCoderResult == null || lastCoderResult.isUnderflow())) {
+        // With a fast encoder, chars left in encoderIn wait for the CharsetEncoder, unless a high surrogate needs the next char.
+        if ((lastCoderResult == null || lastCoderResult.isUnderflow()) && (fastEncoder == null || encoderIn.remaining() <= 1)) {
             encoderIn.compact();
             final int position = encoderIn.position();
             // We don't use Reader#read(CharBuffer) here because it is more efficient
@@ -386,6 +397,10 @@ private void fillBuffer() throws IOException {
                 encoderIn.position(position + c);
             }
             encoderIn.flip();
+            if (fastEncoder != null && position == 0 && c > 0) {
+                // Leave the new chars to the fast encoder.
+                return;
+            }
         }
         encoderOut.compact();
         lastCoderResult = charsetEncoder.encode(encoderIn, encoderOut, endOfInput);
@@ -458,13 +473,18 @@ public int read(final byte[] array, int off, int len) throws IOException {
             return 0; // Always return 0 if len == 0
         }
         int read = 0;
+        int c;
         while (len > 0) {
             if (encoderOut.hasRemaining()) { // Data from the last read not fully copied
-                final int c = Math.min(encoderOut.remaining(), len);
+                c = Math.min(encoderOut.remaining(), len);
                 encoderOut.get(array, off, c);
                 off += c;
                 len -= c;
                 read += c;
+            } else if (fastEncoder != null && encoderIn.hasRemaining() && (c = fastEncoder.encode(encoderIn, array, off, len)) > 0) { // Encode in place
+                off += c;
+                len -= c;
+                read += c;
             } else if (endOfInput) { // Already reach EOF in the last read
                 break;
             } else { // Read again
@@ -140,6 +140,81 @@ public void readFully(final byte[] data, final int offset, final int length) thr
         }
     }
 
+    /**
+     * Reads 8 byte, IEEE 754, little-endian doubles into an array, until it is full.
+     * <p>
+     * The bytes are read in bulk, see {@link EndianUtils#readSwappedDoubles(InputStream, double[], int, int)}.
+     * </p>
+     *
+     * @param data The array to read the values into.
+     * @throws EOFException Thrown if an end of file is reached unexpectedly.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @since 2.23.0
+     */
+    public void readFully(final double[] data) throws IOException, EOFException {
+        EndianUtils.readSwappedDoubles(in, data, 0, data.length);
+    }
+
+    /**
+     * Reads 4 byte, IEEE 754, little-endian floats into an array, until it is full.
+     * <p>
+     * The bytes are read in bulk, see {@link EndianUtils#readSwappedFloats(InputStream, float[], int, int)}.
+     * </p>
+     *
+     * @param data The array to read the values into.
+     * @throws EOFException Thrown if an end of file is reached unexpectedly.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @since 2.23.0
+     */
+    public void readFully(final float[] data) throws IOException, EOFException {
+        EndianUtils.readSwappedFloats(in, data, 0, data.length);
+    }
+
+    /**
+     * Reads 4 byte, two's complement, little-endian integers into an array, until it is full.
+     * <p>
+     * The bytes are read in bulk, see {@link EndianUtils#readSwappedInts(InputStream, int[], int, int)}.
+     * </p>
+     *
+     * @param data The array to read the values into.
+     * @throws EOFException Thrown if an end of file is reached unexpectedly.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @since 2.23.0
+     */
+    public void readFully(final int[] data) throws IOException, EOFException {
+        EndianUtils.readSwappedInts(in, data, 0, data.length);
+    }
+
+    /**
+     * Reads 8 byte, two's complement, little-endian longs into an array, until it is full.
+     * <p>
+     * The bytes are read in bulk, see {@link EndianUtils#readSwappedLongs(InputStream, long[], int, int)}.
+     * </p>
+     *
+     * @param data The array to read the values into.
+     * @throws EOFException Thrown if an end of file is reached unexpectedly.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @since 2.23.0
+     */
+    public void readFully(final long[] data) throws IOException, EOFException {
+        EndianUtils.readSwappedLongs(in, data, 0, data.length);
+    }
+
+    /**
+     * Reads 2 byte, two's complement, little-endian shorts into an array, until it is full.
+     * <p>
+     * The bytes are read in bulk, see {@link EndianUtils#readSwappedShorts(InputStream, short[], int, int)}.
+     * </p>
+     *
+     * @param data The array to read the values into.
+     * @throws EOFException Thrown if an end of file is reached unexpectedly.
+     * @throws IOException Thrown if an I/O error occurs.
+     * @since 2.23.0
+     */
+    public void readFully(final short[] data) throws IOException, EOFException {
+        EndianUtils.readSwappedShorts(in, data, 0, data.length);
+    }
+
     /**
      * Reads a 4 byte, two's complement little-endian integer.
      *
@@ -23,6 +23,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.apache.commons.io.IOUtils;
+
 /**
  * A filtering input stream that ensures the content will have UNIX-style line endings, LF.
  *
@@ -57,11 +59,8 @@ private int handleEos(final boolean previousWasSlashCr) {
         return EOF;
     }
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
-    public synchronized int read() throws IOException {
+    int readUnsynchronized() throws IOException {
         final boolean previousWasSlashR = atSlashCr;
         if (atEos) {
             return handleEos(previousWasSlashR);
@@ -75,12 +74,56 @@ public synchronized int read() throws IOException {
         }
 
         if (previousWasSlashR && atSlashLf) {
-            return read();
+            return readUnsynchronized();
         }
 
         return target;
     }
 
+    /**
+     * Reads blocks of the target into the buffer and rewrites them in place, since the output is never longer than the input.
+     */
+    @Override
+    int readUnsynchronized(final byte[] b, final int off, final int len) throws IOException {
+        IOUtils.checkFromIndexSize(b, off, len);
+        final int end = off + len;
+        int w = off;
+        while (w < end) {
+            if (atEos) {
+                final int c = handleEos(atSlashCr);
+                if (c == EOF) {
+                    break;
+                }
+                b[w++] = (byte) c;
+                continue;
+            }
+            final int n = in.read(b, w, end - w);
+            if (n == EOF) {
+                atEos = true;
+                continue;
+            }
+            if (n == 0) {
+                break;
+            }
+            boolean slashCr = atSlashCr;
+            boolean slashLf = atSlashLf;
+            final int blockEnd = w + n;
+            for (int r = w; r < blockEnd; r++) {
+                final byte c = b[r];
+                if (c == CR) {
+                    b[w++] = LF;
+                } else if (c != LF || !slashCr) {
+                    b[w++] = c;
+                }
+                slashCr = c == CR;
+                slashLf = c == LF;
+            }
+            atSlashCr = slashCr;
+            atSlashLf = slashLf;
+        }
+        return w == off && len > 0 && atEos ? EOF : w - off;
+    }
+
     /**
      * Reads the next item from the target, updating internal flags in the process
      *
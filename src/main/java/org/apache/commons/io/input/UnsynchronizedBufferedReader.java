@@ -25,8 +25,11 @@
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
+import java.util.Objects;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.function.IOConsumer;
 
 /**
  * Wraps an existing {@link Reader} and buffers the input <em>without any synchronization</em>. Expensive interaction with the underlying reader is minimized,
@@ -49,7 +52,54 @@
  */
 public class UnsynchronizedBufferedReader extends UnsynchronizedReader {
 
-    private static final char NUL = '\0';
+    /**
+     * A reusable view of a line held in a character array.
+     */
+    private static final class LineView implements CharSequence {
+
+        private char[] array;
+        private int offset;
+        private int length;
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            }
+            return array[offset + index];
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        private LineView set(final char[] array, final int offset, final int length) {
+            this.array = array;
+            this.offset = offset;
+            this.length = length;
+            return this;
+        }
+
+        /**
+         * Returns a copy of a part of this line.
+         */
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+            }
+            return new String(array, offset + start, end - start);
+        }
+
+        /**
+         * Returns a copy of this line.
+         */
+        @Override
+        public String toString() {
+            return new String(array, offset, length);
+        }
+    }
 
     private final Reader in;
 
@@ -88,6 +138,18 @@ public class UnsynchronizedBufferedReader extends UnsynchronizedReader {
     private long pos;
     private long posMark;
 
+    /**
+     * The view of the last line read.
+     */
+    private final LineView line = new LineView();
+
+    /**
+     * Holds a line that spans buffer refills, allocated on first use and reused.
+     */
+    private char[] side;
+
+    private int sideLength;
+
     /**
      * Constructs a new BufferedReader on the Reader {@code in}. The buffer gets the default size (8 KB).
      *
@@ -361,76 +423,144 @@ public int read(final char[] buffer, int offset, final int length) throws IOExce
      *
      * @return The contents of the line or {@code null} if no characters were read before the end of the reader has been reached.
      * @throws IOException Thrown if this reader is closed or some other I/O error occurs.
+     * @see #readLine(IOConsumer)
      */
     public String readLine() throws IOException {
+        final LineView line = nextLine();
+        return line != null ? line.toString() : null;
+    }
+
+    /**
+     * Reads the next line of text and passes it to a consumer without copying it to a new {@link String}. Lines are delimited like {@link #readLine()}.
+     * <p>
+     * The consumer receives a view of this reader's buffer, or, for a line that spans buffer refills, of a side buffer reused for such lines. The view is
+     * valid only during the call: do not keep it or use it after the consumer returns, call {@link CharSequence#toString()} to keep a copy.
+     * {@link CharSequence#subSequence(int, int)} also returns a copy.
+     * </p>
+     *
+     * @param consumer The consumer of the line.
+     * @return {@code true} if a line was read, {@code false} if the end of the reader was reached.
+     * @throws IOException Thrown if this reader is closed, some other I/O error occurs, or the consumer throws.
+     * @see #forEachLine(IOConsumer)
+     * @since 2.23.0
+     */
+    public boolean readLine(final IOConsumer<? super CharSequence> consumer) throws IOException {
+        Objects.requireNonNull(consumer, "consumer");
+        final LineView line = nextLine();
+        if (line == null) {
+            return false;
+        }
+        consumer.accept(line);
+        return true;
+    }
+
+    /**
+     * Reads the remaining lines of text and passes each one to a consumer without copying it to a new {@link String}, see {@link #readLine(IOConsumer)}.
+     *
+     * @param consumer The consumer of each line, the line it receives is valid only during the call.
+     * @return The number of lines read.
+     * @throws IOException Thrown if this reader is closed, some other I/O error occurs, or the consumer throws.
+     * @since 2.23.0
+     */
+    public long forEachLine(final IOConsumer<? super CharSequence> consumer) throws IOException {
+        Objects.requireNonNull(consumer, "consumer");
+        long count = 0;
+        LineView line;
+        while ((line = nextLine()) != null) {
+            consumer.accept(line);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reads the next line into the reusable line view.
+     *
+     * @return The line view, or {@code null} at the end of the reader.
+     */
+    private LineView nextLine() throws IOException {
         checkOpen();
         /* has the underlying stream been exhausted? */
         if (bufPos == end && fillBuf() == EOF) {
             return null;
         }
-        final int startPos = bufPos;
-        for (int charPos = bufPos; charPos < end; charPos++) {
-            final char ch = buf[charPos];
-            if (ch > CR) {
-                continue;
-            }
-            if (ch == LF) {
-                final String res = new String(buf, bufPos, charPos - bufPos);
-                bufPos = charPos + 1;
-                incPos(bufPos - startPos);
-                return res;
-            }
-            if (ch == CR) {
-                final String res = new String(buf, bufPos, charPos - bufPos);
-                bufPos = charPos + 1;
-                if ((bufPos < end || fillBuf() != EOF) && buf[bufPos] == LF) {
-                    bufPos++;
-                }
-                incPos(bufPos - startPos);
-                return res;
+        final int charPos = indexOfNewline();
+        if (charPos >= 0) {
+            final int length = charPos - bufPos;
+            if (buf[charPos] == LF || charPos + 1 < end) {
+                // The line and its newline sequence are buffered: view the buffer.
+                line.set(buf, bufPos, length);
+                bufPos = charPos + (buf[charPos] == CR && buf[charPos + 1] == LF ? 2 : 1);
+                incPos(length + bufPos - charPos);
+                return line;
             }
+            // A CR ends the buffer: copy the line before refilling the buffer to look for a LF.
+            sideLength = 0;
+            appendSide(bufPos, length);
+            bufPos = end;
+            incPos(length + 1);
+            chompNewlineCounted();
+            return line.set(side, 0, sideLength);
         }
-        char eol = NUL;
-        // Typical Line Length
-        final StringBuilder result = new StringBuilder(80);
-        result.append(buf, bufPos, end - bufPos);
+        /* The line spans buffer refills: collect it in the side buffer. */
+        sideLength = 0;
         while (true) {
-            bufPos = end;
-            /* Are there buffered characters available? */
-            if (eol == LF) {
-                return result.toString();
-            }
-            // attempt to fill buffer
-            if (fillBuf() == EOF) {
-                // characters or null.
-                return result.length() > 0 || eol != NUL ? result.toString() : null;
-            }
-            for (int charPos = bufPos; charPos < end; charPos++) {
-                final char c = buf[charPos];
-                if (eol != NUL) {
-                    if (eol == CR && c == LF) {
-                        if (charPos > bufPos) {
-                            result.append(buf, bufPos, charPos - bufPos - 1);
-                        }
-                        bufPos = charPos + 1;
-                    } else {
-                        if (charPos > bufPos) {
-                            result.append(buf, bufPos, charPos - bufPos - 1);
-                        }
-                        bufPos = charPos;
-                    }
-                    return result.toString();
-                }
-                if (c == LF || c == CR) {
-                    eol = c;
+            final int newlinePos = indexOfNewline();
+            if (newlinePos < 0) {
+                appendSide(bufPos, end - bufPos);
+                bufPos = end;
+                if (fillBuf() == EOF) {
+                    // A last line without a newline sequence does not advance the position.
+                    return line.set(side, 0, sideLength);
                 }
+                continue;
+            }
+            appendSide(bufPos, newlinePos - bufPos);
+            bufPos = newlinePos + 1;
+            incPos(sideLength + 1);
+            if (buf[newlinePos] == CR) {
+                chompNewlineCounted();
             }
-            if (eol == NUL) {
-                result.append(buf, bufPos, end - bufPos);
-            } else {
-                result.append(buf, bufPos, end - bufPos - 1);
+            return line.set(side, 0, sideLength);
+        }
+    }
+
+    /**
+     * Appends characters of the buffer to the side buffer, growing it as needed.
+     */
+    private void appendSide(final int offset, final int length) {
+        final int newLength = sideLength + length;
+        if (side == null) {
+            // Typical Line Length
+            side = new char[Math.max(newLength, 80)];
+        } else if (newLength > side.length) {
+            side = Arrays.copyOf(side, Math.max(newLength, side.length * 2));
+        }
+        System.arraycopy(buf, offset, side, sideLength, length);
+        sideLength = newLength;
+    }
+
+    /**
+     * Discards the next character if it is a newline character, like {@link #chompNewline()}, and counts it in the position.
+     */
+    private void chompNewlineCounted() throws IOException {
+        if ((bufPos != end || fillBuf() != EOF) && buf[bufPos] == LF) {
+            bufPos++;
+            incPos(1);
+        }
+    }
+
+    /**
+     * Finds the first {@code CR} or {@code LF} in the buffered characters, or -1.
+     */
+    private int indexOfNewline() {
+        for (int charPos = bufPos; charPos < end; charPos++) {
+            final char ch = buf[charPos];
+            if (ch <= CR && (ch == LF || ch == CR)) {
+                return charPos;
             }
         }
+        return -1;
     }
 
     /**
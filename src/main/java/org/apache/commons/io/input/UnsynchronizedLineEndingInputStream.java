@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import org.apache.commons.io.StandardLineSeparator;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
+/**
+ * An unsynchronized version of {@link UnixLineEndingInputStream} and {@link WindowsLineEndingInputStream}, not thread-safe.
+ * <p>
+ * Ensures the content has UNIX-style line endings, LF, or Windows line endings, CRLF. Bulk reads normalize a block of the wrapped stream at a time.
+ * </p>
+ * <p>
+ * To build an instance, use {@link Builder}.
+ * </p>
+ *
+ * @see Builder
+ * @since 2.23.0
+ */
+//@NotThreadSafe
+public final class UnsynchronizedLineEndingInputStream extends InputStream {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link UnsynchronizedLineEndingInputStream}.
+     *
+     * <p>
+     * For example:
+     * </p>
+     * <pre>{@code
+     * UnsynchronizedLineEndingInputStream s = UnsynchronizedLineEndingInputStream.builder()
+     *   .setPath(path)
+     *   .setLineSeparator(StandardLineSeparator.CRLF)
+     *   .setLineFeedAtEos(true)
+     *   .get();}
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<UnsynchronizedLineEndingInputStream, Builder> {
+
+        private StandardLineSeparator lineSeparator = StandardLineSeparator.LF;
+
+        private boolean lineFeedAtEos;
+
+        /**
+         * Constructs a new builder of {@link UnsynchronizedLineEndingInputStream}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link UnsynchronizedLineEndingInputStream}.
+         * <p>
+         * You must set an aspect that supports {@link #getInputStream()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getInputStream()}</li>
+         * <li>lineSeparator</li>
+         * <li>lineFeedAtEos</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to an {@link InputStream}.
+         * @throws IOException                   if an I/O error occurs converting to an {@link InputStream} using {@link #getInputStream()}.
+         * @see #getInputStream()
+         * @see #getUnchecked()
+         */
+        @Override
+        public UnsynchronizedLineEndingInputStream get() throws IOException {
+            return new UnsynchronizedLineEndingInputStream(this);
+        }
+
+        /**
+         * Sets whether to ensure that the stream ends with a line ending, default is false.
+         *
+         * @param lineFeedAtEos true to ensure that the stream ends with a line ending.
+         * @return {@code this} instance.
+         */
+        public Builder setLineFeedAtEos(final boolean lineFeedAtEos) {
+            this.lineFeedAtEos = lineFeedAtEos;
+            return this;
+        }
+
+        /**
+         * Sets the line ending to normalize to, {@link StandardLineSeparator#LF} or {@link StandardLineSeparator#CRLF}, default is
+         * {@link StandardLineSeparator#LF}.
+         *
+         * @param lineSeparator The line ending to normalize to, null resets to the default.
+         * @return {@code this} instance.
+         * @throws IllegalArgumentException if the line ending is {@link StandardLineSeparator#CR}.
+         */
+        public Builder setLineSeparator(final StandardLineSeparator lineSeparator) {
+            if (lineSeparator == StandardLineSeparator.CR) {
+                throw new IllegalArgumentException("Unsupported line separator: " + lineSeparator);
+            }
+            this.lineSeparator = lineSeparator != null ? lineSeparator : StandardLineSeparator.LF;
+            return this;
+        }
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final AbstractLineEndingInputStream delegate;
+
+    private UnsynchronizedLineEndingInputStream(final Builder builder) throws IOException {
+        final InputStream inputStream = Objects.requireNonNull(builder.getInputStream(), "inputStream");
+        this.delegate = builder.lineSeparator == StandardLineSeparator.CRLF ? new WindowsLineEndingInputStream(inputStream, builder.lineFeedAtEos)
+                : new UnixLineEndingInputStream(inputStream, builder.lineFeedAtEos);
+    }
+
+    /**
+     * Closes the stream. Also closes the underlying stream.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    /**
+     * Always throws {@link UnsupportedOperationException}.
+     *
+     * @param readLimit ignored.
+     * @throws UnsupportedOperationException Always thrown.
+     */
+    @Override
+    public void mark(final int readLimit) {
+        throw UnsupportedOperationExceptions.mark();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return delegate.readUnsynchronized();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        return delegate.readUnsynchronized(b, off, len);
+    }
+}
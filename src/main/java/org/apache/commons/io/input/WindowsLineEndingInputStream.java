@@ -23,6 +23,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.apache.commons.io.IOUtils;
+
 /**
  * A filtering input stream that ensures the content will have Windows line endings, CRLF.
  *
@@ -63,11 +65,8 @@ private int handleEos() {
         return EOF;
     }
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
-    public synchronized int read() throws IOException {
+    int readUnsynchronized() throws IOException {
         if (atEos) {
             return handleEos();
         }
@@ -91,4 +90,59 @@ public synchronized int read() throws IOException {
         }
         return target;
     }
+
+    /**
+     * Reads blocks of the target into the second half of the free space in the buffer and expands them in place: the writer never overtakes the reader, and
+     * an LF that does not fit is injected on the next read.
+     */
+    @Override
+    int readUnsynchronized(final byte[] b, final int off, final int len) throws IOException {
+        IOUtils.checkFromIndexSize(b, off, len);
+        final int end = off + len;
+        int w = off;
+        while (w < end) {
+            if (atEos) {
+                final int c = handleEos();
+                if (c == EOF) {
+                    break;
+                }
+                b[w++] = (byte) c;
+                continue;
+            }
+            if (injectSlashLf) {
+                injectSlashLf = false;
+                b[w++] = LF;
+                continue;
+            }
+            final int start = end - (end - w + 1) / 2;
+            final int n = in.read(b, start, end - start);
+            if (n == EOF) {
+                atEos = true;
+                continue;
+            }
+            if (n == 0) {
+                break;
+            }
+            boolean slashCr = atSlashCr;
+            boolean slashLf = atSlashLf;
+            for (int r = start; r < start + n; r++) {
+                final byte c = b[r];
+                if (c == LF && !slashCr) {
+                    b[w++] = CR;
+                    if (w < end) {
+                        b[w++] = LF;
+                    } else {
+                        injectSlashLf = true;
+                    }
+                } else {
+                    b[w++] = c;
+                }
+                slashCr = c == CR;
+                slashLf = c == LF;
+            }
+            atSlashCr = slashCr;
+            atSlashLf = slashLf;
+        }
+        return w == off && len > 0 && atEos ? EOF : w - off;
+    }
 }
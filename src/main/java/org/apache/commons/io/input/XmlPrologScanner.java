@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Scans the bytes of an XML prolog for its first {@code '>'} and its encoding declaration without decoding them to a string.
+ * <p>
+ * An instance reads code units of a fixed width for one of the encodings guessed from the first bytes of the document, see
+ * {@link XmlStreamReader#ENCODING_PATTERN}. Code units outside ASCII match no character of the declaration, like characters decoded by the guessed
+ * encoding. Line terminators read as a single space, as when the prolog is read line by line.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ */
+final class XmlPrologScanner {
+
+    /**
+     * Scanners by guessed encoding name, single-byte encodings are added on first use.
+     */
+    private static final ConcurrentMap<String, XmlPrologScanner> SCANNERS = new ConcurrentHashMap<>();
+
+    static {
+        SCANNERS.put(StandardCharsets.UTF_8.name(), new XmlPrologScanner(1, true, null));
+        SCANNERS.put(StandardCharsets.UTF_16BE.name(), new XmlPrologScanner(2, true, null));
+        SCANNERS.put(StandardCharsets.UTF_16LE.name(), new XmlPrologScanner(2, false, null));
+        SCANNERS.put("UTF-32BE", new XmlPrologScanner(4, true, null));
+        SCANNERS.put("UTF-32LE", new XmlPrologScanner(4, false, null));
+    }
+
+    /**
+     * Gets the scanner for an encoding guessed from the first bytes of a document.
+     *
+     * @param guessedEnc The guessed encoding name.
+     * @return The scanner for the guessed encoding.
+     * @throws UnsupportedEncodingException Thrown if the guessed encoding is not supported.
+     */
+    static XmlPrologScanner get(final String guessedEnc) throws UnsupportedEncodingException {
+        XmlPrologScanner scanner = SCANNERS.get(guessedEnc);
+        if (scanner == null) {
+            scanner = singleByte(guessedEnc);
+            SCANNERS.putIfAbsent(guessedEnc, scanner);
+        }
+        return scanner;
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isEncNameStart(final int c) {
+        return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || isDigit(c);
+    }
+
+    private static boolean isEncNamePart(final int c) {
+        return isEncNameStart(c) || c == '.' || c == '_' || c == '+' || c == ':' || c == '-';
+    }
+
+    /**
+     * Tests whether a character is whitespace, like {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(final int c) {
+        return c == ' ' || c >= '\t' && c <= '\r';
+    }
+
+    /**
+     * Builds the scanner of a single-byte encoding, such as EBCDIC, from a table of its 256 characters.
+     */
+    private static XmlPrologScanner singleByte(final String encoding) throws UnsupportedEncodingException {
+        final Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (final IllegalArgumentException e) {
+            throw (UnsupportedEncodingException) new UnsupportedEncodingException(encoding).initCause(e);
+        }
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        final char[] table = new String(bytes, charset).toCharArray();
+        if (table.length != bytes.length) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+        return new XmlPrologScanner(1, true, table);
+    }
+
+    /**
+     * The width of a code unit in bytes.
+     */
+    private final int width;
+
+    private final boolean bigEndian;
+
+    /**
+     * Maps a byte to its character for single-byte encodings other than UTF-8, or null.
+     */
+    private final char[] table;
+
+    private XmlPrologScanner(final int width, final boolean bigEndian, final char[] table) {
+        this.width = width;
+        this.bigEndian = bigEndian;
+        this.table = table;
+    }
+
+    /**
+     * Gets the code unit at the given index.
+     */
+    private int charAt(final byte[] bytes, final int index) {
+        final int i = index * width;
+        switch (width) {
+        case 1:
+            return table != null ? table[bytes[i] & 0xFF] : bytes[i] & 0xFF;
+        case 2:
+            return bigEndian ? (bytes[i] & 0xFF) << 8 | bytes[i + 1] & 0xFF : (bytes[i + 1] & 0xFF) << 8 | bytes[i] & 0xFF;
+        default:
+            return bigEndian ? bytes[i] << 24 | (bytes[i + 1] & 0xFF) << 16 | (bytes[i + 2] & 0xFF) << 8 | bytes[i + 3] & 0xFF
+                    : bytes[i + 3] << 24 | (bytes[i + 2] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | bytes[i] & 0xFF;
+        }
+    }
+
+    /**
+     * Gets the encoding declared in the prolog, matching the grammar of {@link XmlStreamReader#ENCODING_PATTERN}.
+     *
+     * @param bytes The bytes of the prolog.
+     * @param end   The index of the code unit of the first {@code '>'}.
+     * @return The declared encoding in upper case, or null if none.
+     */
+    String getEncoding(final byte[] bytes, final int end) {
+        final Cursor cursor = new Cursor(bytes, end + 1);
+        if (!cursor.skip("<?xml") || !cursor.skipWhitespace()) {
+            return null;
+        }
+        final int afterXml = cursor.index;
+        final String encoding = cursor.encoding();
+        if (encoding != null) {
+            return encoding;
+        }
+        cursor.index = afterXml;
+        return cursor.version() && cursor.skipWhitespace() ? cursor.encoding() : null;
+    }
+
+    /**
+     * Gets the index of the first code unit equal to {@code c}, from {@code fromIndex} to the last whole code unit in {@code length} bytes.
+     *
+     * @param bytes     The bytes to scan.
+     * @param fromIndex The code unit index to start from.
+     * @param length    The number of bytes to scan.
+     * @param c         The character to find.
+     * @return The index of the code unit, or -1.
+     */
+    int indexOf(final byte[] bytes, final int fromIndex, final int length, final int c) {
+        final int units = length / width;
+        for (int i = fromIndex; i < units; i++) {
+            if (charAt(bytes, i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the width of a code unit in bytes.
+     *
+     * @return The width of a code unit in bytes.
+     */
+    int width() {
+        return width;
+    }
+
+    /**
+     * Reads the code units of a prolog, turning line terminators into single spaces.
+     */
+    private final class Cursor {
+
+        private final byte[] bytes;
+
+        private final int end;
+
+        private int index;
+
+        private Cursor(final byte[] bytes, final int end) {
+            this.bytes = bytes;
+            this.end = end;
+        }
+
+        /**
+         * Matches {@code encoding\s*=\s*} followed by a quoted encoding name.
+         */
+        private String encoding() {
+            if (!skip("encoding") || !skipEquals()) {
+                return null;
+            }
+            final int quote = next();
+            if (quote != '"' && quote != '\'' || !isEncNameStart(peek())) {
+                return null;
+            }
+            final char[] name = new char[end - index];
+            int length = 0;
+            int c;
+            while (isEncNamePart(c = next())) {
+                name[length++] = (char) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+            }
+            return c == quote ? new String(name, 0, length) : null;
+        }
+
+        /**
+         * Reads the next character, or -1 at the end.
+         */
+        private int next() {
+            if (index >= end) {
+                return -1;
+            }
+            final int c = charAt(bytes, index++);
+            if (c == '\r') {
+                if (index < end && charAt(bytes, index) == '\n') {
+                    index++;
+                }
+                return ' ';
+            }
+            return c == '\n' ? ' ' : c;
+        }
+
+        private int peek() {
+            final int mark = index;
+            final int c = next();
+            index = mark;
+            return c;
+        }
+
+        private boolean skip(final String s) {
+            for (int i = 0; i < s.length(); i++) {
+                if (next() != s.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Matches {@code \s*=\s*}.
+         */
+        private boolean skipEquals() {
+            skipWhitespace();
+            if (next() != '=') {
+                return false;
+            }
+            skipWhitespace();
+            return true;
+        }
+
+        /**
+         * Skips whitespace, returning whether there was any.
+         */
+        private boolean skipWhitespace() {
+            final int start = index;
+            while (isWhitespace(peek())) {
+                next();
+            }
+            return index > start;
+        }
+
+        /**
+         * Matches {@code version\s*=\s*("1\.[0-9]+"|'1.[0-9]+')}, where the single-quoted form accepts any character after the {@code 1}.
+         */
+        private boolean version() {
+            if (!skip("version") || !skipEquals()) {
+                return false;
+            }
+            final int quote = next();
+            if (quote != '"' && quote != '\'' || next() != '1') {
+                return false;
+            }
+            final int dot = next();
+            if (dot == -1 || quote == '"' && dot != '.' || !isDigit(peek())) {
+                return false;
+            }
+            int c;
+            do {
+                c = next();
+            } while (isDigit(c));
+            return c == quote;
+        }
+    }
+}
@@ -16,14 +16,15 @@
  */
 package org.apache.commons.io.input;
 
+import static org.apache.commons.io.IOUtils.EOF;
+
 import java.io.BufferedInputStream;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
@@ -34,6 +35,8 @@
 import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,7 +44,6 @@
 import org.apache.commons.io.Charsets;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.build.AbstractStreamBuilder;
-import org.apache.commons.io.function.IOConsumer;
 
 /**
  * Character stream that handles all the necessary Voodoo to figure out the charset encoding of the XML document within the stream.
@@ -226,6 +228,11 @@ public Builder setLenient(final boolean lenient) {
             new ByteOrderMark(UTF_32LE, 0x3C, 0x00, 0x00, 0x00, 0x3F, 0x00, 0x00, 0x00, 0x78, 0x00, 0x00, 0x00, 0x6D, 0x00, 0x00, 0x00),
             new ByteOrderMark(EBCDIC, 0x4C, 0x6F, 0xA7, 0x94) };
 
+    /**
+     * Charsets by encoding name, see {@link #toCharset(String)}.
+     */
+    private static final ConcurrentMap<String, Charset> CHARSETS = new ConcurrentHashMap<>();
+
     private static final Pattern CHARSET_PATTERN = Pattern.compile("charset=[\"']?([.[^; \"']]*)[\"']?");
 
     /**
@@ -243,6 +250,9 @@ public Builder setLenient(final boolean lenient) {
      * However this does not match all the aliases that are supported by Java. For example, {@code '437'}, {@code 'ISO_8859-1:1987'} and
      * {@code 'ebcdic-de-273+euro'}.
      * </p>
+     * <p>
+     * This class scans the bytes of the prolog for the same grammar rather than decoding the prolog and matching this pattern.
+     * </p>
      */
     public static final Pattern ENCODING_PATTERN = Pattern.compile(
     // @formatter:off
@@ -312,6 +322,9 @@ static String getContentTypeMime(final String httpContentType) {
 
     /**
      * Gets the encoding declared in the <?xml encoding=...?>, {@code null} if none.
+     * <p>
+     * Reads up to the first {@code '>'} and scans the bytes read for the encoding declaration without decoding them, then resets the stream.
+     * </p>
      *
      * @param inputStream InputStream to create the reader from.
      * @param guessedEnc  guessed encoding.
@@ -319,42 +332,49 @@ static String getContentTypeMime(final String httpContentType) {
      * @throws IOException thrown if there is a problem reading the stream.
      */
     private static String getXmlProlog(final InputStream inputStream, final String guessedEnc) throws IOException {
-        String encoding = null;
-        if (guessedEnc != null) {
-            final byte[] bytes = IOUtils.byteArray();
-            inputStream.mark(IOUtils.DEFAULT_BUFFER_SIZE);
-            int offset = 0;
-            int max = IOUtils.DEFAULT_BUFFER_SIZE;
-            int c = inputStream.read(bytes, offset, max);
-            int firstGT = -1;
-            String xmlProlog = ""; // avoid possible NPE warning (cannot happen; this just silences the warning)
-            while (c != -1 && firstGT == -1 && offset < IOUtils.DEFAULT_BUFFER_SIZE) {
-                offset += c;
-                max -= c;
-                c = inputStream.read(bytes, offset, max);
-                xmlProlog = new String(bytes, 0, offset, guessedEnc);
-                firstGT = xmlProlog.indexOf('>');
-            }
-            if (firstGT == -1) {
-                if (c == -1) {
-                    throw new IOException("Unexpected end of XML stream");
-                }
-                throw new IOException("XML prolog or ROOT element not found on first " + offset + " bytes");
+        if (guessedEnc == null) {
+            return null;
+        }
+        final XmlPrologScanner scanner = XmlPrologScanner.get(guessedEnc);
+        final byte[] bytes = IOUtils.byteArray();
+        inputStream.mark(bytes.length);
+        int offset = 0;
+        int firstGT = -1;
+        int c = 0;
+        while (firstGT == -1 && offset < bytes.length && (c = inputStream.read(bytes, offset, bytes.length - offset)) != EOF) {
+            final int scanned = offset / scanner.width();
+            offset += c;
+            firstGT = scanner.indexOf(bytes, scanned, offset, '>');
+        }
+        if (firstGT == -1) {
+            if (c == EOF) {
+                throw new IOException("Unexpected end of XML stream");
             }
-            final int bytesRead = offset;
-            if (bytesRead > 0) {
-                inputStream.reset();
-                final BufferedReader bReader = new BufferedReader(new StringReader(xmlProlog.substring(0, firstGT + 1)));
-                final StringBuilder prolog = new StringBuilder();
-                IOConsumer.forEach(bReader.lines(), l -> prolog.append(l).append(' '));
-                final Matcher m = ENCODING_PATTERN.matcher(prolog);
-                if (m.find()) {
-                    encoding = m.group(1).toUpperCase(Locale.ROOT);
-                    encoding = encoding.substring(1, encoding.length() - 1);
-                }
+            throw new IOException("XML prolog or ROOT element not found on first " + offset + " bytes");
+        }
+        inputStream.reset();
+        return scanner.getEncoding(bytes, firstGT);
+    }
+
+    /**
+     * Gets the charset for an encoding name, looking up each name once.
+     *
+     * @param encoding The encoding name.
+     * @return The charset.
+     * @throws UnsupportedEncodingException Thrown if the encoding is not supported.
+     */
+    static Charset toCharset(final String encoding) throws UnsupportedEncodingException {
+        Charset charset = CHARSETS.get(Objects.requireNonNull(encoding, "encoding"));
+        if (charset == null) {
+            try {
+                charset = Charset.forName(encoding);
+            } catch (final IllegalArgumentException e) {
+                throw (UnsupportedEncodingException) new UnsupportedEncodingException(encoding).initCause(e);
             }
+            // Only supported names are cached, so the cache is bounded by the charset aliases of the platform.
+            CHARSETS.putIfAbsent(encoding, charset);
         }
-        return encoding;
+        return charset;
     }
 
     /**
@@ -498,7 +518,7 @@ public XmlStreamReader(final InputStream inputStream, final boolean lenient, fin
                 false, BOMS);
         final BOMInputStream pis = new BOMInputStream(bom, true, XML_GUESS_BYTES);
         this.encoding = toEncoding(bom, pis, lenient);
-        this.reader = new InputStreamReader(pis, encoding);
+        this.reader = new InputStreamReader(pis, toCharset(encoding));
     }
 
     /**
@@ -603,7 +623,7 @@ public XmlStreamReader(final InputStream inputStream, final String httpContentTy
                 false, BOMS);
         final BOMInputStream pis = new BOMInputStream(bom, true, XML_GUESS_BYTES);
         this.encoding = toEncoding(bom, pis, lenient, httpContentType);
-        this.reader = new InputStreamReader(pis, encoding);
+        this.reader = new InputStreamReader(pis, toCharset(encoding));
     }
 
     /**
@@ -690,7 +710,7 @@ public XmlStreamReader(final URLConnection urlConnection, final String defaultEn
         } else {
             this.encoding = toEncoding(bomInput, piInput, lenient);
         }
-        this.reader = new InputStreamReader(piInput, encoding);
+        this.reader = new InputStreamReader(piInput, toCharset(encoding));
     }
 
     /**
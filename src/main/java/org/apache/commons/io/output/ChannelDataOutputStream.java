@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
+/**
+ * A {@link DataOutput} that encodes primitive values into a {@link ByteBuffer}, in big-endian or little-endian byte order, and writes the buffer to a
+ * {@link WritableByteChannel} like a {@link java.nio.channels.FileChannel} when it is full.
+ * <p>
+ * Values are encoded by the buffer, without the calls through a stream chain of a {@link DataOutputStream} over a {@link java.io.BufferedOutputStream}. The
+ * buffer is a heap buffer, so it is reclaimed by the garbage collector like the stream, and the JDK writes it through its own cached direct buffers. Call
+ * {@link #flush()} or {@link #close()} to write the buffered bytes.
+ * </p>
+ * <p>
+ * The {@link DataOutput} methods that write text follow {@link DataOutputStream}, except that the length of a {@link #writeUTF(String)} string is written in
+ * this instance's byte order.
+ * </p>
+ * <p>
+ * To build an instance, use {@link Builder}.
+ * </p>
+ * <pre>{@code
+ * ChannelDataOutputStream s = ChannelDataOutputStream.builder()
+ *   .setPath(path)
+ *   .setByteOrder(ByteOrder.LITTLE_ENDIAN)
+ *   .get();}
+ * </pre>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @see Builder
+ * @see org.apache.commons.io.input.MemoryMappedFileDataInputStream
+ * @since 2.23.0
+ */
+public final class ChannelDataOutputStream extends OutputStream implements DataOutput {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link ChannelDataOutputStream}.
+     * <p>
+     * For example:
+     * </p>
+     * <pre>{@code
+     * ChannelDataOutputStream s = ChannelDataOutputStream.builder()
+     *   .setPath(path)
+     *   .setBufferSize(64 * 1024)
+     *   .setByteOrder(ByteOrder.LITTLE_ENDIAN)
+     *   .get();}
+     * </pre>
+     * <p>
+     * A file origin is opened with the options {@link StandardOpenOption#CREATE}, {@link StandardOpenOption#TRUNCATE_EXISTING}, and
+     * {@link StandardOpenOption#WRITE}, unless other options are set.
+     * </p>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static final class Builder extends AbstractStreamBuilder<ChannelDataOutputStream, Builder> {
+
+        private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+        /**
+         * Constructs a new builder of {@link ChannelDataOutputStream}.
+         */
+        public Builder() {
+            setBufferSizeDefault(DEFAULT_BUFFER_SIZE);
+            setBufferSize(DEFAULT_BUFFER_SIZE);
+            setOpenOptions(StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Builds a new {@link ChannelDataOutputStream}.
+         * <p>
+         * You must set an aspect that supports {@link WritableByteChannel}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link WritableByteChannel} is the target aspect.</li>
+         * <li>{@link #getBufferSize()} gets the size of the buffer, at least 8.</li>
+         * <li>{@link #getOpenOptions()}</li>
+         * <li>byteOrder</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link WritableByteChannel}.
+         * @throws IOException                   if an I/O error occurs converting to a {@link WritableByteChannel}.
+         * @see #getChannel(Class)
+         * @see #getUnchecked()
+         */
+        @Override
+        public ChannelDataOutputStream get() throws IOException {
+            return new ChannelDataOutputStream(this);
+        }
+
+        /**
+         * Sets the byte order of multibyte values. Defaults to {@link ByteOrder#BIG_ENDIAN}, the byte order of {@link DataOutput}.
+         *
+         * @param byteOrder The byte order, null resets to the default.
+         * @return {@code this} instance.
+         */
+        public Builder setByteOrder(final ByteOrder byteOrder) {
+            this.byteOrder = byteOrder != null ? byteOrder : ByteOrder.BIG_ENDIAN;
+            return this;
+        }
+    }
+
+    /**
+     * Default size of the buffer, 64 KiB.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The largest number of bytes a char encodes to in modified UTF-8.
+     */
+    private static final int MAX_UTF_BYTES_PER_CHAR = 3;
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final ByteOrder byteOrder;
+    private final WritableByteChannel channel;
+
+    /**
+     * The buffer of bytes not yet written to the channel, replaced by an empty buffer on close.
+     */
+    private ByteBuffer buffer;
+
+    private ChannelDataOutputStream(final Builder builder) throws IOException {
+        this.byteOrder = builder.byteOrder;
+        this.channel = builder.getChannel(WritableByteChannel.class);
+        this.buffer = ByteBuffer.allocate(Math.max(builder.getBufferSize(), Long.BYTES)).order(byteOrder);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            try {
+                drain();
+            } finally {
+                buffer = ByteBuffer.allocate(0);
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel.
+     */
+    private void drain() throws IOException {
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the buffered bytes to the channel.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * Gets the byte order of multibyte values.
+     *
+     * @return The byte order.
+     */
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Gets the buffer with at least {@code length} bytes remaining, writing the buffered bytes to the channel as needed.
+     */
+    private ByteBuffer require(final int length) throws IOException {
+        if (buffer.remaining() < length) {
+            drain();
+        }
+        return buffer;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        IOUtils.checkFromIndexSize(b, off, len);
+        if (len <= buffer.remaining()) {
+            buffer.put(b, off, len);
+            return;
+        }
+        drain();
+        if (len < buffer.capacity()) {
+            buffer.put(b, off, len);
+            return;
+        }
+        final ByteBuffer source = ByteBuffer.wrap(b, off, len);
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        require(Byte.BYTES).put((byte) b);
+    }
+
+    @Override
+    public void writeBoolean(final boolean v) throws IOException {
+        write(v ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(final int v) throws IOException {
+        write(v);
+    }
+
+    @Override
+    public void writeBytes(final String s) throws IOException {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            require(Byte.BYTES).put((byte) s.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeChar(final int v) throws IOException {
+        require(Character.BYTES).putChar((char) v);
+    }
+
+    @Override
+    public void writeChars(final String s) throws IOException {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            require(Character.BYTES).putChar(s.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeDouble(final double v) throws IOException {
+        require(Double.BYTES).putDouble(v);
+    }
+
+    @Override
+    public void writeFloat(final float v) throws IOException {
+        require(Float.BYTES).putFloat(v);
+    }
+
+    @Override
+    public void writeInt(final int v) throws IOException {
+        require(Integer.BYTES).putInt(v);
+    }
+
+    @Override
+    public void writeLong(final long v) throws IOException {
+        require(Long.BYTES).putLong(v);
+    }
+
+    @Override
+    public void writeShort(final int v) throws IOException {
+        require(Short.BYTES).putShort((short) v);
+    }
+
+    @Override
+    public void writeUTF(final String s) throws IOException {
+        final int length = s.length();
+        long utfLength = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            utfLength += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        if (utfLength > 0xFFFF) {
+            throw new UTFDataFormatException("encoded string too long: " + utfLength + " bytes");
+        }
+        writeShort((int) utfLength);
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            final ByteBuffer out = require(MAX_UTF_BYTES_PER_CHAR);
+            if (c >= 0x0001 && c <= 0x007F) {
+                out.put((byte) c);
+            } else if (c <= 0x07FF) {
+                out.put((byte) (0xC0 | c >> 6 & 0x1F));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else {
+                out.put((byte) (0xE0 | c >> 12 & 0x0F));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+}
@@ -23,6 +23,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import org.apache.commons.io.build.AbstractStreamBuilder;
@@ -83,6 +84,9 @@ public static class Builder extends AbstractStreamBuilder<DeferredFileOutputStre
         private String suffix;
         private Path directory;
         private boolean deleteTempFileOnClose = true;
+        private MemoryBudget memoryBudget;
+        private ExecutorService executorService;
+        private long expectedSize;
 
         /**
          * Constructs a new builder of {@link DeferredFileOutputStream}.
@@ -104,6 +108,9 @@ public Builder() {
          * <li>prefix</li>
          * <li>suffix</li>
          * <li>directory</li>
+         * <li>memoryBudget</li>
+         * <li>executorService</li>
+         * <li>expectedSize</li>
          * </ul>
          *
          * @return A new instance.
@@ -155,6 +162,56 @@ public Builder setDirectory(final Path directory) {
             return this;
         }
 
+        /**
+         * Sets the executor service used to spill to disk in the background, {@code null} resets to spilling on the writing thread (the default).
+         * <p>
+         * When set, crossing the threshold opens the output file and returns at once; the data held in memory is copied to the file by a task on this
+         * executor service while new writes are queued in memory, up to the threshold, and appended once the copy completes. {@link #close()} waits for
+         * the copy, so {@link DeferredFileOutputStream#getPath()}, {@link DeferredFileOutputStream#toInputStream()} and
+         * {@link DeferredFileOutputStream#writeTo(OutputStream)} behave the same once the stream is closed.
+         * </p>
+         *
+         * @param executorService The executor service, may be {@code null}.
+         * @return {@code this} instance.
+         * @since 2.23.0
+         */
+        public Builder setExecutorService(final ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Sets the expected final size of the output, in bytes, zero or less for none (the default).
+         * <p>
+         * When set, the output file is extended to this length when the stream spills to disk, as a size hint, and is truncated to the number of bytes
+         * actually written on close. This does not reserve disk space: most file systems create a sparse file. Data is then written with positional
+         * {@link java.nio.channels.FileChannel} writes.
+         * </p>
+         *
+         * @param expectedSize The expected final size of the output, in bytes.
+         * @return {@code this} instance.
+         * @since 2.23.0
+         */
+        public Builder setExpectedSize(final long expectedSize) {
+            this.expectedSize = expectedSize;
+            return this;
+        }
+
+        /**
+         * Sets the memory budget shared with other streams, {@code null} resets to no budget (the default).
+         * <p>
+         * When set, the stream only buffers in memory while the budget allows, and spills to disk before reaching its threshold when the budget asks it to.
+         * </p>
+         *
+         * @param memoryBudget The shared memory budget, may be {@code null}.
+         * @return {@code this} instance.
+         * @since 2.23.0
+         */
+        public Builder setMemoryBudget(final MemoryBudget memoryBudget) {
+            this.memoryBudget = memoryBudget;
+            return this;
+        }
+
         /**
          * Sets the file to which data is saved beyond the threshold.
          *
@@ -284,6 +341,31 @@ private static Path toPath(final Path file, final Supplier<Path> defaultPathSupp
      */
     private final boolean deleteTempFileOnClose;
 
+    /**
+     * The memory budget shared with other streams, may be null.
+     */
+    private final MemoryBudget memoryBudget;
+
+    /**
+     * Spills to disk in the background, may be null.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * The expected final size of the output, zero or less for none.
+     */
+    private final long expectedSize;
+
+    /**
+     * The memory reserved from {@link #memoryBudget}, null when there is no budget.
+     */
+    private final MemoryBudget.Reservation budgetReservation;
+
+    /**
+     * True while this stream spills because {@link #memoryBudget} asked it to.
+     */
+    private boolean budgetSpilling;
+
     /**
      * Constructs an instance of this class which will trigger an event at the specified threshold, and save data either to a file beyond that point.
      *
@@ -296,6 +378,10 @@ private DeferredFileOutputStream(final Builder builder) {
         this.suffix = builder.suffix;
         this.directory = toPath(builder.directory, PathUtils::getTempDirectory);
         this.deleteTempFileOnClose = builder.deleteTempFileOnClose;
+        this.memoryBudget = builder.memoryBudget;
+        this.budgetReservation = memoryBudget != null ? memoryBudget.newReservation(this) : null;
+        this.executorService = builder.executorService;
+        this.expectedSize = builder.expectedSize;
         this.memoryOutputStream = new ByteArrayOutputStream(checkBufferSize(builder.getBufferSize()));
         this.currentOutputStream = memoryOutputStream;
     }
@@ -332,6 +418,10 @@ private DeferredFileOutputStream(final int threshold, final File outputFile, fin
         this.suffix = suffix;
         this.directory = toPath(directory, PathUtils::getTempDirectory);
         this.deleteTempFileOnClose = true;
+        this.memoryBudget = null;
+        this.budgetReservation = null;
+        this.executorService = null;
+        this.expectedSize = 0;
         this.memoryOutputStream = new ByteArrayOutputStream(checkBufferSize(initialBufferSize));
         this.currentOutputStream = memoryOutputStream;
     }
@@ -382,6 +472,28 @@ public DeferredFileOutputStream(final int threshold, final String prefix, final
         this(threshold, null, Objects.requireNonNull(prefix, "prefix"), suffix, directory, AbstractByteArrayOutputStream.DEFAULT_SIZE);
     }
 
+    /**
+     * Checks the threshold and, if a memory budget is set, reserves memory from it, spilling to disk when the budget does not allow more in-memory data.
+     *
+     * @param count The number of bytes about to be written to the underlying output stream.
+     * @throws IOException Thrown if an error occurs.
+     */
+    @Override
+    protected void checkThreshold(final int count) throws IOException {
+        super.checkThreshold(count);
+        if (memoryBudget != null && !isThresholdExceeded()) {
+            final long required = getByteCount() + count;
+            if (budgetReservation.spillRequested || required > budgetReservation.bytes && !memoryBudget.reserve(budgetReservation, required, getThreshold())) {
+                budgetSpilling = true;
+                try {
+                    triggerThresholdReached();
+                } finally {
+                    budgetSpilling = false;
+                }
+            }
+        }
+    }
+
     /**
      * Closes underlying output stream, and marks this as closed. If the output was directed to a temporary file created
      * internally via a prefix/suffix configuration, and {@link Builder#setDeleteTempFileOnClose(boolean)} is
@@ -395,6 +507,9 @@ public void close() throws IOException {
             super.close();
         } finally {
             closed = true;
+            if (memoryBudget != null && isInMemory()) {
+                memoryBudget.release(budgetReservation, false, false);
+            }
             if (tempFile && deleteTempFileOnClose && outputPath != null) {
                 PathUtils.deleteIfExists(PathUtils.clearIfExists(outputPath));
             }
@@ -466,6 +581,17 @@ public boolean isInMemory() {
         return !isThresholdExceeded();
     }
 
+    /**
+     * Returns the reservation of this stream to its memory budget, if any, once the data held in memory has been copied to disk.
+     *
+     * @param forced Whether the memory budget forced the spill.
+     */
+    private void releaseSpilled(final boolean forced) {
+        if (memoryBudget != null) {
+            memoryBudget.release(budgetReservation, true, forced);
+        }
+    }
+
     /**
      * Switches the underlying output stream from a memory based stream to one that is backed by disk. This is the point at which we realize that too much data
      * is being written to keep in memory, so we elect to switch to disk-based storage.
@@ -479,12 +605,21 @@ protected void thresholdReached() throws IOException {
             tempFile = true;
         }
         PathUtils.createParentDirectories(outputPath, null, PathUtils.EMPTY_FILE_ATTRIBUTE_ARRAY);
-        final OutputStream os = Files.newOutputStream(Objects.requireNonNull(outputPath, "Either output file or prefix must be specified."));
-        try {
-            memoryOutputStream.writeTo(os);
-        } catch (final IOException e) {
-            os.close();
-            throw e;
+        Objects.requireNonNull(outputPath, "Either output file or prefix must be specified.");
+        final OutputStream os;
+        if (executorService != null || expectedSize > 0) {
+            // The budget gets its memory back once the copy, possibly in the background, no longer uses the buffer.
+            final boolean forced = budgetSpilling;
+            os = FileChannelSpillOutputStream.open(outputPath, memoryOutputStream, executorService, expectedSize, getThreshold(), () -> releaseSpilled(forced));
+        } else {
+            os = Files.newOutputStream(outputPath);
+            try {
+                memoryOutputStream.writeTo(os);
+            } catch (final IOException e) {
+                os.close();
+                throw e;
+            }
+            releaseSpilled(budgetSpilling);
         }
         currentOutputStream = os;
         memoryOutputStream = null;
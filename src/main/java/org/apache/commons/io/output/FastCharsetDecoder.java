@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes bytes straight from a byte array for US-ASCII, ISO-8859-1, and UTF-8, without staging the bytes in a buffer.
+ * <p>
+ * US-ASCII and ISO-8859-1 use a decoder of their own that reports errors, since the JVM decodes large blocks of these charsets with intrinsics. UTF-8 is
+ * decoded by hand, returning to a tight ASCII loop after each other char.
+ * </p>
+ * <p>
+ * Decoding stops at the first bytes this class cannot decode on its own: a malformed sequence, or a UTF-8 sequence ending the input. The caller then hands
+ * those bytes to its {@link CharsetDecoder}, which applies its error actions. Bytes this class decodes are decoded the same by the {@link CharsetDecoder} of
+ * the charset, whatever its error actions.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+final class FastCharsetDecoder {
+
+    private static boolean isContinuation(final int b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Gets a fast decoder for the charset of the given decoder.
+     *
+     * @param charsetDecoder The decoder the fast decoder stands in for.
+     * @return A new fast decoder, or null if the charset is not supported or the decoder is not the charset's own.
+     */
+    static FastCharsetDecoder of(final CharsetDecoder charsetDecoder) {
+        final Charset charset = charsetDecoder.charset();
+        final CharsetDecoder reportingDecoder = charset.newDecoder();
+        // A custom decoder may decode differently.
+        if (charsetDecoder.getClass() != reportingDecoder.getClass()) {
+            return null;
+        }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return new FastCharsetDecoder(null);
+        }
+        if (StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            return new FastCharsetDecoder(reportingDecoder);
+        }
+        return null;
+    }
+
+    /**
+     * Decodes US-ASCII or ISO-8859-1 and reports errors, or null for UTF-8.
+     */
+    private final CharsetDecoder reportingDecoder;
+
+    private FastCharsetDecoder(final CharsetDecoder reportingDecoder) {
+        this.reportingDecoder = reportingDecoder;
+    }
+
+    /**
+     * Decodes bytes from a byte array into a buffer backed by an array, advancing the buffer's position past the chars decoded.
+     *
+     * @param in  The byte array to decode.
+     * @param off The offset in the byte array.
+     * @param len The number of bytes to decode.
+     * @param out The buffer to fill.
+     * @return The number of bytes decoded.
+     */
+    int decode(final byte[] in, final int off, final int len, final CharBuffer out) {
+        if (reportingDecoder != null) {
+            final ByteBuffer buffer = ByteBuffer.wrap(in, off, len);
+            // Stops at the first malformed byte without consuming it.
+            reportingDecoder.decode(buffer, out, false);
+            return buffer.position() - off;
+        }
+        return decodeUtf8(in, off, len, out);
+    }
+
+    /**
+     * Decodes UTF-8 into a buffer backed by an array.
+     */
+    private int decodeUtf8(final byte[] in, final int off, final int len, final CharBuffer out) {
+        final char[] dst = out.array();
+        final int base = out.arrayOffset();
+        final int outEnd = base + out.limit();
+        final int end = off + len;
+        int i = off;
+        int o = base + out.position();
+        while (i < end && o < outEnd) {
+            int b;
+            while (i < end && o < outEnd && (b = in[i]) >= 0) {
+                dst[o++] = (char) b;
+                i++;
+            }
+            if (i == end || o == outEnd) {
+                break;
+            }
+            b = in[i] & 0xFF;
+            if (b < 0xE0) {
+                final int b1;
+                if (b < 0xC2 || i + 1 == end || !isContinuation(b1 = in[i + 1])) {
+                    break;
+                }
+                dst[o++] = (char) ((b & 0x1F) << 6 | b1 & 0x3F);
+                i += 2;
+            } else if (b < 0xF0) {
+                final int b1;
+                final int b2;
+                if (i + 2 >= end || !isContinuation(b1 = in[i + 1]) || !isContinuation(b2 = in[i + 2])) {
+                    break;
+                }
+                final char c = (char) ((b & 0x0F) << 12 | (b1 & 0x3F) << 6 | b2 & 0x3F);
+                // Rejects overlong forms and surrogates.
+                if (c < 0x800 || Character.isSurrogate(c)) {
+                    break;
+                }
+                dst[o++] = c;
+                i += 3;
+            } else {
+                final int b1;
+                final int b2;
+                final int b3;
+                if (b > 0xF4 || i + 3 >= end || outEnd - o < 2 || !isContinuation(b1 = in[i + 1]) || !isContinuation(b2 = in[i + 2])
+                        || !isContinuation(b3 = in[i + 3])) {
+                    break;
+                }
+                final int cp = (b & 0x07) << 18 | (b1 & 0x3F) << 12 | (b2 & 0x3F) << 6 | b3 & 0x3F;
+                // Rejects overlong forms and code points above U+10FFFF.
+                if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT || cp > Character.MAX_CODE_POINT) {
+                    break;
+                }
+                dst[o++] = Character.highSurrogate(cp);
+                dst[o++] = Character.lowSurrogate(cp);
+                i += 4;
+            }
+        }
+        out.position(o - base);
+        return i - off;
+    }
+}
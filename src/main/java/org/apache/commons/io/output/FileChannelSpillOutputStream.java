@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Writes the spilled data of a {@link DeferredFileOutputStream} to a {@link FileChannel} with positional writes.
+ * <p>
+ * The bytes held in memory when the threshold is crossed are copied to the file either inline or as a task on an {@link ExecutorService}. While the task
+ * runs, new writes are queued in memory, up to a limit, and are appended once the copy completes. The file may be extended to an expected size as a size
+ * hint, in which case it is truncated to the number of bytes actually written on close. Extending a file this way does not reserve disk space, most file
+ * systems create a sparse file.
+ * </p>
+ * <p>
+ * This class is not thread-safe, like {@link DeferredFileOutputStream}.
+ * </p>
+ */
+final class FileChannelSpillOutputStream extends OutputStream {
+
+    /**
+     * Opens a channel on the given file and starts copying the in-memory data to it.
+     *
+     * @param path            The file to write.
+     * @param memory          The data held in memory so far.
+     * @param executorService Runs the copy in the background, or {@code null} to copy inline.
+     * @param expectedSize    The expected final size of the file, used as a size hint, zero or less for none.
+     * @param queueLimit      The maximum number of bytes queued in memory while the copy runs.
+     * @param onCopied        Runs on the writing thread once {@code memory} is no longer needed: after an inline copy succeeded, or once a background copy
+     *                        finished, successfully or not, since the caller then no longer holds the data.
+     * @return A new stream.
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    static FileChannelSpillOutputStream open(final Path path, final ByteArrayOutputStream memory, final ExecutorService executorService,
+            final long expectedSize, final int queueLimit, final Runnable onCopied) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            return new FileChannelSpillOutputStream(channel, memory, executorService, expectedSize, queueLimit, onCopied);
+        } catch (final IOException | RuntimeException e) {
+            IOUtils.closeQuietly(channel, e::addSuppressed);
+            throw e;
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private final FileChannel channel;
+
+    /**
+     * The file position of the next byte written directly to the channel.
+     */
+    private long position;
+
+    /**
+     * The pending background copy, or null once it completed.
+     */
+    private Future<?> pending;
+
+    /**
+     * Writes queued while the background copy runs, or null once it completed.
+     */
+    private UnsynchronizedByteArrayOutputStream queue;
+
+    private final int queueLimit;
+
+    private final long expectedSize;
+
+    /**
+     * Runs once the copy finished, or null once it ran.
+     */
+    private Runnable onCopied;
+
+    /**
+     * The failure of the background copy or of appending the queued writes, rethrown by every later call since the file is then missing data.
+     */
+    private IOException failure;
+
+    private FileChannelSpillOutputStream(final FileChannel channel, final ByteArrayOutputStream memory, final ExecutorService executorService,
+            final long expectedSize, final int queueLimit, final Runnable onCopied) throws IOException {
+        this.channel = channel;
+        this.position = memory.size();
+        this.expectedSize = expectedSize;
+        this.queueLimit = queueLimit;
+        this.onCopied = onCopied;
+        if (executorService == null) {
+            // On failure, the caller keeps the data in memory, so onCopied must not run.
+            copy(memory);
+            copied();
+        } else {
+            this.queue = UnsynchronizedByteArrayOutputStream.builder().get();
+            this.pending = executorService.submit(() -> {
+                copy(memory);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Runs {@link #onCopied} the first time it is called.
+     */
+    private void copied() {
+        final Runnable runnable = onCopied;
+        onCopied = null;
+        if (runnable != null) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Waits for the background copy, if any, and closes the channel, truncating a file extended to its expected size to the bytes actually written.
+     * <p>
+     * The wait is not interrupted, as the copy may still write to the channel: the interrupt status of the thread is restored once the channel is closed.
+     * </p>
+     *
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            checkFailure();
+            return;
+        }
+        final boolean interrupted = awaitCopy();
+        try {
+            complete(true);
+            if (expectedSize > position) {
+                channel.truncate(position);
+            }
+        } finally {
+            channel.close();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits for the background copy, if any, to finish, ignoring interrupts.
+     *
+     * @return Whether the thread was interrupted while waiting, its interrupt status is then cleared.
+     */
+    private boolean awaitCopy() {
+        boolean interrupted = false;
+        while (pending != null && !pending.isDone()) {
+            try {
+                pending.get();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            } catch (final ExecutionException e) {
+                // Handled by complete().
+            }
+        }
+        return interrupted;
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * If the background copy completed, or if {@code wait} is true, waits for it and appends the queued writes.
+     * <p>
+     * If the copy failed, the failure is kept and rethrown by every later call. If the wait is interrupted, the copy is still pending and may still be
+     * running, so later calls wait for it again.
+     * </p>
+     */
+    private void complete(final boolean wait) throws IOException {
+        checkFailure();
+        if (pending == null || !wait && !pending.isDone()) {
+            return;
+        }
+        try {
+            pending.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+        pending = null;
+        final UnsynchronizedByteArrayOutputStream queued = queue;
+        queue = null;
+        copied();
+        checkFailure();
+        try {
+            queued.writeTo(this);
+        } catch (final IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    /**
+     * Extends the file to its expected size, if requested, and copies the in-memory data to the start of the file.
+     */
+    private void copy(final ByteArrayOutputStream memory) throws IOException {
+        if (expectedSize > channel.size()) {
+            writeFully(channel, ByteBuffer.allocate(1), expectedSize - 1);
+        }
+        memory.writeTo(new OutputStream() {
+
+            private long offset;
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                writeFully(channel, ByteBuffer.wrap(b, off, len), offset);
+                offset += len;
+            }
+
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+        });
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        IOUtils.checkFromIndexSize(b, off, len);
+        complete(pending != null && queue.size() + len > queueLimit);
+        if (pending != null) {
+            queue.write(b, off, len);
+            return;
+        }
+        writeFully(channel, ByteBuffer.wrap(b, off, len), position);
+        position += len;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        complete(pending != null && queue.size() >= queueLimit);
+        if (pending != null) {
+            queue.write(b);
+            return;
+        }
+        writeFully(channel, ByteBuffer.wrap(new byte[] { (byte) b }), position);
+        position++;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A memory budget shared by many {@link DeferredFileOutputStream} instances.
+ * <p>
+ * Each {@link DeferredFileOutputStream} normally decides on its own when to spill to disk, based on its threshold. When many streams are open at once, the
+ * sum of their in-memory buffers can grow far beyond what any single threshold suggests. A {@link MemoryBudget} set through
+ * {@link DeferredFileOutputStream.Builder#setMemoryBudget(MemoryBudget)} caps the total number of bytes these streams may buffer in memory.
+ * </p>
+ * <p>
+ * A stream reserves memory from the budget as it grows. The total reserved never exceeds the maximum: when a reservation does not fit, the requesting stream
+ * spills to disk immediately, and the budget asks other streams to spill to make room for later reservations, choosing victims according to its
+ * {@link SpillPolicy}. A stream asked to spill does so on its next write, and its memory is returned to the budget once its buffered data is on disk, which
+ * is later when it spills in the background, or when it is closed.
+ * </p>
+ * <p>
+ * The budget only accounts for streams while they are open: closing a stream that is still in memory returns its reservation even though its data stays
+ * available through {@link DeferredFileOutputStream#getData()}. The budget does not keep streams reachable, the reservation of a stream that is garbage
+ * collected without being closed is returned the next time the budget is used.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see DeferredFileOutputStream.Builder#setMemoryBudget(MemoryBudget)
+ * @since 2.23.0
+ */
+public final class MemoryBudget {
+
+    /**
+     * Chooses which streams a budget asks to spill to disk first when it is exhausted.
+     * <p>
+     * The policy only orders requests: a stream is not thread-safe, so the budget cannot spill it from the thread of another stream. The stream whose
+     * reservation does not fit always spills right away, and the streams chosen by the policy spill on their next write, or never if they are closed
+     * first. Until they do, their memory stays reserved.
+     * </p>
+     */
+    public enum SpillPolicy {
+
+        /**
+         * Asks the streams holding the most memory to spill first.
+         */
+        LARGEST,
+
+        /**
+         * Asks the streams that started buffering earliest to spill first.
+         */
+        OLDEST
+    }
+
+    /**
+     * The memory reserved by a stream, kept apart from the stream so that the budget can return it once the stream is garbage collected without being
+     * closed.
+     */
+    static final class Reservation extends WeakReference<DeferredFileOutputStream> {
+
+        /**
+         * The number of bytes reserved, guarded by the budget.
+         */
+        long bytes;
+
+        /**
+         * Whether the budget asked the stream to spill on its next write, guarded by the budget.
+         */
+        volatile boolean spillRequested;
+
+        Reservation(final DeferredFileOutputStream stream, final ReferenceQueue<? super DeferredFileOutputStream> queue) {
+            super(stream, queue);
+        }
+    }
+
+    /**
+     * The minimum number of bytes a stream reserves at a time, to keep the budget off the write path for small writes.
+     */
+    static final int RESERVATION_INCREMENT = 8192;
+
+    private final long maxBytes;
+
+    private final SpillPolicy spillPolicy;
+
+    /**
+     * Reservations of in-memory streams, in the order they first reserved memory.
+     */
+    private final Set<Reservation> reservations = new LinkedHashSet<>();
+
+    /**
+     * Reservations whose stream was garbage collected.
+     */
+    private final ReferenceQueue<DeferredFileOutputStream> collected = new ReferenceQueue<>();
+
+    /**
+     * Bytes reserved by all streams.
+     */
+    private long usedBytes;
+
+    /**
+     * Bytes reserved by streams that were asked to spill but have not done so yet.
+     */
+    private long pendingBytes;
+
+    private long peakBytes;
+
+    private long spillCount;
+
+    private long forcedSpillCount;
+
+    /**
+     * Constructs a new budget that spills the largest streams first.
+     *
+     * @param maxBytes The maximum number of bytes all streams sharing this budget may hold in memory, zero or greater.
+     * @throws IllegalArgumentException if {@code maxBytes} is negative.
+     */
+    public MemoryBudget(final long maxBytes) {
+        this(maxBytes, SpillPolicy.LARGEST);
+    }
+
+    /**
+     * Constructs a new budget.
+     *
+     * @param maxBytes    The maximum number of bytes all streams sharing this budget may hold in memory, zero or greater.
+     * @param spillPolicy Chooses which streams spill first when the budget is exhausted.
+     * @throws IllegalArgumentException if {@code maxBytes} is negative.
+     * @throws NullPointerException     if {@code spillPolicy} is {@code null}.
+     */
+    public MemoryBudget(final long maxBytes, final SpillPolicy spillPolicy) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be at least 0: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.spillPolicy = Objects.requireNonNull(spillPolicy, "spillPolicy");
+    }
+
+    /**
+     * Gets the number of spills forced by this budget, as opposed to spills caused by a stream's own threshold.
+     *
+     * @return The number of forced spills.
+     */
+    public synchronized long getForcedSpillCount() {
+        return forcedSpillCount;
+    }
+
+    /**
+     * Gets the maximum number of bytes all streams sharing this budget may hold in memory.
+     *
+     * @return The maximum number of bytes.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Gets the highest number of bytes reserved at any one time.
+     *
+     * @return The peak number of reserved bytes.
+     */
+    public synchronized long getPeakBytes() {
+        return peakBytes;
+    }
+
+    /**
+     * Gets the number of streams sharing this budget that spilled to disk, whether forced by this budget or by their own threshold.
+     *
+     * @return The number of spills.
+     */
+    public synchronized long getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Gets the policy choosing which streams spill first.
+     *
+     * @return The spill policy.
+     */
+    public SpillPolicy getSpillPolicy() {
+        return spillPolicy;
+    }
+
+    /**
+     * Gets the number of open streams currently holding memory from this budget.
+     *
+     * @return The number of streams.
+     */
+    public synchronized int getStreamCount() {
+        releaseCollected();
+        return reservations.size();
+    }
+
+    /**
+     * Gets the number of bytes currently reserved by open in-memory streams.
+     *
+     * @return The number of reserved bytes.
+     */
+    public synchronized long getUsedBytes() {
+        releaseCollected();
+        return usedBytes;
+    }
+
+    /**
+     * Creates the reservation of a new stream, empty until the stream reserves memory.
+     *
+     * @param stream The stream.
+     * @return A new reservation.
+     */
+    Reservation newReservation(final DeferredFileOutputStream stream) {
+        return new Reservation(stream, collected);
+    }
+
+    /**
+     * Returns the memory of a reservation to this budget.
+     */
+    private void release(final Reservation reservation) {
+        if (reservations.remove(reservation)) {
+            usedBytes -= reservation.bytes;
+            if (reservation.spillRequested) {
+                pendingBytes -= reservation.bytes;
+            }
+            reservation.bytes = 0;
+        }
+    }
+
+    /**
+     * Returns the reservation of a stream to this budget.
+     *
+     * @param reservation The reservation of the stream.
+     * @param spilled     Whether the stream spilled to disk, as opposed to being closed in memory.
+     * @param forced      Whether this budget forced the spill.
+     */
+    synchronized void release(final Reservation reservation, final boolean spilled, final boolean forced) {
+        release(reservation);
+        if (spilled) {
+            spillCount++;
+            if (forced) {
+                forcedSpillCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the reservations of streams garbage collected without being closed.
+     */
+    private void releaseCollected() {
+        Reference<? extends DeferredFileOutputStream> reference;
+        while ((reference = collected.poll()) != null) {
+            release((Reservation) reference);
+        }
+    }
+
+    /**
+     * Asks other streams to spill until {@code needed} more bytes are pending release, stopping early when the remaining streams are preferred to the
+     * requesting stream by the spill policy.
+     */
+    private void requestSpills(final Reservation requester, final long requesterBytes, long needed) {
+        if (spillPolicy == SpillPolicy.OLDEST) {
+            for (final Reservation reservation : reservations) {
+                if (needed <= 0 || reservation == requester) {
+                    return;
+                }
+                if (!reservation.spillRequested) {
+                    needed -= requestSpill(reservation);
+                }
+            }
+            return;
+        }
+        while (needed > 0) {
+            Reservation largest = null;
+            for (final Reservation reservation : reservations) {
+                if (reservation != requester && !reservation.spillRequested && (largest == null || reservation.bytes > largest.bytes)) {
+                    largest = reservation;
+                }
+            }
+            if (largest == null || largest.bytes < requesterBytes) {
+                return;
+            }
+            needed -= requestSpill(largest);
+        }
+    }
+
+    private long requestSpill(final Reservation reservation) {
+        reservation.spillRequested = true;
+        pendingBytes += reservation.bytes;
+        return reservation.bytes;
+    }
+
+    /**
+     * Reserves memory for a stream so that it may hold {@code required} bytes in memory.
+     *
+     * @param reservation The reservation of the stream.
+     * @param required    The total number of bytes the stream needs to hold.
+     * @param threshold   The threshold of the stream, the most it will ever reserve.
+     * @return {@code true} if the reservation fits, {@code false} if the stream must spill to disk.
+     */
+    synchronized boolean reserve(final Reservation reservation, final long required, final long threshold) {
+        releaseCollected();
+        final long reserved = reservation.bytes;
+        if (required <= reserved) {
+            return true;
+        }
+        final long available = maxBytes - usedBytes;
+        long delta = Math.min(Math.max(required, reserved + RESERVATION_INCREMENT), Math.max(required, threshold)) - reserved;
+        if (delta > available) {
+            // Fall back to the exact amount before spilling.
+            delta = required - reserved;
+        }
+        if (delta > available) {
+            // Memory of streams asked to spill is only returned once they do, so this stream spills now and the spills requested here make room for
+            // later reservations.
+            final long overflow = delta - available - pendingBytes;
+            if (overflow > 0) {
+                requestSpills(reservation, reserved + delta, overflow);
+            }
+            return false;
+        }
+        reservations.add(reservation);
+        reservation.bytes = reserved + delta;
+        usedBytes += delta;
+        peakBytes = Math.max(peakBytes, usedBytes);
+        return true;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MemoryBudget [maxBytes=" + maxBytes + ", spillPolicy=" + spillPolicy + ", usedBytes=" + usedBytes + ", pendingBytes=" + pendingBytes
+                + ", streams=" + reservations.size() + ", spillCount=" + spillCount + ", forcedSpillCount=" + forcedSpillCount + "]";
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
+/**
+ * An output stream decorator that records {@link IOMetrics}: bytes and write operations, and time blocked in writes.
+ * <p>
+ * To build an instance, call {@link #builder()}.
+ * </p>
+ *
+ * @see Builder
+ * @see IOMetrics
+ * @since 2.23.0
+ */
+public class MeteredOutputStream extends ProxyOutputStream {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MeteredOutputStream}.
+     *
+     * <pre>{@code
+     * MeteredOutputStream out = MeteredOutputStream.builder()
+     *   .setPath(path)
+     *   .setMetrics(metrics.newChild())
+     *   .get();
+     * }
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<MeteredOutputStream, Builder> {
+
+        private IOMetrics metrics;
+
+        /**
+         * Constructs a new builder of {@link MeteredOutputStream}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link MeteredOutputStream}.
+         * <p>
+         * You must set an aspect that supports {@link #getOutputStream()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getOutputStream()} gets the target aspect.</li>
+         * <li>metrics, defaults to a new {@link IOMetrics}.</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to an {@link OutputStream}.
+         * @throws IOException                   if an I/O error occurs converting to an {@link OutputStream} using {@link #getOutputStream()}.
+         * @see #getOutputStream()
+         * @see #getUnchecked()
+         */
+        @Override
+        public MeteredOutputStream get() throws IOException {
+            return new MeteredOutputStream(this);
+        }
+
+        /**
+         * Sets the metrics to record.
+         *
+         * @param metrics The metrics to record, {@code null} resets to a new {@link IOMetrics}.
+         * @return {@code this} instance.
+         */
+        public Builder setMetrics(final IOMetrics metrics) {
+            this.metrics = metrics;
+            return asThis();
+        }
+
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final IOMetrics metrics;
+    private long startNanos;
+
+    private MeteredOutputStream(final Builder builder) throws IOException {
+        super(builder.getOutputStream());
+        this.metrics = builder.metrics != null ? builder.metrics : new IOMetrics();
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param out     The output stream to delegate to.
+     * @param metrics The metrics to record.
+     * @throws NullPointerException if {@code metrics} is {@code null}.
+     */
+    public MeteredOutputStream(final OutputStream out, final IOMetrics metrics) {
+        super(out);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Records the write in the metrics.
+     *
+     * @param n The number of bytes written.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void afterWrite(final int n) throws IOException {
+        metrics.recordWrite(n, System.nanoTime() - startNanos);
+        super.afterWrite(n);
+    }
+
+    /**
+     * Starts timing the write.
+     *
+     * @param n The number of bytes to write.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void beforeWrite(final int n) throws IOException {
+        super.beforeWrite(n);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the metrics recorded by this stream.
+     *
+     * @return The metrics.
+     */
+    public IOMetrics getMetrics() {
+        return metrics;
+    }
+}
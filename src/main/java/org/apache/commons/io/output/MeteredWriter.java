@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.build.AbstractStreamBuilder;
+
+/**
+ * A writer decorator that records {@link IOMetrics}: chars and write operations, and time blocked in writes.
+ * <p>
+ * To build an instance, call {@link #builder()}.
+ * </p>
+ *
+ * @see Builder
+ * @see IOMetrics
+ * @since 2.23.0
+ */
+public class MeteredWriter extends ProxyWriter {
+
+    // @formatter:off
+    /**
+     * Builds a new {@link MeteredWriter}.
+     *
+     * <pre>{@code
+     * MeteredWriter writer = MeteredWriter.builder()
+     *   .setPath(path)
+     *   .setMetrics(metrics.newChild())
+     *   .get();
+     * }
+     * </pre>
+     *
+     * @see #get()
+     */
+    // @formatter:on
+    public static class Builder extends AbstractStreamBuilder<MeteredWriter, Builder> {
+
+        private IOMetrics metrics;
+
+        /**
+         * Constructs a new builder of {@link MeteredWriter}.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Builds a new {@link MeteredWriter}.
+         * <p>
+         * You must set an aspect that supports {@link #getWriter()}, otherwise, this method throws an exception.
+         * </p>
+         * <p>
+         * This builder uses the following aspects:
+         * </p>
+         * <ul>
+         * <li>{@link #getWriter()} gets the target aspect.</li>
+         * <li>metrics, defaults to a new {@link IOMetrics}.</li>
+         * </ul>
+         *
+         * @return A new instance.
+         * @throws IllegalStateException         if the {@code origin} is {@code null}.
+         * @throws UnsupportedOperationException if the origin cannot be converted to a {@link Writer}.
+         * @throws IOException                   if an I/O error occurs converting to a {@link Writer} using {@link #getWriter()}.
+         * @see #getWriter()
+         * @see #getUnchecked()
+         */
+        @Override
+        public MeteredWriter get() throws IOException {
+            return new MeteredWriter(this);
+        }
+
+        /**
+         * Sets the metrics to record.
+         *
+         * @param metrics The metrics to record, {@code null} resets to a new {@link IOMetrics}.
+         * @return {@code this} instance.
+         */
+        public Builder setMetrics(final IOMetrics metrics) {
+            this.metrics = metrics;
+            return asThis();
+        }
+
+    }
+
+    /**
+     * Constructs a new {@link Builder}.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final IOMetrics metrics;
+    private long startNanos;
+
+    private MeteredWriter(final Builder builder) throws IOException {
+        super(builder.getWriter());
+        this.metrics = builder.metrics != null ? builder.metrics : new IOMetrics();
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param out     The writer to delegate to.
+     * @param metrics The metrics to record.
+     * @throws NullPointerException if {@code metrics} is {@code null}.
+     */
+    public MeteredWriter(final Writer out, final IOMetrics metrics) {
+        super(out);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Records the write in the metrics.
+     *
+     * @param n The number of chars written.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void afterWrite(final int n) throws IOException {
+        metrics.recordWrite(n, System.nanoTime() - startNanos);
+        super.afterWrite(n);
+    }
+
+    /**
+     * Starts timing the write.
+     *
+     * @param n The number of chars to write.
+     * @throws IOException Thrown by a subclass.
+     */
+    @Override
+    protected void beforeWrite(final int n) throws IOException {
+        super.beforeWrite(n);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the metrics recorded by this writer.
+     *
+     * @return The metrics.
+     */
+    public IOMetrics getMetrics() {
+        return metrics;
+    }
+}
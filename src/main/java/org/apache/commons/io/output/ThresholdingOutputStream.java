@@ -110,13 +110,7 @@ public ThresholdingOutputStream(final int threshold, final IOConsumer<Thresholdi
      */
     protected void checkThreshold(final int count) throws IOException {
         if (!thresholdExceeded && written + count > threshold) {
-            thresholdExceeded = true;
-            try {
-                thresholdReached();
-            } catch (final IOException | RuntimeException e) {
-                thresholdExceeded = false;
-                throw e;
-            }
+            triggerThresholdReached();
         }
     }
 
@@ -229,6 +223,21 @@ protected void thresholdReached() throws IOException {
         thresholdConsumer.accept(this);
     }
 
+    /**
+     * Marks the threshold as exceeded and triggers the event, regardless of the number of bytes written so far.
+     *
+     * @throws IOException Thrown if an error occurs.
+     */
+    void triggerThresholdReached() throws IOException {
+        thresholdExceeded = true;
+        try {
+            thresholdReached();
+        } catch (final IOException | RuntimeException e) {
+            thresholdExceeded = false;
+            throw e;
+        }
+    }
+
     /**
      * Writes {@code b.length} bytes from the specified byte array to this output stream.
      *
@@ -73,6 +73,10 @@
  * known to represent character data that must be decoded for further use.
  * </p>
  * <p>
+ * For US-ASCII, ISO-8859-1, and UTF-8, bytes are decoded straight from the array passed to {@link #write(byte[], int, int)}; the {@link CharsetDecoder} only
+ * decodes the bytes that need its error handling, such as malformed bytes, and UTF-8 sequences split across writes.
+ * </p>
+ * <p>
  * Instances of {@link WriterOutputStream} are not thread safe.
  * </p>
  *
@@ -255,6 +259,11 @@ private static CharsetDecoder newDecoder(final Charset charset) {
      */
     private final CharBuffer decoderOut;
 
+    /**
+     * Decodes common charsets without {@link #decoderIn}, or null.
+     */
+    private final FastCharsetDecoder fastDecoder;
+
     @SuppressWarnings("resource") // caller closes.
     private WriterOutputStream(final Builder builder) throws IOException {
         this(builder.getWriter(), builder.charsetDecoder, builder.getBufferSize(), builder.writeImmediately);
@@ -335,6 +344,7 @@ public WriterOutputStream(final Writer writer, final CharsetDecoder decoder, fin
         this.decoder = CharsetDecoders.toCharsetDecoder(decoder);
         this.writeImmediately = writeImmediately;
         this.decoderOut = CharBuffer.allocate(bufferSize);
+        this.fastDecoder = FastCharsetDecoder.of(this.decoder);
     }
 
     /**
@@ -455,6 +465,19 @@ public void write(final byte[] b) throws IOException {
     public void write(final byte[] b, int off, int len) throws IOException {
         IOUtils.checkFromIndexSize(b, off, len);
         while (len > 0) {
+            // The fast decoder only starts on a fresh sequence, bytes left in decoderIn wait for the CharsetDecoder.
+            if (fastDecoder != null && decoderIn.position() == 0) {
+                final int n = fastDecoder.decode(b, off, len, decoderOut);
+                len -= n;
+                off += n;
+                if (!decoderOut.hasRemaining()) {
+                    flushOutput();
+                    continue;
+                }
+                if (n > 0) {
+                    continue;
+                }
+            }
             final int c = Math.min(len, decoderIn.remaining());
             decoderIn.put(b, off, c);
             processInput(false);
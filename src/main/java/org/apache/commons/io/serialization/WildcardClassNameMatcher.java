@@ -19,6 +19,7 @@
 package org.apache.commons.io.serialization;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.WildcardMatcher;
 
 /**
  * A {@link ClassNameMatcher} that uses simplified regular expressions
@@ -29,7 +30,7 @@
  */
 final class WildcardClassNameMatcher implements ClassNameMatcher {
 
-    private final String pattern;
+    private final WildcardMatcher matcher;
 
     /**
      * Constructs an object based on the specified simplified regular expression.
@@ -37,11 +38,11 @@ final class WildcardClassNameMatcher implements ClassNameMatcher {
      * @param pattern A {@link FilenameUtils#wildcardMatch} pattern.
      */
     WildcardClassNameMatcher(final String pattern) {
-        this.pattern = pattern;
+        this.matcher = WildcardMatcher.compile(pattern);
     }
 
     @Override
     public boolean matches(final String className) {
-        return FilenameUtils.wildcardMatch(className, pattern);
+        return matcher.matches(className);
     }
 }
\ No newline at end of file
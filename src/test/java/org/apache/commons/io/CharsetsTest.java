@@ -17,11 +17,13 @@
 
 package org.apache.commons.io;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -94,6 +96,32 @@ void testIsAlias(final Charset charset, final String charsetAlias) {
         assertFalse(Charsets.isAlias(charset, null));
     }
 
+    @Test
+    void testIsAsciiCompatible() {
+        assertTrue(Charsets.isAsciiCompatible(StandardCharsets.UTF_8));
+        assertTrue(Charsets.isAsciiCompatible(StandardCharsets.US_ASCII));
+        assertTrue(Charsets.isAsciiCompatible(StandardCharsets.ISO_8859_1));
+        assertFalse(Charsets.isAsciiCompatible(StandardCharsets.UTF_16));
+        assertFalse(Charsets.isAsciiCompatible(StandardCharsets.UTF_16BE));
+        assertFalse(Charsets.isAsciiCompatible(StandardCharsets.UTF_16LE));
+        if (Charset.isSupported("windows-1252")) {
+            assertTrue(Charsets.isAsciiCompatible(Charset.forName("windows-1252")));
+        }
+        if (Charset.isSupported("IBM1047")) {
+            // EBCDIC does not extend US-ASCII.
+            assertFalse(Charsets.isAsciiCompatible(Charset.forName("IBM1047")));
+        }
+        assertEquals(Charsets.isAsciiCompatible(Charset.defaultCharset()), Charsets.isAsciiCompatible(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("availableCharsetsValues")
+    void testIsAsciiCompatibleEncodesAsciiAsIs(final Charset charset) {
+        assumeTrue(Charsets.isAsciiCompatible(charset));
+        final String ascii = "\r\n\t 09AZaz~";
+        assertArrayEquals(ascii.getBytes(StandardCharsets.US_ASCII), ascii.getBytes(charset), charset::name);
+    }
+
     @Test
     void testIso8859_1() {
         assertEquals("ISO-8859-1", Charsets.ISO_8859_1.name());
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.io;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -23,6 +24,7 @@
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -124,6 +126,37 @@ void testReadSwappedUnsignedShort() throws IOException {
         assertEquals(0x00000102, EndianUtils.readSwappedUnsignedShort(input));
     }
 
+    @Test
+    void testReadSwappedArrays() throws IOException {
+        // More values than fit in one staging buffer.
+        final int count = 5000;
+        final byte[] bytes = new byte[count * 8 + 1];
+        new Random(0).nextBytes(bytes);
+        final short[] shorts = new short[count + 2];
+        EndianUtils.readSwappedShorts(new ByteArrayInputStream(bytes), shorts, 1, count);
+        final int[] ints = new int[count + 2];
+        EndianUtils.readSwappedInts(new ByteArrayInputStream(bytes), ints, 1, count);
+        final long[] longs = new long[count + 2];
+        EndianUtils.readSwappedLongs(new ByteArrayInputStream(bytes), longs, 1, count);
+        final float[] floats = new float[count + 2];
+        EndianUtils.readSwappedFloats(new ByteArrayInputStream(bytes), floats, 1, count);
+        final double[] doubles = new double[count + 2];
+        EndianUtils.readSwappedDoubles(new ByteArrayInputStream(bytes), doubles, 1, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(EndianUtils.readSwappedShort(bytes, i * 2), shorts[i + 1]);
+            assertEquals(EndianUtils.readSwappedInteger(bytes, i * 4), ints[i + 1]);
+            assertEquals(EndianUtils.readSwappedLong(bytes, i * 8), longs[i + 1]);
+            assertEquals(Float.floatToRawIntBits(EndianUtils.readSwappedFloat(bytes, i * 4)), Float.floatToRawIntBits(floats[i + 1]));
+            assertEquals(Double.doubleToRawLongBits(EndianUtils.readSwappedDouble(bytes, i * 8)), Double.doubleToRawLongBits(doubles[i + 1]));
+        }
+        assertEquals(0, ints[0]);
+        assertEquals(0, ints[count + 1]);
+        EndianUtils.readSwappedInts(new ByteArrayInputStream(bytes), ints, 0, 0);
+        assertThrows(EOFException.class, () -> EndianUtils.readSwappedInts(new ByteArrayInputStream(new byte[7]), new int[2], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> EndianUtils.readSwappedInts(new ByteArrayInputStream(bytes), new int[2], 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> EndianUtils.readSwappedLongs(new ByteArrayInputStream(bytes), new long[2], -1, 1));
+    }
+
     @Test
     void testSwapDouble() {
         assertEquals(0.0, EndianUtils.swapDouble(0.0), 0.0);
@@ -217,6 +250,48 @@ void testUnsignedOverrun() throws Exception {
         assertEquals(expected, actual, "readSwappedUnsignedInteger(InputStream) was incorrect");
     }
 
+    @Test
+    void testWriteSwappedArrays() throws IOException {
+        final int count = 5000;
+        final Random random = new Random(0);
+        final short[] shorts = new short[count];
+        final int[] ints = new int[count];
+        final long[] longs = new long[count];
+        final float[] floats = new float[count];
+        final double[] doubles = new double[count];
+        for (int i = 0; i < count; i++) {
+            shorts[i] = (short) random.nextInt();
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            floats[i] = random.nextFloat();
+            doubles[i] = random.nextDouble();
+        }
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        for (int i = 1; i < count - 1; i++) {
+            EndianUtils.writeSwappedShort(expected, shorts[i]);
+        }
+        for (int i = 1; i < count - 1; i++) {
+            EndianUtils.writeSwappedInteger(expected, ints[i]);
+        }
+        for (int i = 1; i < count - 1; i++) {
+            EndianUtils.writeSwappedLong(expected, longs[i]);
+        }
+        for (int i = 1; i < count - 1; i++) {
+            EndianUtils.writeSwappedFloat(expected, floats[i]);
+        }
+        for (int i = 1; i < count - 1; i++) {
+            EndianUtils.writeSwappedDouble(expected, doubles[i]);
+        }
+        EndianUtils.writeSwappedShorts(actual, shorts, 1, count - 2);
+        EndianUtils.writeSwappedInts(actual, ints, 1, count - 2);
+        EndianUtils.writeSwappedLongs(actual, longs, 1, count - 2);
+        EndianUtils.writeSwappedFloats(actual, floats, 1, count - 2);
+        EndianUtils.writeSwappedDoubles(actual, doubles, 1, count - 2);
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> EndianUtils.writeSwappedFloats(actual, floats, count, 1));
+    }
+
     @Test
     void testWriteSwappedDouble() throws IOException {
         byte[] bytes = new byte[8];
@@ -387,6 +387,54 @@ void testFileCleanerFile() throws Exception {
         assertFalse(new File(path).exists(), showFailures());
     }
 
+    @Test
+    void testConstructorRejectsParallelism0() {
+        assertThrows(IllegalArgumentException.class, () -> new FileCleaningTracker(0));
+    }
+
+    @Test
+    void testDeleteFailureCount() throws Exception {
+        final File dir = new File(tempDirFile, "dir");
+        assertTrue(dir.mkdir());
+        TestUtils.createFile(new File(dir, "file"), 1);
+        // FileCleanerTest runs this test on a shared instance, so only count what this test adds.
+        final long deleteFailureCount = fileCleaningTracker.getDeleteFailureCount();
+        final long deleteCount = fileCleaningTracker.getDeleteCount();
+        // The normal strategy does not delete a non-empty directory.
+        fileCleaningTracker.track(dir, new Object());
+        waitUntilTrackCount0();
+        for (int i = 0; i < 20 && fileCleaningTracker.getDeleteFailureCount() == deleteFailureCount; i++) {
+            TestUtils.sleep(500);
+        }
+        assertEquals(deleteFailureCount + 1, fileCleaningTracker.getDeleteFailureCount());
+        assertEquals(deleteCount, fileCleaningTracker.getDeleteCount());
+        final List<String> deleteFailures = fileCleaningTracker.getDeleteFailures();
+        assertEquals(dir.getPath(), deleteFailures.get(deleteFailures.size() - 1));
+    }
+
+    @Test
+    void testFileCleanerManyFilesParallel() throws Exception {
+        fileCleaningTracker = new FileCleaningTracker(4);
+        final int count = FileCleaningTracker.BATCH_SIZE * 4;
+        final List<File> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final File file = new File(tempDirFile, "file" + i);
+            TestUtils.createFile(file, 1);
+            files.add(file);
+            fileCleaningTracker.track(file, new Object());
+        }
+        assertEquals(count, fileCleaningTracker.getTotalTrackCount());
+        waitUntilTrackCount0();
+        for (int i = 0; i < 20 && fileCleaningTracker.getDeleteCount() < count; i++) {
+            TestUtils.sleep(500);
+        }
+        assertEquals(count, fileCleaningTracker.getDeleteCount(), this::showFailures);
+        assertEquals(0, fileCleaningTracker.getDeleteFailureCount());
+        for (final File file : files) {
+            assertFalse(file.exists(), file::getPath);
+        }
+    }
+
     @Test
     void testFileCleanerNull() {
         assertThrows(NullPointerException.class, () -> fileCleaningTracker.track((File) null, new Object()));
@@ -26,6 +26,7 @@
 import java.io.IOException;
 import java.nio.file.Files;
 
+import org.apache.commons.io.file.BackgroundDeleter;
 import org.apache.commons.io.test.TestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -38,6 +39,25 @@ class FileDeleteStrategyTest {
     @TempDir
     public File temporaryFolder;
 
+    @Test
+    void testDeleteBackground() throws Exception {
+        final File subDir = new File(temporaryFolder, "test");
+        assertTrue(subDir.mkdir());
+        final File subFile = new File(subDir, "a.txt");
+        TestUtils.createFile(subFile, 16);
+        try (BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(new File(temporaryFolder, "trash").toPath()).get()) {
+            final FileDeleteStrategy strategy = FileDeleteStrategy.background(deleter);
+            // delete dir
+            strategy.delete(subDir);
+            assertFalse(subDir.exists());
+            assertFalse(subFile.exists());
+            // delete none
+            assertTrue(strategy.deleteQuietly(subDir));
+            assertEquals("FileDeleteStrategy[Background]", strategy.toString());
+        }
+        assertThrows(NullPointerException.class, () -> FileDeleteStrategy.background(null));
+    }
+
     @Test
     void testDeleteForce() throws Exception {
         final File baseDir = temporaryFolder;
@@ -46,6 +46,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
@@ -70,11 +71,14 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -84,11 +88,13 @@
 import org.apache.commons.io.file.AbstractTempDirTest;
 import org.apache.commons.io.file.Counters.PathCounters;
 import org.apache.commons.io.file.NioFileSystem;
+import org.apache.commons.io.file.ParallelPathWalker;
 import org.apache.commons.io.file.PathUtils;
 import org.apache.commons.io.file.TempDirectory;
 import org.apache.commons.io.file.TempFile;
 import org.apache.commons.io.filefilter.IOFileFilter;
 import org.apache.commons.io.filefilter.NameFileFilter;
+import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.apache.commons.io.test.TestUtils;
 import org.apache.commons.lang3.SystemProperties;
@@ -1512,6 +1518,37 @@ void testDeleteDirectoryNoopIfAbsent() {
         assertDoesNotThrow(() -> FileUtils.deleteDirectory(new File("does not exist.nope")));
     }
 
+    @Test
+    void testDeleteDirectoryParallel() throws IOException {
+        final ParallelPathWalker walker = ParallelPathWalker.builder().setParallelism(2).get();
+        final Path target = Files.createDirectory(tempDirPath.resolve("target"));
+        final Path targetFile = Files.createFile(target.resolve("file"));
+        final Path dir = Files.createDirectories(tempDirPath.resolve("dir").resolve("sub"));
+        for (int i = 0; i < 100; i++) {
+            Files.createFile(dir.resolve("file" + i));
+        }
+        Files.createSymbolicLink(dir.resolve("link"), target);
+        FileUtils.deleteDirectory(dir.getParent().toFile(), walker);
+        assertFalse(Files.exists(dir.getParent()));
+        // Links are deleted, not followed.
+        assertTrue(Files.exists(targetFile));
+        assertThrows(IllegalArgumentException.class, () -> FileUtils.deleteDirectory(testFile1, walker));
+        assertDoesNotThrow(() -> FileUtils.deleteDirectory(new File("does not exist.nope"), walker));
+    }
+
+    @Test
+    void testDeleteDirectoryParallelFollowLinksWalker() throws IOException {
+        final Path outside = Files.createDirectory(managedTempDirPath.resolve("outside"));
+        final Path precious = Files.createFile(outside.resolve("precious.txt"));
+        final Path dir = Files.createDirectories(tempDirPath.resolve("dir").resolve("sub"));
+        Files.createSymbolicLink(dir.resolve("link"), outside);
+        final ParallelPathWalker walker = ParallelPathWalker.builder().setFileVisitOptions(EnumSet.of(FileVisitOption.FOLLOW_LINKS)).get();
+        FileUtils.deleteDirectory(dir.getParent().toFile(), walker);
+        assertFalse(Files.exists(dir.getParent()));
+        // The walker's option to follow links is ignored.
+        assertTrue(Files.exists(precious));
+    }
+
     @Test
     void testDeleteDirectorySymbolicLink() throws IOException {
         final Path symlinkedDir = createTempSymbolicLinkedRelativeDir().getLeft();
@@ -2272,6 +2309,39 @@ void testIterateFilesAndDirs() throws IOException {
         iterateFilesAndDirs(subDir1, fileFilterExtTxt, new NameFileFilter("subdir2"), expectedFilesAndDirs);
     }
 
+    @Test
+    void testIterateFilesAndDirsSymbolicLinkLoop() throws IOException {
+        final File root = new File(tempDirFile, "root");
+        assertMkdir(true, root);
+        final File subDir = new File(root, "subdir");
+        assertMkdir(true, subDir);
+        final File file = new File(subDir, "a.txt");
+        assertCreateNewFile(file);
+        final File loop = new File(subDir, "loop");
+        Files.createSymbolicLink(loop.toPath(), root.toPath());
+        final List<File> actual = new ArrayList<>();
+        FileUtils.iterateFilesAndDirs(root, TrueFileFilter.INSTANCE, TrueFileFilter.INSTANCE).forEachRemaining(actual::add);
+        assertEquals(new HashSet<>(Arrays.asList(root, subDir, file)), new HashSet<>(actual));
+        assertEquals(3, actual.size());
+    }
+
+    @Test
+    void testIterateFilesDirectoryDeletedWhileIterating() throws Exception {
+        final File root = new File(tempDirFile, "root");
+        assertMkdir(true, root);
+        final File subDir = new File(root, "subdir");
+        assertMkdir(true, subDir);
+        assertCreateNewFile(new File(subDir, "a.txt"));
+        assertCreateNewFile(new File(subDir, "b.txt"));
+        final Iterator<File> iterator = FileUtils.iterateFiles(root, TrueFileFilter.INSTANCE, TrueFileFilter.INSTANCE);
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.next().isFile());
+        // The iterator holds no open directory stream, entries deleted meanwhile are skipped.
+        FileUtils.deleteDirectory(subDir);
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
     @Test
     void testIterateFilesOnlyNoDirs() throws IOException {
         final File directory = tempDirFile;
@@ -19,11 +19,22 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
 
 import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.io.test.ThrowOnCloseInputStream;
 import org.apache.commons.io.test.ThrowOnCloseOutputStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests {@link HexDump}.
@@ -94,6 +105,45 @@ void testDumpAppendable() throws IOException {
         assertThrows(NullPointerException.class, () -> HexDump.dump(testArray, 0x10000000, null, 0, testArray.length));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 15, 16, 17, 8191, 8192, 8193, 100_000 })
+    void testDumpChannel(final int size) throws IOException {
+        final byte[] data = randomBytes(size);
+        final StringWriter out = new StringWriter();
+        assertEquals(size, HexDump.dump(Channels.newChannel(new ByteArrayInputStream(data)), 0x10000000, out));
+        assertEquals(dumpArray(data, 0x10000000), out.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 15, 16, 17, 8191, 8192, 8193, 100_000 })
+    void testDumpInputStream(final int size) throws IOException {
+        final byte[] data = randomBytes(size);
+        final StringBuilder out = new StringBuilder();
+        // Short reads must not produce short lines.
+        final InputStream input = new FilterInputStream(new ThrowOnCloseInputStream(new ByteArrayInputStream(data))) {
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+        assertEquals(size, HexDump.dump(input, out));
+        assertEquals(dumpArray(data, 0), out.toString());
+    }
+
+    @Test
+    void testDumpInputStreamToAppendable() throws IOException {
+        final byte[] data = randomBytes(1000);
+        final String expected = dumpArray(data, 0xFF000000L);
+        final CharBuffer out = CharBuffer.allocate(expected.length());
+        assertEquals(data.length, HexDump.dump(new ByteArrayInputStream(data), 0xFF000000L, out));
+        out.flip();
+        assertEquals(expected, out.toString());
+        assertThrows(NullPointerException.class, () -> HexDump.dump((InputStream) null, new StringBuilder()));
+        assertThrows(NullPointerException.class, () -> HexDump.dump(new ByteArrayInputStream(data), null));
+        assertThrows(NullPointerException.class, () -> HexDump.dump((ReadableByteChannel) null, new StringBuilder()));
+        assertThrows(NullPointerException.class, () -> HexDump.dump(Channels.newChannel(new ByteArrayInputStream(data)), null));
+    }
+
     @Test
     void testDumpOutputStream() throws IOException {
         final byte[] testArray = new byte[256];
@@ -258,6 +308,20 @@ void testDumpOutputStream() throws IOException {
         HexDump.dump(testArray, 0, new ThrowOnCloseOutputStream(new ByteArrayOutputStream()), 0);
     }
 
+    private String dumpArray(final byte[] data, final long offset) throws IOException {
+        final StringBuilder out = new StringBuilder();
+        if (data.length > 0) {
+            HexDump.dump(data, offset, out, 0, data.length);
+        }
+        return out.toString();
+    }
+
+    private byte[] randomBytes(final int size) {
+        final byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
     private char toAscii(final int c) {
         char rval = '.';
 
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link IOMetricsMXBeans}.
+ */
+class IOMetricsMXBeansTest {
+
+    @Test
+    void testRegister() throws Exception {
+        final IOMetrics metrics = new IOMetrics();
+        metrics.recordWrite(42, 0);
+        final ObjectName objectName = IOMetricsMXBeans.register(metrics, "testRegister");
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertTrue(server.isRegistered(objectName));
+            assertEquals(IOMetricsMXBeans.JMX_DOMAIN, objectName.getDomain());
+            assertEquals(42L, server.getAttribute(objectName, "WriteUnits"));
+        } finally {
+            IOMetricsMXBeans.unregister(objectName);
+        }
+        assertFalse(server.isRegistered(objectName));
+    }
+}
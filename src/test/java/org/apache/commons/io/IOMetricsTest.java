@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link IOMetrics}.
+ */
+class IOMetricsTest {
+
+    @Test
+    void testChildRecordsIntoParent() {
+        final IOMetrics parent = new IOMetrics();
+        final IOMetrics child1 = parent.newChild();
+        final IOMetrics child2 = parent.newChild();
+        assertNull(parent.getParent());
+        assertSame(parent, child1.getParent());
+        child1.recordRead(10, 5);
+        child2.recordRead(20, 7);
+        child2.recordWrite(3, 1);
+        child1.recordFirstByte(100);
+        assertEquals(10, child1.getReadUnits());
+        assertEquals(20, child2.getReadUnits());
+        assertEquals(30, parent.getReadUnits());
+        assertEquals(2, parent.getReadCount());
+        assertEquals(12, parent.getReadNanos());
+        assertEquals(3, parent.getWriteUnits());
+        assertEquals(1, parent.getWriteCount());
+        assertEquals(1, parent.getFirstByteCount());
+        assertEquals(100, parent.getFirstByteNanos());
+        child1.reset();
+        assertEquals(0, child1.getReadUnits());
+        assertEquals(30, parent.getReadUnits());
+    }
+
+    @Test
+    void testReadSizeHistogram() {
+        final IOMetrics metrics = new IOMetrics();
+        metrics.recordRead(IOUtils.EOF, 0);
+        metrics.recordRead(0, 0);
+        metrics.recordRead(1, 0);
+        metrics.recordRead(2, 0);
+        metrics.recordRead(3, 0);
+        metrics.recordRead(4, 0);
+        metrics.recordRead(Integer.MAX_VALUE, 0);
+        final long[] histogram = metrics.getReadSizeHistogram();
+        assertEquals(IOMetrics.HISTOGRAM_SIZE, histogram.length);
+        assertEquals(2, histogram[0]);
+        assertEquals(1, histogram[1]);
+        assertEquals(2, histogram[2]);
+        assertEquals(1, histogram[3]);
+        assertEquals(1, histogram[31]);
+        assertEquals(7, metrics.getReadCount());
+        metrics.reset();
+        assertArrayEquals(new long[IOMetrics.HISTOGRAM_SIZE], metrics.getReadSizeHistogram());
+    }
+}
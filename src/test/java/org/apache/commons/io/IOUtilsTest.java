@@ -106,6 +106,7 @@
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -1195,6 +1196,40 @@ void testCopyLarge_SkipWithInvalidOffset() throws IOException {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "US-ASCII", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16LE" })
+    void testCountLines(final String charsetName) throws IOException {
+        final Charset charset = Charset.forName(charsetName);
+        final StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 40_000; i++) {
+            big.append("line ").append(i).append(i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\n" : "\r");
+        }
+        final String[] inputs = { "", "a", "\r", "\n", "\r\n", "\n\r", "\r\r\n\n", "a\r\nb", "a\rb\nc\r\n", "a\u0085b\u2028c\u00e9\n\u20ac",
+                big.toString(), big.append("last").toString() };
+        for (final String input : inputs) {
+            final byte[] bytes = input.getBytes(charset);
+            final int expected = IOUtils.readLines(new ByteArrayInputStream(bytes), charset).size();
+            assertEquals(expected, IOUtils.countLines(new ByteArrayInputStream(bytes), charset), input);
+            assertEquals(IOUtils.readLines(new StringReader(input)).size(), IOUtils.countLines(new StringReader(input)), input);
+        }
+        assertThrows(NullPointerException.class, () -> IOUtils.countLines(null, charset));
+        assertThrows(NullPointerException.class, () -> IOUtils.countLines(null));
+    }
+
+    @Test
+    void testCountLinesCrLfAcrossReads() throws IOException {
+        // A CR ending one read of the internal buffer and a LF starting the next make one line terminator.
+        final byte[] bytes = new byte[128 * 1024];
+        Arrays.fill(bytes, (byte) 'a');
+        for (int i = 1023; i + 1 < bytes.length; i += 1024) {
+            bytes[i] = '\r';
+            bytes[i + 1] = '\n';
+        }
+        final long expected = IOUtils.readLines(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8).size();
+        assertEquals(expected, IOUtils.countLines(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        assertEquals(expected, IOUtils.countLines(new CharArrayReader(new String(bytes, StandardCharsets.UTF_8).toCharArray())));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidRead_InputStream_Offset_ArgumentsProvider")
     void testRead_InputStream_Offset_ArgumentsValidation(final InputStream input, final byte[] b, final int off, final int len,
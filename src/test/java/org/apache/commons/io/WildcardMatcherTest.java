@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link WildcardMatcher}.
+ */
+class WildcardMatcherTest {
+
+    /**
+     * Matches by exhaustive recursion, the reference for the compiled matcher.
+     */
+    private static boolean referenceMatch(final String name, final int n, final String pattern, final int p, final boolean sensitive) {
+        if (p == pattern.length()) {
+            return n == name.length();
+        }
+        final char c = pattern.charAt(p);
+        if (c == '*') {
+            for (int i = n; i <= name.length(); i++) {
+                if (referenceMatch(name, i, pattern, p + 1, sensitive)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return n < name.length() && (c == '?' || name.regionMatches(!sensitive, n, pattern, p, 1)) && referenceMatch(name, n + 1, pattern, p + 1, sensitive);
+    }
+
+    private static String randomString(final Random random, final String alphabet, final int maxLength) {
+        final StringBuilder builder = new StringBuilder();
+        final int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testCaseInsensitive() {
+        final WildcardMatcher matcher = WildcardMatcher.compile("*.TXT", IOCase.INSENSITIVE);
+        assertTrue(matcher.matches("c.txt"));
+        assertTrue(matcher.matches("C.TxT"));
+        assertFalse(matcher.matches("c.txt1"));
+        assertTrue(WildcardMatcher.compile("\u03A3*", IOCase.INSENSITIVE).matches("\u03C2abc"));
+        assertTrue(WildcardMatcher.compile("?\u0130", IOCase.INSENSITIVE).matches("ii"));
+        assertFalse(WildcardMatcher.compile("*.TXT", IOCase.SENSITIVE).matches("c.txt"));
+    }
+
+    @Test
+    void testGetters() {
+        final WildcardMatcher matcher = WildcardMatcher.compile("*.txt", null);
+        assertEquals("*.txt", matcher.getPattern());
+        assertEquals(IOCase.SENSITIVE, matcher.getIoCase());
+        assertEquals(IOCase.INSENSITIVE, WildcardMatcher.compile("*.txt", IOCase.INSENSITIVE).getIoCase());
+        assertTrue(matcher.toString().contains("*.txt"));
+    }
+
+    @Test
+    void testMatches() {
+        assertTrue(WildcardMatcher.compile("").matches(""));
+        assertFalse(WildcardMatcher.compile("").matches("a"));
+        assertTrue(WildcardMatcher.compile("*").matches(""));
+        assertTrue(WildcardMatcher.compile("***").matches("abc"));
+        assertFalse(WildcardMatcher.compile("?").matches(""));
+        assertTrue(WildcardMatcher.compile("a*?").matches("aaa"));
+        assertTrue(WildcardMatcher.compile("*?").matches("aaa"));
+        assertTrue(WildcardMatcher.compile("*a*b*c").matches("xaybzabc"));
+        assertFalse(WildcardMatcher.compile("*a*b*c").matches("xaybzabcd"));
+        assertTrue(WildcardMatcher.compile("a/b/*").matches("a/b/c.txt"));
+        assertFalse(WildcardMatcher.compile("*.????").matches("c.txt"));
+        assertFalse(WildcardMatcher.compile("ab*ba").matches("aba"));
+        assertTrue(WildcardMatcher.compile("ab*ba").matches("abba"));
+    }
+
+    @Test
+    void testMatchesRandomAgainstReference() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final String pattern = randomString(random, "abAB*?", 6);
+            final String name = randomString(random, "abAB", 8);
+            for (final IOCase ioCase : new IOCase[] { IOCase.SENSITIVE, IOCase.INSENSITIVE }) {
+                final boolean expected = referenceMatch(name, 0, pattern, 0, ioCase.isCaseSensitive());
+                assertEquals(expected, WildcardMatcher.compile(pattern, ioCase).matches(name), () -> name + " " + pattern + " " + ioCase);
+                assertEquals(expected, FilenameUtils.wildcardMatch(name, pattern, ioCase), () -> name + " " + pattern + " " + ioCase);
+            }
+        }
+    }
+
+    /**
+     * Tests runs of consecutive wildcards, formerly covered by tests of {@code FilenameUtils.splitOnTokens(String)}.
+     */
+    @Test
+    void testMatchesWildcardRuns() {
+        assertTrue(WildcardMatcher.compile("Ad*er").matches("Adder"));
+        assertTrue(WildcardMatcher.compile("Ad?er").matches("Adder"));
+        assertFalse(WildcardMatcher.compile("Ad?er").matches("Ader"));
+        assertTrue(WildcardMatcher.compile("Test*?One").matches("Test1One"));
+        assertFalse(WildcardMatcher.compile("Test*?One").matches("TestOne"));
+        assertTrue(WildcardMatcher.compile("Test?*One").matches("Test123One"));
+        assertTrue(WildcardMatcher.compile("****").matches(""));
+        assertTrue(WildcardMatcher.compile("*??*").matches("ab"));
+        assertFalse(WildcardMatcher.compile("*??*").matches("a"));
+        assertTrue(WildcardMatcher.compile("*?**?*").matches("ab"));
+        assertFalse(WildcardMatcher.compile("*?***?*").matches("a"));
+        assertTrue(WildcardMatcher.compile("h??*").matches("hello"));
+        assertFalse(WildcardMatcher.compile("h??*").matches("he"));
+    }
+
+    @Test
+    void testNull() {
+        final WildcardMatcher nullMatcher = WildcardMatcher.compile(null);
+        assertNull(nullMatcher.getPattern());
+        assertTrue(nullMatcher.matches(null));
+        assertFalse(nullMatcher.matches(""));
+        assertFalse(WildcardMatcher.compile("*").matches(null));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.channels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MeteredReadableByteChannel}.
+ */
+class MeteredReadableByteChannelTest {
+
+    @Test
+    void testBuilder() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        try (MeteredReadableByteChannel<ReadableByteChannel> channel = MeteredReadableByteChannel.builder().setMetrics(metrics)
+                .setChannel(ByteArraySeekableByteChannel.wrap(new byte[10])).get()) {
+            assertSame(metrics, channel.getMetrics());
+            assertEquals(10, channel.read(ByteBuffer.allocate(20)));
+        }
+        assertEquals(10, metrics.getReadUnits());
+        try (MeteredReadableByteChannel<ReadableByteChannel> channel = MeteredReadableByteChannel.builder()
+                .setChannel(ByteArraySeekableByteChannel.wrap(new byte[10])).get()) {
+            assertNotNull(channel.getMetrics());
+        }
+    }
+
+    @Test
+    void testRead() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        try (MeteredReadableByteChannel<ByteArraySeekableByteChannel> channel = new MeteredReadableByteChannel<>(
+                ByteArraySeekableByteChannel.wrap(new byte[10]), metrics)) {
+            assertSame(metrics, channel.getMetrics());
+            assertEquals(6, channel.read(ByteBuffer.allocate(6)));
+            assertEquals(4, channel.read(ByteBuffer.allocate(6)));
+            assertEquals(IOUtils.EOF, channel.read(ByteBuffer.allocate(6)));
+        }
+        assertEquals(10, metrics.getReadUnits());
+        assertEquals(3, metrics.getReadCount());
+        assertEquals(1, metrics.getFirstByteCount());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.channels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.commons.io.IOMetrics;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MeteredWritableByteChannel}.
+ */
+class MeteredWritableByteChannelTest {
+
+    @Test
+    void testBuilder() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final ByteArraySeekableByteChannel target = new ByteArraySeekableByteChannel();
+        try (MeteredWritableByteChannel<WritableByteChannel> channel = MeteredWritableByteChannel.builder().setMetrics(metrics).setChannel(target).get()) {
+            assertSame(metrics, channel.getMetrics());
+            assertEquals(4, channel.write(ByteBuffer.allocate(4)));
+        }
+        assertEquals(4, metrics.getWriteUnits());
+        try (MeteredWritableByteChannel<WritableByteChannel> channel = MeteredWritableByteChannel.builder()
+                .setChannel(new ByteArraySeekableByteChannel()).get()) {
+            assertNotNull(channel.getMetrics());
+        }
+    }
+
+    @Test
+    void testWrite() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final ByteArraySeekableByteChannel target = new ByteArraySeekableByteChannel();
+        try (MeteredWritableByteChannel<ByteArraySeekableByteChannel> channel = new MeteredWritableByteChannel<>(target, metrics)) {
+            assertSame(metrics, channel.getMetrics());
+            assertEquals(6, channel.write(ByteBuffer.allocate(6)));
+            assertEquals(4, channel.write(ByteBuffer.allocate(4)));
+            assertEquals(10, target.size());
+        }
+        assertEquals(10, metrics.getWriteUnits());
+        assertEquals(2, metrics.getWriteCount());
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.io.comparator;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -24,8 +25,11 @@
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -91,6 +95,28 @@ void testSortArray() {
         assertSame(moreFile, files[2], "more");
     }
 
+    /**
+     * Test the comparator parallel array sort.
+     */
+    @Test
+    void testParallelSortArray() {
+        final File[] files = { equalFile1, moreFile, lessFile };
+        assertSame(files, comparator.parallelSort(files));
+        assertArrayEquals(new File[] { lessFile, equalFile1, moreFile }, files);
+        assertNull(comparator.parallelSort((File[]) null));
+    }
+
+    /**
+     * Test the comparator parallel list sort.
+     */
+    @Test
+    void testParallelSortList() {
+        final List<File> files = new ArrayList<>(Arrays.asList(equalFile1, moreFile, lessFile));
+        assertSame(files, comparator.parallelSort(files));
+        assertEquals(Arrays.asList(lessFile, equalFile1, moreFile), files);
+        assertNull(comparator.parallelSort((List<File>) null));
+    }
+
     /**
      * Test comparator array sort is null safe.
      */
@@ -114,6 +140,37 @@ void testSortList() {
         assertSame(moreFile, files.get(2), "more");
     }
 
+    private void assertSortMatchesCompare(final int copies) {
+        final List<File> list = new ArrayList<>();
+        for (int i = 0; i < copies; i++) {
+            list.addAll(Arrays.asList(equalFile1, equalFile2, lessFile, moreFile));
+        }
+        Collections.shuffle(list, new Random(1));
+        for (final AbstractFileComparator sorter : Arrays.asList(comparator, (AbstractFileComparator) reverse)) {
+            final File[] expected = list.toArray(new File[0]);
+            Arrays.sort(expected, (Comparator<File>) (file1, file2) -> sorter.compare(file1, file2));
+            assertArrayEquals(expected, sorter.sort(list.toArray(new File[0])), sorter::toString);
+            assertArrayEquals(expected, sorter.parallelSort(list.toArray(new File[0])), sorter::toString);
+            assertEquals(Arrays.asList(expected), sorter.sort(new ArrayList<>(list)), sorter::toString);
+        }
+    }
+
+    /**
+     * Tests that sorting on keys read once gives the same order as sorting with {@link Comparator#compare(Object, Object)}, which is stable.
+     */
+    @Test
+    void testSortMatchesCompare() {
+        assertSortMatchesCompare(25);
+    }
+
+    /**
+     * Tests {@link #testSortMatchesCompare()} on enough files for the parallel sort to split the work.
+     */
+    @Test
+    void testSortMatchesCompareLarge() {
+        assertSortMatchesCompare(2_500);
+    }
+
     /**
      * Test comparator list sort is null safe.
      */
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import static org.apache.commons.io.file.CounterAssertions.assertCounts;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link BackgroundDeleter}.
+ */
+class BackgroundDeleterTest extends AbstractTempDirTest {
+
+    private Path createTree(final String name) throws IOException {
+        final Path dir = Files.createDirectories(tempDirPath.resolve(name).resolve("sub"));
+        Files.write(dir.resolve("file1"), new byte[] { 1 });
+        Files.write(dir.getParent().resolve("file2"), new byte[] { 1, 2 });
+        return dir.getParent();
+    }
+
+    private boolean isEmpty(final Path dir) throws IOException {
+        return PathUtils.isEmptyDirectory(dir);
+    }
+
+    @Test
+    void testBuilder() {
+        assertThrows(IllegalStateException.class, () -> BackgroundDeleter.builder().get());
+        assertThrows(IllegalArgumentException.class, () -> BackgroundDeleter.builder().setConcurrency(0));
+    }
+
+    @Test
+    void testClean() throws Exception {
+        final Path dir = createTree("dir");
+        final Path trash = dir.resolve(".trash");
+        try (BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(trash).get()) {
+            // The trash directory inside the cleaned directory is left in place.
+            assertCounts(2, 2, 3, deleter.clean(dir).get(10, TimeUnit.SECONDS));
+            try (Stream<Path> stream = Files.list(dir)) {
+                assertEquals(1, stream.count());
+            }
+            assertTrue(isEmpty(trash));
+        }
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        final BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(tempDirPath.resolve("trash")).get();
+        deleter.close();
+        assertThrows(IllegalStateException.class, () -> deleter.delete(tempDirPath));
+        assertThrows(IllegalStateException.class, () -> deleter.clean(tempDirPath));
+    }
+
+    @Test
+    void testDelete() throws Exception {
+        final Path dir = createTree("dir");
+        final Path file = Files.createFile(tempDirPath.resolve("file"));
+        try (BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(tempDirPath.resolve("trash")).setConcurrency(2).get()) {
+            final Future<Counters.PathCounters> dirFuture = deleter.delete(dir);
+            assertFalse(Files.exists(dir));
+            final Future<Counters.PathCounters> fileFuture = deleter.delete(file);
+            assertFalse(Files.exists(file));
+            assertCounts(3, 2, 3, dirFuture.get(10, TimeUnit.SECONDS));
+            assertCounts(1, 1, 0, fileFuture.get(10, TimeUnit.SECONDS));
+            assertTrue(isEmpty(deleter.getTrashDirectory()));
+            assertThrows(NoSuchFileException.class, () -> deleter.delete(dir));
+            assertTrue(isEmpty(deleter.getTrashDirectory()));
+        }
+    }
+
+    @Test
+    void testQueueDepth() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        final ExecutorService executor = new AbstractExecutorService() {
+
+            @Override
+            public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+                return true;
+            }
+
+            @Override
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return false;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return false;
+            }
+
+            @Override
+            public void shutdown() {
+                // empty
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return tasks;
+            }
+        };
+        try (BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(tempDirPath.resolve("trash")).setExecutorService(executor).get()) {
+            final Future<Counters.PathCounters> future1 = deleter.delete(createTree("dir1"));
+            final Future<Counters.PathCounters> future2 = deleter.delete(createTree("dir2"));
+            assertEquals(2, deleter.getQueueDepth());
+            // Concurrency 1: one worker drains the queue.
+            assertEquals(1, tasks.size());
+            assertFalse(future1.isDone());
+            tasks.remove(0).run();
+            assertTrue(future1.isDone());
+            assertTrue(future2.isDone());
+            assertEquals(0, deleter.getQueueDepth());
+            assertTrue(tasks.isEmpty());
+        }
+    }
+
+    @Test
+    void testRejected() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(tempDirPath.resolve("trash")).setExecutorService(executor).get()) {
+            executor.shutdown();
+            final Future<Counters.PathCounters> future = deleter.delete(createTree("dir"));
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+            assertEquals(0, deleter.getQueueDepth());
+            // The path stays in the trash for the next instance.
+            assertFalse(isEmpty(deleter.getTrashDirectory()));
+        }
+    }
+
+    @Test
+    void testRecoverLeftovers() throws Exception {
+        final Path trash = Files.createDirectory(tempDirPath.resolve("trash"));
+        Files.move(createTree("dir"), trash.resolve("purge-leftover"));
+        // Files that were not created by a deleter survive.
+        final Path keep = Files.write(trash.resolve("keep"), new byte[] { 1 });
+        final Path keepDir = Files.move(createTree("keepDir"), trash.resolve("keepDir"));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (BackgroundDeleter deleter = BackgroundDeleter.builder().setTrashDirectory(trash).setExecutorService(executor).get()) {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(0, deleter.getQueueDepth());
+            assertFalse(Files.exists(trash.resolve("purge-leftover")));
+            assertTrue(Files.exists(keep));
+            assertTrue(Files.exists(keepDir.resolve("sub").resolve("file1")));
+            try (Stream<Path> stream = Files.list(trash)) {
+                assertEquals(2, stream.count());
+            }
+        }
+    }
+}
@@ -20,9 +20,21 @@
 import static org.apache.commons.io.file.CounterAssertions.assertCounter;
 import static org.apache.commons.io.file.CounterAssertions.assertCounts;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.FileVisitResult;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.file.Counters.Counter;
 import org.apache.commons.io.file.Counters.PathCounters;
+import org.apache.commons.io.filefilter.NameFileFilter;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -31,6 +43,71 @@
  */
 class CountersTest extends TestArguments {
 
+    @Test
+    void testConcurrentBigIntegerCounterOverflow() {
+        final Counter counter = Counters.concurrentBigIntegerCounter();
+        counter.add(Long.MAX_VALUE);
+        counter.add(Long.MAX_VALUE);
+        counter.increment();
+        final BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.ONE);
+        assertEquals(expected, counter.getBigInteger());
+        assertEquals(expected.toString(), counter.toString());
+        assertThrows(ArithmeticException.class, counter::get);
+        counter.add(-Long.MAX_VALUE);
+        counter.add(-Long.MAX_VALUE);
+        assertEquals(1, counter.get());
+        counter.add(Long.MAX_VALUE);
+        counter.reset();
+        assertEquals(BigInteger.ZERO, counter.getBigInteger());
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrentCounters")
+    void testConcurrentIncrements(final Counter counter) throws Exception {
+        final int threads = 8;
+        final int increments = 100_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    for (int j = 0; j < increments; j++) {
+                        counter.increment();
+                        counter.add(2);
+                    }
+                });
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        assertEquals(3L * threads * increments, counter.get());
+        assertEquals(BigInteger.valueOf(3L * threads * increments), counter.getBigInteger());
+    }
+
+    @Test
+    void testCountingPathVisitorIsThreadSafe() {
+        assertTrue(new CountingPathVisitor(Counters.concurrentLongPathCounters()).isThreadSafe());
+        assertTrue(new CountingPathVisitor(Counters.concurrentBigIntegerPathCounters()).isThreadSafe());
+        assertFalse(CountingPathVisitor.withLongCounters().isThreadSafe());
+        assertFalse(AccumulatorPathVisitor.builder().setPathCounters(Counters.concurrentLongPathCounters()).get().isThreadSafe());
+        // Only explicitly thread-safe configurations opt in.
+        assertTrue(new CountingPathVisitor.Builder().setPathCounters(Counters.concurrentLongPathCounters()).get().isThreadSafe());
+        assertFalse(new CountingPathVisitor.Builder().setPathCounters(Counters.concurrentLongPathCounters()).setFileFilter(new NameFileFilter("a")).get()
+                .isThreadSafe());
+        assertFalse(new CountingPathVisitor.Builder().setPathCounters(Counters.concurrentLongPathCounters()).setDirectoryFilter(new NameFileFilter("a")).get()
+                .isThreadSafe());
+        assertFalse(new CountingPathVisitor.Builder().setPathCounters(Counters.concurrentLongPathCounters())
+                .setVisitFileFailedFunction((file, exc) -> FileVisitResult.CONTINUE).get().isThreadSafe());
+        assertFalse(new DeletingPathVisitor(Counters.concurrentLongPathCounters()).isThreadSafe());
+        assertFalse(new CountingPathVisitor(Counters.concurrentLongPathCounters()) {
+            // A subclass must opt in.
+        }.isThreadSafe());
+    }
+
     @ParameterizedTest
     @MethodSource("numberCounters")
     void testInitialValue(final Counter counter) {
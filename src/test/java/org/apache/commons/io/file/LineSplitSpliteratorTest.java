@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link LineSplitSpliterator}.
+ */
+class LineSplitSpliteratorTest extends AbstractTempDirTest {
+
+    private static final int BUFFER_SIZE = 16;
+
+    private static void splitAll(final Spliterator<String> spliterator, final List<String> lines) {
+        final Spliterator<String> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitAll(prefix, lines);
+            splitAll(spliterator, lines);
+        } else {
+            spliterator.forEachRemaining(lines::add);
+        }
+    }
+
+    private Path newFile(final String content, final Charset charset) throws IOException {
+        return Files.write(tempDirPath.resolve("lines.txt"), content.getBytes(charset));
+    }
+
+    private LineSplitSpliterator newSpliterator(final Path path, final Charset charset) throws IOException {
+        return LineSplitSpliterator.builder().setPath(path).setCharset(charset).setBufferSize(BUFFER_SIZE).get();
+    }
+
+    private String newText(final String lineEnding) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append("line ").append(i).append(i % 7 == 0 ? " é€😀" : "").append(lineEnding);
+            if (i % 50 == 0) {
+                builder.append(lineEnding);
+            }
+        }
+        return builder.append("last").toString();
+    }
+
+    @Test
+    void testCharsets() {
+        assertTrue(LineSplitSpliterator.isSplittable(StandardCharsets.UTF_8));
+        assertTrue(LineSplitSpliterator.isSplittable(StandardCharsets.US_ASCII));
+        assertTrue(LineSplitSpliterator.isSplittable(StandardCharsets.ISO_8859_1));
+        assertFalse(LineSplitSpliterator.isSplittable(StandardCharsets.UTF_16));
+        assertFalse(LineSplitSpliterator.isSplittable(StandardCharsets.UTF_16BE));
+    }
+
+    @Test
+    void testDoesNotSplitAfterTraversal() throws IOException {
+        try (LineSplitSpliterator spliterator = newSpliterator(newFile(newText("\n"), StandardCharsets.UTF_8), StandardCharsets.UTF_8)) {
+            assertTrue(spliterator.tryAdvance(line -> assertEquals("line 0 é€😀", line)));
+            assertNull(spliterator.trySplit());
+        }
+    }
+
+    @Test
+    void testDoesNotSplitUtf16() throws IOException {
+        final String text = newText("\n");
+        final Path path = newFile(text, StandardCharsets.UTF_16);
+        try (LineSplitSpliterator spliterator = newSpliterator(path, StandardCharsets.UTF_16)) {
+            assertNull(spliterator.trySplit());
+            final List<String> lines = new ArrayList<>();
+            spliterator.forEachRemaining(lines::add);
+            assertEquals(Files.readAllLines(path, StandardCharsets.UTF_16), lines);
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        try (LineSplitSpliterator spliterator = newSpliterator(newFile("", StandardCharsets.UTF_8), StandardCharsets.UTF_8)) {
+            assertNull(spliterator.trySplit());
+            assertFalse(spliterator.tryAdvance(line -> { }));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "\n", "\r\n", "\r" })
+    void testLineEndings(final String lineEnding) throws IOException {
+        final Path path = newFile(newText(lineEnding), StandardCharsets.UTF_8);
+        try (LineSplitSpliterator spliterator = newSpliterator(path, StandardCharsets.UTF_8)) {
+            final List<String> lines = new ArrayList<>();
+            splitAll(spliterator, lines);
+            assertEquals(Files.readAllLines(path, StandardCharsets.UTF_8), lines);
+        }
+    }
+
+    @Test
+    void testParallelStream() throws IOException {
+        final Path path = newFile(newText("\n"), StandardCharsets.UTF_8);
+        try (Stream<String> stream = PathUtils.lines(path, StandardCharsets.UTF_8)) {
+            assertEquals(Files.readAllLines(path, StandardCharsets.UTF_8), stream.parallel().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testSplitsOnLineBoundaries() throws IOException {
+        final Path path = newFile(newText("\r\n"), StandardCharsets.UTF_8);
+        try (LineSplitSpliterator spliterator = newSpliterator(path, StandardCharsets.UTF_8)) {
+            final Spliterator<String> prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            final List<String> lines = new ArrayList<>();
+            prefix.forEachRemaining(lines::add);
+            spliterator.forEachRemaining(lines::add);
+            assertEquals(Files.readAllLines(path, StandardCharsets.UTF_8), lines);
+        }
+    }
+
+    @Test
+    void testTrailingLineEnding() throws IOException {
+        final Path path = newFile("a\n\nb\n", StandardCharsets.UTF_8);
+        try (LineSplitSpliterator spliterator = newSpliterator(path, StandardCharsets.UTF_8)) {
+            final List<String> lines = new ArrayList<>();
+            spliterator.forEachRemaining(lines::add);
+            assertEquals(Files.readAllLines(path, StandardCharsets.UTF_8), lines);
+        }
+    }
+}
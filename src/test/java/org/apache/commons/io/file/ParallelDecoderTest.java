@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link ParallelDecoder}.
+ */
+class ParallelDecoderTest extends AbstractTempDirTest {
+
+    private static final int MIN_CHUNK_SIZE = 4096;
+
+    private static final int SIZE = 3 * MIN_CHUNK_SIZE + 123;
+
+    private void assertReadString(final byte[] bytes, final Charset charset) throws IOException {
+        final Path path = Files.write(tempDirPath.resolve("file.txt"), bytes);
+        final String expected = new String(bytes, charset);
+        for (int chunks = 1; chunks <= 4; chunks++) {
+            assertEquals(expected, ParallelDecoder.readString(path, charset, chunks, MIN_CHUNK_SIZE, Long.MAX_VALUE), "heap, chunks " + chunks);
+            assertEquals(expected, ParallelDecoder.readString(path, charset, chunks, MIN_CHUNK_SIZE, 0), "mapped, chunks " + chunks);
+        }
+        assertEquals(expected, PathUtils.readString(path, charset, true));
+        assertEquals(expected, FileUtils.readFileToString(path.toFile(), charset, true));
+    }
+
+    private byte[] newText(final Random random, final String alphabet, final Charset charset) {
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < SIZE) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString().getBytes(charset);
+    }
+
+    @Test
+    void testAscii() throws IOException {
+        assertReadString(newText(new Random(1), "abc xyz\n{}\":,0123", StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testIsSplittable() {
+        assertTrue(ParallelDecoder.isSplittable(StandardCharsets.UTF_8));
+        assertTrue(ParallelDecoder.isSplittable(StandardCharsets.US_ASCII));
+        assertTrue(ParallelDecoder.isSplittable(StandardCharsets.ISO_8859_1));
+        assertFalse(ParallelDecoder.isSplittable(StandardCharsets.UTF_16));
+        assertFalse(ParallelDecoder.isSplittable(StandardCharsets.UTF_16LE));
+        if (Charset.isSupported("IBM1047")) {
+            // EBCDIC does not extend US-ASCII.
+            assertFalse(ParallelDecoder.isSplittable(Charset.forName("IBM1047")));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "UTF-8", "US-ASCII", "ISO-8859-1", "windows-1252" })
+    void testRandomBytes(final String charsetName) throws IOException {
+        // Random bytes are mostly malformed UTF-8 and US-ASCII, and include unmappable windows-1252 bytes.
+        final byte[] bytes = new byte[SIZE];
+        new Random(2).nextBytes(bytes);
+        assertReadString(bytes, Charset.forName(charsetName));
+    }
+
+    @Test
+    void testSmallFile() throws IOException {
+        assertReadString(new byte[0], StandardCharsets.UTF_8);
+        assertReadString("café".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testUtf16() throws IOException {
+        assertReadString(newText(new Random(3), "abé€😀", StandardCharsets.UTF_16), StandardCharsets.UTF_16);
+    }
+
+    @Test
+    void testUtf8() throws IOException {
+        // Mostly ASCII with characters of 2, 3, and 4 bytes, so that chunk boundaries fall inside characters.
+        assertReadString(newText(new Random(4), "abcdefghijé€😀", StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
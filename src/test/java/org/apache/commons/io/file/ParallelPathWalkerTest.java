@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.test.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ParallelPathWalker}.
+ */
+class ParallelPathWalkerTest extends AbstractTempDirTest {
+
+    /**
+     * Records visitor calls from many threads.
+     */
+    private static class RecordingVisitor extends SimplePathVisitor {
+
+        private final Set<Path> files = ConcurrentHashMap.newKeySet();
+        private final Set<Path> preDirs = ConcurrentHashMap.newKeySet();
+        private final Set<Path> postDirs = ConcurrentHashMap.newKeySet();
+        private final Set<Path> skippedDirs = ConcurrentHashMap.newKeySet();
+        private final Set<Path> failedPaths = ConcurrentHashMap.newKeySet();
+        private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+            // All entries of the directory must have been visited first.
+            try (Stream<Path> stream = Files.list(dir)) {
+                stream.forEach(entry -> assertTrue(files.contains(entry) || postDirs.contains(entry) || skippedDirs.contains(entry)
+                        || failedPaths.contains(entry), entry::toString));
+            }
+            postDirs.add(dir);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) throws IOException {
+            preDirs.add(dir);
+            final FileVisitResult result = preVisitResult(dir);
+            if (result != FileVisitResult.CONTINUE) {
+                skippedDirs.add(dir);
+            }
+            return result;
+        }
+
+        FileVisitResult preVisitResult(final Path dir) {
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+            files.add(file);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException exc) throws IOException {
+            failedPaths.add(file);
+            failures.add(exc);
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    private static final int WIDTH = 4;
+
+    private int fileCount;
+
+    private int dirCount;
+
+    private void createTree(final Path dir, final int depth) throws IOException {
+        dirCount++;
+        for (int i = 0; i < WIDTH; i++) {
+            Files.write(dir.resolve("file" + i + ".txt"), new byte[i]);
+            fileCount++;
+            if (depth > 0) {
+                createTree(Files.createDirectory(dir.resolve("dir" + i)), depth - 1);
+            }
+        }
+    }
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        createTree(tempDirPath, 3);
+    }
+
+    @Test
+    void testMatchesWalkFileTree() throws IOException {
+        final AccumulatorPathVisitor expected = PathUtils.visitFileTree(AccumulatorPathVisitor.withLongCounters(), tempDirPath);
+        final AccumulatorPathVisitor actual = ParallelPathWalker.builder().setParallelism(4).get().walk(tempDirPath, AccumulatorPathVisitor.withLongCounters());
+        assertEquals(fileCount, actual.getPathCounters().getFileCounter().get());
+        assertEquals(dirCount, actual.getPathCounters().getDirectoryCounter().get());
+        assertEquals(expected.getPathCounters(), actual.getPathCounters());
+        assertEquals(expected.relativizeFiles(tempDirPath, true, null), actual.relativizeFiles(tempDirPath, true, null));
+        assertEquals(expected.relativizeDirectories(tempDirPath, true, null), actual.relativizeDirectories(tempDirPath, true, null));
+    }
+
+    @Test
+    void testMaxDepth() throws IOException {
+        final RecordingVisitor visitor = ParallelPathWalker.builder().setMaxDepth(1).get().walk(tempDirPath, new RecordingVisitor());
+        assertEquals(Collections.singleton(tempDirPath), visitor.preDirs);
+        // Subdirectories at the maximum depth are visited as files.
+        assertEquals(2 * WIDTH, visitor.files.size());
+        final RecordingVisitor rootOnly = ParallelPathWalker.builder().setMaxDepth(0).get().walk(tempDirPath, new RecordingVisitor());
+        assertEquals(Collections.singleton(tempDirPath), rootOnly.files);
+    }
+
+    @Test
+    void testPostVisitSkipSiblings() throws IOException {
+        final Path wide = Files.createDirectory(tempDirPath.resolve("wide"));
+        for (int i = 0; i < ParallelPathWalker.BATCH_SIZE * 3; i++) {
+            Files.createDirectory(wide.resolve("sub" + i));
+        }
+        final Set<Path> postDirs = ConcurrentHashMap.newKeySet();
+        ParallelPathWalker.builder().setParallelism(1).get().walk(wide, new RecordingVisitor() {
+            @Override
+            public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+                postDirs.add(dir);
+                return dir.equals(wide) ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SIBLINGS;
+            }
+        });
+        // Like Files.walkFileTree, the first subdirectory to complete skips the others, and the parent completes.
+        assertEquals(2, postDirs.size(), postDirs::toString);
+        assertTrue(postDirs.contains(wide));
+    }
+
+    @Test
+    void testRuntimeExceptionWaitsForAllTasks() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+        final Path failing = tempDirPath.resolve("dir0").resolve("file0.txt");
+        assertThrows(IllegalStateException.class, () -> ParallelPathWalker.builder().setParallelism(4).get().walk(tempDirPath, new RecordingVisitor() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+                active.incrementAndGet();
+                calls.incrementAndGet();
+                try {
+                    if (file.equals(failing)) {
+                        throw new IllegalStateException(file.toString());
+                    }
+                    TestUtils.sleepQuietly(5);
+                    return FileVisitResult.CONTINUE;
+                } finally {
+                    active.decrementAndGet();
+                }
+            }
+        }));
+        // No task is still visiting files once the walk returns.
+        assertEquals(0, active.get());
+        final int count = calls.get();
+        TestUtils.sleepQuietly(100);
+        assertEquals(count, calls.get());
+    }
+
+    @Test
+    void testSharedPool() throws IOException {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final RecordingVisitor visitor = ParallelPathWalker.builder().setForkJoinPool(pool).get().walk(tempDirPath, new RecordingVisitor());
+            assertEquals(fileCount, visitor.files.size());
+            assertEquals(dirCount, visitor.preDirs.size());
+            assertEquals(visitor.preDirs, visitor.postDirs);
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSkipSubtree() throws IOException {
+        final Path skipped = tempDirPath.resolve("dir0");
+        final RecordingVisitor visitor = ParallelPathWalker.builder().get().walk(tempDirPath, new RecordingVisitor() {
+            @Override
+            FileVisitResult preVisitResult(final Path dir) {
+                return dir.equals(skipped) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+        });
+        assertTrue(visitor.files.stream().noneMatch(file -> file.startsWith(skipped)));
+        assertFalse(visitor.postDirs.contains(skipped));
+        assertTrue(visitor.files.contains(tempDirPath.resolve("dir1").resolve("file0.txt")));
+    }
+
+    @Test
+    void testSymbolicLinkLoop() throws IOException {
+        Files.createSymbolicLink(tempDirPath.resolve("dir0").resolve("loop"), tempDirPath);
+        final RecordingVisitor visitor = ParallelPathWalker.builder().setFileVisitOptions(EnumSet.of(FileVisitOption.FOLLOW_LINKS)).get().walk(tempDirPath,
+                new RecordingVisitor());
+        assertEquals(1, visitor.failures.size());
+        assertTrue(visitor.failures.get(0) instanceof FileSystemLoopException);
+        assertEquals(fileCount, visitor.files.size());
+    }
+
+    @Test
+    void testTerminate() throws IOException {
+        final AtomicInteger count = new AtomicInteger();
+        ParallelPathWalker.builder().setParallelism(1).get().walk(tempDirPath, new RecordingVisitor() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+                count.incrementAndGet();
+                return FileVisitResult.TERMINATE;
+            }
+        });
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void testVisitorException() {
+        final IOException exception = new IOException("test");
+        final IOException actual = assertThrows(IOException.class, () -> ParallelPathWalker.builder().get().walk(tempDirPath, new RecordingVisitor() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+                throw exception;
+            }
+        }));
+        assertSame(exception, actual);
+    }
+}
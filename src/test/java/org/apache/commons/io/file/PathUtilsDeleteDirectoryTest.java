@@ -18,15 +18,21 @@
 package org.apache.commons.io.file;
 
 import static org.apache.commons.io.file.CounterAssertions.assertCounts;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
 
+import org.apache.commons.io.IOExceptionList;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -42,6 +48,7 @@ void testDeleteAbsentDirectory() throws IOException {
         assertThrows(expectedType, () -> PathUtils.deleteDirectory(absent));
         assertThrows(expectedType, () -> PathUtils.deleteDirectory(absent, StandardDeleteOption.OVERRIDE_READ_ONLY));
         assertThrows(expectedType, () -> PathUtils.deleteDirectory(absent, PathUtils.EMPTY_DELETE_OPTION_ARRAY));
+        assertThrows(expectedType, () -> PathUtils.deleteDirectory(absent, ParallelPathWalker.builder().get(), PathUtils.NOFOLLOW_LINK_OPTION_ARRAY));
         // This will throw if not empty.
         PathUtils.deleteIfExists(tempDirPath);
     }
@@ -109,4 +116,69 @@ void testDeleteEmptyDirectory() throws IOException {
         // This will throw if not empty.
         PathUtils.deleteIfExists(tempDirPath);
     }
+
+    @Test
+    void testDeleteDirectoryParallel() throws IOException {
+        // Wide enough for the entries of each directory to be deleted in several batches.
+        final int width = ParallelPathWalker.BATCH_SIZE * 3;
+        for (int i = 0; i < 4; i++) {
+            final Path dir = Files.createDirectories(tempDirPath.resolve("dir" + i).resolve("sub"));
+            for (int j = 0; j < width; j++) {
+                Files.write(dir.resolve("file" + j), new byte[] { 1 });
+                Files.write(dir.getParent().resolve("file" + j), new byte[] { 1, 2 });
+            }
+        }
+        final ParallelPathWalker walker = ParallelPathWalker.builder().setParallelism(4).get();
+        assertCounts(9, 8 * width, 12 * width, PathUtils.deleteDirectory(tempDirPath, walker, PathUtils.NOFOLLOW_LINK_OPTION_ARRAY,
+                StandardDeleteOption.OVERRIDE_READ_ONLY));
+        assertFalse(Files.exists(tempDirPath));
+    }
+
+    @Test
+    void testDeleteDirectoryParallelIgnoresMaxDepth() throws IOException {
+        final Path full = Files.createDirectories(tempDirPath.resolve("full").resolve("sub"));
+        Files.write(full.resolve("file"), new byte[] { 1 });
+        Files.createDirectories(tempDirPath.resolve("empty"));
+        // Directories at the maximum depth must be deleted and counted as directories, not as files.
+        final ParallelPathWalker walker = ParallelPathWalker.builder().setMaxDepth(1).setParallelism(2).get();
+        assertCounts(4, 1, 1, PathUtils.deleteDirectory(tempDirPath, walker, PathUtils.NOFOLLOW_LINK_OPTION_ARRAY));
+        assertFalse(Files.exists(tempDirPath));
+    }
+
+    @Test
+    void testDeleteDirectoryParallelDoesNotFollowLinks() throws IOException {
+        final Path outside = Files.createDirectory(managedTempDirPath.resolve("outside"));
+        final Path precious = Files.createFile(outside.resolve("precious.txt"));
+        final Path tree = Files.createDirectories(tempDirPath.resolve("tree").resolve("sub"));
+        Files.createFile(tree.resolve("file"));
+        Files.createSymbolicLink(tree.resolve("link"), outside);
+        // A walker that follows links must not reach outside the tree.
+        final ParallelPathWalker walker = ParallelPathWalker.builder().setFileVisitOptions(EnumSet.of(FileVisitOption.FOLLOW_LINKS)).setParallelism(2).get();
+        PathUtils.deleteDirectory(tree.getParent(), walker, PathUtils.noFollowLinkOptionArray(), StandardDeleteOption.OVERRIDE_READ_ONLY);
+        assertFalse(Files.exists(tree.getParent()));
+        assertTrue(Files.exists(precious));
+    }
+
+    @Test
+    void testDeleteDirectoryParallelCollectsFailures() throws IOException {
+        final Path file = Files.createFile(tempDirPath.resolve("file"));
+        final ParallelDeletingPathVisitor visitor = new ParallelDeletingPathVisitor(tempDirPath, Counters.concurrentLongPathCounters(),
+                PathUtils.NOFOLLOW_LINK_OPTION_ARRAY, PathUtils.EMPTY_DELETE_OPTION_ARRAY);
+        final IOException failure1 = new IOException("1");
+        final IOException failure2 = new IOException("2");
+        visitor.visitFileFailed(tempDirPath.resolve("absent"), new NoSuchFileException("absent"));
+        visitor.checkEmpty(tempDirPath);
+        visitor.visitFileFailed(file, failure1);
+        visitor.postVisitDirectory(tempDirPath, failure2);
+        // The directory still holds a file, so it is kept.
+        assertTrue(Files.exists(tempDirPath));
+        final IOExceptionList e = assertThrows(IOExceptionList.class, () -> visitor.checkEmpty(tempDirPath));
+        assertEquals(2, e.getCauseList().size());
+        assertTrue(e.getCauseList().contains(failure1));
+        assertTrue(e.getCauseList().contains(failure2));
+        assertEquals(tempDirPath.toString(), e.getMessage());
+        assertThrows(IOException.class, () -> visitor.visitFileFailed(tempDirPath, failure1));
+        visitor.visitFile(file, Files.readAttributes(file, BasicFileAttributes.class));
+        assertFalse(Files.exists(file));
+    }
 }
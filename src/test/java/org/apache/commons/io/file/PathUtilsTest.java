@@ -54,6 +54,8 @@
 import org.apache.commons.lang3.SystemProperties;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests {@link PathUtils}.
@@ -146,6 +148,37 @@ void testClearIfExistsNull() throws IOException {
         assertNull(PathUtils.clearIfExists(null));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "\n", "\r\n", "\r" })
+    void testCountLines(final String lineEnding) throws IOException {
+        final int minRegionSize = 4096;
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < 3 * minRegionSize + 100; i++) {
+            builder.append("line ").append(i).append(i % 7 == 0 ? " \u00e9\u20ac" : "").append(lineEnding);
+            if (i % 50 == 0) {
+                builder.append(lineEnding);
+            }
+        }
+        final String text = builder.append("last").toString();
+        final Path path = Files.write(tempDirPath.resolve("lines.txt"), text.getBytes(StandardCharsets.UTF_8));
+        final long expected = Files.readAllLines(path, StandardCharsets.UTF_8).size();
+        assertEquals(expected, PathUtils.countLines(path, StandardCharsets.UTF_8));
+        assertEquals(expected, PathUtils.countLines(path, StandardCharsets.UTF_8, true));
+        for (int regions = 2; regions <= 4; regions++) {
+            assertEquals(expected, PathUtils.countLines(path, StandardCharsets.UTF_8, regions, minRegionSize));
+        }
+    }
+
+    @Test
+    void testCountLinesSmallAndUtf16() throws IOException {
+        final Path path = tempDirPath.resolve("lines.txt");
+        Files.write(path, new byte[0]);
+        assertEquals(0, PathUtils.countLines(path, StandardCharsets.UTF_8, 4, 1));
+        Files.write(path, "a\r\nb\rc\n".getBytes(StandardCharsets.UTF_16));
+        assertEquals(3, PathUtils.countLines(path, StandardCharsets.UTF_16, 4, 1));
+        assertThrows(IOException.class, () -> PathUtils.countLines(tempDirPath.resolve("missing.txt"), null));
+    }
+
     @Test
     void testCreateDirectoriesAlreadyExists() throws IOException {
         assertEquals(tempDirPath.getParent(), PathUtils.createParentDirectories(tempDirPath));
@@ -39,6 +39,14 @@ static Stream<Arguments> countingPathVisitors() {
         // @formatter:on
     }
 
+    static Stream<Arguments> concurrentCounters() {
+        // @formatter:off
+        return Stream.of(
+          Arguments.of(Counters.concurrentLongCounter()),
+          Arguments.of(Counters.concurrentBigIntegerCounter()));
+        // @formatter:on
+    }
+
     static Stream<Arguments> deletingPathVisitors() {
         // @formatter:off
         return Stream.of(
@@ -51,7 +59,9 @@ static Stream<Arguments> numberCounters() {
         // @formatter:off
         return Stream.of(
           Arguments.of(Counters.longCounter()),
-          Arguments.of(Counters.bigIntegerCounter()));
+          Arguments.of(Counters.bigIntegerCounter()),
+          Arguments.of(Counters.concurrentLongCounter()),
+          Arguments.of(Counters.concurrentBigIntegerCounter()));
         // @formatter:on
     }
 
@@ -59,7 +69,9 @@ static Stream<Arguments> pathCounters() {
         // @formatter:off
         return Stream.of(
           Arguments.of(Counters.longPathCounters()),
-          Arguments.of(Counters.bigIntegerPathCounters()));
+          Arguments.of(Counters.bigIntegerPathCounters()),
+          Arguments.of(Counters.concurrentLongPathCounters()),
+          Arguments.of(Counters.concurrentBigIntegerPathCounters()));
         // @formatter:on
     }
 }
@@ -37,6 +37,8 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -485,6 +487,60 @@ void testFileFilterUtils_and() throws IOException {
         assertFiltering(FileFilterUtils.and(falseFilter, falseFilter), new File("foo.test"), false);
     }
 
+    @Test
+    void testFileFilterUtils_compileAnd() throws IOException {
+        final IOFileFilter size = FileFilterUtils.sizeFileFilter(10);
+        final IOFileFilter magic = FileFilterUtils.magicNumberFileFilter("PK");
+        final IOFileFilter suffix = FileFilterUtils.suffixFileFilter(".zip");
+        final IOFileFilter prefix = FileFilterUtils.prefixFileFilter("a");
+        final AndFileFilter filter = (AndFileFilter) FileFilterUtils.compile(FileFilterUtils.and(magic, size, FileFilterUtils.and(suffix, prefix)));
+        assertEquals(Arrays.asList(suffix, prefix, size, magic), filter.getFileFilters());
+        assertFiltering(filter, new File("a.txt"), false);
+        assertFiltering(filter, new File("a.txt").toPath(), false);
+    }
+
+    @Test
+    void testFileFilterUtils_compileNestedEmpty() throws IOException {
+        final File file = new File("a.txt");
+        final IOFileFilter and = new AndFileFilter(TrueFileFilter.INSTANCE, new AndFileFilter(new ArrayList<>()));
+        assertFiltering(and, file, false);
+        assertFiltering(FileFilterUtils.compile(and), file, false);
+        final IOFileFilter or = new OrFileFilter(FalseFileFilter.INSTANCE, new OrFileFilter(new ArrayList<>()));
+        assertFiltering(or, file, false);
+        assertFiltering(FileFilterUtils.compile(or), file, false);
+        final IOFileFilter orOfAnd = new OrFileFilter(new AndFileFilter(new ArrayList<>()), new AndFileFilter(new ArrayList<>()));
+        assertFiltering(FileFilterUtils.compile(orOfAnd), file, false);
+        final IOFileFilter andOfOr = new AndFileFilter(TrueFileFilter.INSTANCE, new OrFileFilter(new ArrayList<>()));
+        assertFiltering(andOfOr, file, false);
+        assertFiltering(FileFilterUtils.compile(andOfOr), file, false);
+    }
+
+    @Test
+    void testFileFilterUtils_compileOr() throws IOException {
+        final IOFileFilter size = FileFilterUtils.sizeFileFilter(10);
+        final IOFileFilter sensitive = FileFilterUtils.suffixFileFilter(".txt");
+        final IOFileFilter insensitive = FileFilterUtils.suffixFileFilter(".XML", IOCase.INSENSITIVE);
+        final IOFileFilter original = FileFilterUtils.or(size, sensitive, FileFilterUtils.nameFileFilter("Makefile"), insensitive,
+                FileFilterUtils.or(FileFilterUtils.suffixFileFilter(".java"), FileFilterUtils.nameFileFilter("README")),
+                FileFilterUtils.notFileFilter(FileFilterUtils.or(FileFilterUtils.prefixFileFilter("a"), FileFilterUtils.prefixFileFilter("b"))));
+        final OrFileFilter filter = (OrFileFilter) FileFilterUtils.compile(original);
+        final List<IOFileFilter> children = filter.getFileFilters();
+        assertEquals(5, children.size());
+        assertTrue(children.get(0) instanceof SuffixFileFilter);
+        assertTrue(children.get(1) instanceof NameFileFilter);
+        assertSame(insensitive, children.get(2));
+        assertTrue(children.get(3) instanceof NotFileFilter);
+        assertSame(size, children.get(4));
+        for (final String name : new String[] { "a.txt", "b.java", "Makefile", "README", "c.xml", "c.XmL", "a.bin", "c.bin", "c.TXT", "" }) {
+            final File file = new File(name);
+            assertEquals(original.accept(file), filter.accept(file), name);
+            assertEquals(original.accept(null, name), filter.accept(null, name), name);
+        }
+        final IOFileFilter wildcard = WildcardFileFilter.builder().setWildcards("*").get();
+        assertSame(wildcard, FileFilterUtils.compile(wildcard));
+        assertThrows(NullPointerException.class, () -> FileFilterUtils.compile(null));
+    }
+
     @Test
     void testFileFilterUtils_or() throws IOException {
         final IOFileFilter trueFilter = TrueFileFilter.INSTANCE;
@@ -1301,6 +1357,28 @@ void testSizeFilterOnFiles() throws Exception {
         assertThrows(IllegalArgumentException.class, () -> FileFilterUtils.sizeFileFilter(-1));
     }
 
+    /**
+     * Tests that filters decide from the attributes they are given instead of reading them again.
+     */
+    @Test
+    void testPathFiltersUseAttributes() throws Exception {
+        final Path file = Files.write(temporaryFolder.toPath().resolve("attributes.txt"), new byte[128]);
+        final BasicFileAttributes fileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+        final BasicFileAttributes dirAttributes = Files.readAttributes(temporaryFolder.toPath(), BasicFileAttributes.class);
+        // A path that does not exist, so only the attributes can make a filter accept it.
+        final Path missing = temporaryFolder.toPath().resolve("missing.txt");
+        assertEquals(FileVisitResult.CONTINUE, FileFileFilter.INSTANCE.accept(missing, fileAttributes));
+        assertEquals(FileVisitResult.TERMINATE, FileFileFilter.INSTANCE.accept(missing, dirAttributes));
+        assertEquals(FileVisitResult.CONTINUE, DirectoryFileFilter.INSTANCE.accept(missing, dirAttributes));
+        assertEquals(FileVisitResult.TERMINATE, DirectoryFileFilter.INSTANCE.accept(missing, fileAttributes));
+        assertEquals(FileVisitResult.CONTINUE, new SizeFileFilter(64).accept(missing, fileAttributes));
+        assertEquals(FileVisitResult.TERMINATE, new SizeFileFilter(256).accept(missing, fileAttributes));
+        assertEquals(FileVisitResult.CONTINUE, EmptyFileFilter.NOT_EMPTY.accept(missing, fileAttributes));
+        final Instant modified = fileAttributes.lastModifiedTime().toInstant();
+        assertEquals(FileVisitResult.CONTINUE, new AgeFileFilter(modified.minusSeconds(60), false).accept(missing, fileAttributes));
+        assertEquals(FileVisitResult.CONTINUE, new AgeFileFilter(modified.plusSeconds(60), true).accept(missing, fileAttributes));
+    }
+
     @Test
     void testSizeFilterOnPaths() throws Exception {
         final Path smallFile = Paths.get(temporaryFolder.toString(), "small.txt");
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.filefilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.apache.commons.io.IOCase;
+import org.apache.commons.io.filefilter.NameMatcher.Kind;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link NameMatcher}.
+ */
+class NameMatcherTest {
+
+    private static boolean expected(final Kind kind, final IOCase ioCase, final String name, final String... patterns) {
+        for (final String pattern : patterns) {
+            final boolean match;
+            switch (kind) {
+            case NAME:
+                match = ioCase.checkEquals(name, pattern);
+                break;
+            case PREFIX:
+                match = ioCase.checkStartsWith(name, pattern);
+                break;
+            default:
+                match = ioCase.checkEndsWith(name, pattern);
+                break;
+            }
+            if (match) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String randomString(final Random random, final int maxLength) {
+        final String alphabet = "aAbB.\u0131I\u03C3\u03A3";
+        final StringBuilder builder = new StringBuilder();
+        final int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testEmptyPatterns() {
+        assertTrue(new NameMatcher(Kind.PREFIX, IOCase.SENSITIVE, "").matches("any"));
+        assertTrue(new NameMatcher(Kind.SUFFIX, IOCase.INSENSITIVE, "x", "").matches(""));
+        assertTrue(new NameMatcher(Kind.NAME, IOCase.INSENSITIVE, "").matches(""));
+        assertFalse(new NameMatcher(Kind.NAME, IOCase.INSENSITIVE, "").matches("a"));
+        assertFalse(new NameMatcher(Kind.PREFIX, IOCase.SENSITIVE).matches("a"));
+    }
+
+    @Test
+    void testNull() {
+        assertTrue(new NameMatcher(Kind.NAME, IOCase.SENSITIVE, "a", null).matches(null));
+        assertTrue(new NameMatcher(Kind.NAME, IOCase.INSENSITIVE, (String) null).matches(null));
+        assertFalse(new NameMatcher(Kind.NAME, IOCase.SENSITIVE, "a").matches(null));
+        assertFalse(new NameMatcher(Kind.PREFIX, IOCase.SENSITIVE, "", null).matches(null));
+        assertFalse(new NameMatcher(Kind.SUFFIX, IOCase.SENSITIVE, (String) null).matches("a"));
+    }
+
+    @Test
+    void testRandomAgainstIOCase() {
+        final Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            final String[] patterns = new String[1 + random.nextInt(4)];
+            for (int p = 0; p < patterns.length; p++) {
+                patterns[p] = randomString(random, 3);
+            }
+            final String name = randomString(random, 5);
+            for (final Kind kind : Kind.values()) {
+                for (final IOCase ioCase : new IOCase[] { IOCase.SENSITIVE, IOCase.INSENSITIVE }) {
+                    assertEquals(expected(kind, ioCase, name, patterns), new NameMatcher(kind, ioCase, patterns).matches(name),
+                            () -> kind + " " + ioCase + " " + name + " " + String.join(",", patterns));
+                }
+            }
+        }
+    }
+}
@@ -30,10 +30,20 @@
 import java.util.List;
 
 import org.apache.commons.io.IOCase;
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 
 class WildcardFileFilterTest extends AbstractFilterTest {
 
+    @Test
+    void testSerializable() {
+        final WildcardFileFilter filter = SerializationUtils.roundtrip(WildcardFileFilter.builder().setWildcards("*.txt", "*.XML")
+                .setIoCase(IOCase.INSENSITIVE).get());
+        assertTrue(filter.accept(new File("log.TXT")));
+        assertTrue(filter.accept(new File("log.xml")));
+        assertFalse(filter.accept(new File("log.bmp")));
+    }
+
     @Test
     void testWildcard() throws IOException {
         IOFileFilter filter = new WildcardFileFilter("*.txt");
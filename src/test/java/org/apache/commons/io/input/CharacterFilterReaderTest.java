@@ -24,6 +24,7 @@
 import java.io.StringReader;
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.function.IntPredicate;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.StringBuilderWriter;
@@ -33,6 +34,27 @@ class CharacterFilterReaderTest {
 
     private static final String STRING_FIXTURE = "ababcabcd";
 
+    @Test
+    void testBuilderSkipChars() throws IOException {
+        try (CharacterFilterReader reader = CharacterFilterReader.builder().setReader(new StringReader(STRING_FIXTURE)).setSkip('b', 'c').get()) {
+            assertEquals("aaad", IOUtils.toString(reader));
+        }
+    }
+
+    @Test
+    void testBuilderSkipNone() throws IOException {
+        try (CharacterFilterReader reader = CharacterFilterReader.builder().setReader(new StringReader(STRING_FIXTURE)).setSkip((IntPredicate) null).get()) {
+            assertEquals(STRING_FIXTURE, IOUtils.toString(reader));
+        }
+    }
+
+    @Test
+    void testBuilderSkipPredicate() throws IOException {
+        try (CharacterFilterReader reader = CharacterFilterReader.builder().setReader(new StringReader(STRING_FIXTURE)).setSkip(c -> c < 'c').get()) {
+            assertEquals("ccd", IOUtils.toString(reader));
+        }
+    }
+
     @Test
     void testInputSize0FilterSize1() throws IOException {
         final StringReader input = new StringReader("");
@@ -103,6 +125,16 @@ void testReadIntoBuffer() throws IOException {
         }
     }
 
+    @Test
+    void testReadIntoBufferAllFilteredFirst() throws IOException {
+        try (CharacterFilterReader reader = new CharacterFilterReader(new StringReader("aabb"), 'a')) {
+            final char[] buff = new char[2];
+            // The first block "aa" is filtered out entirely, read must not return 0.
+            assertEquals(2, reader.read(buff));
+            assertEquals("bb", new String(buff));
+        }
+    }
+
     @Test
     void testReadUsingReader() throws IOException {
         final StringReader input = new StringReader(STRING_FIXTURE);
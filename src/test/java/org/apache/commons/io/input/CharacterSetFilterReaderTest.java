@@ -26,6 +26,7 @@
 import java.util.HashSet;
 import java.util.Set;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.StringBuilderWriter;
 import org.junit.jupiter.api.Test;
 
@@ -152,4 +153,26 @@ void testReadFilteringEOF() {
             }
         });
     }
+
+    @Test
+    void testReadSetIsCopied() throws IOException {
+        final Set<Integer> codePoints = new HashSet<>();
+        codePoints.add(Integer.valueOf('a'));
+        try (CharacterSetFilterReader reader = new CharacterSetFilterReader(new StringReader(STRING_FIXTURE), codePoints)) {
+            codePoints.add(Integer.valueOf('b'));
+            assertEquals("b", IOUtils.toString(reader));
+        }
+    }
+
+    @Test
+    void testReadWideAndSupplementarySet() throws IOException {
+        final String input = "a\u0000b\u001Bc\uFFFFd\u20ACe\uD83D\uDE00f";
+        // Supplementary code points never match a single char, surrogates in the set do.
+        try (CharacterSetFilterReader reader = new CharacterSetFilterReader(new StringReader(input), 0, 0x1B, 0xFFFF, 0x1F600, -1, null)) {
+            assertEquals("abcd\u20ACe\uD83D\uDE00f", IOUtils.toString(reader));
+        }
+        try (CharacterSetFilterReader reader = new CharacterSetFilterReader(new StringReader(input), 0x20AC, 0xD83D, 0xDE00)) {
+            assertEquals("a\u0000b\u001Bc\uFFFFdef", IOUtils.toString(reader));
+        }
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link MemoryMappedFileDataInputStream}.
+ */
+class MemoryMappedFileDataInputStreamTest {
+
+    private static final int RECORDS = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private MemoryMappedFileDataInputStream newInput(final byte[] data, final int bufferSize, final ByteOrder byteOrder) throws IOException {
+        final Path file = Files.write(Files.createTempFile(tempDir, null, null), data);
+        return MemoryMappedFileDataInputStream.builder().setPath(file).setBufferSize(bufferSize).setByteOrder(byteOrder).get();
+    }
+
+    private void readRecord(final DataInput input, final int i) throws IOException {
+        assertEquals(i % 2 == 0, input.readBoolean());
+        assertEquals((byte) i, input.readByte());
+        assertEquals(i & 0xFF, input.readUnsignedByte());
+        assertEquals((short) -i, input.readShort());
+        assertEquals(i * 7 & 0xFFFF, input.readUnsignedShort());
+        assertEquals((char) (0x3B1 + i), input.readChar());
+        assertEquals(i * 31, input.readInt());
+        assertEquals(i * 0x1_0000_0001L, input.readLong());
+        assertEquals(i / 3f, input.readFloat());
+        assertEquals(i / 7d, input.readDouble());
+        assertEquals("record é " + i, input.readUTF());
+        assertEquals("line " + i, input.readLine());
+        final byte[] bytes = new byte[3];
+        input.readFully(bytes);
+        assertArrayEquals(new byte[] { 1, 2, (byte) i }, bytes);
+    }
+
+    private byte[] records() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (int i = 0; i < RECORDS; i++) {
+                output.writeBoolean(i % 2 == 0);
+                output.writeByte(i);
+                output.writeByte(i);
+                output.writeShort(-i);
+                output.writeShort(i * 7);
+                output.writeChar(0x3B1 + i);
+                output.writeInt(i * 31);
+                output.writeLong(i * 0x1_0000_0001L);
+                output.writeFloat(i / 3f);
+                output.writeDouble(i / 7d);
+                output.writeUTF("record é " + i);
+                output.writeBytes("line " + i + (i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\n" : "\r"));
+                output.write(new byte[] { 1, 2, (byte) i });
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        final MemoryMappedFileDataInputStream input = newInput(new byte[16], 8, ByteOrder.BIG_ENDIAN);
+        input.close();
+        assertThrows(IOException.class, input::readInt);
+        assertThrows(IOException.class, input::read);
+        input.close();
+    }
+
+    @Test
+    void testLittleEndian() throws IOException {
+        final byte[] data = { 1, 2, 3, 4, 5, 6, 7, 8 };
+        try (MemoryMappedFileDataInputStream input = newInput(data, 8, ByteOrder.LITTLE_ENDIAN)) {
+            assertEquals(ByteOrder.LITTLE_ENDIAN, input.getByteOrder());
+            assertEquals(0x0807060504030201L, input.readLong());
+            input.seek(0);
+            assertEquals(0x04030201, input.readInt());
+            assertEquals(Float.intBitsToFloat(0x08070605), input.readFloat());
+            input.seek(0);
+            assertEquals((short) 0x0201, input.readShort());
+            assertEquals(0x0403, input.readUnsignedShort());
+            assertEquals((char) 0x0605, input.readChar());
+            input.seek(0);
+            assertEquals(Double.longBitsToDouble(0x0807060504030201L), input.readDouble());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 8, 13, 4096, 1024 * 1024 })
+    void testReadMatchesDataInputStream(final int bufferSize) throws IOException {
+        final byte[] data = records();
+        try (MemoryMappedFileDataInputStream input = newInput(data, bufferSize, ByteOrder.BIG_ENDIAN)) {
+            assertEquals(data.length, input.length());
+            for (int i = 0; i < RECORDS; i++) {
+                readRecord(input, i);
+            }
+            assertEquals(data.length, input.position());
+            assertEquals(IOUtils.EOF, input.read());
+            assertNull(input.readLine());
+            assertThrows(EOFException.class, input::readByte);
+        }
+    }
+
+    @Test
+    void testReadLine() throws IOException {
+        try (MemoryMappedFileDataInputStream input = newInput("a\r\nb\rc\n\nd".getBytes(StandardCharsets.ISO_8859_1), 8, ByteOrder.BIG_ENDIAN)) {
+            assertEquals("a", input.readLine());
+            assertEquals("b", input.readLine());
+            assertEquals("c", input.readLine());
+            assertEquals("", input.readLine());
+            assertEquals("d", input.readLine());
+            assertNull(input.readLine());
+        }
+    }
+
+    @Test
+    void testSeekAndSkip() throws IOException {
+        final byte[] data = new byte[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        try (MemoryMappedFileDataInputStream input = newInput(data, 16, ByteOrder.BIG_ENDIAN)) {
+            assertEquals(0, input.read());
+            assertEquals(0x01020304, input.readInt());
+            input.seek(60);
+            assertEquals(60, input.position());
+            assertEquals(60, input.read());
+            input.seek(62);
+            assertEquals(62, input.read());
+            assertEquals(10, input.skipBytes(10));
+            assertEquals(73, input.read());
+            assertEquals(26, input.skipBytes(1000));
+            assertEquals(100, input.position());
+            assertEquals(0, input.available());
+            assertEquals(0, input.skipBytes(1));
+            assertThrows(EOFException.class, input::readShort);
+            input.seek(98);
+            assertEquals(2, input.available());
+            assertThrows(EOFException.class, input::readInt);
+            assertEquals(0x6263, input.readShort());
+            input.seek(200);
+            assertEquals(IOUtils.EOF, input.read());
+            assertThrows(IllegalArgumentException.class, () -> input.seek(-1));
+            input.seek(0);
+            final byte[] bytes = new byte[100];
+            assertEquals(100, IOUtils.read(input, bytes));
+            assertArrayEquals(data, bytes);
+            assertNull(input.readLine());
+        }
+    }
+}
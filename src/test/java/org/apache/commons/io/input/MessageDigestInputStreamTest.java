@@ -30,6 +30,7 @@
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -139,6 +140,21 @@ void testNormalUse() throws Exception {
         }
     }
 
+    /**
+     * Tests that a caller's MessageDigest reflects each single-byte read when batching is not enabled, the default.
+     */
+    @Test
+    void testMessageDigestUpdatedOnEachRead() throws Exception {
+        final byte[] buffer = generateRandomByteStream(100);
+        final MessageDigest messageDigest = DigestUtils.getSha512Digest();
+        try (MessageDigestInputStream in = MessageDigestInputStream.builder().setByteArray(buffer).setMessageDigest(messageDigest).get()) {
+            for (int i = 0; i < 10; i++) {
+                in.read();
+            }
+            assertArrayEquals(DigestUtils.sha512(Arrays.copyOf(buffer, 10)), ((MessageDigest) messageDigest.clone()).digest());
+        }
+    }
+
     @Test
     void testReadAfterClose_ByteArrayInputStream() throws Exception {
         try (InputStream in = createInputStream()) {
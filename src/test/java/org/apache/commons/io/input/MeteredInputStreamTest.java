@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MeteredInputStream}.
+ */
+class MeteredInputStreamTest {
+
+    @Test
+    void testBuilder() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        try (MeteredInputStream in = MeteredInputStream.builder().setByteArray(new byte[10]).setMetrics(metrics).get()) {
+            assertSame(metrics, in.getMetrics());
+            assertEquals(10, IOUtils.toByteArray(in).length);
+        }
+        assertEquals(10, metrics.getReadUnits());
+        try (MeteredInputStream in = MeteredInputStream.builder().setByteArray(new byte[10]).get()) {
+            assertNotNull(in.getMetrics());
+        }
+    }
+
+    @Test
+    void testNullMetrics() {
+        assertThrows(NullPointerException.class, () -> new MeteredInputStream(new ByteArrayInputStream(new byte[0]), null));
+    }
+
+    @Test
+    void testOverriddenHooks() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final List<String> calls = new ArrayList<>();
+        try (MeteredInputStream in = new MeteredInputStream(new ByteArrayInputStream(new byte[10]), metrics) {
+
+            @Override
+            protected void afterRead(final int n) throws IOException {
+                super.afterRead(n);
+                calls.add("after " + n + " " + metrics.getReadCount());
+            }
+
+            @Override
+            protected void beforeRead(final int n) throws IOException {
+                calls.add("before " + n + " " + metrics.getReadCount());
+                super.beforeRead(n);
+            }
+        }) {
+            assertEquals(0, in.read());
+            assertEquals(9, in.read(new byte[20]));
+        }
+        assertEquals(Arrays.asList("before 1 0", "after 1 1", "before 20 1", "after 9 2"), calls);
+        assertEquals(10, metrics.getReadUnits());
+    }
+
+    @Test
+    void testRead() throws IOException {
+        final IOMetrics aggregate = new IOMetrics();
+        final IOMetrics metrics = aggregate.newChild();
+        try (MeteredInputStream in = new MeteredInputStream(new ByteArrayInputStream(new byte[10]), metrics)) {
+            assertSame(metrics, in.getMetrics());
+            assertEquals(0, in.read());
+            assertEquals(4, in.read(new byte[4]));
+            assertEquals(5, in.read(new byte[8], 0, 8));
+            assertEquals(IOUtils.EOF, in.read());
+        }
+        assertEquals(10, metrics.getReadUnits());
+        assertEquals(4, metrics.getReadCount());
+        assertEquals(1, metrics.getFirstByteCount());
+        assertEquals(10, aggregate.getReadUnits());
+        final long[] histogram = metrics.getReadSizeHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[1]);
+        assertEquals(2, histogram[3]);
+    }
+
+    @Test
+    void testReadAll() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        try (InputStream in = new MeteredInputStream(new ByteArrayInputStream(new byte[100_000]), metrics)) {
+            assertEquals(100_000, IOUtils.toByteArray(in).length);
+        }
+        assertEquals(100_000, metrics.getReadUnits());
+        assertEquals(0, metrics.getWriteUnits());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.IOMetrics;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MeteredReader}.
+ */
+class MeteredReaderTest {
+
+    @Test
+    void testBuilder() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        try (MeteredReader reader = MeteredReader.builder().setCharSequence("0123456789").setMetrics(metrics).get()) {
+            assertSame(metrics, reader.getMetrics());
+            assertEquals("0123456789", IOUtils.toString(reader));
+        }
+        assertEquals(10, metrics.getReadUnits());
+        try (MeteredReader reader = MeteredReader.builder().setCharSequence("").get()) {
+            assertNotNull(reader.getMetrics());
+        }
+    }
+
+    @Test
+    void testOverriddenHooks() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final List<String> calls = new ArrayList<>();
+        try (MeteredReader reader = new MeteredReader(new StringReader("0123456789"), metrics) {
+
+            @Override
+            protected void afterRead(final int n) throws IOException {
+                super.afterRead(n);
+                calls.add("after " + n + " " + metrics.getReadCount());
+            }
+
+            @Override
+            protected void beforeRead(final int n) throws IOException {
+                calls.add("before " + n + " " + metrics.getReadCount());
+                super.beforeRead(n);
+            }
+        }) {
+            assertEquals('0', reader.read());
+            assertEquals(9, reader.read(new char[20]));
+        }
+        assertEquals(Arrays.asList("before 1 0", "after 1 1", "before 20 1", "after 9 2"), calls);
+        assertEquals(10, metrics.getReadUnits());
+    }
+
+    @Test
+    void testRead() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        try (MeteredReader reader = new MeteredReader(new StringReader("0123456789"), metrics)) {
+            assertSame(metrics, reader.getMetrics());
+            assertEquals('0', reader.read());
+            assertEquals(9, reader.read(new char[20]));
+            assertEquals(IOUtils.EOF, reader.read());
+        }
+        assertEquals(10, metrics.getReadUnits());
+        assertEquals(3, metrics.getReadCount());
+        assertEquals(1, metrics.getFirstByteCount());
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.io.input;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -24,12 +25,17 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.commons.io.IOExceptionList;
+import org.apache.commons.io.IOIndexedException;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.ObservableInputStream.Observer;
 import org.apache.commons.io.output.NullOutputStream;
@@ -172,6 +178,87 @@ void testAfterReadConsumer() throws Exception {
         // @formatter:on
     }
 
+    /**
+     * Tests that bytes from single-byte reads are delivered in blocks, in order, when batching is enabled.
+     */
+    @Test
+    void testBatchSize() throws Exception {
+        final byte[] buffer = MessageDigestInputStreamTest.generateRandomByteStream(100);
+        final MethodCountObserver counter = new MethodCountObserver();
+        final ByteArrayOutputStream seen = new ByteArrayOutputStream();
+        final Observer collector = new Observer() {
+            @Override
+            public void data(final byte[] buffer, final int offset, final int length) throws IOException {
+                seen.write(buffer, offset, length);
+            }
+
+            @Override
+            public void data(final int value) throws IOException {
+                seen.write(value);
+            }
+        };
+        final ObservableInputStream.Builder builder = new ObservableInputStream.Builder().setByteArray(buffer).setBatchSize(4);
+        builder.setObservers(new ArrayList<>(Arrays.asList(counter, collector)));
+        try (ObservableInputStream ois = builder.get()) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals(buffer[i], (byte) ois.read());
+            }
+            assertEquals(0, seen.size());
+            assertEquals(buffer[3], (byte) ois.read());
+            assertEquals(4, seen.size());
+            assertEquals(1, counter.getDataBufferCount());
+            assertEquals(0, counter.getDataCount());
+            assertEquals(buffer[4], (byte) ois.read());
+            // A bulk read delivers the collected byte first.
+            final byte[] readBuffer = new byte[10];
+            assertEquals(10, ois.read(readBuffer));
+            assertEquals(15, seen.size());
+            assertEquals(buffer[15], (byte) ois.read());
+            // getObservers() does not notify observers.
+            assertEquals(2, ois.getObservers().size());
+            assertEquals(15, seen.size());
+            // add() delivers the collected byte to the current observers only.
+            final MethodCountObserver added = new MethodCountObserver();
+            ois.add(added);
+            assertEquals(16, seen.size());
+            assertEquals(0, added.getDataBufferCount());
+            ois.remove(added);
+            while (ois.read() != -1) {
+                // consume
+            }
+            assertEquals(1, counter.getFinishedCount());
+            assertArrayEquals(buffer, seen.toByteArray());
+            assertEquals(0, counter.getDataCount());
+        }
+    }
+
+    /**
+     * Tests that the exception of a single observer is wrapped like the exceptions of many observers.
+     */
+    @Test
+    void testSingleObserverException() throws Exception {
+        final IOException exception = new IOException("data");
+        final Observer observer = new Observer() {
+            @Override
+            public void data(final byte[] buffer, final int offset, final int length) throws IOException {
+                throw exception;
+            }
+
+            @Override
+            public void data(final int value) throws IOException {
+                throw exception;
+            }
+        };
+        try (ObservableInputStream ois = new ObservableInputStream(new ByteArrayInputStream(new byte[10]), observer)) {
+            final IOExceptionList single = assertThrows(IOExceptionList.class, ois::read);
+            assertEquals(1, single.getCauseList().size());
+            assertEquals(0, single.getCause(0, IOIndexedException.class).getIndex());
+            assertEquals(exception, single.getCause(0).getCause());
+            final IOExceptionList bulk = assertThrows(IOExceptionList.class, () -> ois.read(new byte[2]));
+            assertEquals(exception, bulk.getCause(0).getCause());
+        }
+    }
+
     @SuppressWarnings("resource")
     @Test
     void testAvailableAfterClose() throws Exception {
@@ -22,6 +22,7 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -45,6 +46,7 @@
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
@@ -224,6 +226,41 @@ void testConstructNullCharsetNameEncoder() throws IOException {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "US-ASCII", "ISO-8859-1", "UTF-8" })
+    void testFastCharsetsMatchGetBytes(final String charsetName) throws IOException {
+        final Charset charset = Charset.forName(charsetName);
+        // Includes unmappable chars, surrogate pairs, and lone surrogates the CharsetEncoder must replace.
+        final char[] alphabet = { 'a', 'Z', '\n', '\u00e9', '\u00ff', '\u0100', '\u0391', '\u20ac', '\ud83d', '\ude00', '\uffff' };
+        for (int i = 0; i < 100; i++) {
+            final char[] chars = new char[random.nextInt(5_000)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            final String string = new String(chars);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ReaderInputStream in = ReaderInputStream.builder().setReader(new StringReader(string)).setCharset(charset)
+                    .setBufferSize(8 + random.nextInt(100)).get()) {
+                final byte[] buffer = new byte[64];
+                int n;
+                do {
+                    if (random.nextInt(10) == 0) {
+                        n = in.read();
+                        if (n != IOUtils.EOF) {
+                            out.write(n);
+                        }
+                    } else {
+                        n = in.read(buffer, 0, 1 + random.nextInt(buffer.length));
+                        if (n != IOUtils.EOF) {
+                            out.write(buffer, 0, n);
+                        }
+                    }
+                } while (n != IOUtils.EOF);
+            }
+            assertEquals(Arrays.toString(string.getBytes(charset)), Arrays.toString(out.toByteArray()), string);
+        }
+    }
+
     @Test
     void testIo803SAXException() throws IOException {
         final StringReader reader = new StringReader("");
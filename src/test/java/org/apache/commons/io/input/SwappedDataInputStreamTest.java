@@ -22,6 +22,7 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -104,6 +105,46 @@ void testReadFully() throws IOException {
         }
     }
 
+    @Test
+    void testReadFullyDoubles() throws IOException {
+        final double[] values = new double[1];
+        this.sdis.readFully(values);
+        assertEquals(Double.longBitsToDouble(0x0807060504030201L), values[0], 0);
+        assertThrows(EOFException.class, () -> this.sdis.readFully(values));
+    }
+
+    @Test
+    void testReadFullyFloats() throws IOException {
+        final float[] values = new float[2];
+        this.sdis.readFully(values);
+        assertEquals(Float.intBitsToFloat(0x04030201), values[0], 0);
+        assertEquals(Float.intBitsToFloat(0x08070605), values[1], 0);
+    }
+
+    @Test
+    void testReadFullyInts() throws IOException {
+        final int[] values = new int[2];
+        this.sdis.readFully(values);
+        assertEquals(0x04030201, values[0]);
+        assertEquals(0x08070605, values[1]);
+    }
+
+    @Test
+    void testReadFullyLongs() throws IOException {
+        final long[] values = new long[1];
+        this.sdis.readFully(values);
+        assertEquals(0x0807060504030201L, values[0]);
+        assertThrows(EOFException.class, () -> this.sdis.readFully(new long[1]));
+    }
+
+    @Test
+    void testReadFullyShorts() throws IOException {
+        final short[] values = new short[4];
+        this.sdis.readFully(values);
+        assertEquals((short) 0x0201, values[0]);
+        assertEquals((short) 0x0807, values[3]);
+    }
+
     @Test
     void testReadInt() throws IOException {
         assertEquals(0x04030201, this.sdis.readInt());
@@ -22,11 +22,13 @@
 import static org.apache.commons.lang3.StringUtils.LF;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.CharArrayReader;
 import java.io.IOException;
@@ -34,6 +36,8 @@
 import java.io.PipedReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -610,6 +614,68 @@ void testReadArrayException() throws IOException {
         assertThrows(IOException.class, () -> reader.read(charArray, 0, -1));
     }
 
+    @Test
+    void testForEachLineMatchesBufferedReader() throws IOException {
+        final String[] inputs = { "", "A", "\r", "\n", "\r\n", "AB\rCD\r\nEF\nGH", "A\r\rB\n\nC\r\n\r\n", "long line without any newline",
+                "A\u0085B\u2028C\r", LINES, LINES.replace(LF, CR), LINES.replace(LF, "\r\n") };
+        for (final String input : inputs) {
+            // A last line without a newline sequence does not advance the position.
+            final int length = Math.max(input.lastIndexOf(CR), input.lastIndexOf(LF)) + 1;
+            final List<String> expected = new ArrayList<>();
+            try (BufferedReader br = new BufferedReader(new StringReader(input))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    expected.add(line);
+                }
+            }
+            for (int size = 1; size <= 8; size++) {
+                final List<String> actual = new ArrayList<>();
+                try (UnsynchronizedBufferedReader ubr = new UnsynchronizedBufferedReader(new StringReader(input), size)) {
+                    assertEquals(expected.size(), ubr.forEachLine(line -> actual.add(line.toString())));
+                    assertEquals(length, ubr.getPosition(), input);
+                }
+                assertEquals(expected, actual, () -> input);
+                actual.clear();
+                try (UnsynchronizedBufferedReader ubr = new UnsynchronizedBufferedReader(new StringReader(input), size)) {
+                    String line;
+                    while ((line = ubr.readLine()) != null) {
+                        actual.add(line);
+                    }
+                    assertEquals(length, ubr.getPosition(), input);
+                }
+                assertEquals(expected, actual, () -> input);
+            }
+        }
+    }
+
+    @Test
+    void testReadLineConsumer() throws IOException {
+        reader = new UnsynchronizedBufferedReader(new StringReader("ABC\r\nDEFGHIJ\n"), 4);
+        final AtomicInteger calls = new AtomicInteger();
+        assertTrue(reader.readLine(line -> {
+            calls.incrementAndGet();
+            assertEquals(3, line.length());
+            assertEquals('B', line.charAt(1));
+            assertEquals("BC", line.subSequence(1, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> line.charAt(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> line.subSequence(2, 4));
+        }));
+        assertEquals(5, reader.getPosition());
+        // This line spans buffer refills.
+        assertTrue(reader.readLine(line -> {
+            calls.incrementAndGet();
+            assertEquals("DEFGHIJ", line.toString());
+            assertTrue(line.subSequence(0, 2) instanceof String);
+        }));
+        assertFalse(reader.readLine(line -> calls.incrementAndGet()));
+        assertEquals(2, calls.get());
+        assertThrows(NullPointerException.class, () -> reader.readLine(null));
+        assertThrows(NullPointerException.class, () -> reader.forEachLine(null));
+        reader.close();
+        assertThrows(IOException.class, () -> reader.readLine(line -> calls.incrementAndGet()));
+        assertThrows(IOException.class, () -> reader.forEachLine(line -> calls.incrementAndGet()));
+    }
+
     /**
      * Tests {@link UnsynchronizedBufferedReader#readLine()}.
      *
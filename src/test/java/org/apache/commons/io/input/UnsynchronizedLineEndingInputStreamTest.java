@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.apache.commons.io.StandardLineSeparator;
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link UnsynchronizedLineEndingInputStream} and the bulk reads of {@link UnixLineEndingInputStream} and {@link WindowsLineEndingInputStream}
+ * against their byte-wise reads.
+ */
+class UnsynchronizedLineEndingInputStreamTest {
+
+    /**
+     * Returns at most a few bytes per read, to exercise block boundaries.
+     */
+    private static InputStream chunked(final byte[] data, final Random random) {
+        return new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(final byte[] b, final int off, final int len) {
+                return super.read(b, off, Math.min(len, 1 + random.nextInt(3)));
+            }
+        };
+    }
+
+    private static byte[] readBulk(final InputStream in, final Random random) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[16];
+        while (true) {
+            final int off = random.nextInt(4);
+            final int n = in.read(buffer, off, random.nextInt(buffer.length - off + 1));
+            if (n == -1) {
+                return out.toByteArray();
+            }
+            out.write(buffer, off, n);
+        }
+    }
+
+    private static byte[] readByte(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static AbstractLineEndingInputStream synchronizedStream(final InputStream in, final boolean windows, final boolean lineFeedAtEos) {
+        return windows ? new WindowsLineEndingInputStream(in, lineFeedAtEos) : new UnixLineEndingInputStream(in, lineFeedAtEos);
+    }
+
+    private static InputStream unsynchronizedStream(final InputStream in, final boolean windows, final boolean lineFeedAtEos) throws IOException {
+        return UnsynchronizedLineEndingInputStream.builder().setInputStream(in)
+                .setLineSeparator(windows ? StandardLineSeparator.CRLF : StandardLineSeparator.LF).setLineFeedAtEos(lineFeedAtEos).get();
+    }
+
+    @Test
+    void testBuilder() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> UnsynchronizedLineEndingInputStream.builder().setLineSeparator(StandardLineSeparator.CR));
+        try (InputStream in = UnsynchronizedLineEndingInputStream.builder().setCharSequence("a\r\nb").setLineSeparator(null).get()) {
+            assertArrayEquals(new byte[] { 'a', '\n', 'b' }, readByte(in));
+        }
+        try (InputStream in = unsynchronizedStream(new ByteArrayInputStream(new byte[] { 'a', '\n', 'b' }), true, true)) {
+            assertArrayEquals(new byte[] { 'a', '\r', '\n', 'b', '\r', '\n' }, readBulk(in, new Random(1)));
+            assertThrows(UnsupportedOperationException.class, () -> in.mark(1));
+        }
+    }
+
+    @Test
+    void testBulkReadMatchesByteRead() throws IOException {
+        final Random random = new Random(3);
+        final byte[] alphabet = { 'a', 'b', '\r', '\n' };
+        for (int i = 0; i < 5_000; i++) {
+            final byte[] data = new byte[random.nextInt(20)];
+            for (int j = 0; j < data.length; j++) {
+                data[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            for (final boolean windows : new boolean[] { false, true }) {
+                for (final boolean lineFeedAtEos : new boolean[] { false, true }) {
+                    final byte[] expected = readByte(synchronizedStream(new ByteArrayInputStream(data), windows, lineFeedAtEos));
+                    assertArrayEquals(expected, readBulk(synchronizedStream(chunked(data, random), windows, lineFeedAtEos), random));
+                    assertArrayEquals(expected, readBulk(unsynchronizedStream(chunked(data, random), windows, lineFeedAtEos), random));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMixedReads() throws IOException {
+        final byte[] data = { 'a', '\r', '\n', '\n', 'b', '\r' };
+        try (InputStream in = new WindowsLineEndingInputStream(new ByteArrayInputStream(data), true)) {
+            final byte[] buffer = new byte[3];
+            assertEquals('a', in.read());
+            assertEquals(3, in.read(buffer));
+            assertArrayEquals(new byte[] { '\r', '\n', '\r' }, buffer);
+            assertEquals('\n', in.read());
+            assertEquals(3, in.read(buffer));
+            assertArrayEquals(new byte[] { 'b', '\r', '\n' }, buffer);
+            assertEquals(-1, in.read(buffer));
+            assertEquals(0, in.read(buffer, 0, 0));
+        }
+    }
+}
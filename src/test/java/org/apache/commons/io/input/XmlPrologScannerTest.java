@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link XmlPrologScanner}.
+ */
+class XmlPrologScannerTest {
+
+    private static final String[] WHITESPACE = { "", " ", "  ", "\t", "\r", "\n", "\r\n", "\u000B", "\f", "\u00A0" };
+
+    private static final String[] VERSIONS = { "", "version=\"1.0\"", "version = '1.10'", "version='1x0'", "version=\"1x0\"", "version=\"1.\"",
+            "version='1\u00E9'", "version=\"2.0\"", "version", "standalone='yes'" };
+
+    private static final String[] ENCODINGS = { "encoding=\"UTF-8\"", "encoding = 'iso-8859-1'", "encoding=\"utf-16\"", "encoding='ebcdic-de-273+euro'",
+            "encoding=\"ISO_8859-1:1987\"", "encoding=\"-x\"", "encoding=\"a'", "encoding=\"a\"b", "encoding=", "encoding=\"\u20AC\"", "Encoding='a'",
+            "encoding='a>b'" };
+
+    private static String pick(final Random random, final String[] strings) {
+        return strings[random.nextInt(strings.length)];
+    }
+
+    /**
+     * Gets the encoding declared in a prolog the way {@link XmlStreamReader} did before it scanned bytes.
+     */
+    private static String decodeAndMatch(final byte[] bytes, final String encoding) throws IOException {
+        final String xmlProlog = new String(bytes, encoding);
+        final int firstGT = xmlProlog.indexOf('>');
+        if (firstGT == -1) {
+            return "none";
+        }
+        final StringBuilder prolog = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new StringReader(xmlProlog.substring(0, firstGT + 1)))) {
+            reader.lines().forEach(l -> prolog.append(l).append(' '));
+        }
+        final Matcher m = XmlStreamReader.ENCODING_PATTERN.matcher(prolog);
+        if (m.find()) {
+            final String group = m.group(1).toUpperCase(Locale.ROOT);
+            return group.substring(1, group.length() - 1);
+        }
+        return null;
+    }
+
+    private static String scan(final byte[] bytes, final String encoding) throws IOException {
+        final XmlPrologScanner scanner = XmlPrologScanner.get(encoding);
+        final int firstGT = scanner.indexOf(bytes, 0, bytes.length, '>');
+        return firstGT == -1 ? "none" : scanner.getEncoding(bytes, firstGT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "UTF-8", "UTF-16BE", "UTF-16LE", "UTF-32BE", "UTF-32LE", "CP1047" })
+    void testMatchesPattern(final String encoding) throws IOException {
+        if (!Charset.isSupported(encoding)) {
+            return;
+        }
+        final Random random = new Random(encoding.hashCode());
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder builder = new StringBuilder(random.nextInt(20) == 0 ? "<?xmL" : "<?xml");
+            builder.append(pick(random, WHITESPACE)).append(pick(random, VERSIONS)).append(pick(random, WHITESPACE));
+            builder.append(pick(random, ENCODINGS)).append(pick(random, WHITESPACE)).append("?>");
+            final String prolog = builder.toString();
+            final byte[] bytes = prolog.getBytes(encoding);
+            assertEquals(decodeAndMatch(bytes, encoding), scan(bytes, encoding), prolog);
+        }
+    }
+
+    @Test
+    void testScan() throws IOException {
+        assertEquals("UTF-8", scan("<?xml version=\"1.0\" encoding=\"utf-8\"?><root/>".getBytes("UTF-8"), "UTF-8"));
+        assertEquals("ISO-8859-1", scan("<?xml\r\n  encoding = 'iso-8859-1' ?>".getBytes("UTF-16LE"), "UTF-16LE"));
+        assertEquals("UTF-32BE", scan("<?xml version='1.1'\n encoding='UTF-32BE'?>".getBytes("UTF-32BE"), "UTF-32BE"));
+        assertEquals(null, scan("<?xml version=\"1.0\"?><root encoding=\"UTF-8\"/>".getBytes("UTF-8"), "UTF-8"));
+        assertEquals(null, scan("<?xml encoding=\"UTF-8\'?>".getBytes("UTF-8"), "UTF-8"));
+    }
+
+    @Test
+    void testUnsupportedEncoding() {
+        assertThrows(UnsupportedEncodingException.class, () -> XmlPrologScanner.get("x-unknown"));
+    }
+}
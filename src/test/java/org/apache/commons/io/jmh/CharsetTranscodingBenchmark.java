@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CharSequenceReader;
+import org.apache.commons.io.input.ReaderInputStream;
+import org.apache.commons.io.output.NullWriter;
+import org.apache.commons.io.output.WriterOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many times per second {@link ReaderInputStream} encodes, and {@link WriterOutputStream} decodes, 1 MiB of text by charset; multiply by the
+ * size to get bytes per second.
+ * <p>
+ * US-ASCII, ISO-8859-1, and UTF-8 take the fast paths, UTF-16LE takes the {@link java.nio.charset.CharsetEncoder} and
+ * {@link java.nio.charset.CharsetDecoder} path.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CharsetTranscodingBenchmark {
+
+    private static final int SIZE = 1024 * 1024;
+
+    @Param({ "US-ASCII", "ISO-8859-1", "UTF-8", "UTF-16LE" })
+    private String charsetName;
+
+    /**
+     * Whether the text has some chars outside ASCII, if the charset can encode them.
+     */
+    @Param({ "false", "true" })
+    private boolean nonAscii;
+
+    private Charset charset;
+
+    private String text;
+
+    private byte[] bytes;
+
+    @Benchmark
+    public void decode(final Blackhole bh) throws IOException {
+        try (OutputStream out = WriterOutputStream.builder().setWriter(NullWriter.INSTANCE).setCharset(charset).get()) {
+            out.write(bytes);
+        }
+        bh.consume(bytes);
+    }
+
+    @Benchmark
+    public void encode(final Blackhole bh) throws IOException {
+        try (InputStream in = ReaderInputStream.builder().setReader(new CharSequenceReader(text)).setCharset(charset).get()) {
+            bh.consume(IOUtils.consume(in));
+        }
+    }
+
+    @Setup
+    public void setup() {
+        charset = Charset.forName(charsetName);
+        // US-ASCII cannot encode any char outside ASCII.
+        final char other = nonAscii && charset.newEncoder().canEncode('\u00e9') ? '\u00e9' : 'e';
+        final Random random = new Random(0);
+        final StringBuilder builder = new StringBuilder(SIZE);
+        while (builder.length() < SIZE) {
+            // Words of about 6 letters, one letter in 100 is the other char.
+            final int r = random.nextInt(600);
+            if (r < 100) {
+                builder.append(' ');
+            } else if (r < 106) {
+                builder.append(other);
+            } else {
+                builder.append((char) ('a' + r % 26));
+            }
+        }
+        text = builder.toString();
+        bytes = text.getBytes(charset);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.Counters;
+import org.apache.commons.io.file.Counters.PathCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the amount of time for many threads to count 1 million file visits in shared {@link PathCounters}.
+ * <p>
+ * The {@code synchronized} case guards {@link Counters#longPathCounters()} with a lock, as a visitor would need to without concurrent counters.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CountersBenchmark {
+
+    private static final int VISITS = 1_000_000;
+
+    @Param({ "synchronized", "concurrentLong", "concurrentBigInteger" })
+    private String counters;
+
+    @Param({ "1", "4", "16", "64" })
+    private int threads;
+
+    private ExecutorService executor;
+
+    @Benchmark
+    public void countFiles(final Blackhole bh) throws Exception {
+        final PathCounters pathCounters = newPathCounters();
+        final boolean lock = "synchronized".equals(counters);
+        final int visits = VISITS / threads;
+        final Future<?>[] futures = new Future<?>[threads];
+        for (int i = 0; i < threads; i++) {
+            futures[i] = executor.submit(() -> {
+                for (int j = 0; j < visits; j++) {
+                    if (lock) {
+                        synchronized (pathCounters) {
+                            visit(pathCounters, j);
+                        }
+                    } else {
+                        visit(pathCounters, j);
+                    }
+                }
+            });
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        bh.consume(pathCounters.getByteCounter().get());
+    }
+
+    private PathCounters newPathCounters() {
+        switch (counters) {
+        case "concurrentLong":
+            return Counters.concurrentLongPathCounters();
+        case "concurrentBigInteger":
+            return Counters.concurrentBigIntegerPathCounters();
+        default:
+            return Counters.longPathCounters();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void visit(final PathCounters pathCounters, final int size) {
+        pathCounters.getFileCounter().increment();
+        pathCounters.getByteCounter().add(size);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.HexDump;
+import org.apache.commons.io.input.UnsynchronizedByteArrayInputStream;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link HexDump} dumping random bytes from an array and from an InputStream to a {@link StringBuilder} and to a {@link Writer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HexDumpBenchmark {
+
+    @Param({ "1", "16" })
+    private int sizeMiB;
+
+    private byte[] data;
+
+    @Benchmark
+    public StringBuilder dumpArray() throws IOException {
+        final StringBuilder builder = new StringBuilder(data.length * 5);
+        HexDump.dump(data, builder);
+        return builder;
+    }
+
+    @Benchmark
+    public long dumpInputStreamToWriter() throws IOException {
+        try (InputStream input = UnsynchronizedByteArrayInputStream.builder().setByteArray(data).get()) {
+            return HexDump.dump(input, NullWriter.INSTANCE);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = new byte[sizeMiB * 1024 * 1024];
+        new Random(0).nextBytes(data);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.StandardLineSeparator;
+import org.apache.commons.io.input.UnixLineEndingInputStream;
+import org.apache.commons.io.input.UnsynchronizedLineEndingInputStream;
+import org.apache.commons.io.input.WindowsLineEndingInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the amount of time to normalize the line endings of 4 MiB of text read one byte at a time, with bulk reads, and with bulk reads on the
+ * unsynchronized stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LineEndingInputStreamBenchmark {
+
+    private static final int SIZE = 4 * 1024 * 1024;
+
+    private static byte[] text() {
+        final Random random = new Random(0);
+        final byte[] text = new byte[SIZE];
+        for (int i = 0; i < text.length; i++) {
+            // Lines of about 40 characters, half of them ending with CRLF.
+            final int r = random.nextInt(80);
+            text[i] = (byte) (r == 0 ? '\n' : r == 1 ? '\r' : 'a' + r % 26);
+        }
+        return text;
+    }
+
+    private final byte[] input = text();
+
+    /**
+     * The line ending to normalize to.
+     */
+    @Param({ "LF", "CRLF" })
+    private StandardLineSeparator lineSeparator;
+
+    private void consume(final InputStream in, final Blackhole bh) throws IOException {
+        bh.consume(IOUtils.consume(in));
+    }
+
+    private InputStream newStream() {
+        final ByteArrayInputStream in = new ByteArrayInputStream(input);
+        return lineSeparator == StandardLineSeparator.LF ? new UnixLineEndingInputStream(in, true) : new WindowsLineEndingInputStream(in, true);
+    }
+
+    @Benchmark
+    public void readBulk(final Blackhole bh) throws IOException {
+        try (InputStream in = newStream()) {
+            consume(in, bh);
+        }
+    }
+
+    @Benchmark
+    public void readBulkUnsynchronized(final Blackhole bh) throws IOException {
+        try (InputStream in = UnsynchronizedLineEndingInputStream.builder().setByteArray(input).setLineSeparator(lineSeparator).setLineFeedAtEos(true).get()) {
+            consume(in, bh);
+        }
+    }
+
+    @Benchmark
+    public void readByteAtATime(final Blackhole bh) throws IOException {
+        try (InputStream in = newStream()) {
+            long count = 0;
+            while (in.read() != IOUtils.EOF) {
+                count++;
+            }
+            bh.consume(count);
+        }
+    }
+}
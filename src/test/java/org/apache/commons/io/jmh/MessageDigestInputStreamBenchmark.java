@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.jmh;
+
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.MessageDigestInputStream;
+import org.apache.commons.lang3.RandomUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the amount of time to digest 1 MiB with a {@link MessageDigestInputStream} read one byte at a time, with and without batching observer calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MessageDigestInputStreamBenchmark {
+
+    private static final int SIZE = 1024 * 1024;
+
+    private final byte[] input = RandomUtils.insecure().randomBytes(SIZE);
+
+    /**
+     * The batch size, 0 delivers each byte to the observer on its own.
+     */
+    @Param({ "0", "512" })
+    private int batchSize;
+
+    @Benchmark
+    public void readByteAtATime(final Blackhole bh) throws IOException, NoSuchAlgorithmException {
+        try (MessageDigestInputStream in = MessageDigestInputStream.builder().setByteArray(input).setMessageDigest("SHA-256").setBatchSize(batchSize)
+                .get()) {
+            while (in.read() != IOUtils.EOF) {
+                // consume
+            }
+            bh.consume(in.getMessageDigest().digest());
+        }
+    }
+
+    @Benchmark
+    public void readBuffered(final Blackhole bh) throws IOException, NoSuchAlgorithmException {
+        try (MessageDigestInputStream in = MessageDigestInputStream.builder().setByteArray(input).setMessageDigest("SHA-256").setBatchSize(batchSize)
+                .get()) {
+            IOUtils.consume(in);
+            bh.consume(in.getMessageDigest().digest());
+        }
+    }
+}
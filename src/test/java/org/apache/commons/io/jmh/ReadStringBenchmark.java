@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.jmh;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@link PathUtils#readString(Path, java.nio.charset.Charset, boolean)} on a UTF-8 JSON-like file, decoding on one thread or on many.
+ * <p>
+ * The 256 MiB file is memory-mapped by the parallel mode. Run with a heap of at least 2 GiB.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ReadStringBenchmark {
+
+    @Param({ "16", "256" })
+    private int sizeMiB;
+
+    /**
+     * Whether one line in 100 has chars outside ASCII.
+     */
+    @Param({ "false", "true" })
+    private boolean nonAscii;
+
+    @Param({ "false", "true" })
+    private boolean parallel;
+
+    private Path path;
+
+    @Benchmark
+    public String readString() throws IOException {
+        return PathUtils.readString(path, StandardCharsets.UTF_8, parallel);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Random random = new Random(0);
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < sizeMiB * 1024 * 1024) {
+            builder.append("{\"id\":").append(random.nextInt()).append(",\"name\":\"item ").append(random.nextInt(1000));
+            if (nonAscii && random.nextInt(100) == 0) {
+                builder.append(" caf\u00e9 \u20ac");
+            }
+            builder.append("\"},\n");
+        }
+        path = Files.createTempFile(getClass().getSimpleName(), ".json");
+        Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.apache.commons.io.input.MemoryMappedFileDataInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link ChannelDataOutputStream}.
+ */
+class ChannelDataOutputStreamTest {
+
+    private static final int RECORDS = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private ChannelDataOutputStream newOutput(final Path file, final int bufferSize, final ByteOrder byteOrder) throws IOException {
+        return ChannelDataOutputStream.builder().setPath(file).setBufferSize(bufferSize).setByteOrder(byteOrder).get();
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        final ChannelDataOutputStream output = newOutput(tempDir.resolve("closed"), 8, ByteOrder.BIG_ENDIAN);
+        output.writeInt(1);
+        output.close();
+        assertThrows(IOException.class, () -> output.writeInt(2));
+        assertThrows(IOException.class, () -> output.write(1));
+        assertThrows(IOException.class, output::flush);
+        output.close();
+        assertEquals(4, Files.size(tempDir.resolve("closed")));
+    }
+
+    @Test
+    void testLittleEndian() throws IOException {
+        final Path file = tempDir.resolve("le");
+        try (ChannelDataOutputStream output = newOutput(file, 8, ByteOrder.LITTLE_ENDIAN)) {
+            assertEquals(ByteOrder.LITTLE_ENDIAN, output.getByteOrder());
+            output.writeInt(0x04030201);
+            output.writeShort(0x0605);
+            output.writeChar(0x0807);
+            output.writeLong(0x100F0E0D0C0B0A09L);
+        }
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }, Files.readAllBytes(file));
+    }
+
+    @Test
+    void testRoundTripLittleEndian() throws IOException {
+        final Path file = tempDir.resolve("round");
+        try (ChannelDataOutputStream output = newOutput(file, 13, ByteOrder.LITTLE_ENDIAN)) {
+            for (int i = 0; i < RECORDS; i++) {
+                output.writeDouble(i / 7d);
+                output.writeUTF("record " + i);
+                output.writeInt(i);
+            }
+        }
+        try (MemoryMappedFileDataInputStream input = MemoryMappedFileDataInputStream.builder().setPath(file).setBufferSize(13)
+                .setByteOrder(ByteOrder.LITTLE_ENDIAN).get()) {
+            for (int i = 0; i < RECORDS; i++) {
+                assertEquals(i / 7d, input.readDouble());
+                assertEquals("record " + i, input.readUTF());
+                assertEquals(i, input.readInt());
+            }
+            assertEquals(Files.size(file), input.position());
+        }
+    }
+
+    @Test
+    void testUTFTooLong() throws IOException {
+        try (ChannelDataOutputStream output = newOutput(tempDir.resolve("utf"), 8, ByteOrder.BIG_ENDIAN)) {
+            assertThrows(UTFDataFormatException.class, () -> output.writeUTF(StringUtils.repeat('ࠀ', 0x10000 / 3 + 1)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 8, 13, 4096, 64 * 1024 })
+    void testWriteMatchesDataOutputStream(final int bufferSize) throws IOException {
+        final Path expected = tempDir.resolve("expected");
+        final Path actual = tempDir.resolve("actual");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(expected))) {
+            writeRecords(output);
+        }
+        try (ChannelDataOutputStream output = newOutput(actual, bufferSize, ByteOrder.BIG_ENDIAN)) {
+            writeRecords(output);
+        }
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(actual));
+    }
+
+    private void writeRecords(final DataOutput output) throws IOException {
+        final Random random = new Random(0);
+        for (int i = 0; i < RECORDS; i++) {
+            output.writeBoolean(i % 2 == 0);
+            output.writeByte(i);
+            output.writeShort(-i);
+            output.writeChar(0x3B1 + i);
+            output.writeInt(i * 31);
+            output.writeLong(i * 0x1_0000_0001L);
+            output.writeFloat(i / 3f);
+            output.writeDouble(i / 7d);
+            output.writeUTF("record \u0000 é € " + i);
+            output.writeBytes("line " + i + "\n");
+            output.writeChars("chars " + i);
+            final byte[] bytes = new byte[1 + random.nextInt(100)];
+            random.nextBytes(bytes);
+            output.write(bytes);
+            output.write(bytes, 1, bytes.length / 2);
+            output.write(i);
+        }
+    }
+}
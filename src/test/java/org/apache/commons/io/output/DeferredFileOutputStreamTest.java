@@ -18,10 +18,12 @@
 
 import static org.apache.commons.io.output.ThresholdingOutputStreamTest.assertThresholdingInitialState;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -34,6 +36,16 @@
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
@@ -41,6 +53,7 @@
 import org.apache.commons.io.file.AbstractTempDirTest;
 import org.apache.commons.io.file.NioFileSystem;
 import org.apache.commons.io.file.PathUtils;
+import org.apache.commons.io.test.TestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -133,6 +146,175 @@ void testAboveThresholdGetInputStream(final int initialBufferSize, final @TempDi
         }
     }
 
+    /**
+     * Tests spilling to disk in the background while later writes are queued.
+     */
+    @ParameterizedTest(name = "initialBufferSize = {0}")
+    @MethodSource("data")
+    void testAboveThresholdExecutorService(final int initialBufferSize) throws Exception {
+        final File testFile = Files.createTempFile(tempDirPath, "testAboveThresholdExecutorService", "dat").toFile();
+        final int threshold = testBytes.length - 5;
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (DeferredFileOutputStream out = DeferredFileOutputStream.builder()
+                // @formatter:off
+                .setThreshold(threshold)
+                .setBufferSize(initialBufferSize)
+                .setOutputFile(testFile)
+                .setExecutorService(executorService)
+                .get()) {
+            // @formatter:on
+            // Holds the background copy until the queued writes are in.
+            executorService.execute(() -> assertDoesNotThrow(() -> latch.await()));
+            out.write(testBytes, 0, threshold);
+            out.write(testBytes, threshold, 2);
+            assertFalse(out.isInMemory());
+            out.write(testBytes, threshold + 2, testBytes.length - threshold - 2);
+            latch.countDown();
+            out.close();
+            assertNull(out.getData());
+            assertEquals(testBytes.length, out.getByteCount());
+            assertContentsEquals(out);
+            verifyResultFile(testFile);
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Tests that a failed background copy fails every later write and close.
+     */
+    @Test
+    void testAboveThresholdExecutorServiceFailure() throws Exception {
+        final File testFile = Files.createTempFile(tempDirPath, "testAboveThresholdExecutorServiceFailure", "dat").toFile();
+        final IOException failure = new IOException("copy");
+        // Runs each task in place, replacing it with one that fails.
+        final ExecutorService executorService = new AbstractExecutorService() {
+
+            private boolean shutdown;
+
+            @Override
+            public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+                return true;
+            }
+
+            @Override
+            public void execute(final Runnable command) {
+                command.run();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return shutdown;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return shutdown;
+            }
+
+            @Override
+            protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
+                return new FutureTask<>(() -> {
+                    throw failure;
+                });
+            }
+
+            @Override
+            public void shutdown() {
+                shutdown = true;
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                shutdown = true;
+                return Collections.emptyList();
+            }
+        };
+        final DeferredFileOutputStream out = DeferredFileOutputStream.builder()
+                // @formatter:off
+                .setThreshold(testBytes.length - 5)
+                .setOutputFile(testFile)
+                .setExecutorService(executorService)
+                .get();
+                // @formatter:on
+        out.write(testBytes, 0, 3);
+        assertSame(failure, assertThrows(IOException.class, () -> out.write(testBytes, 3, testBytes.length - 3)));
+        assertFalse(out.isInMemory());
+        assertSame(failure, assertThrows(IOException.class, () -> out.write('a')));
+        assertSame(failure, assertThrows(IOException.class, () -> out.write(testBytes)));
+        assertSame(failure, assertThrows(IOException.class, out::close));
+        assertSame(failure, assertThrows(IOException.class, out::close));
+        assertEquals(0, testFile.length());
+    }
+
+    /**
+     * Tests that an interrupted close waits for the background copy before closing the file.
+     */
+    @Test
+    void testAboveThresholdExecutorServiceInterruptedClose() throws Exception {
+        final File testFile = Files.createTempFile(tempDirPath, "testAboveThresholdExecutorServiceInterruptedClose", "dat").toFile();
+        final int threshold = testBytes.length - 5;
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (DeferredFileOutputStream out = DeferredFileOutputStream.builder()
+                // @formatter:off
+                .setThreshold(threshold)
+                .setOutputFile(testFile)
+                .setExecutorService(executorService)
+                .get()) {
+            // @formatter:on
+            // Holds the background copy until after close starts waiting.
+            executorService.execute(() -> assertDoesNotThrow(() -> latch.await()));
+            out.write(testBytes, 0, threshold);
+            out.write(testBytes, threshold, testBytes.length - threshold);
+            assertFalse(out.isInMemory());
+            final Thread release = new Thread(() -> {
+                TestUtils.sleepQuietly(100);
+                latch.countDown();
+            });
+            release.start();
+            Thread.currentThread().interrupt();
+            try {
+                out.close();
+            } finally {
+                assertTrue(Thread.interrupted());
+            }
+            release.join();
+            verifyResultFile(testFile);
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Tests that a file extended to its expected size is truncated to the bytes written.
+     */
+    @ParameterizedTest(name = "initialBufferSize = {0}")
+    @MethodSource("data")
+    void testAboveThresholdExpectedSize(final int initialBufferSize) throws IOException {
+        final File testFile = Files.createTempFile(tempDirPath, "testAboveThresholdExpectedSize", "dat").toFile();
+        final int threshold = testBytes.length - 5;
+        try (DeferredFileOutputStream out = DeferredFileOutputStream.builder()
+                // @formatter:off
+                .setThreshold(threshold)
+                .setBufferSize(initialBufferSize)
+                .setOutputFile(testFile)
+                .setExpectedSize(testBytes.length * 100)
+                .get()) {
+            // @formatter:on
+            out.write(testBytes, 0, 3);
+            out.write(testBytes, 3, testBytes.length - 3);
+            assertEquals(testBytes.length * 100, testFile.length());
+            out.close();
+            assertFalse(out.isInMemory());
+            assertEquals(testBytes.length, testFile.length());
+            verifyResultFile(testFile);
+        }
+    }
+
     /**
      * Tests the case where the amount of data is exactly the same as the threshold. The behavior should be the same as
      * that for the amount of data being below (not exceeding) the threshold.
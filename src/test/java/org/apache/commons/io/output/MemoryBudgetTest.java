@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.AbstractTempDirTest;
+import org.apache.commons.io.output.MemoryBudget.SpillPolicy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MemoryBudget}.
+ */
+class MemoryBudgetTest extends AbstractTempDirTest {
+
+    private static final int THRESHOLD = 1_000_000;
+
+    private static void assertWithinBudget(final MemoryBudget budget) {
+        assertTrue(budget.getUsedBytes() <= budget.getMaxBytes(), budget::toString);
+        assertTrue(budget.getPeakBytes() <= budget.getMaxBytes(), budget::toString);
+    }
+
+    private DeferredFileOutputStream newStream(final MemoryBudget budget) {
+        return DeferredFileOutputStream.builder().setThreshold(THRESHOLD).setPrefix("budget").setDirectory(tempDirFile).setMemoryBudget(budget).get();
+    }
+
+    @Test
+    void testBackgroundSpillReleasesAfterCopy() throws Exception {
+        final MemoryBudget budget = new MemoryBudget(100_000);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (DeferredFileOutputStream out = DeferredFileOutputStream.builder().setThreshold(10_000).setPrefix("budget").setDirectory(tempDirFile)
+                .setMemoryBudget(budget).setExecutorService(executorService).get()) {
+            // Holds the background copy.
+            executorService.execute(() -> assertDoesNotThrow(() -> latch.await()));
+            out.write(new byte[5_000]);
+            out.write(new byte[6_000]);
+            assertFalse(out.isInMemory());
+            // The buffer is still in use by the copy.
+            assertEquals(1, budget.getStreamCount());
+            assertTrue(budget.getUsedBytes() >= 5_000);
+            latch.countDown();
+            out.close();
+            assertEquals(0, budget.getStreamCount());
+            assertEquals(0, budget.getUsedBytes());
+            assertEquals(1, budget.getSpillCount());
+            assertEquals(11_000, out.getByteCount());
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testCloseInMemoryReleases() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(100_000);
+        final byte[] data = new byte[10];
+        try (DeferredFileOutputStream out = newStream(budget)) {
+            out.write(data);
+            assertEquals(1, budget.getStreamCount());
+            assertTrue(budget.getUsedBytes() >= data.length);
+            out.close();
+            assertEquals(0, budget.getStreamCount());
+            assertEquals(0, budget.getUsedBytes());
+            assertArrayEquals(data, out.getData());
+        }
+        assertEquals(0, budget.getSpillCount());
+    }
+
+    @Test
+    void testCollectedStreamReleases() throws Exception {
+        final MemoryBudget budget = new MemoryBudget(100_000);
+        // Never closed.
+        newStream(budget).write(new byte[10_000]);
+        assertEquals(1, budget.getStreamCount());
+        for (int i = 0; i < 100 && budget.getStreamCount() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, budget.getStreamCount());
+        assertEquals(0, budget.getUsedBytes());
+        // The memory can be reserved again.
+        try (DeferredFileOutputStream out = newStream(budget)) {
+            out.write(new byte[90_000]);
+            assertTrue(out.isInMemory());
+        }
+    }
+
+    @Test
+    void testConstructorRejectsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoryBudget(-1));
+        assertThrows(NullPointerException.class, () -> new MemoryBudget(0, null));
+    }
+
+    @Test
+    void testExhaustedSpillsLargestFirst() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(20_000, SpillPolicy.LARGEST);
+        try (DeferredFileOutputStream large = newStream(budget);
+                DeferredFileOutputStream small = newStream(budget)) {
+            large.write(new byte[15_000]);
+            small.write(new byte[3_000]);
+            assertEquals(18_000, budget.getUsedBytes());
+            // Does not fit: the small stream spills now and the large stream is asked to spill.
+            small.write(new byte[3_000]);
+            assertFalse(small.isInMemory());
+            assertTrue(large.isInMemory());
+            assertEquals(15_000, budget.getUsedBytes());
+            assertWithinBudget(budget);
+            // The large stream spills on its next write.
+            large.write('a');
+            assertFalse(large.isInMemory());
+            assertNull(large.getData());
+            assertEquals(0, budget.getUsedBytes());
+            assertEquals(2, budget.getSpillCount());
+            assertEquals(2, budget.getForcedSpillCount());
+            assertEquals(6_000, Files.size(small.getPath()));
+            assertEquals(15_001, Files.size(large.getPath()));
+            // Room is available again for new streams.
+            try (DeferredFileOutputStream next = newStream(budget)) {
+                next.write(new byte[19_000]);
+                assertTrue(next.isInMemory());
+                assertWithinBudget(budget);
+            }
+        }
+        assertEquals(0, budget.getUsedBytes());
+        assertWithinBudget(budget);
+    }
+
+    @Test
+    void testExhaustedSpillsOldestFirst() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(20_000, SpillPolicy.OLDEST);
+        try (DeferredFileOutputStream oldest = newStream(budget);
+                DeferredFileOutputStream newest = newStream(budget)) {
+            oldest.write(new byte[5_000]);
+            newest.write(new byte[14_000]);
+            newest.write(new byte[2_000]);
+            assertFalse(newest.isInMemory());
+            assertTrue(oldest.isInMemory());
+            assertWithinBudget(budget);
+            oldest.write('a');
+            assertFalse(oldest.isInMemory());
+            assertEquals(2, budget.getForcedSpillCount());
+        }
+        assertWithinBudget(budget);
+    }
+
+    @Test
+    void testExhaustedSpillsRequesterWhenLargest() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(20_000);
+        try (DeferredFileOutputStream small = newStream(budget);
+                DeferredFileOutputStream large = newStream(budget)) {
+            small.write(new byte[9_000]);
+            large.write(new byte[10_000]);
+            assertEquals(19_000, budget.getUsedBytes());
+            large.write(new byte[2_000]);
+            assertFalse(large.isInMemory());
+            assertTrue(small.isInMemory());
+            assertEquals(1, budget.getForcedSpillCount());
+            assertEquals(9_000, budget.getUsedBytes());
+            // The small stream was not asked to spill.
+            small.write('a');
+            assertTrue(small.isInMemory());
+        }
+        assertWithinBudget(budget);
+    }
+
+    @Test
+    void testFailedInlineSpillKeepsReservation() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(100_000);
+        // The file cannot be extended to this size, so the inline copy fails.
+        try (DeferredFileOutputStream out = DeferredFileOutputStream.builder().setThreshold(10_000).setPrefix("budget").setDirectory(tempDirFile)
+                .setMemoryBudget(budget).setExpectedSize(Long.MAX_VALUE).get()) {
+            out.write(new byte[5_000]);
+            assertThrows(IOException.class, () -> out.write(new byte[6_000]));
+            assertTrue(out.isInMemory());
+            assertEquals(1, budget.getStreamCount());
+            assertTrue(budget.getUsedBytes() >= 5_000);
+            assertEquals(0, budget.getSpillCount());
+        }
+        assertEquals(0, budget.getStreamCount());
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    @Test
+    void testNeverExceedsMax() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(50_000);
+        final DeferredFileOutputStream[] streams = new DeferredFileOutputStream[8];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = newStream(budget);
+        }
+        try {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < streams.length; i++) {
+                    streams[i].write(new byte[500 + 700 * i]);
+                    assertWithinBudget(budget);
+                }
+            }
+        } finally {
+            for (final DeferredFileOutputStream stream : streams) {
+                stream.close();
+            }
+        }
+        assertTrue(budget.getForcedSpillCount() > 0);
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    @Test
+    void testThresholdSpillCounted() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(100_000);
+        try (DeferredFileOutputStream out = DeferredFileOutputStream.builder().setThreshold(10).setPrefix("budget").setDirectory(tempDirFile)
+                .setMemoryBudget(budget).get()) {
+            out.write(new byte[5]);
+            out.write(new byte[10]);
+            assertFalse(out.isInMemory());
+        }
+        assertEquals(1, budget.getSpillCount());
+        assertEquals(0, budget.getForcedSpillCount());
+        assertEquals(0, budget.getUsedBytes());
+        assertTrue(budget.getPeakBytes() >= 5);
+    }
+
+    @Test
+    void testZeroBudget() throws IOException {
+        final MemoryBudget budget = new MemoryBudget(0);
+        try (DeferredFileOutputStream out = newStream(budget)) {
+            out.write('a');
+            assertFalse(out.isInMemory());
+        }
+        assertEquals(1, budget.getForcedSpillCount());
+    }
+}
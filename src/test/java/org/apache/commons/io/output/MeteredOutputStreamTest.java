@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.IOMetrics;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MeteredOutputStream}.
+ */
+class MeteredOutputStreamTest {
+
+    @Test
+    void testBuilder() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (MeteredOutputStream out = MeteredOutputStream.builder().setOutputStream(target).setMetrics(metrics).get()) {
+            assertSame(metrics, out.getMetrics());
+            out.write(new byte[4]);
+        }
+        assertEquals(4, target.size());
+        assertEquals(4, metrics.getWriteUnits());
+        try (MeteredOutputStream out = MeteredOutputStream.builder().setOutputStream(target).get()) {
+            assertNotNull(out.getMetrics());
+        }
+    }
+
+    @Test
+    void testOverriddenHooks() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final List<String> calls = new ArrayList<>();
+        try (MeteredOutputStream out = new MeteredOutputStream(new ByteArrayOutputStream(), metrics) {
+
+            @Override
+            protected void afterWrite(final int n) throws IOException {
+                super.afterWrite(n);
+                calls.add("after " + n + " " + metrics.getWriteCount());
+            }
+
+            @Override
+            protected void beforeWrite(final int n) throws IOException {
+                calls.add("before " + n + " " + metrics.getWriteCount());
+                super.beforeWrite(n);
+            }
+        }) {
+            out.write('a');
+            out.write(new byte[4]);
+        }
+        assertEquals(Arrays.asList("before 1 0", "after 1 1", "before 4 1", "after 4 2"), calls);
+        assertEquals(5, metrics.getWriteUnits());
+    }
+
+    @Test
+    void testWrite() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (MeteredOutputStream out = new MeteredOutputStream(target, metrics)) {
+            assertSame(metrics, out.getMetrics());
+            out.write('a');
+            out.write(new byte[4]);
+            out.write(new byte[8], 2, 5);
+        }
+        assertEquals(10, target.size());
+        assertEquals(10, metrics.getWriteUnits());
+        assertEquals(3, metrics.getWriteCount());
+        assertEquals(0, metrics.getReadCount());
+    }
+}
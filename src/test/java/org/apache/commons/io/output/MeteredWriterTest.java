@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.IOMetrics;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MeteredWriter}.
+ */
+class MeteredWriterTest {
+
+    @Test
+    void testBuilder() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final StringBuilderWriter target = new StringBuilderWriter();
+        try (MeteredWriter writer = MeteredWriter.builder().setWriter(target).setMetrics(metrics).get()) {
+            assertSame(metrics, writer.getMetrics());
+            writer.write("abcd");
+        }
+        assertEquals("abcd", target.toString());
+        assertEquals(4, metrics.getWriteUnits());
+        try (MeteredWriter writer = MeteredWriter.builder().setWriter(target).get()) {
+            assertNotNull(writer.getMetrics());
+        }
+    }
+
+    @Test
+    void testOverriddenHooks() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final List<String> calls = new ArrayList<>();
+        try (MeteredWriter out = new MeteredWriter(new StringBuilderWriter(), metrics) {
+
+            @Override
+            protected void afterWrite(final int n) throws IOException {
+                super.afterWrite(n);
+                calls.add("after " + n + " " + metrics.getWriteCount());
+            }
+
+            @Override
+            protected void beforeWrite(final int n) throws IOException {
+                calls.add("before " + n + " " + metrics.getWriteCount());
+                super.beforeWrite(n);
+            }
+        }) {
+            out.write('a');
+            out.write("bcd");
+        }
+        assertEquals(Arrays.asList("before 1 0", "after 1 1", "before 3 1", "after 3 2"), calls);
+        assertEquals(4, metrics.getWriteUnits());
+    }
+
+    @Test
+    void testWrite() throws IOException {
+        final IOMetrics metrics = new IOMetrics();
+        final StringBuilderWriter target = new StringBuilderWriter();
+        try (MeteredWriter writer = new MeteredWriter(target, metrics)) {
+            assertSame(metrics, writer.getMetrics());
+            writer.write('a');
+            writer.write("bcd");
+            writer.write(new char[] { 'e', 'f' });
+        }
+        assertEquals("abcdef", target.toString());
+        assertEquals(6, metrics.getWriteUnits());
+        assertEquals(3, metrics.getWriteCount());
+    }
+}
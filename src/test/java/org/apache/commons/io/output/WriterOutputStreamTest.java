@@ -19,10 +19,13 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.StandardOpenOption;
 import java.util.Random;
@@ -32,6 +35,8 @@
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemProperties;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests {@link WriterOutputStream}.
@@ -47,6 +52,42 @@ class WriterOutputStreamTest {
 
     private final Random random = new Random();
 
+    @ParameterizedTest
+    @ValueSource(strings = { "US-ASCII", "ISO-8859-1", "UTF-8" })
+    void testFastCharsetsMatchDecoder(final String charsetName) throws Exception {
+        final Charset charset = Charset.forName(charsetName);
+        // Valid UTF-8 sequences, malformed and overlong ones, encoded surrogates, and sequences above U+10FFFF.
+        final int[][] alphabet = { { 'a' }, { '\n' }, { 0xC3, 0xA9 }, { 0xE2, 0x82, 0xAC }, { 0xF0, 0x9F, 0x98, 0x80 }, { 0xF4, 0x8F, 0xBF, 0xBF }, { 0x80 },
+                { 0xC0, 0xAF }, { 0xC3 }, { 0xE2, 0x82 }, { 0xE0, 0x80, 0xAF }, { 0xED, 0xA0, 0x80 }, { 0xF0, 0x80, 0x80, 0xAF }, { 0xF4, 0x90, 0x80, 0x80 },
+                { 0xF8 }, { 0xFF } };
+        for (int i = 0; i < 100; i++) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final int count = random.nextInt(3_000);
+            for (int j = 0; j < count; j++) {
+                for (final int b : alphabet[random.nextInt(alphabet.length)]) {
+                    bytes.write(b);
+                }
+            }
+            final byte[] data = bytes.toByteArray();
+            final String expected = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .replaceWith("?").decode(ByteBuffer.wrap(data)).toString();
+            final StringWriter writer = new StringWriter();
+            try (WriterOutputStream out = WriterOutputStream.builder().setWriter(writer).setCharset(charset).setBufferSize(2 + random.nextInt(100)).get()) {
+                int off = 0;
+                while (off < data.length) {
+                    if (random.nextInt(10) == 0) {
+                        out.write(data[off++]);
+                    } else {
+                        final int len = Math.min(data.length - off, 1 + random.nextInt(64));
+                        out.write(data, off, len);
+                        off += len;
+                    }
+                }
+            }
+            assertEquals(expected, writer.toString());
+        }
+    }
+
     @Test
     void testFlush() throws IOException {
         final StringWriter writer = new StringWriter();